@@ -3,6 +3,7 @@ plugins {
     id("com.diffplug.spotless") version "6.23.3"
     id("io.freefair.lombok") version "8.13.1"
     id("org.openjfx.javafxplugin") version "0.1.0"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 repositories {
@@ -64,6 +65,61 @@ tasks.named<JavaExec>("run") {
     )
 }
 
+// Benchmarks live in src/jmh and run against seeded databases at each scale, e.g.
+// ./gradlew jmh -PjmhScales=1,100 -PjmhIncludes=DaoReadBenchmark
+jmh {
+    jmhVersion.set("1.37")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    project.findProperty("jmhIncludes")?.let { includes.set(listOf(it.toString())) }
+    benchmarkParameters.put(
+        "scale",
+        objects.listProperty<String>().value((project.findProperty("jmhScales")?.toString() ?: "1,10,100").split(","))
+    )
+    jvmArgsAppend.set(listOf(
+        "-Dsms.benchmark.dataDir=${layout.buildDirectory.dir("jmh-data").get().asFile}",
+        "-Dsms.db.checkQueryPlans=false"
+    ))
+}
+
+// Generates a seeded benchmark dataset, e.g.
+// ./gradlew generateData -Pscale=500 -Pseed=42 -PdbUrl=jdbc:h2:./data/bench-500
+tasks.register<JavaExec>("generateData") {
+    group = "application"
+    description = "Generates a reproducible dataset of a given scale into an empty database"
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("sms.gradle.utils.SeededDataGenerator")
+    args = listOf(
+        project.findProperty("scale")?.toString() ?: "1",
+        project.findProperty("seed")?.toString() ?: "42",
+        project.findProperty("threads")?.toString() ?: Runtime.getRuntime().availableProcessors().toString()
+    )
+    systemProperty("sms.db.url", project.findProperty("dbUrl")?.toString() ?: "jdbc:h2:./data/seeded")
+}
+
+// ./gradlew rebuildGradeSummaries -PdbUrl=jdbc:h2:./data/bench-500
+tasks.register<JavaExec>("rebuildGradeSummaries") {
+    group = "application"
+    description = "Rebuilds the grade summary tables from the results table"
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("sms.gradle.utils.GradeSummaryCommand")
+    args = listOf("rebuild")
+    systemProperty("sms.db.url", project.findProperty("dbUrl")?.toString() ?: "jdbc:h2:./data/sms")
+}
+
+// Fails if any grade summary no longer matches the results table
+tasks.register<JavaExec>("checkGradeSummaries") {
+    group = "verification"
+    description = "Checks the grade summary tables against the results table"
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("sms.gradle.utils.GradeSummaryCommand")
+    args = listOf("check")
+    systemProperty("sms.db.url", project.findProperty("dbUrl")?.toString() ?: "jdbc:h2:./data/sms")
+}
+
 tasks.register<Jar>("fatJar") {
     archiveBaseName.set("StudentManagementSystem")
     archiveClassifier.set("fat")
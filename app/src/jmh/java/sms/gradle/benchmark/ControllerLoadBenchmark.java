@@ -0,0 +1,67 @@
+package sms.gradle.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import sms.gradle.controller.admin.CourseDetailViewController;
+import sms.gradle.controller.admin.StudentDetailViewController;
+import sms.gradle.model.dao.GradeStatistics;
+import sms.gradle.model.entities.Assessment;
+import sms.gradle.model.entities.Module;
+import sms.gradle.model.entities.Student;
+
+/**
+ * Measures the data loads behind the course and student detail views, which run every time an admin opens one
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ControllerLoadBenchmark {
+
+    @Benchmark
+    public String[] courseInformation(final SeededDatabase database) {
+        return CourseDetailViewController.loadCourseInformation(database.randomCourse().getId());
+    }
+
+    @Benchmark
+    public List<Student> courseStudents(final SeededDatabase database) {
+        return CourseDetailViewController.loadStudentsForCourse(database.randomCourse().getId());
+    }
+
+    @Benchmark
+    public List<Module> courseModules(final SeededDatabase database) {
+        return CourseDetailViewController.loadModulesForCourse(database.randomCourse().getId());
+    }
+
+    @Benchmark
+    public List<Assessment> courseAssessments(final SeededDatabase database) {
+        return CourseDetailViewController.loadAssessmentsForCourse(database.randomCourse().getId());
+    }
+
+    @Benchmark
+    public GradeStatistics courseStatistics(final SeededDatabase database) {
+        return CourseDetailViewController.calculateCourseStatistics(database.randomCourse().getId());
+    }
+
+    @Benchmark
+    public Student student(final SeededDatabase database) {
+        return StudentDetailViewController.loadStudent(database.randomStudent().getId());
+    }
+
+    @Benchmark
+    public List<Module> studentModules(final SeededDatabase database) {
+        return StudentDetailViewController.loadModulesForStudent(database.randomStudent().getId());
+    }
+
+    @Benchmark
+    public List<Assessment> studentAssessments(final SeededDatabase database) {
+        return StudentDetailViewController.loadAssessmentsForStudent(database.randomStudent().getId());
+    }
+
+    @Benchmark
+    public GradeStatistics studentStatistics(final SeededDatabase database) {
+        return StudentDetailViewController.calculateStudentStatistics(database.randomStudent().getId());
+    }
+}
@@ -0,0 +1,198 @@
+package sms.gradle.benchmark;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import sms.gradle.model.dao.AdminDAO;
+import sms.gradle.model.dao.AssessmentDAO;
+import sms.gradle.model.dao.CourseDAO;
+import sms.gradle.model.dao.CourseEnrollmentDAO;
+import sms.gradle.model.dao.ModuleDAO;
+import sms.gradle.model.dao.ResultDAO;
+import sms.gradle.model.dao.StudentDAO;
+import sms.gradle.model.entities.Admin;
+import sms.gradle.model.entities.Assessment;
+import sms.gradle.model.entities.Course;
+import sms.gradle.model.entities.CourseEnrollment;
+import sms.gradle.model.entities.Module;
+import sms.gradle.model.entities.Result;
+import sms.gradle.model.entities.Student;
+
+/**
+ * Measures every DAO read method against a seeded database, looking up a random existing row on each call.
+ * Every benchmark takes the <code>SeededDatabase</code> state, even when it doesn't need a row, so the trial runs
+ * against the database for its scale.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DaoReadBenchmark {
+
+    @Benchmark
+    public Optional<Student> studentFindById(final SeededDatabase database) throws SQLException {
+        return StudentDAO.findById(database.randomStudent().getId());
+    }
+
+    @Benchmark
+    public Optional<Student> studentFindByEmail(final SeededDatabase database) throws SQLException {
+        return StudentDAO.findByEmail(database.randomStudent().getEmail());
+    }
+
+    @Benchmark
+    public boolean studentVerifyPassword(final SeededDatabase database) throws SQLException {
+        return StudentDAO.verifyPassword(database.randomStudent().getEmail(), "not-the-password");
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<Student> studentFindAll(final SeededDatabase database) throws SQLException {
+        return StudentDAO.findAll();
+    }
+
+    @Benchmark
+    public Optional<Admin> adminFindById(final SeededDatabase database) throws SQLException {
+        return AdminDAO.findById(1);
+    }
+
+    @Benchmark
+    public Optional<Admin> adminFindByEmail(final SeededDatabase database) throws SQLException {
+        return AdminDAO.findByEmail("admin@sms.com");
+    }
+
+    @Benchmark
+    public boolean adminVerifyPassword(final SeededDatabase database) throws SQLException {
+        return AdminDAO.verifyPassword("admin@sms.com", "not-the-password");
+    }
+
+    @Benchmark
+    public List<Admin> adminFindAll(final SeededDatabase database) throws SQLException {
+        return AdminDAO.findAll();
+    }
+
+    @Benchmark
+    public int adminGetTableSize(final SeededDatabase database) throws SQLException {
+        return AdminDAO.getTableSize();
+    }
+
+    @Benchmark
+    public Optional<Course> courseFindById(final SeededDatabase database) throws SQLException {
+        return CourseDAO.findById(database.randomCourse().getId());
+    }
+
+    @Benchmark
+    public Optional<Course> courseFindByName(final SeededDatabase database) throws SQLException {
+        return CourseDAO.findByName(database.randomCourse().getName());
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<Course> courseFindAll(final SeededDatabase database) throws SQLException {
+        return CourseDAO.findAll();
+    }
+
+    @Benchmark
+    public Optional<Module> moduleFindById(final SeededDatabase database) throws SQLException {
+        return ModuleDAO.findById(database.randomModule().getId());
+    }
+
+    @Benchmark
+    public Optional<Module> moduleFindByName(final SeededDatabase database) throws SQLException {
+        return ModuleDAO.findByName(database.randomModule().getName());
+    }
+
+    @Benchmark
+    public List<Module> moduleFindByCourseId(final SeededDatabase database) throws SQLException {
+        return ModuleDAO.findByCourseId(database.randomCourse().getId());
+    }
+
+    @Benchmark
+    public List<Module> moduleFindByLecturer(final SeededDatabase database) throws SQLException {
+        return ModuleDAO.findByLecturer(database.randomModule().getLecturer());
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<Module> moduleFindAll(final SeededDatabase database) throws SQLException {
+        return ModuleDAO.findAll();
+    }
+
+    @Benchmark
+    public Optional<Assessment> assessmentFindById(final SeededDatabase database) throws SQLException {
+        return AssessmentDAO.findById(database.randomAssessment().getId());
+    }
+
+    @Benchmark
+    public Optional<Assessment> assessmentFindByName(final SeededDatabase database) throws SQLException {
+        return AssessmentDAO.findByName(database.randomAssessment().getName());
+    }
+
+    @Benchmark
+    public List<Assessment> assessmentFindByModuleId(final SeededDatabase database) throws SQLException {
+        return AssessmentDAO.findByModuleId(database.randomModule().getId());
+    }
+
+    @Benchmark
+    public List<Assessment> assessmentFindByDueDate(final SeededDatabase database) throws SQLException {
+        return AssessmentDAO.findByDueDate(database.randomAssessment().getDueDate());
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<Assessment> assessmentFindAll(final SeededDatabase database) throws SQLException {
+        return AssessmentDAO.findAll();
+    }
+
+    @Benchmark
+    public Optional<CourseEnrollment> enrollmentFindById(final SeededDatabase database) throws SQLException {
+        return CourseEnrollmentDAO.findById(database.randomEnrollment().getId());
+    }
+
+    @Benchmark
+    public List<CourseEnrollment> enrollmentFindByStudentId(final SeededDatabase database) throws SQLException {
+        return CourseEnrollmentDAO.findByStudentId(database.randomStudent().getId());
+    }
+
+    @Benchmark
+    public List<CourseEnrollment> enrollmentFindByCourseId(final SeededDatabase database) throws SQLException {
+        return CourseEnrollmentDAO.findByCourseId(database.randomCourse().getId());
+    }
+
+    @Benchmark
+    public Optional<CourseEnrollment> enrollmentFindByStudentAndCourseId(final SeededDatabase database)
+            throws SQLException {
+        CourseEnrollment enrollment = database.randomEnrollment();
+        return CourseEnrollmentDAO.findByStudentAndCourseId(enrollment.getStudentId(), enrollment.getCourseId());
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<CourseEnrollment> enrollmentFindAll(final SeededDatabase database) throws SQLException {
+        return CourseEnrollmentDAO.findAll();
+    }
+
+    @Benchmark
+    public List<Result> resultFindByStudentId(final SeededDatabase database) throws SQLException {
+        return ResultDAO.findByStudentId(database.randomStudent().getId());
+    }
+
+    @Benchmark
+    public List<Result> resultFindByAssessmentId(final SeededDatabase database) throws SQLException {
+        return ResultDAO.findByAssessmentId(database.randomAssessment().getId());
+    }
+
+    @Benchmark
+    public Optional<Result> resultFindByStudentAndAssessment(final SeededDatabase database) throws SQLException {
+        return ResultDAO.findByStudentAndAssessment(
+                database.randomStudent().getId(), database.randomAssessment().getId());
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<Result> resultFindAll(final SeededDatabase database) throws SQLException {
+        return ResultDAO.findAll();
+    }
+}
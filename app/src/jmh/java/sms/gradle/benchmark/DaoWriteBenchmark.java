@@ -0,0 +1,120 @@
+package sms.gradle.benchmark;
+
+import java.sql.Date;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import sms.gradle.model.dao.AssessmentDAO;
+import sms.gradle.model.dao.CourseDAO;
+import sms.gradle.model.dao.CourseEnrollmentDAO;
+import sms.gradle.model.dao.ModuleDAO;
+import sms.gradle.model.dao.ResultDAO;
+import sms.gradle.model.dao.StudentDAO;
+import sms.gradle.model.entities.Assessment;
+import sms.gradle.model.entities.CourseEnrollment;
+import sms.gradle.model.entities.Result;
+import sms.gradle.model.entities.Student;
+import sms.gradle.utils.Common;
+
+/**
+ * Measures the DAO write methods against a seeded database without letting the data drift between iterations.
+ * Updates rewrite an existing row with its current values, and inserts are paired with the delete that removes
+ * them again, using a scratch student created for the trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DaoWriteBenchmark {
+    private static final String SCRATCH_EMAIL = "benchmark-scratch@sms.com";
+    private static final String NEW_STUDENT_EMAIL = "benchmark-new@sms.com";
+    private static final int BATCH_SIZE = 100;
+
+    private int scratchStudentId;
+    private List<Result> scratchResults;
+
+    @Setup(Level.Trial)
+    public void createScratchStudent(final SeededDatabase database) throws SQLException {
+        // Clean up after a trial that was killed before its tear down ran
+        deleteScratchStudent();
+        Date today = new Date(System.currentTimeMillis());
+        StudentDAO.addStudent(new Student(0, "Scratch", "Student", SCRATCH_EMAIL, today, today), "");
+        scratchStudentId = StudentDAO.findByEmail(SCRATCH_EMAIL).orElseThrow().getId();
+
+        scratchResults = new ArrayList<>();
+        int batchSize = Math.min(BATCH_SIZE, database.assessments.size());
+        for (Assessment assessment : database.assessments.subList(0, batchSize)) {
+            scratchResults.add(new Result(0, scratchStudentId, assessment.getId(), 50));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteScratchStudent() throws SQLException {
+        StudentDAO.deleteByEmail(SCRATCH_EMAIL);
+        StudentDAO.deleteByEmail(NEW_STUDENT_EMAIL);
+    }
+
+    @Benchmark
+    public int studentUpdate(final SeededDatabase database) throws SQLException {
+        Student student = database.randomStudent();
+        return StudentDAO.update(student, Common.generateSha256Hash(student.getFirstName() + student.getLastName()));
+    }
+
+    @Benchmark
+    public int studentAddThenDelete() throws SQLException {
+        Date today = new Date(System.currentTimeMillis());
+        StudentDAO.addStudent(new Student(0, "New", "Student", NEW_STUDENT_EMAIL, today, today), "");
+        return StudentDAO.deleteByEmail(NEW_STUDENT_EMAIL);
+    }
+
+    @Benchmark
+    public int courseUpdate(final SeededDatabase database) throws SQLException {
+        return CourseDAO.update(database.randomCourse());
+    }
+
+    @Benchmark
+    public int moduleUpdate(final SeededDatabase database) throws SQLException {
+        return ModuleDAO.update(database.randomModule());
+    }
+
+    @Benchmark
+    public int assessmentUpdate(final SeededDatabase database) throws SQLException {
+        return AssessmentDAO.update(database.randomAssessment());
+    }
+
+    @Benchmark
+    public int enrollmentUpdate(final SeededDatabase database) throws SQLException {
+        return CourseEnrollmentDAO.update(database.randomEnrollment());
+    }
+
+    @Benchmark
+    public int enrollmentAddThenDelete(final SeededDatabase database) throws SQLException {
+        CourseEnrollmentDAO.addCourseEnrollment(new CourseEnrollment(
+                0, scratchStudentId, database.randomCourse().getId(), new Date(System.currentTimeMillis())));
+        return CourseEnrollmentDAO.deleteByStudentId(scratchStudentId);
+    }
+
+    @Benchmark
+    public int resultAddThenUpdateThenDelete(final SeededDatabase database) throws SQLException {
+        int assessmentId = database.randomAssessment().getId();
+        ResultDAO.addResult(new Result(0, scratchStudentId, assessmentId, 50));
+        Result result = ResultDAO.findByStudentAndAssessment(scratchStudentId, assessmentId).orElseThrow();
+        ResultDAO.update(new Result(result.getId(), scratchStudentId, assessmentId, 75));
+        return ResultDAO.deleteByStudentId(scratchStudentId);
+    }
+
+    @Benchmark
+    public int resultAddAllThenDelete() throws SQLException {
+        ResultDAO.addAll(scratchResults);
+        return ResultDAO.deleteByStudentId(scratchStudentId);
+    }
+}
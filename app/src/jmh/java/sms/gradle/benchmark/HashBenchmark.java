@@ -0,0 +1,25 @@
+package sms.gradle.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import sms.gradle.utils.Common;
+
+/**
+ * Measures password hashing, which runs on every login attempt and for every seeded student
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HashBenchmark {
+    private String password = "JohnSmith";
+
+    @Benchmark
+    public String generateSha256Hash() {
+        return Common.generateSha256Hash(password);
+    }
+}
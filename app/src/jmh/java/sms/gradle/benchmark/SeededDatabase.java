@@ -0,0 +1,89 @@
+package sms.gradle.benchmark;
+
+import java.io.File;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import sms.gradle.model.dao.AssessmentDAO;
+import sms.gradle.model.dao.CourseDAO;
+import sms.gradle.model.dao.CourseEnrollmentDAO;
+import sms.gradle.model.dao.DatabaseConnection;
+import sms.gradle.model.dao.ModuleDAO;
+import sms.gradle.model.dao.StudentDAO;
+import sms.gradle.model.entities.Assessment;
+import sms.gradle.model.entities.Course;
+import sms.gradle.model.entities.CourseEnrollment;
+import sms.gradle.model.entities.Module;
+import sms.gradle.model.entities.Student;
+import sms.gradle.utils.SeededDataGenerator;
+
+/**
+ * A database seeded by <code>SeededDataGenerator</code> at the benchmark's <code>scale</code>, plus the rows
+ * benchmarks pick their lookup keys from.
+ * Each scale gets its own database file under <code>sms.benchmark.dataDir</code>, which is generated on first use
+ * and reused by later runs, since the same seed always produces the same data.
+ */
+@State(Scope.Benchmark)
+public class SeededDatabase {
+    public static final long SEED = 42;
+
+    @Param({"1", "10", "100"})
+    public double scale;
+
+    public List<Student> students;
+    public List<Course> courses;
+    public List<Module> modules;
+    public List<Assessment> assessments;
+    public List<CourseEnrollment> enrollments;
+
+    @Setup(Level.Trial)
+    public void open() throws SQLException {
+        File dataDir = new File(System.getProperty("sms.benchmark.dataDir", "build/jmh-data"));
+        // DatabaseConnection reads sms.db.url once when it is first used. JMH runs each trial in a freshly forked
+        // JVM, so setting it here, before any DAO is touched, points the whole trial at this scale's database.
+        System.setProperty(
+                "sms.db.url",
+                String.format("jdbc:h2:%s/scale-%s-seed-%d", dataDir.getAbsolutePath(), scale, SEED));
+        if (!DatabaseConnection.getInstance().isPopulated()) {
+            new SeededDataGenerator(
+                            SEED,
+                            SeededDataGenerator.Scale.of(scale),
+                            Runtime.getRuntime().availableProcessors())
+                    .generate();
+        }
+        students = StudentDAO.findAll();
+        courses = CourseDAO.findAll();
+        modules = ModuleDAO.findAll();
+        assessments = AssessmentDAO.findAll();
+        enrollments = CourseEnrollmentDAO.findAll();
+    }
+
+    private static <T> T pick(final List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+
+    public Student randomStudent() {
+        return pick(students);
+    }
+
+    public Course randomCourse() {
+        return pick(courses);
+    }
+
+    public Module randomModule() {
+        return pick(modules);
+    }
+
+    public Assessment randomAssessment() {
+        return pick(assessments);
+    }
+
+    public CourseEnrollment randomEnrollment() {
+        return pick(enrollments);
+    }
+}
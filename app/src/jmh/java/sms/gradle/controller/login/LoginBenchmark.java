@@ -0,0 +1,44 @@
+package sms.gradle.controller.login;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import sms.gradle.benchmark.SeededDatabase;
+import sms.gradle.model.entities.Student;
+import sms.gradle.utils.Common;
+import sms.gradle.utils.session.User;
+
+/**
+ * Measures <code>LoginController.authenticateUser</code> for each outcome a login attempt can have.
+ * Lives in the controller's package so it can call the package-private method directly.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LoginBenchmark {
+    private static final String ADMIN_PASSWORD_HASH = Common.generateSha256Hash("admin");
+
+    @Benchmark
+    public User adminLogin(final SeededDatabase database) throws SQLException {
+        return LoginController.authenticateUser("admin@sms.com", ADMIN_PASSWORD_HASH);
+    }
+
+    @Benchmark
+    public User studentLogin(final SeededDatabase database) throws SQLException {
+        Student student = database.randomStudent();
+        return LoginController.authenticateUser(
+                student.getEmail(), Common.generateSha256Hash(student.getFirstName() + student.getLastName()));
+    }
+
+    @Benchmark
+    public User wrongPassword(final SeededDatabase database) throws SQLException {
+        return LoginController.authenticateUser(database.randomStudent().getEmail(), ADMIN_PASSWORD_HASH);
+    }
+
+    @Benchmark
+    public User unknownEmail(final SeededDatabase database) throws SQLException {
+        return LoginController.authenticateUser("nobody@sms.com", ADMIN_PASSWORD_HASH);
+    }
+}
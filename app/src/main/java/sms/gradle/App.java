@@ -4,32 +4,34 @@ import javafx.application.Application;
 import javafx.stage.Stage;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import sms.gradle.model.dao.DatabaseConnection;
-import sms.gradle.utils.MockDatabaseGenerator;
+import sms.gradle.controller.login.StartupController;
+import sms.gradle.model.dao.EntityCaches;
+import sms.gradle.model.dao.QueryMetrics;
 import sms.gradle.view.ViewFactory;
 
 public class App extends Application {
 
     private static final Logger LOGGER = LogManager.getLogger();
 
-    @Override
-    public void init() {
-        DatabaseConnection.getInstance();
-        if (!DatabaseConnection.getInstance().isPopulated()) {
-            try {
-                LOGGER.info("Populating database");
-                MockDatabaseGenerator.populateTables();
-            } catch (Exception e) {
-                LOGGER.error("Failed to populate tables: ", e);
-            }
-        }
-    }
-
     @Override
     public void start(Stage stage) {
         LOGGER.debug("Starting application");
 
         ViewFactory.getInstance().changeToLoginStage();
+        // The database is opened, migrated and seeded in the background while the login window shows progress
+        StartupController.start();
+    }
+
+    @Override
+    public void stop() {
+        StartupController.cancelSeeding();
+        EntityCaches.getStatistics()
+                .forEach((name, statistics) -> LOGGER.info(
+                        "Entity cache {}: {} (hit rate {})",
+                        name,
+                        statistics,
+                        String.format("%.2f", statistics.hitRate())));
+        QueryMetrics.getSnapshots().forEach((sql, snapshot) -> LOGGER.info("Query {}: {}", snapshot, sql));
     }
 
     public static void main(String[] args) {
@@ -1,6 +1,5 @@
 package sms.gradle.controller.admin;
 
-import java.sql.SQLException;
 import javafx.event.ActionEvent;
 import javafx.scene.control.ListView;
 import javafx.stage.WindowEvent;
@@ -9,6 +8,7 @@ import org.apache.logging.log4j.Logger;
 import sms.gradle.model.dao.CourseDAO;
 import sms.gradle.model.entities.Course;
 import sms.gradle.utils.Common;
+import sms.gradle.utils.FxAsync;
 import sms.gradle.view.ViewFactory;
 import sms.gradle.view.frames.admin.CourseDetailView;
 
@@ -30,13 +30,10 @@ public final class AdminDashboardController {
         LOGGER.debug("Refreshing List Of Courses");
         ListView<Course> courseListView =
                 Common.getNode(ViewFactory.getInstance().getAdminDashboardStage(), "#courseListView");
-        courseListView.getItems().clear();
-        try {
-            courseListView.getItems().addAll(CourseDAO.findAll());
-        } catch (SQLException e) {
-            LOGGER.error("Failed to update list of courses: ", e);
+        FxAsync.loadInto(courseListView, CourseDAO::findAll, error -> {
+            LOGGER.error("Failed to update list of courses: ", error);
             Common.showAlert("An error occurred", "We had a problem loading the courses. Please try again.");
-        }
+        });
     }
 
     /**
@@ -7,11 +7,13 @@ import javafx.event.ActionEvent;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import sms.gradle.model.dao.AssessmentDAO;
+import sms.gradle.model.dao.GradeStatistics;
 import sms.gradle.model.dao.ModuleDAO;
+import sms.gradle.model.dao.StatisticsDAO;
 import sms.gradle.model.dao.StudentDAO;
+import sms.gradle.model.dao.StudentSummary;
 import sms.gradle.model.entities.Assessment;
 import sms.gradle.model.entities.Module;
-import sms.gradle.model.entities.Student;
 import sms.gradle.utils.Common;
 import sms.gradle.view.ViewFactory;
 import sms.gradle.view.frames.admin.AssessmentDetailView;
@@ -34,12 +36,12 @@ public final class AssessmentDetailViewController {
      * @param assessmentId The ID of the assessment to load students for
      * @return List of students who have submitted the assessment
      */
-    public static List<Student> loadStudentsForAssessment(int assessmentId) {
+    public static List<StudentSummary> loadStudentsForAssessment(int assessmentId) {
         LOGGER.debug("Loading students for assessment ID: {}", assessmentId);
-        List<Student> students = new ArrayList<>();
+        List<StudentSummary> students = new ArrayList<>();
 
         try {
-            students = StudentDAO.findAll();
+            students = StudentDAO.findAllSummaries();
 
             LOGGER.debug("Loaded {} students for assessment ID: {}", students.size(), assessmentId);
         } catch (SQLException e) {
@@ -103,27 +105,19 @@ public final class AssessmentDetailViewController {
     }
 
     /**
-     * Calculates statistics for an assessment
+     * Calculates grade statistics for an assessment with a single query
      * @param assessmentId The ID of the assessment
-     * @return Array containing [totalSubmissions, averageGrade, passRate]
+     * @return The assessment's statistics, or <code>GradeStatistics.EMPTY</code> if they could not be calculated
      */
-    public static double[] calculateAssessmentStatistics(int assessmentId) {
+    public static GradeStatistics calculateAssessmentStatistics(int assessmentId) {
         LOGGER.debug("Calculating statistics for assessment ID: {}", assessmentId);
-        double[] stats = new double[3]; // [totalSubmissions, averageGrade, passRate]
 
         try {
-            List<Student> students = loadStudentsForAssessment(assessmentId);
-            stats[0] = students.size(); // Total submissions
-
-            // TODO: Implement grade calculation when grade data is available
-            stats[1] = 0.0; // Average grade placeholder
-            stats[2] = 0.0; // Pass rate placeholder
-
-        } catch (Exception e) {
+            return StatisticsDAO.findAssessmentStatistics(assessmentId);
+        } catch (SQLException e) {
             LOGGER.error("Error calculating statistics for assessment ID: {}", assessmentId, e);
+            return GradeStatistics.EMPTY;
         }
-
-        return stats;
     }
 
     /**
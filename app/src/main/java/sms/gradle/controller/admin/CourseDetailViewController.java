@@ -8,11 +8,14 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import sms.gradle.model.dao.AssessmentDAO;
 import sms.gradle.model.dao.CourseDAO;
-import sms.gradle.model.dao.CourseEnrollmentDAO;
+import sms.gradle.model.dao.GradeStatistics;
+import sms.gradle.model.dao.ModuleAssessments;
 import sms.gradle.model.dao.ModuleDAO;
+import sms.gradle.model.dao.RosterEntry;
+import sms.gradle.model.dao.RosterOrder;
+import sms.gradle.model.dao.StatisticsDAO;
 import sms.gradle.model.dao.StudentDAO;
 import sms.gradle.model.entities.Assessment;
-import sms.gradle.model.entities.CourseEnrollment;
 import sms.gradle.model.entities.Module;
 import sms.gradle.model.entities.Student;
 import sms.gradle.utils.Common;
@@ -43,48 +46,48 @@ public final class CourseDetailViewController {
      * @return List of students enrolled in the course
      */
     public static List<Student> loadStudentsForCourse(int courseId) {
-        LOGGER.debug("Loading students for course ID: {}", courseId);
         List<Student> students = new ArrayList<>();
+        for (RosterEntry entry : loadRosterForCourse(courseId)) {
+            students.add(entry.student());
+        }
+        return students;
+    }
 
-        try {
-            List<CourseEnrollment> enrollments = CourseEnrollmentDAO.findByCourseId(courseId);
-
-            for (CourseEnrollment enrollment : enrollments) {
-                StudentDAO.findById(enrollment.getStudentId()).ifPresent(students::add);
-            }
+    /**
+     * Loads the roster for a specific course, with the date each student enrolled, ordered by last name
+     * @param courseId The ID of the course to load the roster for
+     * @return List of roster entries for the course
+     */
+    public static List<RosterEntry> loadRosterForCourse(int courseId) {
+        LOGGER.debug("Loading students for course ID: {}", courseId);
+        List<RosterEntry> roster = new ArrayList<>();
 
-            LOGGER.debug("Loaded {} students for course ID: {}", students.size(), courseId);
+        try {
+            roster = StudentDAO.findRosterByCourseId(courseId, RosterOrder.LAST_NAME, StudentDAO.NO_LIMIT);
+            LOGGER.debug("Loaded {} students for course ID: {}", roster.size(), courseId);
         } catch (SQLException e) {
             LOGGER.error("Error loading students for course ID: {}", courseId, e);
             Common.showAlert("An error occurred", "We had a problem loading the students. Please try again.");
         }
 
-        return students;
+        return roster;
     }
 
     /**
-     * Calculates statistics for students in a course
+     * Calculates grade statistics for a course across all of its assessments with a single query
      * @param courseId The ID of the course
-     * @return Array containing [totalStudents, averageGrade, passRate]
+     * @return The course's statistics, or <code>GradeStatistics.EMPTY</code> if they could not be calculated
      */
-    public static double[] calculateCourseStatistics(int courseId) {
+    public static GradeStatistics calculateCourseStatistics(int courseId) {
         LOGGER.debug("Calculating statistics for course ID: {}", courseId);
-        double[] stats = new double[3]; // [totalStudents, averageGrade, passRate]
 
         try {
-            List<CourseEnrollment> enrollments = CourseEnrollmentDAO.findByCourseId(courseId);
-            stats[0] = enrollments.size(); // Total students
-
-            // TODO: Implement grade calculation when grade data is available
-            stats[1] = 0.0; // Average grade placeholder
-            stats[2] = 0.0; // Pass rate placeholder
-
+            return StatisticsDAO.findCourseStatistics(courseId);
         } catch (SQLException e) {
             LOGGER.error("Error calculating statistics for course ID: {}", courseId, e);
             Common.showAlert("An error occurred", "We had a problem calculating the statistics. Please try again.");
+            return GradeStatistics.EMPTY;
         }
-
-        return stats;
     }
 
     /**
@@ -142,14 +145,7 @@ public final class CourseDetailViewController {
         List<Assessment> assessments = new ArrayList<>();
 
         try {
-            // Get all modules for the course
-            List<Module> modules = ModuleDAO.findByCourseId(courseId);
-
-            // For each module, get its assessments
-            for (Module module : modules) {
-                List<Assessment> moduleAssessments = AssessmentDAO.findByModuleId(module.getId());
-                assessments.addAll(moduleAssessments);
-            }
+            assessments = ModuleAssessments.allAssessments(AssessmentDAO.findByCourseIdGroupedByModule(courseId));
 
             LOGGER.debug("Loaded {} assessments for course ID: {}", assessments.size(), courseId);
         } catch (SQLException e) {
@@ -172,8 +168,6 @@ public final class CourseDetailViewController {
         }
 
         view.setCourseId(courseId);
-        view.updateModuleList();
-        view.updateAssessmentList();
     }
 
     /**
@@ -189,10 +183,9 @@ public final class CourseDetailViewController {
         LOGGER.debug("View Assessment button clicked");
         CourseDetailView view = (CourseDetailView)
                 ((javafx.scene.Node) event.getSource()).getScene().getRoot();
-        Integer assessmentId = null;
+        Integer assessmentId = view.getSelectedAssessmentId();
 
-        if (view.getSelectedAssessmentRow() != null) {
-            assessmentId = (Integer) view.getSelectedAssessmentRow().getUserData();
+        if (assessmentId != null) {
             LOGGER.debug("Selected assessment ID: {}", assessmentId);
 
             hideCourseDetail();
@@ -223,10 +216,9 @@ public final class CourseDetailViewController {
         LOGGER.debug("View Module button clicked");
         CourseDetailView view = (CourseDetailView)
                 ((javafx.scene.Node) event.getSource()).getScene().getRoot();
-        Integer moduleId = null;
+        Integer moduleId = view.getSelectedModuleId();
 
-        if (view.getSelectedModuleRow() != null) {
-            moduleId = (Integer) view.getSelectedModuleRow().getUserData();
+        if (moduleId != null) {
             LOGGER.debug("Selected module ID: {}", moduleId);
 
             hideCourseDetail();
@@ -1,6 +1,5 @@
 package sms.gradle.controller.admin;
 
-import java.sql.SQLException;
 import java.util.List;
 import java.util.stream.Collectors;
 import javafx.event.ActionEvent;
@@ -16,6 +15,7 @@ import org.apache.logging.log4j.Logger;
 import sms.gradle.model.dao.AdminDAO;
 import sms.gradle.model.entities.Admin;
 import sms.gradle.utils.Common;
+import sms.gradle.utils.FxAsync;
 import sms.gradle.utils.checks.ChecksProcessor;
 import sms.gradle.utils.checks.NodeValidator;
 import sms.gradle.utils.checks.textfield.MinLengthCheck;
@@ -110,14 +110,10 @@ public final class ManageAdminsController {
         LOGGER.debug("Updating & Refreshing List Of Admins");
         final ListView<Admin> adminListView = Common.getNode(getViewStage(), "#adminListView");
 
-        adminListView.getItems().clear();
-
-        try {
-            AdminDAO.findAll().forEach(admin -> adminListView.getItems().add(admin));
-        } catch (SQLException e) {
-            LOGGER.info("Failed to update & refresh admins list", e);
+        FxAsync.loadInto(adminListView, AdminDAO::findAll, error -> {
+            LOGGER.info("Failed to update & refresh admins list", error);
             Common.showAlert("An error occurred", "Failed to update & refresh admins list");
-        }
+        });
     }
 
     /**
@@ -140,20 +136,22 @@ public final class ManageAdminsController {
             return;
         }
 
-        try {
-            final Admin newAdmin = new Admin(
-                    0, adminFirstNameField.getText(), adminLastNameField.getText(), adminEmailField.getText());
+        final Admin newAdmin =
+                new Admin(0, adminFirstNameField.getText(), adminLastNameField.getText(), adminEmailField.getText());
+        final String passwordHash = Common.generateSha256Hash(adminPasswordField.getText());
 
-            AdminDAO.addAdmin(newAdmin, Common.generateSha256Hash(adminPasswordField.getText()));
-
-            refreshListOfAdmins(event);
-            clearFields();
+        FxAsync.run(
+                () -> AdminDAO.addAdmin(newAdmin, passwordHash),
+                () -> {
+                    refreshListOfAdmins(event);
+                    clearFields();
 
-            LOGGER.debug("Created new admin: {}", newAdmin);
-        } catch (SQLException e) {
-            LOGGER.info("Failed to create new admin: ", e);
-            Common.showAlert("Failed to create new admin", e.getMessage());
-        }
+                    LOGGER.debug("Created new admin: {}", newAdmin);
+                },
+                error -> {
+                    LOGGER.info("Failed to create new admin: ", error);
+                    Common.showAlert("Failed to create new admin", error.getMessage());
+                });
     }
 
     /**
@@ -179,21 +177,24 @@ public final class ManageAdminsController {
             return;
         }
 
-        try {
-            final Admin updatedAdmin = new Admin(
-                    Integer.parseInt(adminIdField.getText()),
-                    adminFirstNameField.getText(),
-                    adminLastNameField.getText(),
-                    adminEmailField.getText());
+        final Admin updatedAdmin = new Admin(
+                Integer.parseInt(adminIdField.getText()),
+                adminFirstNameField.getText(),
+                adminLastNameField.getText(),
+                adminEmailField.getText());
+        final String passwordHash = Common.generateSha256Hash(adminPasswordField.getText());
 
-            AdminDAO.update(updatedAdmin, Common.generateSha256Hash(adminPasswordField.getText()));
-            refreshListOfAdmins(event);
+        FxAsync.run(
+                () -> AdminDAO.update(updatedAdmin, passwordHash),
+                () -> {
+                    refreshListOfAdmins(event);
 
-            LOGGER.debug("Updated admin: {}", updatedAdmin);
-        } catch (SQLException e) {
-            LOGGER.info("Failed in updating chosen admin: ", e);
-            Common.showAlert("An error occurred", "Failed to update the chosen admin");
-        }
+                    LOGGER.debug("Updated admin: {}", updatedAdmin);
+                },
+                error -> {
+                    LOGGER.info("Failed in updating chosen admin: ", error);
+                    Common.showAlert("An error occurred", "Failed to update the chosen admin");
+                });
     }
 
     /**
@@ -223,17 +224,19 @@ public final class ManageAdminsController {
                 + selectedAdmin.getLastName().toUpperCase() + "?");
         deletionConfirmation.showAndWait().ifPresent(response -> {
             if (response == ButtonType.OK) {
-                try {
-                    AdminDAO.delete(selectedAdmin.getId());
-                    adminList.getItems().remove(selectedAdmin);
-                    refreshListOfAdmins(event);
-
-                    clearFields();
-                    LOGGER.debug("Deleted selected admin: {}", selectedAdmin);
-                } catch (SQLException e) {
-                    LOGGER.info("Failed to delete selected admin: ", e);
-                    Common.showAlert("An error occurred", "Failed to delete selected admin");
-                }
+                FxAsync.run(
+                        () -> AdminDAO.delete(selectedAdmin.getId()),
+                        () -> {
+                            adminList.getItems().remove(selectedAdmin);
+                            refreshListOfAdmins(event);
+
+                            clearFields();
+                            LOGGER.debug("Deleted selected admin: {}", selectedAdmin);
+                        },
+                        error -> {
+                            LOGGER.info("Failed to delete selected admin: ", error);
+                            Common.showAlert("An error occurred", "Failed to delete selected admin");
+                        });
 
             } else {
                 LOGGER.info("Admin deletion request has been cancelled");
@@ -1,7 +1,6 @@
 package sms.gradle.controller.admin;
 
 import java.sql.Date;
-import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -20,12 +19,15 @@ import sms.gradle.model.dao.ModuleDAO;
 import sms.gradle.model.entities.Assessment;
 import sms.gradle.model.entities.Module;
 import sms.gradle.utils.Common;
+import sms.gradle.utils.FxAsync;
+import sms.gradle.utils.PendingLoads;
 import sms.gradle.utils.checks.ChecksProcessor;
 import sms.gradle.utils.checks.NodeValidator;
 import sms.gradle.utils.checks.datepicker.AfterSpecifiedDate;
 import sms.gradle.utils.checks.datepicker.HasValue;
 import sms.gradle.utils.checks.textfield.MinLengthCheck;
 import sms.gradle.view.ViewFactory;
+import sms.gradle.view.components.PagedListLoader;
 
 public class ManageAssessmentsController {
     private static final Logger LOGGER = LogManager.getLogger();
@@ -44,6 +46,9 @@ public class ManageAssessmentsController {
                             new HasValue(),
                             new AfterSpecifiedDate(LocalDate.now().minusDays(1)))));
 
+    // Loads for the selected assessment's linked module, dropped when another assessment is selected
+    private static final PendingLoads selectionLoads = new PendingLoads();
+
     private ManageAssessmentsController() {
         throw new UnsupportedOperationException("This is a controller class and cannot be instantiated");
     }
@@ -79,23 +84,25 @@ public class ManageAssessmentsController {
      */
     private static void updateLinkedModuleDetails(Module linkedModule) {
         LOGGER.debug("Updating linked module");
-        try {
-            final Label linkedModuleNameLabel = Common.getNode(getViewStage(), "#linkedModuleNameLabel");
-            final Label linkedModuleIdLabel = Common.getNode(getViewStage(), "#linkedModuleIdLabel");
-            final Label linkedModuleDescriptionLabel = Common.getNode(getViewStage(), "#linkedModuleDescriptionLabel");
-            final Label linkedModuleLecturerLabel = Common.getNode(getViewStage(), "#linkedModuleLecturerLabel");
-            final Label linkedModuleCourseNameLabel = Common.getNode(getViewStage(), "#linkedModuleCourseNameLabel");
-
-            linkedModuleNameLabel.setText(linkedModule.getName());
-            linkedModuleIdLabel.setText("(" + linkedModule.getId() + ")");
-            linkedModuleDescriptionLabel.setText(linkedModule.getDescription());
-            linkedModuleLecturerLabel.setText(linkedModule.getLecturer());
-            linkedModuleCourseNameLabel.setText(
-                    CourseDAO.findById(linkedModule.getCourseId()).get().getName());
-        } catch (SQLException e) {
-            LOGGER.error("Failed to update linked modules list: ", e);
-            Common.showAlert("An error occurred", "We had a problem updating the linked modules. Please try again.");
-        }
+        final Label linkedModuleNameLabel = Common.getNode(getViewStage(), "#linkedModuleNameLabel");
+        final Label linkedModuleIdLabel = Common.getNode(getViewStage(), "#linkedModuleIdLabel");
+        final Label linkedModuleDescriptionLabel = Common.getNode(getViewStage(), "#linkedModuleDescriptionLabel");
+        final Label linkedModuleLecturerLabel = Common.getNode(getViewStage(), "#linkedModuleLecturerLabel");
+        final Label linkedModuleCourseNameLabel = Common.getNode(getViewStage(), "#linkedModuleCourseNameLabel");
+
+        linkedModuleNameLabel.setText(linkedModule.getName());
+        linkedModuleIdLabel.setText("(" + linkedModule.getId() + ")");
+        linkedModuleDescriptionLabel.setText(linkedModule.getDescription());
+        linkedModuleLecturerLabel.setText(linkedModule.getLecturer());
+        linkedModuleCourseNameLabel.setText(FxAsync.loadingText());
+        selectionLoads.track(FxAsync.load(
+                () -> CourseDAO.findById(linkedModule.getCourseId()).get().getName(),
+                linkedModuleCourseNameLabel::setText,
+                error -> {
+                    LOGGER.error("Failed to update linked modules list: ", error);
+                    Common.showAlert(
+                            "An error occurred", "We had a problem updating the linked modules. Please try again.");
+                }));
     }
 
     /**
@@ -106,21 +113,20 @@ public class ManageAssessmentsController {
         LOGGER.debug("Updating unlinked modules list");
 
         final ListView<Module> unlinkedModulesListView = Common.getNode(getViewStage(), "#unlinkedModulesListView");
-        unlinkedModulesListView.getItems().clear();
+        final int linkedModuleId = getModuleIdFromLinkedModule();
 
-        try {
-            List<Module> allModules = ModuleDAO.findAll();
-            for (Module module : allModules) {
+        selectionLoads.track(FxAsync.loadInto(
+                unlinkedModulesListView,
                 // Don't add the currently linked module to the list
-                if (module.getId() != getModuleIdFromLinkedModule()) {
-                    unlinkedModulesListView.getItems().add(module);
-                }
-            }
-        } catch (SQLException e) {
-            LOGGER.error("Failed to update unlinked modules list: ", e);
-            Common.showAlert(
-                    "An error occurred", "We had a problem updating the unlinked modules list. Please try again.");
-        }
+                () -> ModuleDAO.findAll().stream()
+                        .filter(module -> module.getId() != linkedModuleId)
+                        .toList(),
+                error -> {
+                    LOGGER.error("Failed to update unlinked modules list: ", error);
+                    Common.showAlert(
+                            "An error occurred",
+                            "We had a problem updating the unlinked modules list. Please try again.");
+                }));
     }
 
     /**
@@ -140,22 +146,20 @@ public class ManageAssessmentsController {
     }
 
     /**
-     * Updates the list of assessments with all the assessments in the database
+     * Reloads the list of assessments from the first page, fetching further pages as the user scrolls
      * @param event The action event that triggered this method
      */
     public static void updateListOfAssessments(ActionEvent event) {
         LOGGER.debug("Updating list of assessments");
 
         final ListView<Assessment> assessmentsList = Common.getNode(getViewStage(), "#assessmentsListView");
-        assessmentsList.getItems().clear();
-        try {
-            AssessmentDAO.findAll()
-                    .forEach(assessment -> assessmentsList.getItems().add(assessment));
-        } catch (SQLException e) {
-            LOGGER.error("Failed to update list of assessments: ", e);
-            Common.showAlert(
-                    "An error occurred", "We had a problem updating the list of assessments. Please try again.");
-        }
+        final PagedListLoader<Assessment> loader = PagedListLoader.attach(
+                assessmentsList,
+                PagedListLoader.DEFAULT_PAGE_SIZE,
+                AssessmentDAO::findPage,
+                e -> Common.showAlert(
+                        "An error occurred", "We had a problem updating the list of assessments. Please try again."));
+        loader.reload();
     }
 
     /**
@@ -169,7 +173,6 @@ public class ManageAssessmentsController {
         final ListView<Assessment> assessmentsListView = Common.getNode(getViewStage(), "#assessmentsListView");
         final Assessment selectedAssessment =
                 assessmentsListView.getSelectionModel().getSelectedItem();
-        Module linkedModule;
 
         if (selectedAssessment == null) {
             LOGGER.debug("No assessment selected. Ignoring.");
@@ -178,19 +181,21 @@ public class ManageAssessmentsController {
 
         LOGGER.debug("Selected assessment: {}", selectedAssessment);
 
-        try {
-            linkedModule = ModuleDAO.findById(selectedAssessment.getModuleId()).get();
-        } catch (SQLException e) {
-            LOGGER.error("Failed to get linked module from currently selected assessment");
-            Common.showAlert(
-                    "An error occurred",
-                    "We had a problem fetching the linked module for the selected assessment. Please try again.");
-            return;
-        }
-
-        updateAssessmentDetails(selectedAssessment);
-        updateLinkedModuleDetails(linkedModule);
-        updateUnlinkedModulesListView();
+        selectionLoads.cancelAll();
+        selectionLoads.track(FxAsync.load(
+                () -> ModuleDAO.findById(selectedAssessment.getModuleId()).get(),
+                linkedModule -> {
+                    updateAssessmentDetails(selectedAssessment);
+                    updateLinkedModuleDetails(linkedModule);
+                    updateUnlinkedModulesListView();
+                },
+                error -> {
+                    LOGGER.error("Failed to get linked module from currently selected assessment", error);
+                    Common.showAlert(
+                            "An error occurred",
+                            "We had a problem fetching the linked module for the selected assessment. "
+                                    + "Please try again.");
+                }));
     }
 
     /**
@@ -209,21 +214,6 @@ public class ManageAssessmentsController {
             return;
         }
 
-        List<Module> modules;
-        try {
-            modules = ModuleDAO.findAll();
-        } catch (SQLException e) {
-            LOGGER.error("Failed to get list of modules: ", e);
-            Common.showAlert("An error occurred", "We had a problem fetching the modules. Please try again.");
-            return;
-        }
-
-        if (modules.isEmpty()) {
-            // TODO: Display user error
-            LOGGER.info("No modules found. Cannot create assessment");
-            return;
-        }
-
         final Assessment newAssessment = new Assessment(
                 0,
                 nameField.getText(),
@@ -231,13 +221,27 @@ public class ManageAssessmentsController {
                 Date.valueOf(dueDatePicker.getValue()),
                 getModuleIdFromLinkedModule());
 
-        try {
-            AssessmentDAO.addAssessment(newAssessment);
-            LOGGER.debug("New assessment created: {}", newAssessment);
-        } catch (SQLException e) {
-            LOGGER.error("Failed to create new assessment: ", e);
-            Common.showAlert("An error occurred", "We had a problem creating the new assessment. Please try again.");
-        }
+        FxAsync.load(
+                () -> {
+                    if (!ModuleDAO.hasAny()) {
+                        return false;
+                    }
+                    AssessmentDAO.addAssessment(newAssessment);
+                    return true;
+                },
+                created -> {
+                    if (!created) {
+                        // TODO: Display user error
+                        LOGGER.info("No modules found. Cannot create assessment");
+                        return;
+                    }
+                    LOGGER.debug("New assessment created: {}", newAssessment);
+                },
+                error -> {
+                    LOGGER.error("Failed to create new assessment: ", error);
+                    Common.showAlert(
+                            "An error occurred", "We had a problem creating the new assessment. Please try again.");
+                });
     }
 
     /**
@@ -257,13 +261,14 @@ public class ManageAssessmentsController {
         }
 
         LOGGER.debug("Deleting assessment: {}", selectedAssessment);
-        try {
-            AssessmentDAO.delete(selectedAssessment.getId());
-            assessmentsListView.getItems().remove(selectedAssessment);
-        } catch (SQLException e) {
-            LOGGER.error("Failed to delete assessment: ", e);
-            Common.showAlert("An error occurred", "We had a problem deleting the assessment. Please try again.");
-        }
+        FxAsync.run(
+                () -> AssessmentDAO.delete(selectedAssessment.getId()),
+                () -> assessmentsListView.getItems().remove(selectedAssessment),
+                error -> {
+                    LOGGER.error("Failed to delete assessment: ", error);
+                    Common.showAlert(
+                            "An error occurred", "We had a problem deleting the assessment. Please try again.");
+                });
     }
 
     /**
@@ -283,6 +288,7 @@ public class ManageAssessmentsController {
         }
 
         LOGGER.debug("Selected module: {}", selectedModule);
+        selectionLoads.cancelAll();
         updateLinkedModuleDetails(selectedModule);
         updateUnlinkedModulesListView();
     }
@@ -322,14 +328,17 @@ public class ManageAssessmentsController {
                 Date.valueOf(dueDatePicker.getValue()),
                 moduleIdFromLinkedModule);
 
-        try {
-            AssessmentDAO.update(updatedAssessment);
-            updateListOfAssessments(null);
-            LOGGER.debug("Assessment updated: {}", updatedAssessment);
-        } catch (SQLException e) {
-            LOGGER.error("Failed to update assessment: ", e);
-            Common.showAlert("An error occurred", "We had a problem updating the assessment. Please try again.");
-        }
+        FxAsync.run(
+                () -> AssessmentDAO.update(updatedAssessment),
+                () -> {
+                    updateListOfAssessments(null);
+                    LOGGER.debug("Assessment updated: {}", updatedAssessment);
+                },
+                error -> {
+                    LOGGER.error("Failed to update assessment: ", error);
+                    Common.showAlert(
+                            "An error occurred", "We had a problem updating the assessment. Please try again.");
+                });
     }
 
     /**
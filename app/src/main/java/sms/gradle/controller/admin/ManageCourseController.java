@@ -1,6 +1,5 @@
 package sms.gradle.controller.admin;
 
-import java.sql.SQLException;
 import java.util.List;
 import java.util.stream.Collectors;
 import javafx.event.ActionEvent;
@@ -15,10 +14,12 @@ import org.apache.logging.log4j.Logger;
 import sms.gradle.model.dao.CourseDAO;
 import sms.gradle.model.entities.Course;
 import sms.gradle.utils.Common;
+import sms.gradle.utils.FxAsync;
 import sms.gradle.utils.checks.ChecksProcessor;
 import sms.gradle.utils.checks.NodeValidator;
 import sms.gradle.utils.checks.textfield.MinLengthCheck;
 import sms.gradle.view.ViewFactory;
+import sms.gradle.view.components.PagedListLoader;
 
 public final class ManageCourseController {
     private static final Logger LOGGER = LogManager.getLogger();
@@ -88,7 +89,7 @@ public final class ManageCourseController {
 
     /**
      * Refreshes the list of courses displayed in the course list view.
-     * Clears the current list and repopulates it with all courses from the database.
+     * Clears the current list and reloads it from the first page, fetching further pages as the user scrolls.
      *
      * @param event The action event that triggered this method
      */
@@ -96,14 +97,13 @@ public final class ManageCourseController {
         LOGGER.debug("Updating & Refreshing List Of Courses");
         ListView<Course> courseListView = Common.getNode(getViewStage(), "#courseListView");
 
-        courseListView.getItems().clear();
-
-        try {
-            CourseDAO.findAll().forEach(course -> courseListView.getItems().add(course));
-        } catch (SQLException e) {
-            LOGGER.error("Failed to update & refresh courses list", e);
-            Common.showAlert("An error occurred", "We had a problem updating the list of courses. Please try again.");
-        }
+        final PagedListLoader<Course> loader = PagedListLoader.attach(
+                courseListView,
+                PagedListLoader.DEFAULT_PAGE_SIZE,
+                CourseDAO::findPage,
+                e -> Common.showAlert(
+                        "An error occurred", "We had a problem updating the list of courses. Please try again."));
+        loader.reload();
     }
 
     /**
@@ -125,17 +125,18 @@ public final class ManageCourseController {
 
         Course newCourse = new Course(0, courseNameField.getText(), courseDescriptionField.getText());
 
-        try {
-            CourseDAO.addCourse(newCourse);
-
-            refreshListOfCourses(event);
-            clearFields();
+        FxAsync.run(
+                () -> CourseDAO.addCourse(newCourse),
+                () -> {
+                    refreshListOfCourses(event);
+                    clearFields();
 
-            LOGGER.debug("Created new course: {}", newCourse);
-        } catch (SQLException e) {
-            LOGGER.error("Failed to create a new course: ", e);
-            Common.showAlert("An error occurred", "We had a problem creating a new course. Please try again.");
-        }
+                    LOGGER.debug("Created new course: {}", newCourse);
+                },
+                error -> {
+                    LOGGER.error("Failed to create a new course: ", error);
+                    Common.showAlert("An error occurred", "We had a problem creating a new course. Please try again.");
+                });
     }
 
     /**
@@ -162,15 +163,17 @@ public final class ManageCourseController {
         Course updatedCourse = new Course(
                 Integer.parseInt(courseIdField.getText()), courseNameField.getText(), courseDescriptionField.getText());
 
-        try {
-            CourseDAO.update(updatedCourse);
-            refreshListOfCourses(event);
+        FxAsync.run(
+                () -> CourseDAO.update(updatedCourse),
+                () -> {
+                    refreshListOfCourses(event);
 
-            LOGGER.debug("Updated course: {}", updatedCourse);
-        } catch (SQLException e) {
-            LOGGER.error("Failed in updating chosen course: ", e);
-            Common.showAlert("An error occurred", "We had a problem updating the course. Please try again.");
-        }
+                    LOGGER.debug("Updated course: {}", updatedCourse);
+                },
+                error -> {
+                    LOGGER.error("Failed in updating chosen course: ", error);
+                    Common.showAlert("An error occurred", "We had a problem updating the course. Please try again.");
+                });
     }
 
     /**
@@ -198,17 +201,20 @@ public final class ManageCourseController {
                 + selectedCourse.getName().toUpperCase() + "?");
         deletionConfirmation.showAndWait().ifPresent(response -> {
             if (response == ButtonType.OK) {
-                try {
-                    CourseDAO.delete(selectedCourse.getId());
-                    courseList.getItems().remove(selectedCourse);
-                    refreshListOfCourses(event);
-
-                    clearFields();
-                    LOGGER.debug("Deleted chosen course: {}", selectedCourse);
-                } catch (SQLException e) {
-                    LOGGER.error("Failed to delete chosen course: ", e);
-                    Common.showAlert("An error occurred", "We had a problem deleting the course. Please try again.");
-                }
+                FxAsync.run(
+                        () -> CourseDAO.delete(selectedCourse.getId()),
+                        () -> {
+                            courseList.getItems().remove(selectedCourse);
+                            refreshListOfCourses(event);
+
+                            clearFields();
+                            LOGGER.debug("Deleted chosen course: {}", selectedCourse);
+                        },
+                        error -> {
+                            LOGGER.error("Failed to delete chosen course: ", error);
+                            Common.showAlert(
+                                    "An error occurred", "We had a problem deleting the course. Please try again.");
+                        });
 
             } else {
                 LOGGER.info("Course deletion request has been cancelled");
@@ -1,8 +1,6 @@
 package sms.gradle.controller.admin;
 
-import java.sql.SQLException;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 import javafx.event.ActionEvent;
 import javafx.scene.control.Label;
@@ -17,10 +15,13 @@ import sms.gradle.model.dao.ModuleDAO;
 import sms.gradle.model.entities.Course;
 import sms.gradle.model.entities.Module;
 import sms.gradle.utils.Common;
+import sms.gradle.utils.FxAsync;
+import sms.gradle.utils.PendingLoads;
 import sms.gradle.utils.checks.ChecksProcessor;
 import sms.gradle.utils.checks.NodeValidator;
 import sms.gradle.utils.checks.textfield.MinLengthCheck;
 import sms.gradle.view.ViewFactory;
+import sms.gradle.view.components.PagedListLoader;
 
 public final class ManageModuleController {
     private static final Logger LOGGER = LogManager.getLogger();
@@ -33,6 +34,9 @@ public final class ManageModuleController {
             new NodeValidator("Description", "#descriptionField", List.of(new MinLengthCheck(1)), List.of()),
             new NodeValidator("Lecturer", "#lecturerField", List.of(new MinLengthCheck(1)), List.of()));
 
+    // Loads for the selected module's linked course, dropped when another module is selected
+    private static final PendingLoads selectionLoads = new PendingLoads();
+
     private ManageModuleController() {
         throw new UnsupportedOperationException("This is a controller class and cannot be instantiated");
     }
@@ -81,21 +85,20 @@ public final class ManageModuleController {
         LOGGER.debug("Updating unlinked modules list");
 
         final ListView<Course> unlinkedCoursesListView = Common.getNode(getViewStage(), "#unlinkedCoursesListView");
-        unlinkedCoursesListView.getItems().clear();
+        final int linkedCourseId = getCourseIdFromLinkedCourse();
 
-        try {
-            final List<Course> allCourses = CourseDAO.findAll();
-            for (Course course : allCourses) {
+        selectionLoads.track(FxAsync.loadInto(
+                unlinkedCoursesListView,
                 // Don't add the currently linked course to the list
-                if (course.getId() != getCourseIdFromLinkedCourse()) {
-                    unlinkedCoursesListView.getItems().add(course);
-                }
-            }
-        } catch (SQLException e) {
-            LOGGER.error("Failed to update unlinked courses list: ", e);
-            Common.showAlert(
-                    "An error occurred", "We had a problem updating the unlinked courses list. Please try again.");
-        }
+                () -> CourseDAO.findAll().stream()
+                        .filter(course -> course.getId() != linkedCourseId)
+                        .toList(),
+                error -> {
+                    LOGGER.error("Failed to update unlinked courses list: ", error);
+                    Common.showAlert(
+                            "An error occurred",
+                            "We had a problem updating the unlinked courses list. Please try again.");
+                }));
     }
 
     /**
@@ -115,20 +118,20 @@ public final class ManageModuleController {
     }
 
     /**
-     * Updates the list of modules with all the modules in the database
+     * Reloads the list of modules from the first page, fetching further pages as the user scrolls
      * @param event The action event that triggered this method
      */
     public static void updateListOfModules(ActionEvent event) {
         LOGGER.debug("Updating list of modules");
 
         final ListView<Module> modulesList = Common.getNode(getViewStage(), "#modulesListView");
-        modulesList.getItems().clear();
-        try {
-            modulesList.getItems().addAll(ModuleDAO.findAll());
-        } catch (SQLException e) {
-            LOGGER.error("Failed to update list of modules: ", e);
-            Common.showAlert("An error occurred", "We had a problem updating the list of modules. Please try again.");
-        }
+        final PagedListLoader<Module> loader = PagedListLoader.attach(
+                modulesList,
+                PagedListLoader.DEFAULT_PAGE_SIZE,
+                ModuleDAO::findPage,
+                e -> Common.showAlert(
+                        "An error occurred", "We had a problem updating the list of modules. Please try again."));
+        loader.reload();
     }
 
     /**
@@ -141,7 +144,6 @@ public final class ManageModuleController {
 
         final ListView<Module> modulesListView = Common.getNode(getViewStage(), "#modulesListView");
         final Module selectedModule = modulesListView.getSelectionModel().getSelectedItem();
-        Optional<Course> linkedCourse;
 
         if (selectedModule == null) {
             LOGGER.debug("No module selected. Ignoring.");
@@ -150,26 +152,30 @@ public final class ManageModuleController {
 
         LOGGER.debug("Selected module: {}", selectedModule);
 
-        try {
-            final int linkedCourseId =
-                    ModuleDAO.findById(selectedModule.getId()).get().getCourseId();
-            linkedCourse = CourseDAO.findById(linkedCourseId);
-        } catch (SQLException e) {
-            LOGGER.error("Failed to get linked course from currently selected module");
-            Common.showAlert(
-                    "An error occurred",
-                    "We had a problem fetching the linked course ID for the selected module. Please try again.");
-            return;
-        }
-
-        if (linkedCourse.isEmpty()) {
-            LOGGER.debug("Module does not have a linked course");
-            return;
-        }
-
-        updateModuleDetails(selectedModule);
-        updateLinkedCourseDetails(linkedCourse.get());
-        updateUnlinkedCoursesListView();
+        selectionLoads.cancelAll();
+        selectionLoads.track(FxAsync.load(
+                () -> {
+                    final int linkedCourseId =
+                            ModuleDAO.findById(selectedModule.getId()).get().getCourseId();
+                    return CourseDAO.findById(linkedCourseId);
+                },
+                linkedCourse -> {
+                    if (linkedCourse.isEmpty()) {
+                        LOGGER.debug("Module does not have a linked course");
+                        return;
+                    }
+
+                    updateModuleDetails(selectedModule);
+                    updateLinkedCourseDetails(linkedCourse.get());
+                    updateUnlinkedCoursesListView();
+                },
+                error -> {
+                    LOGGER.error("Failed to get linked course from currently selected module", error);
+                    Common.showAlert(
+                            "An error occurred",
+                            "We had a problem fetching the linked course ID for the selected module. "
+                                    + "Please try again.");
+                }));
     }
 
     /**
@@ -188,31 +194,30 @@ public final class ManageModuleController {
             return;
         }
 
-        List<Course> courses;
-        try {
-            courses = CourseDAO.findAll();
-        } catch (SQLException e) {
-            LOGGER.error("Failed to get list of courses: ", e);
-            Common.showAlert("An error occurred", "We had a problem fetching the list of courses. Please try again.");
-            return;
-        }
-
-        if (courses.isEmpty()) {
-            // TODO: Display user error
-            LOGGER.info("No courses found. Cannot create assessment");
-            return;
-        }
-
         final Module newModule =
                 new Module(0, nameField.getText(), descriptionField.getText(), lecturerField.getText(), 1);
 
-        try {
-            ModuleDAO.addModule(newModule);
-            LOGGER.debug("New module created: {}", newModule);
-        } catch (SQLException e) {
-            LOGGER.error("Failed to create new module: ", e);
-            Common.showAlert("An error occurred", "We had a problem creating the new module. Please try again.");
-        }
+        FxAsync.load(
+                () -> {
+                    if (!CourseDAO.hasAny()) {
+                        return false;
+                    }
+                    ModuleDAO.addModule(newModule);
+                    return true;
+                },
+                created -> {
+                    if (!created) {
+                        // TODO: Display user error
+                        LOGGER.info("No courses found. Cannot create assessment");
+                        return;
+                    }
+                    LOGGER.debug("New module created: {}", newModule);
+                },
+                error -> {
+                    LOGGER.error("Failed to create new module: ", error);
+                    Common.showAlert(
+                            "An error occurred", "We had a problem creating the new module. Please try again.");
+                });
     }
 
     /**
@@ -231,13 +236,13 @@ public final class ManageModuleController {
         }
 
         LOGGER.debug("Deleting module: {}", selectedModule);
-        try {
-            ModuleDAO.delete(selectedModule.getId());
-            modulesListView.getItems().remove(selectedModule);
-        } catch (SQLException e) {
-            LOGGER.error("Failed to delete module: ", e);
-            Common.showAlert("An error occurred", "We had a problem deleting the module. Please try again.");
-        }
+        FxAsync.run(
+                () -> ModuleDAO.delete(selectedModule.getId()),
+                () -> modulesListView.getItems().remove(selectedModule),
+                error -> {
+                    LOGGER.error("Failed to delete module: ", error);
+                    Common.showAlert("An error occurred", "We had a problem deleting the module. Please try again.");
+                });
     }
 
     /**
@@ -257,6 +262,7 @@ public final class ManageModuleController {
         }
 
         LOGGER.debug("Selected course: {}", selectedCourse);
+        selectionLoads.cancelAll();
         updateLinkedCourseDetails(selectedCourse);
         updateUnlinkedCoursesListView();
     }
@@ -296,14 +302,16 @@ public final class ManageModuleController {
                 lecturerField.getText(),
                 courseIdFromLinkedCourse);
 
-        try {
-            ModuleDAO.update(updatedModule);
-            updateListOfModules(null);
-            LOGGER.debug("Module updated: {}", updatedModule);
-        } catch (SQLException e) {
-            LOGGER.error("Failed to update module: ", e);
-            Common.showAlert("An error occurred", "We had a problem updating the module. Please try again.");
-        }
+        FxAsync.run(
+                () -> ModuleDAO.update(updatedModule),
+                () -> {
+                    updateListOfModules(null);
+                    LOGGER.debug("Module updated: {}", updatedModule);
+                },
+                error -> {
+                    LOGGER.error("Failed to update module: ", error);
+                    Common.showAlert("An error occurred", "We had a problem updating the module. Please try again.");
+                });
     }
 
     /**
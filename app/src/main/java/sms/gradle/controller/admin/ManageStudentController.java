@@ -4,7 +4,9 @@ import java.sql.Date;
 import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import javafx.event.ActionEvent;
 import javafx.scene.control.*;
@@ -19,12 +21,15 @@ import sms.gradle.model.entities.Course;
 import sms.gradle.model.entities.CourseEnrollment;
 import sms.gradle.model.entities.Student;
 import sms.gradle.utils.Common;
+import sms.gradle.utils.FxAsync;
+import sms.gradle.utils.PendingLoads;
 import sms.gradle.utils.checks.ChecksProcessor;
 import sms.gradle.utils.checks.NodeValidator;
 import sms.gradle.utils.checks.datepicker.BeforeSpecifiedDate;
 import sms.gradle.utils.checks.datepicker.HasValue;
 import sms.gradle.utils.checks.textfield.MinLengthCheck;
 import sms.gradle.view.ViewFactory;
+import sms.gradle.view.components.PagedListLoader;
 
 public final class ManageStudentController {
     private static final Logger LOGGER = LogManager.getLogger();
@@ -52,6 +57,14 @@ public final class ManageStudentController {
             new NodeValidator("Email", "#emailField", List.of(new MinLengthCheck(1)), List.of()),
             new NodeValidator("Password", "#passwordField", List.of(new MinLengthCheck(1)), List.of()));
 
+    // Course list loads for the selected student, dropped when another student is selected
+    private static final PendingLoads courseLoads = new PendingLoads();
+
+    /**
+     * The courses a student is and is not enrolled on, loaded together for the two course lists
+     */
+    private record StudentCourses(List<Course> enrolled, List<Course> available) {}
+
     private ManageStudentController() {
         throw new UnsupportedOperationException("This is a controller class and cannot be instantiated");
     }
@@ -61,20 +74,20 @@ public final class ManageStudentController {
     }
 
     /**
-     * Updates the list of students with all the students in the database
+     * Reloads the list of students from the first page, fetching further pages as the user scrolls
      *
      * @param event The action event that triggered this method
      */
     public static void updateListOfStudents(ActionEvent event) {
         LOGGER.debug("Updating list of students");
         final ListView<Student> studentList = Common.getNode(getViewStage(), "#studentListView");
-        studentList.getItems().clear();
-        try {
-            StudentDAO.findAll().forEach(student -> studentList.getItems().add(student));
-        } catch (SQLException e) {
-            LOGGER.error("Failed to update list of students: ", e);
-            Common.showAlert("An error occurred", "We had a problem updating the list of students. Please try again.");
-        }
+        final PagedListLoader<Student> loader = PagedListLoader.attach(
+                studentList,
+                PagedListLoader.DEFAULT_PAGE_SIZE,
+                StudentDAO::findPage,
+                e -> Common.showAlert(
+                        "An error occurred", "We had a problem updating the list of students. Please try again."));
+        loader.reload();
     }
 
     /**
@@ -111,36 +124,39 @@ public final class ManageStudentController {
         emailField.setText(selectedStudent.getEmail());
         passwordField.setText("");
 
-        // Update enrolled courses list
+        // Update enrolled and available courses lists
+        courseLoads.cancelAll();
         enrolledCourses.getItems().clear();
-        try {
-            LOGGER.debug("Updating enrolled courses list");
-            final List<CourseEnrollment> courseEnrollments =
-                    CourseEnrollmentDAO.findByStudentId(selectedStudent.getId());
-            for (CourseEnrollment courseEnrollment : courseEnrollments) {
-                CourseDAO.findById(courseEnrollment.getCourseId())
-                        .ifPresent(course -> enrolledCourses.getItems().add(course));
-            }
-        } catch (SQLException e) {
-            LOGGER.error("Failed to update enrolled courses list: ", e);
-            Common.showAlert("An error occurred", "We had a problem fetching the enrolled courses. Please try again.");
-        }
-
-        // Update available courses list
         availableCourses.getItems().clear();
-        try {
-            LOGGER.debug("Updating available courses list");
-            final List<Course> allCourses = CourseDAO.findAll();
-            for (Course course : allCourses) {
-                if (!enrolledCourses.getItems().contains(course)) {
-                    availableCourses.getItems().add(course);
-                }
-            }
-        } catch (SQLException e) {
-            LOGGER.error("Failed to update available courses list: ", e);
-            Common.showAlert(
-                    "An error occurred", "We had a problem updating the list of available courses. Please try again.");
-        }
+        final int studentId = selectedStudent.getId();
+        courseLoads.track(FxAsync.load(
+                () -> loadStudentCourses(studentId),
+                courses -> {
+                    enrolledCourses.getItems().setAll(courses.enrolled());
+                    availableCourses.getItems().setAll(courses.available());
+                },
+                error -> {
+                    LOGGER.error("Failed to update course lists: ", error);
+                    Common.showAlert(
+                            "An error occurred", "We had a problem fetching the student's courses. Please try again.");
+                }));
+    }
+
+    /**
+     * Loads the courses a student is enrolled on, and the rest of the courses they could enrol on
+     *
+     * @param studentId The ID of the student
+     * @return The enrolled and available courses
+     * @throws SQLException If the courses cannot be loaded
+     */
+    private static StudentCourses loadStudentCourses(final int studentId) throws SQLException {
+        LOGGER.debug("Loading courses for student {}", studentId);
+        final Set<Integer> enrolledIds = CourseEnrollmentDAO.findByStudentId(studentId).stream()
+                .map(CourseEnrollment::getCourseId)
+                .collect(Collectors.toSet());
+        final Map<Boolean, List<Course>> courses = CourseDAO.findAll().stream()
+                .collect(Collectors.partitioningBy(course -> enrolledIds.contains(course.getId())));
+        return new StudentCourses(courses.get(true), courses.get(false));
     }
 
     /**
@@ -164,19 +180,21 @@ public final class ManageStudentController {
             return;
         }
 
-        try {
-            final Student updatedStudent = new Student(
-                    Integer.parseInt(studentIdField.getText()),
-                    firstNameField.getText(),
-                    lastNameField.getText(),
-                    emailField.getText(),
-                    java.sql.Date.valueOf(dateOfBirthPicker.getValue()),
-                    java.sql.Date.valueOf(joinDatePicker.getValue()));
-            StudentDAO.update(updatedStudent, Common.generateSha256Hash(passwordField.getText()));
-        } catch (SQLException e) {
-            LOGGER.error("Failed to update student: ", e);
-            Common.showAlert("An error occurred", "We had a problem updating the student. Please try again.");
-        }
+        final Student updatedStudent = new Student(
+                Integer.parseInt(studentIdField.getText()),
+                firstNameField.getText(),
+                lastNameField.getText(),
+                emailField.getText(),
+                java.sql.Date.valueOf(dateOfBirthPicker.getValue()),
+                java.sql.Date.valueOf(joinDatePicker.getValue()));
+        final String passwordHash = Common.generateSha256Hash(passwordField.getText());
+        FxAsync.run(
+                () -> StudentDAO.update(updatedStudent, passwordHash),
+                () -> LOGGER.debug("Student updated: {}", updatedStudent),
+                error -> {
+                    LOGGER.error("Failed to update student: ", error);
+                    Common.showAlert("An error occurred", "We had a problem updating the student. Please try again.");
+                });
     }
 
     /**
@@ -197,20 +215,21 @@ public final class ManageStudentController {
             return;
         }
 
-        try {
-            final Student newStudent = new Student(
-                    0,
-                    firstNameField.getText(),
-                    lastNameField.getText(),
-                    emailField.getText(),
-                    java.sql.Date.valueOf(dateOfBirthPicker.getValue()),
-                    java.sql.Date.valueOf(joinDatePicker.getValue()));
-            StudentDAO.addStudent(newStudent, Common.generateSha256Hash(passwordField.getText()));
-            LOGGER.debug("New student created: {}", newStudent);
-        } catch (SQLException e) {
-            LOGGER.error("Failed to create new student: ", e);
-            Common.showAlert("Failed to create new student", e.getMessage());
-        }
+        final Student newStudent = new Student(
+                0,
+                firstNameField.getText(),
+                lastNameField.getText(),
+                emailField.getText(),
+                java.sql.Date.valueOf(dateOfBirthPicker.getValue()),
+                java.sql.Date.valueOf(joinDatePicker.getValue()));
+        final String passwordHash = Common.generateSha256Hash(passwordField.getText());
+        FxAsync.run(
+                () -> StudentDAO.addStudent(newStudent, passwordHash),
+                () -> LOGGER.debug("New student created: {}", newStudent),
+                error -> {
+                    LOGGER.error("Failed to create new student: ", error);
+                    Common.showAlert("Failed to create new student", error.getMessage());
+                });
     }
 
     /**
@@ -228,13 +247,13 @@ public final class ManageStudentController {
         }
 
         LOGGER.debug("Deleting student: {}", selectedStudent);
-        try {
-            StudentDAO.delete(selectedStudent.getId());
-            studentList.getItems().remove(selectedStudent);
-        } catch (SQLException e) {
-            LOGGER.error("Failed to delete student: ", e);
-            Common.showAlert("An error occurred", "We had a problem deleting the student. Please try again.");
-        }
+        FxAsync.run(
+                () -> StudentDAO.delete(selectedStudent.getId()),
+                () -> studentList.getItems().remove(selectedStudent),
+                error -> {
+                    LOGGER.error("Failed to delete student: ", error);
+                    Common.showAlert("An error occurred", "We had a problem deleting the student. Please try again.");
+                });
     }
 
     /**
@@ -264,16 +283,20 @@ public final class ManageStudentController {
             return;
         }
 
-        try {
-            CourseEnrollmentDAO.addCourseEnrollment(
-                    new CourseEnrollment(0, studentId, selectedCourse.getId(), new Date(System.currentTimeMillis())));
-            enrolledCourses.getItems().add(selectedCourse);
-            availableCourses.getItems().remove(selectedCourse);
-        } catch (SQLException e) {
-            LOGGER.error("Failed to enroll student into course", e);
-            Common.showAlert(
-                    "An error occurred", "We had a problem enrolling the student to the course. Please try again.");
-        }
+        final CourseEnrollment enrollment =
+                new CourseEnrollment(0, studentId, selectedCourse.getId(), new Date(System.currentTimeMillis()));
+        FxAsync.run(
+                () -> CourseEnrollmentDAO.addCourseEnrollment(enrollment),
+                () -> {
+                    enrolledCourses.getItems().add(selectedCourse);
+                    availableCourses.getItems().remove(selectedCourse);
+                },
+                error -> {
+                    LOGGER.error("Failed to enroll student into course", error);
+                    Common.showAlert(
+                            "An error occurred",
+                            "We had a problem enrolling the student to the course. Please try again.");
+                });
     }
 
     /**
@@ -303,25 +326,33 @@ public final class ManageStudentController {
             return;
         }
 
-        try {
-            final Optional<CourseEnrollment> courseEnrollment =
-                    CourseEnrollmentDAO.findByStudentAndCourseId(studentId, selectedCourse.getId());
-            if (courseEnrollment.isEmpty()) {
-                LOGGER.warn(
-                        "Failed to find course enrollment between student {} and course {}",
-                        studentId,
-                        selectedCourse.getId());
-                return;
-            }
-
-            CourseEnrollmentDAO.delete(courseEnrollment.get().getId());
-            availableCourses.getItems().add(selectedCourse);
-            enrolledCourses.getItems().remove(selectedCourse);
-        } catch (SQLException e) {
-            LOGGER.error("Failed to unenroll student from course", e);
-            Common.showAlert(
-                    "An error occurred", "We had a problem unenrolling the student from the course. Please try again.");
-        }
+        final int enrolledStudentId = studentId;
+        FxAsync.load(
+                () -> {
+                    final Optional<CourseEnrollment> courseEnrollment =
+                            CourseEnrollmentDAO.findByStudentAndCourseId(enrolledStudentId, selectedCourse.getId());
+                    if (courseEnrollment.isPresent()) {
+                        CourseEnrollmentDAO.delete(courseEnrollment.get().getId());
+                    }
+                    return courseEnrollment.isPresent();
+                },
+                deleted -> {
+                    if (!deleted) {
+                        LOGGER.warn(
+                                "Failed to find course enrollment between student {} and course {}",
+                                enrolledStudentId,
+                                selectedCourse.getId());
+                        return;
+                    }
+                    availableCourses.getItems().add(selectedCourse);
+                    enrolledCourses.getItems().remove(selectedCourse);
+                },
+                error -> {
+                    LOGGER.error("Failed to unenroll student from course", error);
+                    Common.showAlert(
+                            "An error occurred",
+                            "We had a problem unenrolling the student from the course. Please try again.");
+                });
     }
 
     /**
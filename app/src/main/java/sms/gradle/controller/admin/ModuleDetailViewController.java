@@ -3,12 +3,17 @@ package sms.gradle.controller.admin;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import javafx.event.ActionEvent;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import sms.gradle.model.dao.AssessmentDAO;
+import sms.gradle.model.dao.GradeStatistics;
+import sms.gradle.model.dao.ModuleDAO;
+import sms.gradle.model.dao.StatisticsDAO;
 import sms.gradle.model.dao.StudentDAO;
 import sms.gradle.model.entities.Assessment;
+import sms.gradle.model.entities.Module;
 import sms.gradle.model.entities.Student;
 import sms.gradle.utils.Common;
 import sms.gradle.view.ViewFactory;
@@ -28,7 +33,7 @@ public final class ModuleDetailViewController {
     }
 
     /**
-     * Loads students enrolled in a specific module
+     * Loads students enrolled in a specific module, which are the students enrolled on the module's course
      * @param moduleId The ID of the module to load students for
      * @return List of students enrolled in the module
      */
@@ -37,7 +42,10 @@ public final class ModuleDetailViewController {
         List<Student> students = new ArrayList<>();
 
         try {
-            students = StudentDAO.findAll();
+            Optional<Module> module = ModuleDAO.findById(moduleId);
+            if (module.isPresent()) {
+                students = StudentDAO.findByCourseId(module.get().getCourseId());
+            }
 
             LOGGER.debug("Loaded {} students for module ID: {}", students.size(), moduleId);
         } catch (SQLException e) {
@@ -71,27 +79,19 @@ public final class ModuleDetailViewController {
     }
 
     /**
-     * Calculates statistics for students in a module
+     * Calculates grade statistics for a module across all of its assessments with a single query
      * @param moduleId The ID of the module
-     * @return Array containing [totalStudents, averageGrade, passRate]
+     * @return The module's statistics, or <code>GradeStatistics.EMPTY</code> if they could not be calculated
      */
-    public static double[] calculateModuleStatistics(int moduleId) {
+    public static GradeStatistics calculateModuleStatistics(int moduleId) {
         LOGGER.debug("Calculating statistics for module ID: {}", moduleId);
-        double[] stats = new double[3]; // [totalStudents, averageGrade, passRate]
 
         try {
-            List<Student> students = loadStudentsForModule(moduleId);
-            stats[0] = students.size(); // Total students
-
-            // TODO: Implement grade calculation when grade data is available
-            stats[1] = 0.0; // Average grade placeholder
-            stats[2] = 0.0; // Pass rate placeholder
-
-        } catch (Exception e) {
+            return StatisticsDAO.findModuleStatistics(moduleId);
+        } catch (SQLException e) {
             LOGGER.error("Error calculating statistics for module ID: {}", moduleId, e);
+            return GradeStatistics.EMPTY;
         }
-
-        return stats;
     }
 
     /**
@@ -112,10 +112,9 @@ public final class ModuleDetailViewController {
         LOGGER.debug("View Assessment button clicked");
         ModuleDetailView view = (ModuleDetailView)
                 ((javafx.scene.Node) event.getSource()).getScene().getRoot();
-        Integer assessmentId = null;
+        Integer assessmentId = view.getSelectedAssessmentId();
 
-        if (view.getSelectedAssessmentRow() != null) {
-            assessmentId = (Integer) view.getSelectedAssessmentRow().getUserData();
+        if (assessmentId != null) {
             LOGGER.debug("Selected assessment ID: {}", assessmentId);
 
             hideModuleDetail();
@@ -8,7 +8,10 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import sms.gradle.model.dao.AssessmentDAO;
 import sms.gradle.model.dao.CourseEnrollmentDAO;
+import sms.gradle.model.dao.GradeStatistics;
+import sms.gradle.model.dao.ModuleAssessments;
 import sms.gradle.model.dao.ModuleDAO;
+import sms.gradle.model.dao.StatisticsDAO;
 import sms.gradle.model.dao.StudentDAO;
 import sms.gradle.model.entities.Assessment;
 import sms.gradle.model.entities.CourseEnrollment;
@@ -85,14 +88,7 @@ public final class StudentDetailViewController {
         List<Assessment> assessments = new ArrayList<>();
 
         try {
-            // Get all modules for the student
-            List<Module> modules = loadModulesForStudent(studentId);
-
-            // For each module, get its assessments
-            for (Module module : modules) {
-                List<Assessment> moduleAssessments = AssessmentDAO.findByModuleId(module.getId());
-                assessments.addAll(moduleAssessments);
-            }
+            assessments = ModuleAssessments.allAssessments(AssessmentDAO.findByStudentIdGroupedByModule(studentId));
 
             LOGGER.debug("Loaded {} assessments for student ID: {}", assessments.size(), studentId);
         } catch (SQLException e) {
@@ -105,27 +101,19 @@ public final class StudentDetailViewController {
     }
 
     /**
-     * Calculates statistics for a student
+     * Calculates grade statistics for a student across the courses they are enrolled on with a single query
      * @param studentId The ID of the student
-     * @return Array containing [totalModules, averageGrade, completionRate]
+     * @return The student's statistics, or <code>GradeStatistics.EMPTY</code> if they could not be calculated
      */
-    public static double[] calculateStudentStatistics(int studentId) {
+    public static GradeStatistics calculateStudentStatistics(int studentId) {
         LOGGER.debug("Calculating statistics for student ID: {}", studentId);
-        double[] stats = new double[3]; // [totalModules, averageGrade, completionRate]
 
         try {
-            List<Module> modules = loadModulesForStudent(studentId);
-            stats[0] = modules.size(); // Total modules
-
-            // TODO: Implement grade calculation when grade data is available
-            stats[1] = 0.0; // Average grade placeholder
-            stats[2] = 0.0; // Completion rate placeholder
-
-        } catch (Exception e) {
+            return StatisticsDAO.findStudentStatistics(studentId);
+        } catch (SQLException e) {
             LOGGER.error("Error calculating statistics for student ID: {}", studentId, e);
+            return GradeStatistics.EMPTY;
         }
-
-        return stats;
     }
 
     /**
@@ -146,10 +134,9 @@ public final class StudentDetailViewController {
         LOGGER.debug("View Module button clicked");
         StudentDetailView view = (StudentDetailView)
                 ((javafx.scene.Node) event.getSource()).getScene().getRoot();
-        Integer moduleId = null;
+        Integer moduleId = view.getSelectedModuleId();
 
-        if (view.getSelectedModuleRow() != null) {
-            moduleId = (Integer) view.getSelectedModuleRow().getUserData();
+        if (moduleId != null) {
             LOGGER.debug("Selected module ID: {}", moduleId);
 
             hideStudentDetail();
@@ -170,10 +157,9 @@ public final class StudentDetailViewController {
         LOGGER.debug("View Assessment button clicked");
         StudentDetailView view = (StudentDetailView)
                 ((javafx.scene.Node) event.getSource()).getScene().getRoot();
-        Integer assessmentId = null;
+        Integer assessmentId = view.getSelectedAssessmentId();
 
-        if (view.getSelectedAssessmentRow() != null) {
-            assessmentId = (Integer) view.getSelectedAssessmentRow().getUserData();
+        if (assessmentId != null) {
             LOGGER.debug("Selected assessment ID: {}", assessmentId);
 
             hideStudentDetail();
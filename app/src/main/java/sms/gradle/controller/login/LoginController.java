@@ -1,25 +1,23 @@
 package sms.gradle.controller.login;
 
-import java.security.SecureRandom;
 import java.sql.SQLException;
 import java.util.List;
-import java.util.Optional;
 import javafx.event.ActionEvent;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
+import javafx.scene.control.Button;
 import javafx.scene.control.PasswordField;
 import javafx.scene.control.TextField;
 import javafx.stage.Stage;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import sms.gradle.model.dao.AdminDAO;
 import sms.gradle.model.dao.StudentDAO;
-import sms.gradle.model.entities.Admin;
-import sms.gradle.model.entities.Student;
 import sms.gradle.utils.Common;
+import sms.gradle.utils.FxAsync;
 import sms.gradle.utils.checks.ChecksProcessor;
 import sms.gradle.utils.checks.NodeValidator;
 import sms.gradle.utils.checks.textfield.MinLengthCheck;
+import sms.gradle.utils.session.Authenticator;
 import sms.gradle.utils.session.Session;
 import sms.gradle.utils.session.User;
 import sms.gradle.utils.session.UserType;
@@ -56,8 +54,8 @@ public final class LoginController {
 
     /**
      * Fills the login form with a random student's credentials for testing purposes.
-     * Retrieves a list of students from the database, selects a random student,
-     * and sets the username field to the student's email and password field to the student's first and last name.
+     * Looks up one random student in the background, then sets the username field to the student's email and
+     * password field to the student's first and last name.
      *
      * @param event The ActionEvent triggered by clicking the fill student details button
      */
@@ -65,30 +63,31 @@ public final class LoginController {
         TextField usernameField = Common.getNode(getViewStage(), "#username_field");
         PasswordField passwordField = Common.getNode(getViewStage(), "#password_field");
 
-        try {
-            List<Student> students = StudentDAO.findAll();
-            SecureRandom secureRandom = new SecureRandom();
-            if (!students.isEmpty()) {
-                Student randomStudent = students.get(secureRandom.nextInt(students.size()));
-                usernameField.setText(randomStudent.getEmail());
-                passwordField.setText(randomStudent.getFirstName() + randomStudent.getLastName());
-            }
-        } catch (SQLException e) {
-            LOGGER.error("Failed to find students", e);
-            Common.showAlert(
-                    "An error occurred", "We had a problem pre-filling the student's details. Please try again.");
-        }
+        FxAsync.load(
+                StudentDAO::findRandomSummary,
+                randomStudent -> randomStudent.ifPresent(student -> {
+                    usernameField.setText(student.email());
+                    passwordField.setText(student.firstName() + student.lastName());
+                }),
+                error -> {
+                    LOGGER.error("Failed to find a student", error);
+                    Common.showAlert(
+                            "An error occurred",
+                            "We had a problem pre-filling the student's details. Please try again.");
+                });
     }
 
     /**
      * Handles the login attempt by retrieving the username and password from the form,
-     * authenticating the user, and either displaying a success message or an error message.
+     * authenticating the user in the background, and either displaying a success message or an error message.
+     * The login button is disabled until the attempt has finished.
      *
      * @param event The ActionEvent triggered by clicking the login button
      */
     public static void handleLoginAttempt(ActionEvent event) {
         TextField usernameField = Common.getNode(getViewStage(), "#username_field");
         PasswordField passwordField = Common.getNode(getViewStage(), "#password_field");
+        Button loginButton = Common.getNode(getViewStage(), "#login_button");
 
         String email = usernameField.getText();
         String password = passwordField.getText();
@@ -97,46 +96,38 @@ public final class LoginController {
             return;
         }
 
-        try {
-            String hashedPassword = Common.generateSha256Hash(password);
-            User user = authenticateUser(email, hashedPassword);
-
-            if (user != null) {
-                handleSuccessLogin(user);
-            } else {
-                displayLoginFailureError("Invalid Login Details!");
-            }
-        } catch (Exception e) {
-            displayLoginFailureError("Login error occurred! Please retry.");
-        }
+        String hashedPassword = Common.generateSha256Hash(password);
+        loginButton.setDisable(true);
+        FxAsync.load(
+                () -> authenticateUser(email, hashedPassword),
+                user -> {
+                    loginButton.setDisable(false);
+                    if (user != null) {
+                        handleSuccessLogin(user);
+                    } else {
+                        displayLoginFailureError("Invalid Login Details!");
+                    }
+                },
+                error -> {
+                    LOGGER.error("Failed to authenticate {}", email, error);
+                    loginButton.setDisable(false);
+                    displayLoginFailureError("Login error occurred! Please retry.");
+                });
     }
 
     /**
-     * Authenticates the user by checking the provided email and hashed password against the database.
-     * If the user is found, creates a new User object with the user's details and returns it.
-     * If the user is not found, returns null.
+     * Authenticates the user by looking up the account for the email and checking the hashed password against it.
+     * If an account matches, returns a User object with the account holder's details.
+     * If no account matches, returns null.
+     * Package-private so the login benchmarks can measure authentication without the JavaFX form.
      *
      * @param email The user's email address
      * @param hashedPassword The hashed password provided by the user
      * @return A User object if the user is authenticated, null otherwise
      * @throws SQLException If there is an error accessing the database
      */
-    private static User authenticateUser(String email, String hashedPassword) throws SQLException {
-        if (AdminDAO.verifyPassword(email, hashedPassword)) {
-            Optional<Admin> admin = AdminDAO.findByEmail(email);
-
-            return admin.map(a -> new User(a.getId(), UserType.ADMIN, a.getFirstName(), a.getLastName(), a.getEmail()))
-                    .orElse(null);
-        }
-
-        if (StudentDAO.verifyPassword(email, hashedPassword)) {
-            Optional<Student> student = StudentDAO.findByEmail(email);
-
-            return student.map(
-                            s -> new User(s.getId(), UserType.STUDENT, s.getFirstName(), s.getLastName(), s.getEmail()))
-                    .orElse(null);
-        }
-        return null;
+    static User authenticateUser(String email, String hashedPassword) throws SQLException {
+        return Authenticator.authenticate(email, hashedPassword).orElse(null);
     }
 
     /**
@@ -153,7 +144,8 @@ public final class LoginController {
 
     /**
      * Changes the view to the appropriate dashboard based on the user type.
-     * Hides the login stage and displays either the admin or student dashboard.
+     * Hides the login stage and displays either the admin or student dashboard, then queues the screens
+     * they are likely to open next to be built.
      *
      * @param user The authenticated User object containing the user type information
      */
@@ -164,6 +156,7 @@ public final class LoginController {
         } else {
             ViewFactory.getInstance().changeToStudentDashboardStage();
         }
+        ViewFactory.getInstance().prewarm(user.getType());
     }
 
     /**
@@ -0,0 +1,176 @@
+package sms.gradle.controller.login;
+
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javafx.application.Platform;
+import javafx.event.ActionEvent;
+import javafx.scene.Node;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.stage.Stage;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import sms.gradle.model.dao.DatabaseConnection;
+import sms.gradle.utils.Common;
+import sms.gradle.utils.MockDatabaseGenerator;
+import sms.gradle.view.ViewFactory;
+
+/**
+ * Opens, migrates and seeds the database on a background thread while the login window is showing, reporting
+ * each phase on the login view. The login form is unlocked as soon as the schema is migrated, since the default
+ * admin account and the credentials view are created by the migrations. Seeding sample data carries on behind it
+ * with a progress bar and can be cancelled. Seeding runs on every start until it has finished once, so a cancelled
+ * or failed run is completed later. If the database cannot be opened or migrated, the login form stays
+ * locked and the failure is shown instead.
+ */
+public final class StartupController {
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    // Seeding writes one row at a time, so progress is only pushed to the FX thread every whole percent
+    private static final double PROGRESS_STEP = 0.01;
+
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("startup").daemon().factory());
+
+    private static volatile boolean seedingCancelled;
+
+    private StartupController() {
+        throw new UnsupportedOperationException("This is a controller class and cannot be instantiated");
+    }
+
+    private static Stage getViewStage() {
+        return ViewFactory.getInstance().getLoginStage();
+    }
+
+    /**
+     * Starts the background startup phases. Called on the FX thread once the login stage is showing.
+     */
+    public static void start() {
+        LOGGER.debug("Starting background startup");
+        seedingCancelled = false;
+        setLoginEnabled(false);
+        setFillStudentEnabled(false);
+        showStatus("Opening database...");
+        EXECUTOR.execute(StartupController::runStartup);
+    }
+
+    /**
+     * Stops seeding after the row being written, keeping the rows added so far
+     * @param event The ActionEvent triggered by clicking the cancel seeding button
+     */
+    public static void handleCancelSeeding(ActionEvent event) {
+        cancelSeeding();
+        Button cancelButton = Common.getNode(getViewStage(), "#cancel_seeding_button");
+        cancelButton.setDisable(true);
+        showStatus("Cancelling sample data...");
+    }
+
+    /**
+     * Asks seeding to stop, for example when the application closes. Safe to call from any thread.
+     */
+    public static void cancelSeeding() {
+        seedingCancelled = true;
+    }
+
+    private static void runStartup() {
+        long start = System.nanoTime();
+        boolean generated;
+        try {
+            DatabaseConnection database = DatabaseConnection.getInstance();
+            Optional<SQLException> failure = database.getStartupFailure();
+            if (failure.isPresent()) {
+                throw failure.get();
+            }
+            generated = MockDatabaseGenerator.isGenerated();
+        } catch (SQLException | RuntimeException e) {
+            LOGGER.error("Failed to open database", e);
+            Platform.runLater(() -> showStatus("The database could not be opened. Please restart the application."));
+            return;
+        }
+        LOGGER.info("Database ready for login in {} ms", (System.nanoTime() - start) / 1_000_000);
+        Platform.runLater(() -> {
+            setLoginEnabled(true);
+            showStatus("");
+        });
+
+        if (generated) {
+            Platform.runLater(() -> setFillStudentEnabled(true));
+            return;
+        }
+
+        Platform.runLater(() -> {
+            showStatus("Generating sample data...");
+            setSeedingVisible(true);
+        });
+        String outcome;
+        try {
+            MockDatabaseGenerator.populateTables(new SeedingProgress());
+            outcome = "";
+            LOGGER.info("Sample data generated in {} ms", (System.nanoTime() - start) / 1_000_000);
+        } catch (CancellationException e) {
+            outcome = "Sample data generation cancelled.";
+        } catch (Exception e) {
+            LOGGER.error("Failed to populate tables: ", e);
+            outcome = "Sample data could not be generated.";
+        }
+        final String status = outcome;
+        Platform.runLater(() -> {
+            setSeedingVisible(false);
+            setFillStudentEnabled(true);
+            showStatus(status);
+        });
+    }
+
+    /**
+     * Passes seeding progress to the progress bar, skipping updates too small to see
+     */
+    private static final class SeedingProgress implements MockDatabaseGenerator.Progress {
+        private double lastShown = -1;
+
+        @Override
+        public void update(final String step, final double fraction) {
+            if (fraction - lastShown < PROGRESS_STEP && fraction < 1) {
+                return;
+            }
+            lastShown = fraction;
+            Platform.runLater(() -> {
+                ProgressBar progressBar = Common.getNode(getViewStage(), "#seeding_progress_bar");
+                progressBar.setProgress(fraction);
+                showStatus(String.format("Generating sample %s...", step));
+            });
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return seedingCancelled;
+        }
+    }
+
+    private static void showStatus(final String status) {
+        Label statusLabel = Common.getNode(getViewStage(), "#startup_status_label");
+        statusLabel.setText(status);
+        statusLabel.setVisible(!status.isEmpty());
+    }
+
+    private static void setLoginEnabled(final boolean enabled) {
+        Button loginButton = Common.getNode(getViewStage(), "#login_button");
+        Button fillAdminButton = Common.getNode(getViewStage(), "#fill_admin_details_button");
+        loginButton.setDisable(!enabled);
+        fillAdminButton.setDisable(!enabled);
+    }
+
+    private static void setFillStudentEnabled(final boolean enabled) {
+        Button fillStudentButton = Common.getNode(getViewStage(), "#fill_student_details_button");
+        fillStudentButton.setDisable(!enabled);
+    }
+
+    private static void setSeedingVisible(final boolean visible) {
+        Node seedingSection = Common.getNode(getViewStage(), "#seeding_section");
+        seedingSection.setVisible(visible);
+        seedingSection.setManaged(visible);
+    }
+}
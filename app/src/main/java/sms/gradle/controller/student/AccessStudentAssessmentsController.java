@@ -1,6 +1,5 @@
 package sms.gradle.controller.student;
 
-import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import javafx.event.ActionEvent;
@@ -15,14 +14,16 @@ import org.apache.logging.log4j.Logger;
 import sms.gradle.model.dao.AssessmentDAO;
 import sms.gradle.model.dao.CourseDAO;
 import sms.gradle.model.dao.CourseEnrollmentDAO;
+import sms.gradle.model.dao.ModuleAssessments;
 import sms.gradle.model.dao.ModuleDAO;
 import sms.gradle.model.dao.ResultDAO;
 import sms.gradle.model.entities.Assessment;
 import sms.gradle.model.entities.Course;
 import sms.gradle.model.entities.CourseEnrollment;
 import sms.gradle.model.entities.Module;
-import sms.gradle.model.entities.Result;
 import sms.gradle.utils.Common;
+import sms.gradle.utils.FxAsync;
+import sms.gradle.utils.PendingLoads;
 import sms.gradle.utils.session.Session;
 import sms.gradle.view.ViewFactory;
 import sms.gradle.view.components.GradeCircle;
@@ -30,6 +31,8 @@ import sms.gradle.view.components.GradeCircle;
 public class AccessStudentAssessmentsController {
     private static final Logger LOGGER = LogManager.getLogger();
 
+    private static final PendingLoads detailLoads = new PendingLoads();
+
     private AccessStudentAssessmentsController() {
         throw new UnsupportedOperationException("All methods in controller class are static");
     }
@@ -40,80 +43,80 @@ public class AccessStudentAssessmentsController {
 
     /**
      * Updates the assessment list view with assessments from a specific course.
-     * Retrieves all modules for the given course, then finds all assessments for each module
+     * Retrieves the assessments of every module in the course in one query, in the background,
      * and displays them in the assessment list view.
      *
      * @param courseId The ID of the course to show assessments for
-     * @throws SQLException If there is an error accessing the database
      */
     private static void updateAssessmentList(int courseId) {
-        try {
-            ListView<Assessment> assessmentsList = Common.getNode(getViewStage(), "#assessmentListView");
-
-            List<Module> modules = ModuleDAO.findByCourseId(courseId);
-            List<Assessment> assessments = new ArrayList<>();
-
-            for (Module module : modules) {
-                assessments.addAll(AssessmentDAO.findByModuleId(module.getId()));
-            }
-            assessmentsList.getItems().clear();
-            assessmentsList.getItems().addAll(assessments);
-        } catch (SQLException e) {
-            LOGGER.error("Failed to display assessments list for course", e);
-            Common.showAlert(
-                    "An error occurred", "We had a problem loading the assessments for the course. Please try again.");
-        }
+        ListView<Assessment> assessmentsList = Common.getNode(getViewStage(), "#assessmentListView");
+
+        FxAsync.loadInto(
+                assessmentsList,
+                () -> ModuleAssessments.allAssessments(AssessmentDAO.findByCourseIdGroupedByModule(courseId)),
+                error -> {
+                    LOGGER.error("Failed to display assessments list for course", error);
+                    Common.showAlert(
+                            "An error occurred",
+                            "We had a problem loading the assessments for the course. Please try again.");
+                });
     }
 
     /**
      * Updates the UI labels with details of the selected assessment.
-     * Displays the assessment name, ID, description, due date, associated module name and lecturer,
-     * and the grade score for the selected assessment.
+     * Displays the assessment name, ID, description and due date straight away, then loads the associated
+     * module name and lecturer and the grade score for the selected assessment in the background.
+     * Loads still running for a previously selected assessment are dropped.
      *
      * @param assessment The Assessment object containing the details to display
      */
     private static void updateAssessmentDetails(Assessment assessment) {
-        try {
-            // Assessment details - update
-            Label assessmentNameLabel = Common.getNode(getViewStage(), "#assessmentNameLabel");
-            Label assessmentIdLabel = Common.getNode(getViewStage(), "#assessmentIdLabel");
-            Label assessmentDescriptionLabel = Common.getNode(getViewStage(), "#assessmentDescriptionLabel");
-            Label dueDateLabel = Common.getNode(getViewStage(), "#dueDateLabel");
-
-            assessmentNameLabel.setText("Assessment Name: " + assessment.getName());
-            assessmentIdLabel.setText("ID: " + assessment.getId());
-
-            assessmentDescriptionLabel.setText("Description: " + assessment.getDescription());
-            dueDateLabel.setText("Due Date: " + assessment.getDueDate());
-
-            Module module = ModuleDAO.findById(assessment.getModuleId()).orElse(null);
-
-            if (module != null) {
-
-                Label moduleLabel = Common.getNode(getViewStage(), "#moduleLabel");
-                Label lecturerLabel = Common.getNode(getViewStage(), "#lecturerLabel");
-
-                moduleLabel.setText("Module: " + module.getName());
-                lecturerLabel.setText("Lecturer: " + module.getLecturer());
-            }
-
-            // Grade Score Display - update
-            VBox gradeArea = Common.getNode(getViewStage(), "#displayResultsArea");
-            gradeArea.getChildren().clear();
-
-            int studentId = Session.getInstance().getUser().get().getId();
-            List<Result> results = ResultDAO.findByStudentId(studentId);
-
-            for (Result result : results) {
-                if (assessment.getId() == result.getAssessmentId()) {
-                    gradeArea.getChildren().add(new GradeCircle(result.getGrade()));
-                    break;
-                }
-            }
-        } catch (SQLException e) {
-            LOGGER.error("Failed in updating student assessment details");
-            Common.showAlert("An error occurred", "We had a problem updating the assessment. Please try again.");
-        }
+        detailLoads.cancelAll();
+
+        // Assessment details - update
+        Label assessmentNameLabel = Common.getNode(getViewStage(), "#assessmentNameLabel");
+        Label assessmentIdLabel = Common.getNode(getViewStage(), "#assessmentIdLabel");
+        Label assessmentDescriptionLabel = Common.getNode(getViewStage(), "#assessmentDescriptionLabel");
+        Label dueDateLabel = Common.getNode(getViewStage(), "#dueDateLabel");
+
+        assessmentNameLabel.setText("Assessment Name: " + assessment.getName());
+        assessmentIdLabel.setText("ID: " + assessment.getId());
+
+        assessmentDescriptionLabel.setText("Description: " + assessment.getDescription());
+        dueDateLabel.setText("Due Date: " + assessment.getDueDate());
+
+        Label moduleLabel = Common.getNode(getViewStage(), "#moduleLabel");
+        Label lecturerLabel = Common.getNode(getViewStage(), "#lecturerLabel");
+        moduleLabel.setText("Module: " + FxAsync.loadingText());
+        lecturerLabel.setText("Lecturer: " + FxAsync.loadingText());
+
+        // Grade Score Display - update
+        VBox gradeArea = Common.getNode(getViewStage(), "#displayResultsArea");
+        gradeArea.getChildren().setAll(new Label(FxAsync.loadingText()));
+
+        int studentId = Session.getInstance().getUser().get().getId();
+
+        detailLoads.track(FxAsync.load(
+                () -> ModuleDAO.findById(assessment.getModuleId()),
+                module -> {
+                    moduleLabel.setText("Module: " + module.map(Module::getName).orElse("N/A"));
+                    lecturerLabel.setText("Lecturer: " + module.map(Module::getLecturer).orElse("N/A"));
+                },
+                AccessStudentAssessmentsController::handleDetailsFailure));
+
+        detailLoads.track(FxAsync.load(
+                () -> ResultDAO.findByStudentAndAssessment(studentId, assessment.getId()),
+                result -> {
+                    gradeArea.getChildren().clear();
+                    result.ifPresent(found -> gradeArea.getChildren().add(new GradeCircle(found.getGrade())));
+                },
+                AccessStudentAssessmentsController::handleDetailsFailure));
+    }
+
+    private static void handleDetailsFailure(final Throwable error) {
+        detailLoads.cancelAll();
+        LOGGER.error("Failed in updating student assessment details", error);
+        Common.showAlert("An error occurred", "We had a problem updating the assessment. Please try again.");
     }
 
     /**
@@ -165,23 +168,24 @@ public class AccessStudentAssessmentsController {
      * Retrieves the student's enrollments and populates the filter dropdown with the corresponding courses.
      */
     public static void loadCoursesToFilter() {
-        try {
-            ComboBox<Course> filterByCourse = Common.getNode(getViewStage(), "#filterDropDown");
-
-            int studentId = Session.getInstance().getUser().get().getId();
-            List<CourseEnrollment> enrollments = CourseEnrollmentDAO.findByStudentId(studentId);
-
-            filterByCourse.getItems().clear();
-
-            for (CourseEnrollment enrollment : enrollments) {
-                CourseDAO.findById(enrollment.getCourseId())
-                        .ifPresent(course -> filterByCourse.getItems().add(course));
-            }
-        } catch (SQLException e) {
-            LOGGER.error("Failed in loading student courses to filter");
-            Common.showAlert(
-                    "An error occurred", "We had a problem loading the courses into the filter. Please try again.");
-        }
+        ComboBox<Course> filterByCourse = Common.getNode(getViewStage(), "#filterDropDown");
+        int studentId = Session.getInstance().getUser().get().getId();
+
+        FxAsync.load(
+                () -> {
+                    List<Course> courses = new ArrayList<>();
+                    for (CourseEnrollment enrollment : CourseEnrollmentDAO.findByStudentId(studentId)) {
+                        CourseDAO.findById(enrollment.getCourseId()).ifPresent(courses::add);
+                    }
+                    return courses;
+                },
+                courses -> filterByCourse.getItems().setAll(courses),
+                error -> {
+                    LOGGER.error("Failed in loading student courses to filter", error);
+                    Common.showAlert(
+                            "An error occurred",
+                            "We had a problem loading the courses into the filter. Please try again.");
+                });
     }
 
     /**
@@ -1,6 +1,5 @@
 package sms.gradle.controller.student;
 
-import java.sql.SQLException;
 import java.util.List;
 import javafx.event.ActionEvent;
 import javafx.geometry.Insets;
@@ -17,6 +16,7 @@ import sms.gradle.model.dao.ModuleDAO;
 import sms.gradle.model.entities.Course;
 import sms.gradle.model.entities.Module;
 import sms.gradle.utils.Common;
+import sms.gradle.utils.FxAsync;
 import sms.gradle.utils.session.Session;
 import sms.gradle.view.ViewFactory;
 
@@ -99,23 +99,29 @@ public final class AccessStudentModulesController {
      */
     public static void handleRefreshModulesButton(ActionEvent event) {
         LOGGER.debug("Refresh Button Clicked");
-        try {
-            final GridPane modulesGrid = Common.getNode(getViewStage(), "#modulesGrid");
-            final Label courseHeader = Common.getNode(getViewStage(), "#courseNameHeading");
-            final int courseId = Session.getInstance().getSelectedCourseId();
-
-            CourseDAO.findById(courseId)
-                    .map(Course::getName)
-                    .ifPresent(name -> courseHeader.setText(name + " Modules"));
-
-            final List<Module> modules = ModuleDAO.findByCourseId(courseId);
-            displayModules(modules, modulesGrid);
-
-            LOGGER.debug("Refreshed {} modules for course ID: {}", modules.size(), courseId);
-        } catch (SQLException e) {
-            LOGGER.info("Failed in refreshing modules", e);
-            Common.showAlert("An error occurred", "We had a problem refreshing the modules. Please try again.");
-        }
+        final GridPane modulesGrid = Common.getNode(getViewStage(), "#modulesGrid");
+        final Label courseHeader = Common.getNode(getViewStage(), "#courseNameHeading");
+        final int courseId = Session.getInstance().getSelectedCourseId();
+
+        modulesGrid.getChildren().clear();
+        modulesGrid.add(new Label(FxAsync.loadingText()), 0, 0);
+
+        FxAsync.load(
+                () -> CourseDAO.findById(courseId).map(Course::getName),
+                name -> name.ifPresent(courseName -> courseHeader.setText(courseName + " Modules")),
+                error -> LOGGER.info("Failed in loading course name", error));
+
+        FxAsync.load(
+                () -> ModuleDAO.findByCourseId(courseId),
+                modules -> {
+                    displayModules(modules, modulesGrid);
+                    LOGGER.debug("Refreshed {} modules for course ID: {}", modules.size(), courseId);
+                },
+                error -> {
+                    modulesGrid.getChildren().clear();
+                    LOGGER.info("Failed in refreshing modules", error);
+                    Common.showAlert("An error occurred", "We had a problem refreshing the modules. Please try again.");
+                });
     }
 
     /**
@@ -18,6 +18,7 @@ import sms.gradle.model.dao.StudentDAO;
 import sms.gradle.model.entities.Course;
 import sms.gradle.model.entities.CourseEnrollment;
 import sms.gradle.utils.Common;
+import sms.gradle.utils.FxAsync;
 import sms.gradle.utils.session.Session;
 import sms.gradle.view.ViewFactory;
 
@@ -39,39 +40,51 @@ public class StudentDashboardController {
      * @param dashboardView instance of student-dashboard view
      */
     public static void handleCourseRefreshButton(ActionEvent event) {
-        try {
-            if (!Session.getInstance().getUser().isPresent()) {
-                LOGGER.info("Unable to load courses - no user signed in");
-                return;
-            }
-            final ListView<Course> courseListView = Common.getNode(getViewStage(), "#courseListView");
-
-            final Label nameLabel = Common.getNode(getViewStage(), "#studentNameLabel");
-            final Label emailLabel = Common.getNode(getViewStage(), "#studentEmailLabel");
-            final Label joinDateLabel = Common.getNode(getViewStage(), "#studentJoinDateLabel");
-
-            final int studentId = Session.getInstance().getUser().get().getId();
-
-            StudentDAO.findById(studentId).ifPresent(student -> {
-                nameLabel.setText("Student: " + student.getFirstName() + " " + student.getLastName());
-                emailLabel.setText("Email: " + student.getEmail());
-                joinDateLabel.setText("Join Date: " + student.getJoinDate().toString());
-                LOGGER.debug("Loaded student details successfully");
-            });
-
-            final List<CourseEnrollment> enrolledCourses = CourseEnrollmentDAO.findByStudentId(studentId);
-            List<Course> courses = new ArrayList<>();
-
-            for (CourseEnrollment enrolledCourse : enrolledCourses) {
-                CourseDAO.findById(enrolledCourse.getCourseId()).ifPresent(courses::add);
-            }
-            courseListView.getItems().clear();
-            courseListView.getItems().addAll(courses);
-
-            LOGGER.debug("Displayed {} courses for student ID: {}", courses.size(), studentId);
-        } catch (SQLException e) {
-            LOGGER.error("Failed in displaying enrolled courses", e);
+        if (!Session.getInstance().getUser().isPresent()) {
+            LOGGER.info("Unable to load courses - no user signed in");
+            return;
         }
+        final ListView<Course> courseListView = Common.getNode(getViewStage(), "#courseListView");
+
+        final Label nameLabel = Common.getNode(getViewStage(), "#studentNameLabel");
+        final Label emailLabel = Common.getNode(getViewStage(), "#studentEmailLabel");
+        final Label joinDateLabel = Common.getNode(getViewStage(), "#studentJoinDateLabel");
+
+        final int studentId = Session.getInstance().getUser().get().getId();
+
+        FxAsync.load(
+                () -> StudentDAO.findById(studentId),
+                student -> student.ifPresent(found -> {
+                    nameLabel.setText("Student: " + found.getFirstName() + " " + found.getLastName());
+                    emailLabel.setText("Email: " + found.getEmail());
+                    joinDateLabel.setText("Join Date: " + found.getJoinDate().toString());
+                    LOGGER.debug("Loaded student details successfully");
+                }),
+                error -> LOGGER.error("Failed in displaying student details", error));
+
+        FxAsync.loadInto(
+                        courseListView,
+                        () -> loadEnrolledCourses(studentId),
+                        error -> LOGGER.error("Failed in displaying enrolled courses", error))
+                .thenAccept(courses ->
+                        LOGGER.debug("Displayed {} courses for student ID: {}", courses.size(), studentId));
+    }
+
+    /**
+     * Loads every course a student is enrolled on
+     *
+     * @param studentId The ID of the student
+     * @return The student's courses
+     * @throws SQLException if a database access error occurs
+     */
+    private static List<Course> loadEnrolledCourses(final int studentId) throws SQLException {
+        final List<CourseEnrollment> enrolledCourses = CourseEnrollmentDAO.findByStudentId(studentId);
+        List<Course> courses = new ArrayList<>();
+
+        for (CourseEnrollment enrolledCourse : enrolledCourses) {
+            CourseDAO.findById(enrolledCourse.getCourseId()).ifPresent(courses::add);
+        }
+        return courses;
     }
 
     /**
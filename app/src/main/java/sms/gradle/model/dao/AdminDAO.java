@@ -13,46 +13,35 @@ import sms.gradle.model.entities.Admin;
 public final class AdminDAO {
     private static final Logger LOGGER = LogManager.getLogger();
 
+    private static final String INSERT_SQL =
+            "INSERT INTO admins (first_name, last_name, email, password) VALUES (?, ?, ?, ?)";
+    private static final String UPDATE_SQL =
+            "UPDATE admins SET first_name = ?, last_name = ?, email = ?, password = ? WHERE id = ?";
+    // Rows are read by position, so the readers below follow this column order
+    private static final String COLUMNS = "id, first_name, last_name, email";
+    static final String FIND_BY_ID_SQL = "SELECT " + COLUMNS + " FROM admins WHERE id = ?";
+    static final String FIND_BY_EMAIL_SQL = "SELECT " + COLUMNS + " FROM admins WHERE email = ?";
+    static final String VERIFY_PASSWORD_SQL = "SELECT password FROM admins WHERE email = ?";
+
+    private static final KeysetPager.Source<Admin> PAGE_SOURCE = new KeysetPager.Source<>(
+            "admins",
+            COLUMNS,
+            "email",
+            AdminDAO::readAdmin,
+            admin -> new Keyset(admin.getEmail(), admin.getId()));
+
     private AdminDAO() {
         throw new UnsupportedOperationException("This is a DAO class and cannot be instantiated");
     }
 
     /**
-     * Converts a <code>ResultSet</code> containing admin data into a List of <code>Admin</code> objects
-     * @param resultSet The ResultSet containing admin data to convert
-     * @return A List of Admin objects created from the ResultSet data
-     * @throws SQLException if there is an error accessing the ResultSet data
-     */
-    private static List<Admin> getAllAdminsFromResultSet(final ResultSet resultSet) throws SQLException {
-        LOGGER.debug("Converting ResultSet to List<Admin>");
-        List<Admin> admins = new ArrayList<>();
-        while (resultSet.next()) {
-            admins.add(new Admin(
-                    resultSet.getInt("id"),
-                    resultSet.getString("first_name"),
-                    resultSet.getString("last_name"),
-                    resultSet.getString("email")));
-        }
-        return admins;
-    }
-
-    /**
-     * Creates an <code>Optional<Admin></code> from a <code>ResultSet</code> row
-     * @param resultSet The ResultSet containing admin data
-     * @return An Optional containing an Admin object if data is present, or an empty Optional if not
+     * Creates an <code>Admin</code> from the current <code>ResultSet</code> row
+     * @param resultSet The ResultSet positioned on a row of admin data
+     * @return The Admin for the current row
      * @throws SQLException if there is an error accessing the ResultSet data
      */
-    private static Optional<Admin> getAdminFromResultSet(final ResultSet resultSet) throws SQLException {
-        LOGGER.debug("Converting ResultSet to Optional<Admin>");
-        if (resultSet.next()) {
-            return Optional.of(new Admin(
-                    resultSet.getInt("id"),
-                    resultSet.getString("first_name"),
-                    resultSet.getString("last_name"),
-                    resultSet.getString("email")));
-        }
-        LOGGER.info("No admin found in ResultSet");
-        return Optional.empty();
+    private static Admin readAdmin(final ResultSet resultSet) throws SQLException {
+        return new Admin(resultSet.getInt(1), resultSet.getString(2), resultSet.getString(3), resultSet.getString(4));
     }
 
     /**
@@ -63,14 +52,8 @@ public final class AdminDAO {
      */
     public static void addAdmin(final Admin admin, final String hashedPassword) throws SQLException {
         LOGGER.debug("Adding admin to database {}", admin);
-        final String sql = "INSERT INTO admins (first_name, last_name, email, password) VALUES (?, ?, ?, ?)";
-        try (PreparedStatement addSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            addSqlStatement.setString(1, admin.getFirstName());
-            addSqlStatement.setString(2, admin.getLastName());
-            addSqlStatement.setString(3, admin.getEmail());
-            addSqlStatement.setString(4, hashedPassword);
-            addSqlStatement.executeUpdate();
+        try {
+            JdbcTemplate.update(INSERT_SQL, statement -> bindInsert(statement, admin, hashedPassword));
         } catch (SQLException e) {
             LOGGER.error("Failed to add admin to database {}", admin, e);
             switch (e.getErrorCode()) {
@@ -78,6 +61,8 @@ public final class AdminDAO {
                         String.format("The email '%s' is associated with an existing admin.", admin.getEmail()), e);
                 default -> throw new SQLException("Failed to add admin", e);
             }
+        } finally {
+            CredentialDAO.forgetUnknownEmails();
         }
     }
 
@@ -89,12 +74,8 @@ public final class AdminDAO {
      */
     public static Optional<Admin> findById(final int id) throws SQLException {
         LOGGER.debug("Finding admin by ID: {}", id);
-        final String sql = "SELECT * FROM admins WHERE id = ?";
-        try (PreparedStatement findSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            findSqlStatement.setInt(1, id);
-            ResultSet results = findSqlStatement.executeQuery();
-            return getAdminFromResultSet(results);
+        try {
+            return JdbcTemplate.queryForOptional(FIND_BY_ID_SQL, AdminDAO::readAdmin, id);
         } catch (SQLException e) {
             LOGGER.error("Failed to find admin by ID: {}", id, e);
             throw new SQLException(String.format("Failed to find admin with Id: %d", id), e);
@@ -109,12 +90,8 @@ public final class AdminDAO {
      */
     public static Optional<Admin> findByEmail(final String email) throws SQLException {
         LOGGER.debug("Finding admin by email: {}", email);
-        final String sql = "SELECT * FROM admins WHERE email = ?";
-        try (PreparedStatement findSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            findSqlStatement.setString(1, email);
-            ResultSet results = findSqlStatement.executeQuery();
-            return getAdminFromResultSet(results);
+        try {
+            return JdbcTemplate.queryForOptional(FIND_BY_EMAIL_SQL, AdminDAO::readAdmin, email);
         } catch (SQLException e) {
             LOGGER.error("Failed to find admin by email: {}", email, e);
             throw new SQLException(String.format("Failed to find admin with email: %s", email), e);
@@ -128,17 +105,25 @@ public final class AdminDAO {
      */
     public static List<Admin> findAll() throws SQLException {
         LOGGER.debug("Finding all admins");
-        final String sql = "SELECT * FROM admins";
-        try (PreparedStatement findSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            ResultSet results = findSqlStatement.executeQuery();
-            return getAllAdminsFromResultSet(results);
+        final String sql = "SELECT " + COLUMNS + " FROM admins";
+        try {
+            return JdbcTemplate.query(sql, AdminDAO::readAdmin);
         } catch (SQLException e) {
             LOGGER.error("Failed to find all admins", e);
             throw new SQLException("Failed to find all admins", e);
         }
     }
 
+    /**
+     * Finds one page of admins, ordered by email and then ID
+     * @param request The keyset, size and direction of the page
+     * @return The page of admins
+     * @throws SQLException if there is an error executing the query
+     */
+    public static Page<Admin> findPage(final PageRequest request) throws SQLException {
+        return KeysetPager.findPage(PAGE_SOURCE, request);
+    }
+
     /**
      * Updates an admin in the database
      * @param admin The admin object with updated information
@@ -147,18 +132,64 @@ public final class AdminDAO {
      */
     public static int update(final Admin admin, final String hashedPassword) throws SQLException {
         LOGGER.debug("Updating admin: {}", admin);
-        final String sql = "UPDATE admins SET first_name = ?, last_name = ?, email = ?, password = ? WHERE id = ?";
-        try (PreparedStatement updateSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            updateSqlStatement.setString(1, admin.getFirstName());
-            updateSqlStatement.setString(2, admin.getLastName());
-            updateSqlStatement.setString(3, admin.getEmail());
-            updateSqlStatement.setString(4, hashedPassword);
-            updateSqlStatement.setInt(5, admin.getId());
-            return updateSqlStatement.executeUpdate();
+        try {
+            return JdbcTemplate.update(UPDATE_SQL, statement -> bindUpdate(statement, admin, hashedPassword));
         } catch (SQLException e) {
             LOGGER.error("Failed to update admin: {}", admin, e);
             throw new SQLException(String.format("Failed to update admin with Id: %d", admin.getId()), e);
+        } finally {
+            CredentialDAO.forgetUnknownEmails();
+        }
+    }
+
+    /**
+     * Adds many admins to the database using JDBC batching, committing each batch in its own transaction
+     * @param admins The admins to add
+     * @param hashedPasswords The hashed password of each admin, in the same order as the admins
+     * @return The IDs generated for the new admins, in the same order as the admins
+     * @throws SQLException if a batch fails, in which case that batch is rolled back but earlier batches stay committed
+     */
+    public static List<Integer> addAll(final List<Admin> admins, final List<String> hashedPasswords)
+            throws SQLException {
+        LOGGER.debug("Adding {} admins to database", admins.size());
+        try {
+            return BatchWriter.insert(
+                    INSERT_SQL,
+                    withPasswords(admins, hashedPasswords),
+                    (statement, row) -> bindInsert(statement, row.admin(), row.hashedPassword()),
+                    BatchWriter.batchSize());
+        } catch (SQLException e) {
+            LOGGER.error("Failed to add {} admins to database", admins.size(), e);
+            switch (e.getErrorCode()) {
+                case 23505 -> throw new SQLException(
+                        "An email is associated with an existing admin. " + e.getMessage(), e);
+                default -> throw new SQLException("Failed to add admins. " + e.getMessage(), e);
+            }
+        } finally {
+            CredentialDAO.forgetUnknownEmails();
+        }
+    }
+
+    /**
+     * Updates many admins in the database using JDBC batching, committing each batch in its own transaction
+     * @param admins The admins with updated information
+     * @param hashedPasswords The hashed password of each admin, in the same order as the admins
+     * @return The total number of rows affected
+     * @throws SQLException if a batch fails, in which case that batch is rolled back but earlier batches stay committed
+     */
+    public static int updateAll(final List<Admin> admins, final List<String> hashedPasswords) throws SQLException {
+        LOGGER.debug("Updating {} admins", admins.size());
+        try {
+            return BatchWriter.update(
+                    UPDATE_SQL,
+                    withPasswords(admins, hashedPasswords),
+                    (statement, row) -> bindUpdate(statement, row.admin(), row.hashedPassword()),
+                    BatchWriter.batchSize());
+        } catch (SQLException e) {
+            LOGGER.error("Failed to update {} admins", admins.size(), e);
+            throw new SQLException("Failed to update admins. " + e.getMessage(), e);
+        } finally {
+            CredentialDAO.forgetUnknownEmails();
         }
     }
 
@@ -175,10 +206,8 @@ public final class AdminDAO {
         }
 
         final String sql = "DELETE FROM admins WHERE id = ?";
-        try (PreparedStatement deleteSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            deleteSqlStatement.setInt(1, id);
-            return deleteSqlStatement.executeUpdate();
+        try {
+            return JdbcTemplate.update(sql, id);
         } catch (SQLException e) {
             LOGGER.error("Failed to delete admin with ID: {}", id, e);
             throw new SQLException(String.format("Failed to delete admin with Id: %d", id), e);
@@ -194,17 +223,10 @@ public final class AdminDAO {
      */
     public static boolean verifyPassword(final String email, final String hashedPassword) throws SQLException {
         LOGGER.debug("Verifying password for admin with email: {}", email);
-        final String sql = "SELECT password FROM admins WHERE email = ?";
-        try (PreparedStatement findSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            findSqlStatement.setString(1, email);
-            ResultSet results = findSqlStatement.executeQuery();
-            if (results.next()) {
-                LOGGER.debug("Found admin with email: {}", email);
-                String storedPassword = results.getString("password");
-                return hashedPassword.equals(storedPassword);
-            }
-            return false;
+        try {
+            return JdbcTemplate.queryForOptional(VERIFY_PASSWORD_SQL, resultSet -> resultSet.getString(1), email)
+                    .map(hashedPassword::equals)
+                    .orElse(false);
         } catch (SQLException e) {
             LOGGER.error("Failed to verify password for admin with email: {}", email, e);
             throw new SQLException(String.format("Failed to verify password for admin with email: %s", email), e);
@@ -219,16 +241,55 @@ public final class AdminDAO {
     public static int getTableSize() throws SQLException {
         LOGGER.debug("Getting table size");
         final String sql = "SELECT COUNT(*) FROM admins";
-        try (PreparedStatement findSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            ResultSet results = findSqlStatement.executeQuery();
-            if (results.next()) {
-                return results.getInt(1);
-            }
-            return 0;
+        try {
+            return JdbcTemplate.queryForOptional(sql, resultSet -> resultSet.getInt(1)).orElse(0);
         } catch (SQLException e) {
             LOGGER.error("Failed to get table size", e);
             throw new SQLException("Failed to get table size", e);
         }
     }
+
+    /**
+     * Binds an admin to the parameters of <code>INSERT_SQL</code>
+     */
+    private static void bindInsert(
+            final PreparedStatement statement, final Admin admin, final String hashedPassword) throws SQLException {
+        statement.setString(1, admin.getFirstName());
+        statement.setString(2, admin.getLastName());
+        statement.setString(3, admin.getEmail());
+        statement.setString(4, hashedPassword);
+    }
+
+    /**
+     * Binds an admin to the parameters of <code>UPDATE_SQL</code>
+     */
+    private static void bindUpdate(
+            final PreparedStatement statement, final Admin admin, final String hashedPassword) throws SQLException {
+        statement.setString(1, admin.getFirstName());
+        statement.setString(2, admin.getLastName());
+        statement.setString(3, admin.getEmail());
+        statement.setString(4, hashedPassword);
+        statement.setInt(5, admin.getId());
+    }
+
+    /**
+     * An admin paired with the hashed password to store for them
+     */
+    private record AdminWithPassword(Admin admin, String hashedPassword) {}
+
+    /**
+     * Pairs each admin with its hashed password so they can be written as one batch row
+     * @throws IllegalArgumentException if the lists are not the same size
+     */
+    private static List<AdminWithPassword> withPasswords(final List<Admin> admins, final List<String> hashedPasswords) {
+        if (admins.size() != hashedPasswords.size()) {
+            throw new IllegalArgumentException(String.format(
+                    "Expected %d hashed passwords but got %d", admins.size(), hashedPasswords.size()));
+        }
+        List<AdminWithPassword> rows = new ArrayList<>(admins.size());
+        for (int i = 0; i < admins.size(); i++) {
+            rows.add(new AdminWithPassword(admins.get(i), hashedPasswords.get(i)));
+        }
+        return rows;
+    }
 }
@@ -1,61 +1,130 @@
 package sms.gradle.model.dao;
 
 import java.sql.Date;
-import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import sms.gradle.model.entities.Assessment;
+import sms.gradle.model.entities.Module;
 
 public final class AssessmentDAO {
     private static final Logger LOGGER = LogManager.getLogger();
 
+    private static final String INSERT_SQL =
+            "INSERT INTO assessments (name, description, due_date, module_id) VALUES (?, ? , ?, ?)";
+    private static final String UPDATE_SQL =
+            "UPDATE assessments SET name = ?, description = ?, due_date = ?, module_id = ? WHERE id = ?";
+    // Rows are read by position, so the readers below follow this column order
+    private static final String COLUMNS = "id, name, description, due_date, module_id";
+    static final String FIND_BY_ID_SQL = "SELECT " + COLUMNS + " FROM assessments WHERE id = ?";
+    static final String FIND_BY_NAME_SQL = "SELECT " + COLUMNS + " FROM assessments WHERE name = ?";
+    static final String FIND_BY_DUE_DATE_SQL = "SELECT " + COLUMNS + " FROM assessments WHERE due_date = ?";
+    static final String FIND_BY_MODULE_ID_SQL = "SELECT " + COLUMNS + " FROM assessments WHERE module_id = ?";
+
+    private static final List<CascadeDelete.Step> DELETE_ASSESSMENT_CASCADE = List.of(
+            new CascadeDelete.Step("results", "DELETE FROM results WHERE assessment_id = ?"),
+            new CascadeDelete.Step("assessments", "DELETE FROM assessments WHERE id = ?"));
+
+    private static final List<CascadeDelete.Step> DELETE_MODULE_ASSESSMENTS_CASCADE = List.of(
+            new CascadeDelete.Step(
+                    "results",
+                    "DELETE FROM results WHERE assessment_id IN (SELECT id FROM assessments WHERE module_id = ?)"),
+            new CascadeDelete.Step("assessments", "DELETE FROM assessments WHERE module_id = ?"));
+
+    // Modules are left joined so a module without assessments still appears in the grouped results.
+    // readModuleAssessmentRow reads the columns by position in this order
+    private static final String MODULE_ASSESSMENTS_COLUMNS = "SELECT m.id AS module_id, m.name AS module_name, "
+            + "m.description AS module_description, m.lecturer, m.course_id, a.id AS assessment_id, "
+            + "a.name AS assessment_name, a.description AS assessment_description, a.due_date ";
+    static final String FIND_BY_COURSE_GROUPED_SQL = MODULE_ASSESSMENTS_COLUMNS
+            + "FROM modules m LEFT JOIN assessments a ON a.module_id = m.id WHERE m.course_id = ? ORDER BY m.id, a.id";
+    static final String FIND_BY_STUDENT_GROUPED_SQL = MODULE_ASSESSMENTS_COLUMNS
+            + "FROM course_enrollments ce JOIN modules m ON m.course_id = ce.course_id "
+            + "LEFT JOIN assessments a ON a.module_id = m.id WHERE ce.student_id = ? ORDER BY m.id, a.id";
+
+    static final KeysetPager.Source<Assessment> PAGE_SOURCE = new KeysetPager.Source<>(
+            "assessments",
+            COLUMNS,
+            "name",
+            AssessmentDAO::readAssessment,
+            assessment -> new Keyset(assessment.getName(), assessment.getId()));
+
     private AssessmentDAO() {
         throw new UnsupportedOperationException("This is a DAO class and cannot be instantiated");
     }
 
     /**
-     * Converts a <code>ResultSet</code> containing assessment data into a List of <code>Assessment</code> objects
-     * @param resultSet The ResultSet containing assessment data to convert
-     * @return A List of Assessment objects created from the ResultSet data
+     * Creates an <code>Assessment</code> from the current <code>ResultSet</code> row
+     * @param resultSet The ResultSet positioned on a row of assessment data
+     * @return The Assessment for the current row
      * @throws SQLException if there is an error accessing the ResultSet data
      */
-    private static List<Assessment> getAllAssessmentsFromResultSet(final ResultSet resultSet) throws SQLException {
-        LOGGER.debug("Converting ResultSet to List<Assessment>");
-        List<Assessment> assessments = new ArrayList<>();
-        while (resultSet.next()) {
-            assessments.add(new Assessment(
-                    resultSet.getInt("id"),
-                    resultSet.getString("name"),
-                    resultSet.getString("description"),
-                    resultSet.getDate("due_date"),
-                    resultSet.getInt("module_id")));
-        }
-        return assessments;
+    private static Assessment readAssessment(final ResultSet resultSet) throws SQLException {
+        return new Assessment(
+                resultSet.getInt(1),
+                resultSet.getString(2),
+                resultSet.getString(3),
+                resultSet.getDate(4),
+                resultSet.getInt(5));
     }
 
     /**
-     * Converts a <code>ResultSet</code> containing assessment data into a single <code>Optional<Assessment></code> object
-     * @param resultSet The ResultSet containing assessment data to convert
-     * @return An Optional containing the Assessment object if data is found, or an empty Optional if not data is found
+     * One row of a module and assessment join
+     * @param module The module on the row
+     * @param assessment The assessment on the row, or null if the module has no assessments
+     */
+    private record ModuleAssessmentRow(Module module, Assessment assessment) {}
+
+    /**
+     * Creates a <code>ModuleAssessmentRow</code> from the current row of a module and assessment join
+     * @param resultSet The ResultSet positioned on a joined row
+     * @return The module and assessment for the current row
      * @throws SQLException if there is an error accessing the ResultSet data
      */
-    private static Optional<Assessment> getAssessmentFromResultSet(final ResultSet resultSet) throws SQLException {
-        LOGGER.debug("Converting ResultSet to Optional<Assessment>");
-        if (resultSet.next()) {
-            return Optional.of(new Assessment(
-                    resultSet.getInt("id"),
-                    resultSet.getString("name"),
-                    resultSet.getString("description"),
-                    resultSet.getDate("due_date"),
-                    resultSet.getInt("module_id")));
+    private static ModuleAssessmentRow readModuleAssessmentRow(final ResultSet resultSet) throws SQLException {
+        int moduleId = resultSet.getInt(1);
+        Module module = new Module(
+                moduleId, resultSet.getString(2), resultSet.getString(3), resultSet.getString(4), resultSet.getInt(5));
+        int assessmentId = resultSet.getInt(6);
+        if (resultSet.wasNull()) {
+            return new ModuleAssessmentRow(module, null);
+        }
+        return new ModuleAssessmentRow(
+                module,
+                new Assessment(
+                        assessmentId, resultSet.getString(7), resultSet.getString(8), resultSet.getDate(9), moduleId));
+    }
+
+    /**
+     * Groups the rows of a module and assessment join by module. Rows must be ordered by module ID.
+     * @param rows The joined module and assessment rows
+     * @return A List of modules, each with its assessments
+     */
+    private static List<ModuleAssessments> groupByModule(final List<ModuleAssessmentRow> rows) {
+        List<ModuleAssessments> groups = new ArrayList<>();
+        Module module = null;
+        List<Assessment> assessments = null;
+        for (ModuleAssessmentRow row : rows) {
+            if (module == null || module.getId() != row.module().getId()) {
+                if (module != null) {
+                    groups.add(new ModuleAssessments(module, assessments));
+                }
+                module = row.module();
+                assessments = new ArrayList<>();
+            }
+            if (row.assessment() != null) {
+                assessments.add(row.assessment());
+            }
         }
-        LOGGER.info("No assessment found in ResultSet");
-        return Optional.empty();
+        if (module != null) {
+            groups.add(new ModuleAssessments(module, assessments));
+        }
+        return groups;
     }
 
     /**
@@ -65,15 +134,8 @@ public final class AssessmentDAO {
      */
     public static void addAssessment(final Assessment assessment) throws SQLException {
         LOGGER.debug("Adding assessment to database {}", assessment);
-        final String sql = "INSERT INTO assessments (name, description, due_date, module_id) VALUES (?, ? , ?, ?)";
-        try (PreparedStatement addSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            addSqlStatement.setString(1, assessment.getName());
-            addSqlStatement.setString(2, assessment.getDescription());
-            addSqlStatement.setDate(3, assessment.getDueDate());
-            addSqlStatement.setInt(4, assessment.getModuleId());
-            addSqlStatement.executeUpdate();
-
+        try {
+            JdbcTemplate.update(INSERT_SQL, insertParameters(assessment));
         } catch (SQLException e) {
             LOGGER.error("Failed to add assessment to database {}", assessment, e);
             throw new SQLException(String.format("Failed to add assessment: %s", assessment.toString()), e);
@@ -88,12 +150,8 @@ public final class AssessmentDAO {
      */
     public static Optional<Assessment> findById(final int id) throws SQLException {
         LOGGER.debug("Finding assessment by ID: {}", id);
-        final String sql = "SELECT * FROM assessments WHERE id = ?";
-        try (PreparedStatement findSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            findSqlStatement.setInt(1, id);
-            ResultSet resultSet = findSqlStatement.executeQuery();
-            return getAssessmentFromResultSet(resultSet);
+        try {
+            return JdbcTemplate.queryForOptional(FIND_BY_ID_SQL, AssessmentDAO::readAssessment, id);
         } catch (SQLException e) {
             LOGGER.error("Failed to find assessment by ID: {}", id, e);
             throw new SQLException(String.format("Failed to find assessment with Id: %d", id), e);
@@ -108,12 +166,8 @@ public final class AssessmentDAO {
      */
     public static Optional<Assessment> findByName(final String name) throws SQLException {
         LOGGER.debug("Finding assessment by name: {}", name);
-        final String sql = "SELECT * FROM assessments WHERE name = ?";
-        try (PreparedStatement findSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            findSqlStatement.setString(1, name);
-            ResultSet resultSet = findSqlStatement.executeQuery();
-            return getAssessmentFromResultSet(resultSet);
+        try {
+            return JdbcTemplate.queryForOptional(FIND_BY_NAME_SQL, AssessmentDAO::readAssessment, name);
         } catch (SQLException e) {
             LOGGER.error("Failed to find assessment by name: {}", name, e);
             throw new SQLException(String.format("Failed to find assessment with name: %s", name), e);
@@ -128,12 +182,8 @@ public final class AssessmentDAO {
      */
     public static List<Assessment> findByDueDate(final Date dueDate) throws SQLException {
         LOGGER.debug("Finding assessment by due date: {}", dueDate);
-        final String sql = "SELECT * FROM assessments WHERE due_date = ?";
-        try (PreparedStatement findSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            findSqlStatement.setDate(1, dueDate);
-            ResultSet resultSet = findSqlStatement.executeQuery();
-            return getAllAssessmentsFromResultSet(resultSet);
+        try {
+            return JdbcTemplate.query(FIND_BY_DUE_DATE_SQL, AssessmentDAO::readAssessment, dueDate);
         } catch (SQLException e) {
             LOGGER.error("Failed to find assessment by due date: {}", dueDate, e);
             throw new SQLException(String.format("Failed to find assessment with due date: %s", dueDate), e);
@@ -148,18 +198,48 @@ public final class AssessmentDAO {
      */
     public static List<Assessment> findByModuleId(final int moduleId) throws SQLException {
         LOGGER.debug("Finding assessment by module ID: {}", moduleId);
-        final String sql = "SELECT * FROM assessments WHERE module_id = ?";
-        try (PreparedStatement findSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            findSqlStatement.setInt(1, moduleId);
-            ResultSet resultSet = findSqlStatement.executeQuery();
-            return getAllAssessmentsFromResultSet(resultSet);
+        try {
+            return JdbcTemplate.query(FIND_BY_MODULE_ID_SQL, AssessmentDAO::readAssessment, moduleId);
         } catch (SQLException e) {
             LOGGER.error("Failed to find assessment by module ID: {}", moduleId, e);
             throw new SQLException(String.format("Failed to find all assessments with module ID: %d", moduleId), e);
         }
     }
 
+    /**
+     * Finds the modules of a course and their assessments with a single join
+     * @param courseId The ID of the course
+     * @return The course's modules ordered by ID, each with its assessments
+     * @throws SQLException if there is an error executing the query
+     */
+    public static List<ModuleAssessments> findByCourseIdGroupedByModule(final int courseId) throws SQLException {
+        LOGGER.debug("Finding assessments grouped by module for course ID: {}", courseId);
+        try {
+            return groupByModule(
+                    JdbcTemplate.query(FIND_BY_COURSE_GROUPED_SQL, AssessmentDAO::readModuleAssessmentRow, courseId));
+        } catch (SQLException e) {
+            LOGGER.error("Failed to find assessments grouped by module for course ID: {}", courseId, e);
+            throw new SQLException(String.format("Failed to find assessments for course with Id: %d", courseId), e);
+        }
+    }
+
+    /**
+     * Finds the modules of every course a student is enrolled on and their assessments with a single join
+     * @param studentId The ID of the student
+     * @return The student's modules ordered by ID, each with its assessments
+     * @throws SQLException if there is an error executing the query
+     */
+    public static List<ModuleAssessments> findByStudentIdGroupedByModule(final int studentId) throws SQLException {
+        LOGGER.debug("Finding assessments grouped by module for student ID: {}", studentId);
+        try {
+            return groupByModule(
+                    JdbcTemplate.query(FIND_BY_STUDENT_GROUPED_SQL, AssessmentDAO::readModuleAssessmentRow, studentId));
+        } catch (SQLException e) {
+            LOGGER.error("Failed to find assessments grouped by module for student ID: {}", studentId, e);
+            throw new SQLException(String.format("Failed to find assessments for student with Id: %d", studentId), e);
+        }
+    }
+
     /**
      * Finds all the assessments within the Database table
      * @return A List containing all Assessment objects in the database
@@ -167,17 +247,25 @@ public final class AssessmentDAO {
      */
     public static List<Assessment> findAll() throws SQLException {
         LOGGER.debug("Finding all assessments");
-        final String sql = "SELECT * FROM assessments";
-        try (PreparedStatement findSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            ResultSet resultSet = findSqlStatement.executeQuery();
-            return getAllAssessmentsFromResultSet(resultSet);
+        final String sql = "SELECT " + COLUMNS + " FROM assessments";
+        try {
+            return JdbcTemplate.query(sql, AssessmentDAO::readAssessment);
         } catch (SQLException e) {
             LOGGER.error("Failed to find all assessments", e);
             throw new SQLException("Failed to find all assessments", e);
         }
     }
 
+    /**
+     * Finds one page of assessments, ordered by name and then ID
+     * @param request The keyset, size and direction of the page
+     * @return The page of assessments
+     * @throws SQLException if there is an error executing the query
+     */
+    public static Page<Assessment> findPage(final PageRequest request) throws SQLException {
+        return KeysetPager.findPage(PAGE_SOURCE, request);
+    }
+
     /**
      * Updates an assessment in the database
      * @param assessment The Assessment object with updated information
@@ -186,15 +274,8 @@ public final class AssessmentDAO {
      */
     public static int update(final Assessment assessment) throws SQLException {
         LOGGER.debug("Updating assessment: {}", assessment);
-        final String sql = "UPDATE assessments SET name = ?, description = ?, due_date = ?, module_id = ? WHERE id = ?";
-        try (PreparedStatement updateSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            updateSqlStatement.setString(1, assessment.getName());
-            updateSqlStatement.setString(2, assessment.getDescription());
-            updateSqlStatement.setDate(3, assessment.getDueDate());
-            updateSqlStatement.setInt(4, assessment.getModuleId());
-            updateSqlStatement.setInt(5, assessment.getId());
-            return updateSqlStatement.executeUpdate();
+        try {
+            return JdbcTemplate.update(UPDATE_SQL, updateParameters(assessment));
         } catch (SQLException e) {
             LOGGER.error("Failed to update assessment: {}", assessment, e);
             throw new SQLException(String.format("Failed to update assessment with Id: %d", assessment.getId()), e);
@@ -202,19 +283,61 @@ public final class AssessmentDAO {
     }
 
     /**
-     * Deletes an assessment from the database by its ID
+     * Adds many assessments to the database using JDBC batching, committing each batch in its own transaction
+     * @param assessments The assessments to add
+     * @return The IDs generated for the new assessments, in the same order as the assessments
+     * @throws SQLException if a batch fails, in which case that batch is rolled back but earlier batches stay committed
+     */
+    public static List<Integer> addAll(final Collection<Assessment> assessments) throws SQLException {
+        LOGGER.debug("Adding {} assessments to database", assessments.size());
+        try {
+            return BatchWriter.insert(
+                    INSERT_SQL, List.copyOf(assessments), AssessmentDAO::insertParameters, BatchWriter.batchSize());
+        } catch (SQLException e) {
+            LOGGER.error("Failed to add {} assessments to database", assessments.size(), e);
+            throw new SQLException("Failed to add assessments. " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Updates many assessments in the database using JDBC batching, committing each batch in its own transaction
+     * @param assessments The assessments with updated information
+     * @return The total number of rows affected
+     * @throws SQLException if a batch fails, in which case that batch is rolled back but earlier batches stay committed
+     */
+    public static int updateAll(final Collection<Assessment> assessments) throws SQLException {
+        LOGGER.debug("Updating {} assessments", assessments.size());
+        try {
+            return BatchWriter.update(
+                    UPDATE_SQL, List.copyOf(assessments), AssessmentDAO::updateParameters, BatchWriter.batchSize());
+        } catch (SQLException e) {
+            LOGGER.error("Failed to update {} assessments", assessments.size(), e);
+            throw new SQLException("Failed to update assessments. " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Deletes an assessment, along with its results, from the database by its ID
      * @param id The ID of the assessment to delete
      * @return The number of rows affected (1 if successful, 0 if module not found)
      * @throws SQLException if there is an error executing the delete operation
      */
     public static int delete(final int id) throws SQLException {
+        return deleteCascade(id).rowsDeleted("assessments");
+    }
+
+    /**
+     * Deletes an assessment together with its results in a single transaction
+     * @param id The ID of the assessment to delete
+     * @return The number of rows deleted from each table
+     * @throws SQLException if there is an error executing the delete operation, in which case nothing is deleted
+     */
+    public static DeletionReport deleteCascade(final int id) throws SQLException {
         LOGGER.debug("Deleting assessment with ID: {}", id);
-        ResultDAO.deleteByAssessmentId(id);
-        final String sql = "DELETE FROM assessments WHERE id = ?";
-        try (PreparedStatement deleteSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            deleteSqlStatement.setInt(1, id);
-            return deleteSqlStatement.executeUpdate();
+        try {
+            DeletionReport report = CascadeDelete.run(id, DELETE_ASSESSMENT_CASCADE);
+            LOGGER.info("Deleted assessment with ID: {} {}", id, report);
+            return report;
         } catch (SQLException e) {
             LOGGER.error("Failed to delete assessment with ID: {}", id, e);
             throw new SQLException(String.format("Failed to delete assessment with Id: %d", id), e);
@@ -222,18 +345,45 @@ public final class AssessmentDAO {
     }
 
     /**
-     * Deletes all assessments associated with a module ID
+     * Deletes all assessments associated with a module ID, along with their results, in a single transaction
      * @param moduleId The module ID of the assessments to delete
      * @return The number of assessments deleted
      * @throws SQLException if there is an error executing the delete operation
      */
     public static int deleteByModuleId(final int moduleId) throws SQLException {
         LOGGER.debug("Deleting assessments by module ID: {}", moduleId);
-        List<Assessment> assessments = AssessmentDAO.findByModuleId(moduleId);
-        for (Assessment assessment : assessments) {
-            AssessmentDAO.delete(assessment.getId());
+        try {
+            DeletionReport report = CascadeDelete.run(moduleId, DELETE_MODULE_ASSESSMENTS_CASCADE);
+            LOGGER.info("Deleted assessments for module ID: {} {}", moduleId, report);
+            return report.rowsDeleted("assessments");
+        } catch (SQLException e) {
+            LOGGER.error("Failed to delete assessments by module ID: {}", moduleId, e);
+            throw new SQLException(String.format("Failed to delete assessments with module ID: %d", moduleId), e);
         }
-        LOGGER.info("Deleted {} assessments for module ID: {}", assessments.size(), moduleId);
-        return assessments.size();
+    }
+
+    /**
+     * Lists the values of an assessment for the parameters of <code>INSERT_SQL</code>
+     */
+    private static Object[] insertParameters(final Assessment assessment) {
+        return new Object[] {
+            assessment.getName(),
+            assessment.getDescription(),
+            assessment.getDueDate(),
+            assessment.getModuleId()
+        };
+    }
+
+    /**
+     * Lists the values of an assessment for the parameters of <code>UPDATE_SQL</code>
+     */
+    private static Object[] updateParameters(final Assessment assessment) {
+        return new Object[] {
+            assessment.getName(),
+            assessment.getDescription(),
+            assessment.getDueDate(),
+            assessment.getModuleId(),
+            assessment.getId()
+        };
     }
 }
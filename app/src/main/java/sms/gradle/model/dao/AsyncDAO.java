@@ -0,0 +1,76 @@
+package sms.gradle.model.dao;
+
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Runs DAO calls on virtual threads and returns their results as <code>CompletableFuture</code>s, so callers on
+ * the JavaFX application thread never wait on the database. A virtual thread blocked on JDBC costs almost
+ * nothing, and the connection pool still bounds how many calls reach the database at once.
+ * <p>
+ * A failed call completes its future exceptionally with a <code>CompletionException</code> wrapping the DAO's
+ * <code>SQLException</code>. Cancelling a future stops its result from being delivered, but lets the call itself
+ * finish, since interrupting H2 mid-write can close the database file.
+ */
+public final class AsyncDAO {
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    private static final ExecutorService EXECUTOR =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("dao-", 0).factory());
+
+    /**
+     * A DAO call that returns a value
+     * @param <T> The type of value returned
+     */
+    @FunctionalInterface
+    public interface Query<T> {
+        T run() throws SQLException;
+    }
+
+    /**
+     * A DAO call that only writes
+     */
+    @FunctionalInterface
+    public interface Update {
+        void run() throws SQLException;
+    }
+
+    private AsyncDAO() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Runs a DAO call that returns a value on a virtual thread
+     * @param query The DAO call, for example <code>() -> StudentDAO.findById(id)</code>
+     * @return A future completed with the call's result, or exceptionally if it throws
+     */
+    public static <T> CompletableFuture<T> supply(final Query<T> query) {
+        return CompletableFuture.supplyAsync(
+                () -> {
+                    try {
+                        return query.run();
+                    } catch (SQLException e) {
+                        LOGGER.debug("Asynchronous DAO call failed", e);
+                        throw new CompletionException(e);
+                    }
+                },
+                EXECUTOR);
+    }
+
+    /**
+     * Runs a DAO call that only writes on a virtual thread
+     * @param update The DAO call, for example <code>() -> StudentDAO.delete(id)</code>
+     * @return A future completed once the call returns, or exceptionally if it throws
+     */
+    public static CompletableFuture<Void> run(final Update update) {
+        return supply(() -> {
+            update.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,237 @@
+package sms.gradle.model.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Writes many rows with a single prepared statement using JDBC batching.
+ * Rows are sent in batches of a configurable size and each batch is committed in its own transaction,
+ * so a bulk write costs one round trip per batch rather than one per row. Each batch is timed and reported through
+ * <code>JdbcTemplate</code> like a single statement. The grade summaries of the results in a batch are recomputed
+ * once per batch, rather than by the trigger for every row.
+ */
+final class BatchWriter {
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    static final int DEFAULT_BATCH_SIZE = 500;
+
+    /**
+     * Binds the parameters of one row to the batch statement. The values are not reported to the
+     * <code>JdbcTemplate</code> listeners, so this is only for rows with a password.
+     * @param <T> The type of item written as a row
+     */
+    @FunctionalInterface
+    interface ParameterBinder<T> {
+        void bind(PreparedStatement statement, T item) throws SQLException;
+    }
+
+    /**
+     * Gives the values of one row's parameters, in placeholder order. They are bound by type and reported to the
+     * <code>JdbcTemplate</code> listeners with the batch they were sent in.
+     * @param <T> The type of item written as a row
+     */
+    @FunctionalInterface
+    interface RowParameters<T> {
+        Object[] of(T item);
+    }
+
+    private BatchWriter() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Reads the batch size from the <code>sms.db.batchSize</code> system property
+     * @return The number of rows sent per batch, defaulting to {@value #DEFAULT_BATCH_SIZE}
+     */
+    static int batchSize() {
+        int batchSize = Integer.getInteger("sms.db.batchSize", DEFAULT_BATCH_SIZE);
+        if (batchSize < 1) {
+            throw new IllegalArgumentException(String.format("Invalid batch size: %d", batchSize));
+        }
+        return batchSize;
+    }
+
+    /**
+     * Inserts every item and returns the IDs the database generated for them
+     * @param sql The insert statement
+     * @param items The items to insert, one row each
+     * @param binder Binds an item to the insert statement
+     * @param batchSize The number of rows sent and committed together
+     * @return The generated IDs, in the same order as the items
+     * @throws SQLException if a batch fails, in which case that batch is rolled back but earlier batches stay committed
+     */
+    static <T> List<Integer> insert(
+            final String sql, final List<T> items, final ParameterBinder<T> binder, final int batchSize)
+            throws SQLException {
+        List<Integer> generatedIds = new ArrayList<>(items.size());
+        write(sql, items, binder, null, batchSize, generatedIds);
+        return generatedIds;
+    }
+
+    /**
+     * Inserts every item and returns the IDs the database generated for them, reporting each row's values
+     * @param sql The insert statement
+     * @param items The items to insert, one row each
+     * @param parameters Gives the values of an item's row
+     * @param batchSize The number of rows sent and committed together
+     * @return The generated IDs, in the same order as the items
+     * @throws SQLException if a batch fails, in which case that batch is rolled back but earlier batches stay committed
+     */
+    static <T> List<Integer> insert(
+            final String sql, final List<T> items, final RowParameters<T> parameters, final int batchSize)
+            throws SQLException {
+        List<Integer> generatedIds = new ArrayList<>(items.size());
+        write(sql, items, bindWith(parameters), parameters, batchSize, generatedIds);
+        return generatedIds;
+    }
+
+    /**
+     * Runs the update statement once per item
+     * @param sql The update statement
+     * @param items The items to update, one row each
+     * @param binder Binds an item to the update statement
+     * @param batchSize The number of rows sent and committed together
+     * @return The total number of rows affected
+     * @throws SQLException if a batch fails, in which case that batch is rolled back but earlier batches stay committed
+     */
+    static <T> int update(final String sql, final List<T> items, final ParameterBinder<T> binder, final int batchSize)
+            throws SQLException {
+        return write(sql, items, binder, null, batchSize, null);
+    }
+
+    /**
+     * Runs the update statement once per item, reporting each row's values
+     * @param sql The update statement
+     * @param items The items to update, one row each
+     * @param parameters Gives the values of an item's row
+     * @param batchSize The number of rows sent and committed together
+     * @return The total number of rows affected
+     * @throws SQLException if a batch fails, in which case that batch is rolled back but earlier batches stay committed
+     */
+    static <T> int update(
+            final String sql, final List<T> items, final RowParameters<T> parameters, final int batchSize)
+            throws SQLException {
+        return write(sql, items, bindWith(parameters), parameters, batchSize, null);
+    }
+
+    private static <T> ParameterBinder<T> bindWith(final RowParameters<T> parameters) {
+        return (statement, item) -> JdbcTemplate.bind(statement, parameters.of(item));
+    }
+
+    /**
+     * Writes the items in batches
+     * @param reported Gives the values reported for each row, or null to report none
+     */
+    private static <T> int write(
+            final String sql,
+            final List<T> items,
+            final ParameterBinder<T> binder,
+            final RowParameters<T> reported,
+            final int batchSize,
+            final List<Integer> generatedIds)
+            throws SQLException {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException(String.format("Invalid batch size: %d", batchSize));
+        }
+        if (items.isEmpty()) {
+            return 0;
+        }
+        LOGGER.debug("Writing {} rows in batches of {}: {}", items.size(), batchSize, sql);
+        int rowsAffected = 0;
+        int committed = 0;
+        try (Connection connection = DatabaseConnection.getInstance().getConnection();
+                PreparedStatement batchSqlStatement = generatedIds == null
+                        ? connection.prepareStatement(sql)
+                        : connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            connection.setAutoCommit(false);
+            try {
+                for (int start = 0; start < items.size(); start += batchSize) {
+                    List<T> batch = items.subList(start, Math.min(start + batchSize, items.size()));
+                    rowsAffected += JdbcTemplate.timed(
+                            sql,
+                            reportedParameters(batch, reported),
+                            () -> writeBatch(connection, batchSqlStatement, batch, binder, generatedIds),
+                            Integer::intValue);
+                    committed += batch.size();
+                }
+            } catch (SQLException e) {
+                LOGGER.error("Batch write failed after {} of {} rows were committed", committed, items.size(), e);
+                batchSqlStatement.clearBatch();
+                connection.rollback();
+                throw new SQLException(
+                        String.format("Batch write failed after %d of %d rows were committed", committed, items.size()),
+                        e.getSQLState(),
+                        e.getErrorCode(),
+                        e);
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        }
+        LOGGER.info("Wrote {} rows in {} batches", items.size(), (items.size() + batchSize - 1) / batchSize);
+        return rowsAffected;
+    }
+
+    /**
+     * Lists the values of every row in a batch, one list per row
+     */
+    private static <T> List<Object> reportedParameters(final List<T> batch, final RowParameters<T> reported) {
+        if (reported == null) {
+            return List.of();
+        }
+        List<Object> rows = new ArrayList<>(batch.size());
+        for (T item : batch) {
+            rows.add(Arrays.asList(reported.of(item)));
+        }
+        return rows;
+    }
+
+    /**
+     * Sends one batch of rows and commits it. Each batch is reported to the <code>JdbcTemplate</code> listeners as
+     * one execution of the statement.
+     * @return The number of rows affected by the batch
+     */
+    private static <T> int writeBatch(
+            final Connection connection,
+            final PreparedStatement batchSqlStatement,
+            final List<T> batch,
+            final ParameterBinder<T> binder,
+            final List<Integer> generatedIds)
+            throws SQLException {
+        for (T item : batch) {
+            binder.bind(batchSqlStatement, item);
+            batchSqlStatement.addBatch();
+        }
+        int rowsAffected =
+                GradeSummaries.deferringUpdates(connection, () -> executeBatch(batchSqlStatement, generatedIds));
+        connection.commit();
+        return rowsAffected;
+    }
+
+    /**
+     * Executes the rows added to the batch, collecting the IDs generated for them if they are wanted
+     * @return The number of rows affected by the batch
+     */
+    private static int executeBatch(final PreparedStatement batchSqlStatement, final List<Integer> generatedIds)
+            throws SQLException {
+        int rowsAffected = 0;
+        for (int count : batchSqlStatement.executeBatch()) {
+            rowsAffected += Math.max(count, 0);
+        }
+        if (generatedIds != null) {
+            try (ResultSet keys = batchSqlStatement.getGeneratedKeys()) {
+                while (keys.next()) {
+                    generatedIds.add(keys.getInt(1));
+                }
+            }
+        }
+        return rowsAffected;
+    }
+}
@@ -0,0 +1,76 @@
+package sms.gradle.model.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Runs a cascading delete as a fixed list of set-based <code>DELETE ... WHERE</code> statements in one transaction,
+ * so removing a parent row costs one statement per table no matter how many child rows it has. Each step is timed
+ * and reported through <code>JdbcTemplate</code> like a single statement. The grade summaries of the results a step
+ * deletes are recomputed once after the step, rather than by the trigger for every result.
+ */
+final class CascadeDelete {
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    /**
+     * One set-based delete in a cascade
+     * @param table The table rows are deleted from, used as the key in the <code>DeletionReport</code>
+     * @param sql The delete statement, which takes the parent ID as its only parameter
+     */
+    record Step(String table, String sql) {}
+
+    private CascadeDelete() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Runs each step in order inside a single transaction, rolling everything back if any step fails
+     * @param id The ID of the parent row, bound to every step
+     * @param steps The deletes to run, children before parents
+     * @return The number of rows deleted from each table
+     * @throws SQLException if any step fails
+     */
+    static DeletionReport run(final int id, final List<Step> steps) throws SQLException {
+        try (Connection connection = DatabaseConnection.getInstance().getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                Map<String, Integer> rowsDeletedByTable = new LinkedHashMap<>();
+                for (Step step : steps) {
+                    int rowsDeleted = GradeSummaries.deferringUpdates(
+                            connection,
+                            () -> JdbcTemplate.timed(
+                                    step.sql(),
+                                    List.<Object>of(id),
+                                    () -> deleteRows(connection, step, id),
+                                    Integer::intValue));
+                    rowsDeletedByTable.merge(step.table(), rowsDeleted, Integer::sum);
+                }
+                connection.commit();
+                return new DeletionReport(rowsDeletedByTable);
+            } catch (SQLException e) {
+                LOGGER.error("Cascading delete for ID: {} failed, rolling back", id, e);
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    /**
+     * Runs one step of the cascade on the transaction's connection
+     * @return The number of rows deleted
+     */
+    private static int deleteRows(final Connection connection, final Step step, final int id) throws SQLException {
+        try (PreparedStatement deleteSqlStatement = connection.prepareStatement(step.sql())) {
+            deleteSqlStatement.setInt(1, id);
+            return deleteSqlStatement.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,421 @@
+package sms.gradle.model.dao;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A bounded, thread-safe pool of JDBC connections.
+ * Connections handed out by {@link #borrow()} are proxies whose <code>close()</code> returns the
+ * underlying physical connection to the pool instead of closing it, so callers should always borrow
+ * connections inside a try-with-resources block.
+ * <p>
+ * Each physical connection keeps a {@link StatementCache}, so preparing the same SQL on a later borrow
+ * reuses the statement H2 has already parsed and planned.
+ */
+public final class ConnectionPool implements AutoCloseable {
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    /**
+     * Opens a new physical connection to the database
+     */
+    @FunctionalInterface
+    public interface ConnectionFactory {
+        Connection create() throws SQLException;
+    }
+
+    /**
+     * Pool sizing, timeout and leak detection settings
+     * @param minSize The number of connections opened up front and kept idle
+     * @param maxSize The maximum number of connections that can be borrowed at once
+     * @param acquireTimeoutMillis How long a caller waits for a free connection before failing
+     * @param validationTimeoutSeconds How long a connection is given to answer the validation check on borrow
+     * @param leakDetectionThresholdMillis How long a connection can be held before it is reported as leaked
+     *                                     (0 disables leak detection)
+     * @param statementCacheSize The number of prepared statements cached per connection (0 disables caching)
+     */
+    public record Config(
+            int minSize,
+            int maxSize,
+            long acquireTimeoutMillis,
+            int validationTimeoutSeconds,
+            long leakDetectionThresholdMillis,
+            int statementCacheSize) {
+
+        public Config {
+            if (minSize < 0 || maxSize < 1 || minSize > maxSize) {
+                throw new IllegalArgumentException(
+                        String.format("Invalid pool size: min %d, max %d", minSize, maxSize));
+            }
+            if (statementCacheSize < 0) {
+                throw new IllegalArgumentException(
+                        String.format("Invalid statement cache size: %d", statementCacheSize));
+            }
+        }
+
+        /**
+         * Reads the pool configuration from <code>sms.db.pool.*</code> system properties,
+         * falling back to defaults for any that are not set
+         * @return The pool configuration
+         */
+        public static Config fromSystemProperties() {
+            return new Config(
+                    Integer.getInteger("sms.db.pool.minSize", 2),
+                    Integer.getInteger("sms.db.pool.maxSize", 10),
+                    Long.getLong("sms.db.pool.acquireTimeoutMillis", 5_000L),
+                    Integer.getInteger("sms.db.pool.validationTimeoutSeconds", 2),
+                    Long.getLong("sms.db.pool.leakDetectionThresholdMillis", 30_000L),
+                    Integer.getInteger("sms.db.pool.statementCacheSize", 64));
+        }
+    }
+
+    /**
+     * A point-in-time snapshot of the pool's usage
+     * @param active The number of connections currently borrowed
+     * @param idle The number of open connections waiting in the pool
+     * @param waiting The approximate number of callers blocked waiting for a connection
+     * @param totalBorrows The number of successful borrows since the pool was created
+     * @param totalTimeouts The number of borrows that timed out
+     * @param averageWaitMillis The mean time callers spent waiting for a connection
+     * @param maxWaitMillis The longest time a caller spent waiting for a connection
+     * @param leaksDetected The number of borrowed connections reported as leaked
+     * @param statementCacheHits The number of prepared statements reused from a connection's cache
+     * @param statementCacheMisses The number of prepared statements that had to be prepared by the database
+     */
+    public record Statistics(
+            int active,
+            int idle,
+            int waiting,
+            long totalBorrows,
+            long totalTimeouts,
+            double averageWaitMillis,
+            double maxWaitMillis,
+            long leaksDetected,
+            long statementCacheHits,
+            long statementCacheMisses) {}
+
+    private final ConnectionFactory connectionFactory;
+    private final Config config;
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<Connection> idleConnections = new LinkedBlockingDeque<>();
+    private final Map<Connection, Lease> activeLeases = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService leakDetector;
+    private final Map<Connection, StatementCache> statementCaches = new ConcurrentHashMap<>();
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    private final AtomicLong totalBorrows = new AtomicLong();
+    private final AtomicLong totalTimeouts = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final AtomicLong leaksDetected = new AtomicLong();
+    private final LongAdder statementCacheHits = new LongAdder();
+    private final LongAdder statementCacheMisses = new LongAdder();
+
+    /**
+     * Tracks who borrowed a connection and when, so that leaks can be reported with their origin
+     */
+    private static final class Lease {
+        private final Connection physicalConnection;
+        private final long borrowedAtNanos = System.nanoTime();
+        private final Throwable borrowSite;
+        private volatile boolean reportedAsLeak;
+
+        private Lease(final Connection physicalConnection) {
+            this.physicalConnection = physicalConnection;
+            this.borrowSite = new Throwable("Connection borrowed by thread " + Thread.currentThread().getName());
+        }
+    }
+
+    /**
+     * Creates a pool and opens <code>minSize</code> connections up front
+     * @param connectionFactory The factory used to open physical connections
+     * @param config The pool configuration
+     * @throws SQLException if the initial connections cannot be opened
+     */
+    public ConnectionPool(final ConnectionFactory connectionFactory, final Config config) throws SQLException {
+        LOGGER.debug("Creating connection pool {}", config);
+        this.connectionFactory = connectionFactory;
+        this.config = config;
+        this.permits = new Semaphore(config.maxSize(), true);
+
+        for (int i = 0; i < config.minSize(); i++) {
+            idleConnections.offer(connectionFactory.create());
+        }
+
+        if (config.leakDetectionThresholdMillis() > 0) {
+            leakDetector = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "connection-pool-leak-detector");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long period = Math.max(1_000L, config.leakDetectionThresholdMillis() / 2);
+            leakDetector.scheduleAtFixedRate(this::detectLeaks, period, period, TimeUnit.MILLISECONDS);
+        } else {
+            leakDetector = null;
+        }
+    }
+
+    /**
+     * Borrows a connection from the pool, waiting up to the configured acquire timeout for one to become free.
+     * Idle connections are validated before being handed out and replaced if they are no longer usable.
+     * @return A pooled connection which is returned to the pool when closed
+     * @throws SQLException if the pool is closed, the timeout elapses or a new connection cannot be opened
+     */
+    public Connection borrow() throws SQLException {
+        if (closed.get()) {
+            throw new SQLException("Connection pool is closed");
+        }
+
+        long waitStart = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(config.acquireTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+                totalTimeouts.incrementAndGet();
+                LOGGER.error("Timed out waiting for a database connection: {}", getStatistics());
+                throw new SQLException(String.format(
+                        "Timed out after %d ms waiting for a database connection", config.acquireTimeoutMillis()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+        recordWait(System.nanoTime() - waitStart);
+
+        try {
+            Connection physicalConnection = takeValidConnection();
+            Connection pooledConnection = (Connection) Proxy.newProxyInstance(
+                    ConnectionPool.class.getClassLoader(),
+                    new Class<?>[] {Connection.class},
+                    new PooledConnectionHandler(physicalConnection));
+            activeLeases.put(pooledConnection, new Lease(physicalConnection));
+            totalBorrows.incrementAndGet();
+            return pooledConnection;
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Takes an idle connection that passes validation, or opens a new one if none are available
+     * @return A usable physical connection
+     * @throws SQLException if a new connection cannot be opened
+     */
+    private Connection takeValidConnection() throws SQLException {
+        Connection connection;
+        while ((connection = idleConnections.pollFirst()) != null) {
+            if (isValid(connection)) {
+                return connection;
+            }
+            LOGGER.warn("Discarding invalid pooled connection");
+            discard(connection);
+        }
+        LOGGER.debug("No idle connections available, opening a new connection");
+        return connectionFactory.create();
+    }
+
+    private boolean isValid(final Connection connection) {
+        try {
+            return !connection.isClosed() && connection.isValid(config.validationTimeoutSeconds());
+        } catch (SQLException e) {
+            LOGGER.warn("Failed to validate pooled connection", e);
+            return false;
+        }
+    }
+
+    /**
+     * Returns a borrowed connection to the pool, resetting any transaction state left on it
+     * @param pooledConnection The proxy handed out by {@link #borrow()}
+     */
+    private void release(final Connection pooledConnection) {
+        Lease lease = activeLeases.remove(pooledConnection);
+        if (lease == null) {
+            return;
+        }
+        Connection physicalConnection = lease.physicalConnection;
+        try {
+            if (!physicalConnection.getAutoCommit()) {
+                physicalConnection.rollback();
+                physicalConnection.setAutoCommit(true);
+            }
+            if (closed.get() || idleConnections.size() >= config.maxSize()) {
+                discard(physicalConnection);
+            } else {
+                idleConnections.offerFirst(physicalConnection);
+            }
+        } catch (SQLException e) {
+            LOGGER.warn("Failed to reset pooled connection, discarding it", e);
+            discard(physicalConnection);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void recordWait(final long waitNanos) {
+        totalWaitNanos.addAndGet(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    /**
+     * Logs a warning, including the borrowing stack trace, for every connection held longer than the
+     * leak detection threshold. Each leak is only reported once.
+     */
+    private void detectLeaks() {
+        long thresholdNanos = TimeUnit.MILLISECONDS.toNanos(config.leakDetectionThresholdMillis());
+        long now = System.nanoTime();
+        for (Lease lease : activeLeases.values()) {
+            if (!lease.reportedAsLeak && now - lease.borrowedAtNanos > thresholdNanos) {
+                lease.reportedAsLeak = true;
+                leaksDetected.incrementAndGet();
+                LOGGER.warn(
+                        "Possible connection leak: connection held for more than {} ms",
+                        config.leakDetectionThresholdMillis(),
+                        lease.borrowSite);
+            }
+        }
+    }
+
+    /**
+     * Gets a snapshot of the pool's current usage and wait times
+     * @return The pool statistics
+     */
+    public Statistics getStatistics() {
+        long borrows = totalBorrows.get();
+        return new Statistics(
+                activeLeases.size(),
+                idleConnections.size(),
+                permits.getQueueLength(),
+                borrows,
+                totalTimeouts.get(),
+                borrows == 0 ? 0.0 : totalWaitNanos.get() / (borrows * 1_000_000.0),
+                maxWaitNanos.get() / 1_000_000.0,
+                leaksDetected.get(),
+                statementCacheHits.sum(),
+                statementCacheMisses.sum());
+    }
+
+    /**
+     * Prepares a statement on a physical connection through its statement cache
+     * @param pooledConnection The pooled connection the statement was requested from
+     * @param physicalConnection The physical connection behind it
+     * @param sql The SQL text of the statement
+     * @return A cached prepared statement
+     * @throws SQLException if the statement cannot be prepared
+     */
+    private PreparedStatement prepareCachedStatement(
+            final Connection pooledConnection, final Connection physicalConnection, final String sql)
+            throws SQLException {
+        StatementCache cache = statementCaches.computeIfAbsent(
+                physicalConnection,
+                connection -> new StatementCache(
+                        connection, config.statementCacheSize(), statementCacheHits, statementCacheMisses));
+        return cache.prepare(pooledConnection, sql);
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    /**
+     * Closes every idle connection and stops leak detection.
+     * Connections still borrowed are closed as they are returned.
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        LOGGER.debug("Closing connection pool {}", getStatistics());
+        if (leakDetector != null) {
+            leakDetector.shutdownNow();
+        }
+        Connection connection;
+        while ((connection = idleConnections.pollFirst()) != null) {
+            discard(connection);
+        }
+    }
+
+    /**
+     * Closes a physical connection and drops its statement cache
+     * @param connection The physical connection to close
+     */
+    private void discard(final Connection connection) {
+        StatementCache cache = statementCaches.remove(connection);
+        if (cache != null) {
+            cache.clear();
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            LOGGER.warn("Failed to close connection", e);
+        }
+    }
+
+    /**
+     * Forwards every call to the physical connection except <code>close()</code>, which returns it to the pool,
+     * and <code>prepareStatement(String)</code>, which goes through the connection's statement cache
+     */
+    private final class PooledConnectionHandler implements InvocationHandler {
+        private final Connection physicalConnection;
+        private volatile boolean returned;
+
+        private PooledConnectionHandler(final Connection physicalConnection) {
+            this.physicalConnection = physicalConnection;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    if (!returned) {
+                        returned = true;
+                        release((Connection) proxy);
+                    }
+                    return null;
+                }
+                case "isClosed" -> {
+                    return returned || physicalConnection.isClosed();
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "PooledConnection[" + physicalConnection + "]";
+                }
+                default -> {
+                    if (returned) {
+                        throw new SQLException("Connection has already been returned to the pool");
+                    }
+                    if (config.statementCacheSize() > 0
+                            && method.getName().equals("prepareStatement")
+                            && args.length == 1) {
+                        return prepareCachedStatement((Connection) proxy, physicalConnection, (String) args[0]);
+                    }
+                    try {
+                        return method.invoke(physicalConnection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                }
+            }
+        }
+    }
+}
@@ -2,7 +2,7 @@ package sms.gradle.model.dao;
 
 import java.sql.*;
 import java.sql.ResultSet;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
@@ -12,40 +12,46 @@ import sms.gradle.model.entities.Course;
 public final class CourseDAO {
     private static final Logger LOGGER = LogManager.getLogger();
 
+    private static final String INSERT_SQL = "INSERT INTO courses (name, description) VALUES (?, ?)";
+    private static final String UPDATE_SQL = "UPDATE courses SET name = ?, description = ? WHERE id = ?";
+    // Rows are read by position, so the readers below follow this column order
+    private static final String COLUMNS = "id, name, description";
+    static final String FIND_BY_ID_SQL = "SELECT " + COLUMNS + " FROM courses WHERE id = ?";
+    static final String FIND_BY_NAME_SQL = "SELECT " + COLUMNS + " FROM courses WHERE name = ?";
+
+    private static final List<CascadeDelete.Step> DELETE_COURSE_CASCADE = List.of(
+            new CascadeDelete.Step(
+                    "results",
+                    """
+                    DELETE FROM results WHERE assessment_id IN (
+                        SELECT a.id FROM assessments a JOIN modules m ON a.module_id = m.id WHERE m.course_id = ?
+                    )"""),
+            new CascadeDelete.Step(
+                    "assessments",
+                    "DELETE FROM assessments WHERE module_id IN (SELECT id FROM modules WHERE course_id = ?)"),
+            new CascadeDelete.Step("modules", "DELETE FROM modules WHERE course_id = ?"),
+            new CascadeDelete.Step("course_enrollments", "DELETE FROM course_enrollments WHERE course_id = ?"),
+            new CascadeDelete.Step("courses", "DELETE FROM courses WHERE id = ?"));
+
+    private static final KeysetPager.Source<Course> PAGE_SOURCE = new KeysetPager.Source<>(
+            "courses",
+            COLUMNS,
+            "name",
+            CourseDAO::readCourse,
+            course -> new Keyset(course.getName(), course.getId()));
+
     private CourseDAO() {
         throw new UnsupportedOperationException("This is a DAO class and cannot be instantiated");
     }
 
     /**
-     * Converts a <code>ResultSet</code> containing course data into a List of <code>Course</code> objects
-     * @param resultSet The ResultSet containing course data to convert
-     * @return A List of Course objects created from the ResultSet data
+     * Creates a <code>Course</code> from the current <code>ResultSet</code> row
+     * @param resultSet The ResultSet positioned on a row of course data
+     * @return The Course for the current row
      * @throws SQLException if there is an error accessing the ResultSet data
      */
-    private static List<Course> getAllCoursesFromResultSet(final ResultSet resultSet) throws SQLException {
-        LOGGER.debug("Converting ResultSet to List<Course>");
-        List<Course> courses = new ArrayList<>();
-        while (resultSet.next()) {
-            courses.add(new Course(
-                    resultSet.getInt("id"), resultSet.getString("name"), resultSet.getString("description")));
-        }
-        return courses;
-    }
-
-    /**
-     * Creates an <code>Optional<Course></code> from a <code>ResultSet</code> row
-     * @param resultSet The ResultSet containing course data
-     * @return An Optional containing a Course object if data is present, or an empty Optional if not
-     * @throws SQLException if there is an error accessing the ResultSet data
-     */
-    private static Optional<Course> getCourseFromResultSet(final ResultSet resultSet) throws SQLException {
-        LOGGER.debug("Converting ResultSet to Optional<Course>");
-        if (resultSet.next()) {
-            return Optional.of(new Course(
-                    resultSet.getInt("id"), resultSet.getString("name"), resultSet.getString("description")));
-        }
-        LOGGER.info("No course found in ResultSet");
-        return Optional.empty();
+    private static Course readCourse(final ResultSet resultSet) throws SQLException {
+        return new Course(resultSet.getInt(1), resultSet.getString(2), resultSet.getString(3));
     }
 
     /**
@@ -55,12 +61,8 @@ public final class CourseDAO {
      */
     public static void addCourse(final Course course) throws SQLException {
         LOGGER.debug("Adding course to database {}", course);
-        final String sql = "INSERT INTO courses (name, description) VALUES (?, ?)";
-        try (PreparedStatement addSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            addSqlStatement.setString(1, course.getName());
-            addSqlStatement.setString(2, course.getDescription());
-            addSqlStatement.executeUpdate();
+        try {
+            JdbcTemplate.update(INSERT_SQL, insertParameters(course));
         } catch (SQLException e) {
             LOGGER.error("Failed to add course to database {}", course, e);
             switch (e.getErrorCode()) {
@@ -72,19 +74,22 @@ public final class CourseDAO {
     }
 
     /**
-     * Finds a course by its ID
+     * Finds a course by its ID, answering from <code>EntityCaches.COURSES</code> when the course is cached
      * @param id The ID of the course to find
      * @return An Optional containing the Course object if found, or an empty Optional if not found
      * @throws RuntimeException if there is an error executing the query
      */
     public static Optional<Course> findById(final int id) throws SQLException {
+        return EntityCaches.COURSES.get(id, CourseDAO::loadById);
+    }
+
+    /**
+     * Reads a course by its ID from the database, bypassing the cache
+     */
+    private static Optional<Course> loadById(final int id) throws SQLException {
         LOGGER.debug("Finding course by id: {}", id);
-        final String sql = "SELECT * FROM courses WHERE id = ?";
-        try (PreparedStatement findSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            findSqlStatement.setInt(1, id);
-            ResultSet resultSet = findSqlStatement.executeQuery();
-            return getCourseFromResultSet(resultSet);
+        try {
+            return JdbcTemplate.queryForOptional(FIND_BY_ID_SQL, CourseDAO::readCourse, id);
         } catch (SQLException e) {
             LOGGER.error("Failed to find course by id: {}", id, e);
             throw new SQLException(String.format("Failed to find course with Id: %d", id), e);
@@ -99,12 +104,8 @@ public final class CourseDAO {
      */
     public static Optional<Course> findByName(final String name) throws SQLException {
         LOGGER.debug("Finding course by name: {}", name);
-        final String sql = "SELECT * FROM courses WHERE name = ?";
-        try (PreparedStatement findSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            findSqlStatement.setString(1, name);
-            ResultSet resultSet = findSqlStatement.executeQuery();
-            return getCourseFromResultSet(resultSet);
+        try {
+            return JdbcTemplate.queryForOptional(FIND_BY_NAME_SQL, CourseDAO::readCourse, name);
         } catch (SQLException e) {
             LOGGER.error("Failed to find course by name: {}", name, e);
             throw new SQLException(String.format("Failed to find course with name: %s", name), e);
@@ -118,17 +119,41 @@ public final class CourseDAO {
      */
     public static List<Course> findAll() throws SQLException {
         LOGGER.debug("Finding all courses");
-        final String sql = "SELECT * FROM courses";
-        try (PreparedStatement findSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            ResultSet resultSet = findSqlStatement.executeQuery();
-            return getAllCoursesFromResultSet(resultSet);
+        final String sql = "SELECT " + COLUMNS + " FROM courses";
+        try {
+            return JdbcTemplate.query(sql, CourseDAO::readCourse);
         } catch (SQLException e) {
             LOGGER.error("Failed to find all courses", e);
             throw new SQLException("Failed to find all courses", e);
         }
     }
 
+    /**
+     * Checks whether there is at least one course, reading a single row rather than the whole table
+     * @return true if any course exists
+     * @throws SQLException if there is an error executing the query
+     */
+    public static boolean hasAny() throws SQLException {
+        LOGGER.debug("Checking whether any courses exist");
+        final String sql = "SELECT 1 FROM courses LIMIT 1";
+        try {
+            return JdbcTemplate.queryForOptional(sql, resultSet -> resultSet.getInt(1)).isPresent();
+        } catch (SQLException e) {
+            LOGGER.error("Failed to check whether any courses exist", e);
+            throw new SQLException("Failed to check whether any courses exist", e);
+        }
+    }
+
+    /**
+     * Finds one page of courses, ordered by name and then ID
+     * @param request The keyset, size and direction of the page
+     * @return The page of courses
+     * @throws SQLException if there is an error executing the query
+     */
+    public static Page<Course> findPage(final PageRequest request) throws SQLException {
+        return KeysetPager.findPage(PAGE_SOURCE, request);
+    }
+
     /**
      * Updates a course in the database
      * @param course The course object with updated information
@@ -137,36 +162,99 @@ public final class CourseDAO {
      */
     public static int update(final Course course) throws SQLException {
         LOGGER.debug("Updating course: {}", course);
-        final String sql = "UPDATE courses SET name = ?, description = ? WHERE id = ?";
-        try (PreparedStatement updateSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            updateSqlStatement.setString(1, course.getName());
-            updateSqlStatement.setString(2, course.getDescription());
-            updateSqlStatement.setInt(3, course.getId());
-            return updateSqlStatement.executeUpdate();
+        try {
+            return JdbcTemplate.update(UPDATE_SQL, updateParameters(course));
         } catch (SQLException e) {
             LOGGER.error("Failed to update course: {}", course, e);
             throw new SQLException(String.format("Failed to update course with Id: %d", course.getId()), e);
+        } finally {
+            EntityCaches.COURSES.invalidate(course.getId());
+        }
+    }
+
+    /**
+     * Adds many courses to the database using JDBC batching, committing each batch in its own transaction
+     * @param courses The courses to add
+     * @return The IDs generated for the new courses, in the same order as the courses
+     * @throws SQLException if a batch fails, in which case that batch is rolled back but earlier batches stay committed
+     */
+    public static List<Integer> addAll(final Collection<Course> courses) throws SQLException {
+        LOGGER.debug("Adding {} courses to database", courses.size());
+        try {
+            return BatchWriter.insert(
+                    INSERT_SQL, List.copyOf(courses), CourseDAO::insertParameters, BatchWriter.batchSize());
+        } catch (SQLException e) {
+            LOGGER.error("Failed to add {} courses to database", courses.size(), e);
+            switch (e.getErrorCode()) {
+                case 23505 -> throw new SQLException(
+                        "A course name is associated with an existing course. " + e.getMessage(), e);
+                default -> throw new SQLException("Failed to add courses. " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Updates many courses in the database using JDBC batching, committing each batch in its own transaction
+     * @param courses The courses with updated information
+     * @return The total number of rows affected
+     * @throws SQLException if a batch fails, in which case that batch is rolled back but earlier batches stay committed
+     */
+    public static int updateAll(final Collection<Course> courses) throws SQLException {
+        LOGGER.debug("Updating {} courses", courses.size());
+        try {
+            return BatchWriter.update(
+                    UPDATE_SQL, List.copyOf(courses), CourseDAO::updateParameters, BatchWriter.batchSize());
+        } catch (SQLException e) {
+            LOGGER.error("Failed to update {} courses", courses.size(), e);
+            throw new SQLException("Failed to update courses. " + e.getMessage(), e);
+        } finally {
+            courses.forEach(course -> EntityCaches.COURSES.invalidate(course.getId()));
         }
     }
 
     /**
-     * Deletes a course from the database by its ID
+     * Deletes a course, along with its modules, assessments, results and enrollments, from the database by its ID
      * @param id The ID of the course to delete
      * @return The number of rows affected (1 if successful, 0 if course not found)
      * @throws RuntimeException if there is an error executing the delete operation
      */
     public static int delete(final int id) throws SQLException {
+        return deleteCascade(id).rowsDeleted("courses");
+    }
+
+    /**
+     * Deletes a course together with its modules, assessments, results and enrollments in a single transaction
+     * @param id The ID of the course to delete
+     * @return The number of rows deleted from each table
+     * @throws SQLException if there is an error executing the delete operation, in which case nothing is deleted
+     */
+    public static DeletionReport deleteCascade(final int id) throws SQLException {
         LOGGER.debug("Deleting course with ID: {}", id);
-        ModuleDAO.deleteByCourseId(id);
-        final String sql = "DELETE FROM courses WHERE id = ?";
-        try (PreparedStatement deleteSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            deleteSqlStatement.setInt(1, id);
-            return deleteSqlStatement.executeUpdate();
+        try {
+            DeletionReport report = CascadeDelete.run(id, DELETE_COURSE_CASCADE);
+            LOGGER.info("Deleted course with ID: {} {}", id, report);
+            return report;
         } catch (SQLException e) {
             LOGGER.error("Failed to delete course with ID: {}", id, e);
             throw new SQLException(String.format("Failed to delete course with Id: %d", id), e);
+        } finally {
+            EntityCaches.COURSES.invalidate(id);
+            // The course's modules are deleted with it
+            EntityCaches.MODULES.invalidateAll();
         }
     }
+
+    /**
+     * Lists the values of a course for the parameters of <code>INSERT_SQL</code>
+     */
+    private static Object[] insertParameters(final Course course) {
+        return new Object[] {course.getName(), course.getDescription()};
+    }
+
+    /**
+     * Lists the values of a course for the parameters of <code>UPDATE_SQL</code>
+     */
+    private static Object[] updateParameters(final Course course) {
+        return new Object[] {course.getName(), course.getDescription(), course.getId()};
+    }
 }
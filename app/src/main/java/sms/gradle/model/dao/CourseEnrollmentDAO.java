@@ -1,9 +1,8 @@
 package sms.gradle.model.dao;
 
-import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
@@ -13,48 +12,38 @@ import sms.gradle.model.entities.CourseEnrollment;
 public final class CourseEnrollmentDAO {
     private static final Logger LOGGER = LogManager.getLogger();
 
+    private static final String INSERT_SQL =
+            "INSERT INTO course_enrollments (student_id, course_id, enrollment_date) VALUES (?, ?, ?)";
+    private static final String UPDATE_SQL =
+            "UPDATE course_enrollments SET student_id = ?, course_id = ?, enrollment_date = ? WHERE id = ?";
+    // Rows are read by position, so the readers below follow this column order
+    private static final String COLUMNS = "id, student_id, course_id, enrollment_date";
+    static final String FIND_BY_ID_SQL = "SELECT " + COLUMNS + " FROM course_enrollments WHERE id = ?";
+    static final String FIND_BY_STUDENT_ID_SQL = "SELECT " + COLUMNS + " FROM course_enrollments WHERE student_id = ?";
+    static final String FIND_BY_COURSE_ID_SQL = "SELECT " + COLUMNS + " FROM course_enrollments WHERE course_id = ?";
+    static final String FIND_BY_STUDENT_AND_COURSE_ID_SQL =
+            "SELECT " + COLUMNS + " FROM course_enrollments WHERE (student_id = ? AND course_id = ?)";
+
+    private static final KeysetPager.Source<CourseEnrollment> PAGE_SOURCE = new KeysetPager.Source<>(
+            "course_enrollments",
+            COLUMNS,
+            "course_id",
+            CourseEnrollmentDAO::readCourseEnrollment,
+            enrollment -> new Keyset(enrollment.getCourseId(), enrollment.getId()));
+
     private CourseEnrollmentDAO() {
         throw new UnsupportedOperationException("This is a DAO class and cannot be instantiated");
     }
 
     /**
-     * Converts a <code>ResultSet</code> containing course enrollment data into a List of <code>CourseEnrollment</code> objects
-     * @param resultSet The ResultSet containing course enrollment data to convert
-     * @return A List of <code>CourseEnrollment</code> objects created from the <code>ResultSet</code> data
-     * @throws SQLException if there is an error accessing the <code>ResultSet</code> data
-     */
-    private static List<CourseEnrollment> getAllCoursesEnrollmentsFromResultSet(final ResultSet resultSet)
-            throws SQLException {
-        LOGGER.debug("Converting ResultSet to List of CourseEnrollments");
-        List<CourseEnrollment> courseEnrollments = new ArrayList<>();
-        while (resultSet.next()) {
-            courseEnrollments.add(new CourseEnrollment(
-                    resultSet.getInt("id"),
-                    resultSet.getInt("student_id"),
-                    resultSet.getInt("course_id"),
-                    resultSet.getDate("enrollment_date")));
-        }
-        return courseEnrollments;
-    }
-
-    /**
-     * Creates an <code>Optional<CourseEnrollment></code> from a <code>ResultSet</code> row
-     * @param resultSet The ResultSet containing course enrollment data
-     * @return An Optional containing a <code>CourseEnrollment</code> object if data is present, or an empty Optional if not
-     * @throws SQLException if there is an error accessing the <code>ResultSet</code> data
+     * Creates a <code>CourseEnrollment</code> from the current <code>ResultSet</code> row
+     * @param resultSet The ResultSet positioned on a row of course enrollment data
+     * @return The CourseEnrollment for the current row
+     * @throws SQLException if there is an error accessing the ResultSet data
      */
-    private static Optional<CourseEnrollment> getCourseEnrollmentFromResultSet(final ResultSet resultSet)
-            throws SQLException {
-        LOGGER.debug("Converting ResultSet to CourseEnrollment");
-        if (resultSet.next()) {
-            return Optional.of(new CourseEnrollment(
-                    resultSet.getInt("id"),
-                    resultSet.getInt("student_id"),
-                    resultSet.getInt("course_id"),
-                    resultSet.getDate("enrollment_date")));
-        }
-        LOGGER.info("No course enrollment found in ResultSet");
-        return Optional.empty();
+    private static CourseEnrollment readCourseEnrollment(final ResultSet resultSet) throws SQLException {
+        return new CourseEnrollment(
+                resultSet.getInt(1), resultSet.getInt(2), resultSet.getInt(3), resultSet.getDate(4));
     }
 
     /**
@@ -64,17 +53,19 @@ public final class CourseEnrollmentDAO {
      */
     public static void addCourseEnrollment(final CourseEnrollment courseEnrollment) throws SQLException {
         LOGGER.debug("Adding course enrollment to database {}", courseEnrollment);
-        final String sql = "INSERT INTO course_enrollments (student_id, course_id, enrollment_date) VALUES (?, ?, ?)";
-        try (PreparedStatement addSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            addSqlStatement.setInt(1, courseEnrollment.getStudentId());
-            addSqlStatement.setInt(2, courseEnrollment.getCourseId());
-            addSqlStatement.setDate(3, courseEnrollment.getEnrollmentDate());
-            addSqlStatement.executeUpdate();
+        try {
+            JdbcTemplate.update(INSERT_SQL, insertParameters(courseEnrollment));
         } catch (SQLException e) {
             LOGGER.error("Failed to add course enrollment to database {}", courseEnrollment, e);
-            throw new SQLException(
-                    String.format("Failed to add course enrollment: %s", courseEnrollment.toString()), e);
+            switch (e.getErrorCode()) {
+                case 23505 -> throw new SQLException(
+                        String.format(
+                                "Student %d is already enrolled in course %d.",
+                                courseEnrollment.getStudentId(), courseEnrollment.getCourseId()),
+                        e);
+                default -> throw new SQLException(
+                        String.format("Failed to add course enrollment: %s", courseEnrollment.toString()), e);
+            }
         }
     }
 
@@ -86,12 +77,8 @@ public final class CourseEnrollmentDAO {
      */
     public static Optional<CourseEnrollment> findById(final int id) throws SQLException {
         LOGGER.debug("Finding course enrollment by id: {}", id);
-        final String sql = "SELECT * FROM course_enrollments WHERE id = ?";
-        try (PreparedStatement findSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            findSqlStatement.setInt(1, id);
-            ResultSet resultSet = findSqlStatement.executeQuery();
-            return getCourseEnrollmentFromResultSet(resultSet);
+        try {
+            return JdbcTemplate.queryForOptional(FIND_BY_ID_SQL, CourseEnrollmentDAO::readCourseEnrollment, id);
         } catch (SQLException e) {
             LOGGER.error("Failed to find course enrollment by id: {}", id, e);
             throw new SQLException(String.format("Failed to find course enrollment with Id: %d", id), e);
@@ -106,12 +93,8 @@ public final class CourseEnrollmentDAO {
      */
     public static List<CourseEnrollment> findByStudentId(final int studentId) throws SQLException {
         LOGGER.debug("Finding course enrollments by student id: {}", studentId);
-        final String sql = "SELECT * FROM course_enrollments WHERE student_id = ?";
-        try (PreparedStatement findSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            findSqlStatement.setInt(1, studentId);
-            ResultSet resultSet = findSqlStatement.executeQuery();
-            return getAllCoursesEnrollmentsFromResultSet(resultSet);
+        try {
+            return JdbcTemplate.query(FIND_BY_STUDENT_ID_SQL, CourseEnrollmentDAO::readCourseEnrollment, studentId);
         } catch (SQLException e) {
             LOGGER.error("Failed to find course enrollments by student id: {}", studentId, e);
             throw new SQLException(
@@ -127,12 +110,8 @@ public final class CourseEnrollmentDAO {
      */
     public static List<CourseEnrollment> findByCourseId(final int courseId) throws SQLException {
         LOGGER.debug("Finding course enrollments by course id: {}", courseId);
-        final String sql = "SELECT * FROM course_enrollments WHERE course_id = ?";
-        try (PreparedStatement findSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            findSqlStatement.setInt(1, courseId);
-            ResultSet resultSet = findSqlStatement.executeQuery();
-            return getAllCoursesEnrollmentsFromResultSet(resultSet);
+        try {
+            return JdbcTemplate.query(FIND_BY_COURSE_ID_SQL, CourseEnrollmentDAO::readCourseEnrollment, courseId);
         } catch (SQLException e) {
             LOGGER.error("Failed to find course enrollments by course id: {}", courseId, e);
             throw new SQLException(
@@ -150,13 +129,9 @@ public final class CourseEnrollmentDAO {
     public static Optional<CourseEnrollment> findByStudentAndCourseId(final int studentId, final int courseId)
             throws SQLException {
         LOGGER.debug("Finding course enrollments by student id: {} and course id: {}", studentId, courseId);
-        final String sql = "SELECT * FROM course_enrollments WHERE (student_id = ? AND course_id = ?)";
-        try (PreparedStatement findSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            findSqlStatement.setInt(1, studentId);
-            findSqlStatement.setInt(2, courseId);
-            ResultSet resultSet = findSqlStatement.executeQuery();
-            return getCourseEnrollmentFromResultSet(resultSet);
+        try {
+            return JdbcTemplate.queryForOptional(
+                    FIND_BY_STUDENT_AND_COURSE_ID_SQL, CourseEnrollmentDAO::readCourseEnrollment, studentId, courseId);
         } catch (SQLException e) {
             LOGGER.error(
                     "Failed to find course enrollments by student id: {} and course id: {}", studentId, courseId, e);
@@ -175,17 +150,25 @@ public final class CourseEnrollmentDAO {
      */
     public static List<CourseEnrollment> findAll() throws SQLException {
         LOGGER.debug("Finding all course enrollments");
-        final String sql = "SELECT * FROM course_enrollments";
-        try (PreparedStatement findSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            ResultSet resultSet = findSqlStatement.executeQuery();
-            return getAllCoursesEnrollmentsFromResultSet(resultSet);
+        final String sql = "SELECT " + COLUMNS + " FROM course_enrollments";
+        try {
+            return JdbcTemplate.query(sql, CourseEnrollmentDAO::readCourseEnrollment);
         } catch (SQLException e) {
             LOGGER.error("Failed to find all course enrollments", e);
             throw new SQLException("Failed to find all course enrollments", e);
         }
     }
 
+    /**
+     * Finds one page of course enrollments, ordered by course and then ID
+     * @param request The keyset, size and direction of the page
+     * @return The page of course enrollments
+     * @throws SQLException if there is an error executing the query
+     */
+    public static Page<CourseEnrollment> findPage(final PageRequest request) throws SQLException {
+        return KeysetPager.findPage(PAGE_SOURCE, request);
+    }
+
     /**
      * Updates a course enrollment in the database
      * @param courseEnrollment The <code>CourseEnrollment</code> object with updated information
@@ -194,15 +177,8 @@ public final class CourseEnrollmentDAO {
      */
     public static int update(final CourseEnrollment courseEnrollment) throws SQLException {
         LOGGER.debug("Updating course enrollment: {}", courseEnrollment);
-        final String sql =
-                "UPDATE course_enrollments SET student_id = ?, course_id = ?, enrollment_date = ? WHERE id = ?";
-        try (PreparedStatement updateSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            updateSqlStatement.setInt(1, courseEnrollment.getStudentId());
-            updateSqlStatement.setInt(2, courseEnrollment.getCourseId());
-            updateSqlStatement.setDate(3, courseEnrollment.getEnrollmentDate());
-            updateSqlStatement.setInt(4, courseEnrollment.getId());
-            return updateSqlStatement.executeUpdate();
+        try {
+            return JdbcTemplate.update(UPDATE_SQL, updateParameters(courseEnrollment));
         } catch (SQLException e) {
             LOGGER.error("Failed to update course enrollment: {}", courseEnrollment, e);
             throw new SQLException(
@@ -210,6 +186,50 @@ public final class CourseEnrollmentDAO {
         }
     }
 
+    /**
+     * Adds many course enrollments to the database using JDBC batching, committing each batch in its own transaction
+     * @param courseEnrollments The course enrollments to add
+     * @return The IDs generated for the new course enrollments, in the same order as the course enrollments
+     * @throws SQLException if a batch fails, in which case that batch is rolled back but earlier batches stay committed
+     */
+    public static List<Integer> addAll(final Collection<CourseEnrollment> courseEnrollments) throws SQLException {
+        LOGGER.debug("Adding {} course enrollments to database", courseEnrollments.size());
+        try {
+            return BatchWriter.insert(
+                    INSERT_SQL,
+                    List.copyOf(courseEnrollments),
+                    CourseEnrollmentDAO::insertParameters,
+                    BatchWriter.batchSize());
+        } catch (SQLException e) {
+            LOGGER.error("Failed to add {} course enrollments to database", courseEnrollments.size(), e);
+            switch (e.getErrorCode()) {
+                case 23505 -> throw new SQLException(
+                        "A student is already enrolled in one of these courses. " + e.getMessage(), e);
+                default -> throw new SQLException("Failed to add course enrollments. " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Updates many course enrollments in the database using JDBC batching, committing each batch in its own transaction
+     * @param courseEnrollments The course enrollments with updated information
+     * @return The total number of rows affected
+     * @throws SQLException if a batch fails, in which case that batch is rolled back but earlier batches stay committed
+     */
+    public static int updateAll(final Collection<CourseEnrollment> courseEnrollments) throws SQLException {
+        LOGGER.debug("Updating {} course enrollments", courseEnrollments.size());
+        try {
+            return BatchWriter.update(
+                    UPDATE_SQL,
+                    List.copyOf(courseEnrollments),
+                    CourseEnrollmentDAO::updateParameters,
+                    BatchWriter.batchSize());
+        } catch (SQLException e) {
+            LOGGER.error("Failed to update {} course enrollments", courseEnrollments.size(), e);
+            throw new SQLException("Failed to update course enrollments. " + e.getMessage(), e);
+        }
+    }
+
     /**
      * Deletes a course enrollment from the database by its ID
      * @param id The ID of the course enrollment to delete
@@ -219,10 +239,8 @@ public final class CourseEnrollmentDAO {
     public static int delete(final int id) throws SQLException {
         LOGGER.debug("Deleting course enrollment with ID: {}", id);
         final String sql = "DELETE FROM course_enrollments WHERE id = ?";
-        try (PreparedStatement deleteSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            deleteSqlStatement.setInt(1, id);
-            return deleteSqlStatement.executeUpdate();
+        try {
+            return JdbcTemplate.update(sql, id);
         } catch (SQLException e) {
             LOGGER.error("Failed to delete course enrollment with ID: {}", id, e);
             throw new SQLException(String.format("Failed to delete course enrollment with Id: %d", id), e);
@@ -237,12 +255,16 @@ public final class CourseEnrollmentDAO {
      */
     public static int deleteByStudentId(final int studentId) throws SQLException {
         LOGGER.debug("Deleting course enrollments for student with ID: {}", studentId);
-        List<CourseEnrollment> courseEnrollments = findByStudentId(studentId);
-        for (CourseEnrollment courseEnrollment : courseEnrollments) {
-            delete(courseEnrollment.getId());
+        final String sql = "DELETE FROM course_enrollments WHERE student_id = ?";
+        try {
+            int deleted = JdbcTemplate.update(sql, studentId);
+            LOGGER.info("Deleted {} course enrollments for student with ID: {}", deleted, studentId);
+            return deleted;
+        } catch (SQLException e) {
+            LOGGER.error("Failed to delete course enrollments for student with ID: {}", studentId, e);
+            throw new SQLException(
+                    String.format("Failed to delete course enrollments for student with Id: %d", studentId), e);
         }
-        LOGGER.info("Deleted {} course enrollments for student with ID: {}", courseEnrollments.size(), studentId);
-        return courseEnrollments.size();
     }
 
     /**
@@ -253,11 +275,38 @@ public final class CourseEnrollmentDAO {
      */
     public static int deleteByCourseId(final int courseId) throws SQLException {
         LOGGER.debug("Deleting course enrollments for course with ID: {}", courseId);
-        List<CourseEnrollment> courseEnrollments = findByCourseId(courseId);
-        for (CourseEnrollment courseEnrollment : courseEnrollments) {
-            delete(courseEnrollment.getId());
+        final String sql = "DELETE FROM course_enrollments WHERE course_id = ?";
+        try {
+            int deleted = JdbcTemplate.update(sql, courseId);
+            LOGGER.info("Deleted {} course enrollments for course with ID: {}", deleted, courseId);
+            return deleted;
+        } catch (SQLException e) {
+            LOGGER.error("Failed to delete course enrollments for course with ID: {}", courseId, e);
+            throw new SQLException(
+                    String.format("Failed to delete course enrollments for course with Id: %d", courseId), e);
         }
-        LOGGER.info("Deleted {} course enrollments for course with ID: {}", courseEnrollments.size(), courseId);
-        return courseEnrollments.size();
+    }
+
+    /**
+     * Lists the values of a course enrollment for the parameters of <code>INSERT_SQL</code>
+     */
+    private static Object[] insertParameters(final CourseEnrollment courseEnrollment) {
+        return new Object[] {
+            courseEnrollment.getStudentId(),
+            courseEnrollment.getCourseId(),
+            courseEnrollment.getEnrollmentDate()
+        };
+    }
+
+    /**
+     * Lists the values of a course enrollment for the parameters of <code>UPDATE_SQL</code>
+     */
+    private static Object[] updateParameters(final CourseEnrollment courseEnrollment) {
+        return new Object[] {
+            courseEnrollment.getStudentId(),
+            courseEnrollment.getCourseId(),
+            courseEnrollment.getEnrollmentDate(),
+            courseEnrollment.getId()
+        };
     }
 }
@@ -0,0 +1,111 @@
+package sms.gradle.model.dao;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import sms.gradle.utils.session.UserType;
+
+/**
+ * Looks up the login credentials of admins and students together through the <code>user_credentials</code> view,
+ * so an email is resolved to its account with a single query whichever table it is in.
+ * <p>
+ * Emails with no account are remembered for a short time (<code>sms.auth.unknownEmailTtlSeconds</code>, default 30)
+ * so repeated attempts with a mistyped email do not reach the database. Adding or updating an admin or student
+ * forgets them, so a new account can log in straight away.
+ */
+public final class CredentialDAO {
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    static final String FIND_BY_EMAIL_SQL =
+            "SELECT user_type, id, first_name, last_name, email, password FROM user_credentials "
+                    + "WHERE email = ? ORDER BY user_type";
+
+    private static final long UNKNOWN_EMAILS_MAXIMUM_SIZE = 10_000;
+    private static final Duration UNKNOWN_EMAILS_TIME_TO_LIVE =
+            Duration.ofSeconds(Long.getLong("sms.auth.unknownEmailTtlSeconds", 30));
+
+    private static final Cache<String, Boolean> UNKNOWN_EMAILS = CacheBuilder.newBuilder()
+            .maximumSize(UNKNOWN_EMAILS_MAXIMUM_SIZE)
+            .expireAfterWrite(UNKNOWN_EMAILS_TIME_TO_LIVE)
+            .build();
+
+    /**
+     * The login details of an admin or student account
+     * @param type Whether the account is an admin or a student
+     * @param id The ID of the admin or student
+     * @param firstName The first name of the account holder
+     * @param lastName The last name of the account holder
+     * @param email The email the account logs in with
+     * @param hashedPassword The stored password hash
+     */
+    public record Credential(
+            UserType type, int id, String firstName, String lastName, String email, String hashedPassword) {
+
+        /**
+         * Checks a login attempt's password against the stored hash
+         * @param hashedPassword The hash of the password that was entered
+         * @return true if the hashes match
+         */
+        public boolean matches(final String hashedPassword) {
+            return this.hashedPassword.equals(hashedPassword);
+        }
+    }
+
+    private CredentialDAO() {
+        throw new UnsupportedOperationException("This is a DAO class and cannot be instantiated");
+    }
+
+    /**
+     * Finds every account that logs in with an email, admins first.
+     * An email is normally used by at most one account, but admins and students are kept in separate tables.
+     * @param email The email to look up
+     * @return The accounts using the email, admins before students, or an empty list if there are none
+     * @throws SQLException if there is an error executing the query
+     */
+    public static List<Credential> findByEmail(final String email) throws SQLException {
+        if (UNKNOWN_EMAILS.getIfPresent(email) != null) {
+            LOGGER.debug("Skipping lookup of recently unknown email: {}", email);
+            return List.of();
+        }
+        LOGGER.debug("Finding credentials by email: {}", email);
+        try {
+            List<Credential> credentials = JdbcTemplate.query(FIND_BY_EMAIL_SQL, CredentialDAO::readCredential, email);
+            if (credentials.isEmpty()) {
+                UNKNOWN_EMAILS.put(email, Boolean.TRUE);
+            }
+            return credentials;
+        } catch (SQLException e) {
+            LOGGER.error("Failed to find credentials by email: {}", email, e);
+            throw new SQLException(String.format("Failed to find credentials with email: %s", email), e);
+        }
+    }
+
+    /**
+     * Forgets every email remembered as unknown, after an account has been added or its email changed
+     */
+    static void forgetUnknownEmails() {
+        UNKNOWN_EMAILS.invalidateAll();
+    }
+
+    /**
+     * Creates a <code>Credential</code> from the current <code>user_credentials</code> row,
+     * reading the columns by position in the order <code>FIND_BY_EMAIL_SQL</code> selects them
+     * @param resultSet The ResultSet positioned on a row of credential data
+     * @return The Credential for the current row
+     * @throws SQLException if there is an error accessing the ResultSet data
+     */
+    private static Credential readCredential(final ResultSet resultSet) throws SQLException {
+        return new Credential(
+                UserType.valueOf(resultSet.getString(1)),
+                resultSet.getInt(2),
+                resultSet.getString(3),
+                resultSet.getString(4),
+                resultSet.getString(5),
+                resultSet.getString(6));
+    }
+}
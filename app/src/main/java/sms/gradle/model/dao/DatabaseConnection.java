@@ -3,31 +3,50 @@ package sms.gradle.model.dao;
 import java.io.File;
 import java.sql.*;
 import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import sms.gradle.utils.DatabaseScripts;
+import sms.gradle.utils.DatabaseMigrations;
 
 public final class DatabaseConnection {
     private static final Logger LOGGER = LogManager.getLogger();
 
     // Static instance for singleton pattern
-    private static DatabaseConnection instance;
-    private static Connection connection;
-    private static final String DB_PATH = "jdbc:h2:./data/sms";
+    private static volatile DatabaseConnection instance;
+    // Overridable so benchmarks and the seeded data generator can point at their own database files
+    private static final String DB_PATH = System.getProperty("sms.db.url", "jdbc:h2:./data/sms");
+
+    private ConnectionPool connectionPool;
+    // Set if connecting or migrating failed, after which no connections are handed out
+    private volatile SQLException startupFailure;
 
     private DatabaseConnection() {
         LOGGER.debug("Creating database connection");
         createDataFolder();
         connectToDatabase();
-        setupTables();
-        LOGGER.debug("Database connection established");
+        if (startupFailure == null) {
+            setupTables();
+        }
+        if (startupFailure == null && Boolean.parseBoolean(System.getProperty("sms.db.checkQueryPlans", "true"))) {
+            checkQueryPlans();
+        }
+        LOGGER.debug("Database connection created");
     }
 
     public static DatabaseConnection getInstance() {
-        if (instance == null) {
-            instance = new DatabaseConnection();
+        DatabaseConnection result = instance;
+        if (result == null) {
+            synchronized (DatabaseConnection.class) {
+                result = instance;
+                if (result == null) {
+                    result = new DatabaseConnection();
+                    instance = result;
+                }
+            }
         }
-        return instance;
+        return result;
     }
 
     /**
@@ -52,63 +71,120 @@ public final class DatabaseConnection {
     }
 
     /**
-     * Establishes a connection to the H2 database using the specified database path.
-     * If the connection fails, an error message is logged.
+     * Creates the connection pool for the H2 database using the specified database path.
+     * Pool settings are read from the <code>sms.db.pool.*</code> system properties.
+     * If the connection fails, it is logged and kept as the startup failure.
      */
     private void connectToDatabase() {
         LOGGER.debug("Connecting to database");
         try {
-            connection = DriverManager.getConnection(DB_PATH);
+            connectionPool = new ConnectionPool(
+                    () -> DriverManager.getConnection(DB_PATH), ConnectionPool.Config.fromSystemProperties());
         } catch (SQLException e) {
             LOGGER.error("Failed to connect to database: {}", DB_PATH, e);
+            startupFailure = e;
+        }
+    }
+
+    /**
+     * Borrows a connection from the pool. The connection must be closed once finished with,
+     * which returns it to the pool, so callers should use a try-with-resources block.
+     * @return A pooled connection
+     * @throws SQLException if no connection becomes available within the pool's acquire timeout, or the database
+     * failed to start
+     */
+    public Connection getConnection() throws SQLException {
+        if (startupFailure != null) {
+            throw new SQLException(String.format("Database failed to start: %s", DB_PATH), startupFailure);
         }
+        if (connectionPool == null) {
+            throw new SQLException(String.format("Database is not connected: %s", DB_PATH));
+        }
+        return connectionPool.borrow();
+    }
+
+    /**
+     * Gets a snapshot of the connection pool's usage (active, idle and waiting connections and wait times)
+     * @return The pool statistics
+     */
+    public ConnectionPool.Statistics getPoolStatistics() {
+        return connectionPool.getStatistics();
     }
 
-    public Connection getConnection() {
-        return connection;
+    /**
+     * Gets the reason the database could not be connected to or migrated when it was opened. Once it has failed,
+     * every call to <code>getConnection</code> fails too, so nothing runs against a schema in an unknown state.
+     * @return The failure, or an empty Optional if the database started
+     */
+    public Optional<SQLException> getStartupFailure() {
+        return Optional.ofNullable(startupFailure);
     }
 
     /**
-     * Sets up the database tables by executing the SQL statements defined in the DatabaseScripts class.
-     * If the tables already exist, this method does nothing.
+     * Brings the database schema up to date by applying any pending migrations from <code>DatabaseMigrations</code>.
+     * If the schema is already current, this only reads the <code>schema_version</code> table.
+     * If a migration fails, it is logged and kept as the startup failure.
      */
     private void setupTables() {
         LOGGER.debug("Setting up database tables");
-        try (Statement statement = connection.createStatement()) {
-            // Create tables
-            statement.execute(DatabaseScripts.CREATE_STUDENTS_TABLE);
-            statement.execute(DatabaseScripts.CREATE_ADMINS_TABLE);
-            statement.execute(DatabaseScripts.CREATE_COURSES_TABLE);
-            statement.execute(DatabaseScripts.CREATE_MODULES_TABLE);
-            statement.execute(DatabaseScripts.CREATE_COURSE_ENROLLMENTS_TABLE);
-            statement.execute(DatabaseScripts.CREATE_ASSESSMENTS_TABLE);
-            statement.execute(DatabaseScripts.CREATE_RESULTS_TABLE);
+        try (Connection connection = getConnection()) {
+            int applied = new SchemaMigrator(DatabaseMigrations.MIGRATIONS).migrate(connection);
+            LOGGER.info("Applied {} schema migrations", applied);
+        } catch (SQLException e) {
+            LOGGER.error("Failed to migrate database schema", e);
+            startupFailure = e;
+        }
+    }
 
-            // Add default admin account to admin table
-            statement.execute(DatabaseScripts.CREATE_DEFAULT_ADMIN);
-            LOGGER.info("Tables created successfully (or already existed)");
+    /**
+     * Runs EXPLAIN on every DAO lookup and logs a warning for any that fall back to a table scan.
+     * Can be disabled with the <code>sms.db.checkQueryPlans</code> system property.
+     */
+    private void checkQueryPlans() {
+        LOGGER.debug("Checking DAO query plans");
+        try (Connection connection = getConnection()) {
+            QueryPlanChecker.checkDaoQueries(connection);
         } catch (SQLException e) {
-            LOGGER.error("Failed to create database tables", e);
+            LOGGER.error("Failed to check DAO query plans", e);
         }
     }
 
     /**
      * Checks if the database is populated with data.
+     * Only looks for a single student, so it does not scan the table.
      * @return true if the database is populated, false otherwise.
+     * @throws SQLException if the students table cannot be read
      */
-    public boolean isPopulated() {
+    public boolean isPopulated() throws SQLException {
         LOGGER.debug("Checking if database is populated");
-        try (Statement statement = connection.createStatement()) {
-            ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM students");
-            if (!resultSet.next()) {
-                LOGGER.error("Failed to check if database is populated: ResultSet is empty");
-                return false;
-            }
-            int count = resultSet.getInt(1);
-            return count > 0;
+        try (Connection connection = getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT 1 FROM students LIMIT 1")) {
+            return resultSet.next();
         } catch (SQLException e) {
             LOGGER.error("Failed to check if database is populated", e);
-            return false;
+            throw new SQLException("Failed to check if database is populated", e);
+        }
+    }
+
+    /**
+     * Finds which of the given tables contain at least one row, reading a single row from each
+     * @param tables The names of the tables to check, which must be table names known to the application
+     * @return The tables that have rows, in the order given
+     * @throws SQLException if any table cannot be read
+     */
+    public List<String> findNonEmptyTables(final List<String> tables) throws SQLException {
+        List<String> nonEmpty = new ArrayList<>();
+        try (Connection connection = getConnection();
+                Statement statement = connection.createStatement()) {
+            for (String table : tables) {
+                try (ResultSet resultSet = statement.executeQuery("SELECT 1 FROM " + table + " LIMIT 1")) {
+                    if (resultSet.next()) {
+                        nonEmpty.add(table);
+                    }
+                }
+            }
         }
+        return nonEmpty;
     }
 }
@@ -0,0 +1,33 @@
+package sms.gradle.model.dao;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The number of rows removed from each table by a cascading delete
+ * @param rowsDeletedByTable The row counts keyed by table name, in the order the tables were deleted from
+ */
+public record DeletionReport(Map<String, Integer> rowsDeletedByTable) {
+
+    public DeletionReport {
+        rowsDeletedByTable = Collections.unmodifiableMap(new LinkedHashMap<>(rowsDeletedByTable));
+    }
+
+    /**
+     * Gets the number of rows deleted from a table
+     * @param table The table name
+     * @return The number of rows deleted, or 0 if the table was not part of the delete
+     */
+    public int rowsDeleted(final String table) {
+        return rowsDeletedByTable.getOrDefault(table, 0);
+    }
+
+    /**
+     * Gets the number of rows deleted across every table
+     * @return The total number of rows deleted
+     */
+    public int totalRowsDeleted() {
+        return rowsDeletedByTable.values().stream().mapToInt(Integer::intValue).sum();
+    }
+}
@@ -0,0 +1,182 @@
+package sms.gradle.model.dao;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A bounded read-through cache of entities keyed by ID, placed in front of a DAO's <code>findById</code>.
+ * Entries are evicted once the cache is full or once they are older than the configured time to live, and the
+ * DAO's update and delete methods invalidate the entries they change.
+ * <p>
+ * Only entities that were found are cached, so an ID that does not exist yet is looked up again next time.
+ * Each caller gets its own copy of a cached entity, so changing it does not change what other callers see.
+ * @param <T> The type of entity cached
+ */
+public final class EntityCache<T> {
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    /**
+     * Looks an entity up in the database on a cache miss, usually the DAO's uncached query
+     * @param <T> The type of entity found
+     */
+    @FunctionalInterface
+    interface Loader<T> {
+        Optional<T> load(int id) throws SQLException;
+    }
+
+    /**
+     * The size and age limits of a cache
+     * @param maximumSize The number of entities kept before the least recently used are evicted (0 disables caching)
+     * @param timeToLive How long an entity is kept after it was loaded
+     */
+    public record Config(long maximumSize, Duration timeToLive) {
+
+        public Config {
+            if (maximumSize < 0) {
+                throw new IllegalArgumentException(String.format("Invalid cache size: %d", maximumSize));
+            }
+            if (timeToLive == null || timeToLive.isNegative()) {
+                throw new IllegalArgumentException(String.format("Invalid cache time to live: %s", timeToLive));
+            }
+        }
+
+        /**
+         * Reads a cache's configuration from <code>sms.cache.&lt;name&gt;.*</code> system properties,
+         * falling back to the given defaults for any that are not set
+         * @param name The name of the cache, for example <code>courses</code>
+         * @param defaultMaximumSize The size used if <code>sms.cache.&lt;name&gt;.maxSize</code> is not set
+         * @param defaultTimeToLive The age used if <code>sms.cache.&lt;name&gt;.ttlSeconds</code> is not set
+         * @return The cache configuration
+         */
+        public static Config fromSystemProperties(
+                final String name, final long defaultMaximumSize, final Duration defaultTimeToLive) {
+            return new Config(
+                    Long.getLong("sms.cache." + name + ".maxSize", defaultMaximumSize),
+                    Duration.ofSeconds(
+                            Long.getLong("sms.cache." + name + ".ttlSeconds", defaultTimeToLive.toSeconds())));
+        }
+    }
+
+    /**
+     * A point-in-time snapshot of a cache's usage
+     * @param size The number of entities currently cached
+     * @param hits The number of lookups answered from the cache
+     * @param misses The number of lookups that went to the database
+     * @param evictions The number of entities evicted for size or age, not counting invalidations
+     */
+    public record Statistics(long size, long hits, long misses, long evictions) {
+
+        /**
+         * Gets the fraction of lookups answered from the cache
+         * @return The hit rate between 0 and 1, or 1 if there have been no lookups
+         */
+        public double hitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 1.0 : (double) hits / lookups;
+        }
+    }
+
+    private final String name;
+    private final Config config;
+    private final UnaryOperator<T> copier;
+    private final Cache<Integer, T> cache;
+    // Counts invalidations, so a load that overlapped one does not put the entity it read back in the cache
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * Creates an empty cache of immutable entities, which are handed out without being copied
+     * @param name The name of the cache, used in log messages and statistics
+     * @param config The size and age limits of the cache
+     */
+    EntityCache(final String name, final Config config) {
+        this(name, config, UnaryOperator.identity());
+    }
+
+    /**
+     * Creates an empty cache
+     * @param name The name of the cache, used in log messages and statistics
+     * @param config The size and age limits of the cache
+     * @param copier Copies an entity, so the cached copy is never shared with a caller
+     */
+    EntityCache(final String name, final Config config, final UnaryOperator<T> copier) {
+        this.name = name;
+        this.config = config;
+        this.copier = copier;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(config.maximumSize())
+                .expireAfterWrite(config.timeToLive())
+                .recordStats()
+                .build();
+        LOGGER.debug("Created {} cache {}", name, config);
+    }
+
+    /**
+     * Gets an entity from the cache, loading and caching it on a miss. If an entity is invalidated while the load
+     * is running, the load may have read the row before the change was committed, so what it read is returned but
+     * not kept.
+     * @param id The ID of the entity
+     * @param loader Looks the entity up in the database on a miss
+     * @return A copy of the entity, or an empty Optional if it does not exist
+     * @throws SQLException if the entity has to be loaded and the lookup fails
+     */
+    Optional<T> get(final int id, final Loader<T> loader) throws SQLException {
+        T cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(copier.apply(cached));
+        }
+        long generation = invalidations.get();
+        Optional<T> loaded = loader.load(id);
+        if (loaded.isPresent()) {
+            cache.put(id, copier.apply(loaded.get()));
+            // Checked after the put, so an invalidation either happened before this check or removes the entry
+            if (invalidations.get() != generation) {
+                cache.invalidate(id);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Removes an entity from the cache, so its next lookup reads it from the database. Called after the change
+     * has been committed.
+     * @param id The ID of the entity that changed
+     */
+    void invalidate(final int id) {
+        invalidations.incrementAndGet();
+        cache.invalidate(id);
+    }
+
+    /**
+     * Removes every entity from the cache
+     */
+    public void invalidateAll() {
+        LOGGER.debug("Invalidating {} cache", name);
+        invalidations.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Gets a snapshot of the cache's size, hits, misses and evictions
+     * @return The cache statistics
+     */
+    public Statistics getStatistics() {
+        CacheStats stats = cache.stats();
+        return new Statistics(cache.size(), stats.hitCount(), stats.missCount(), stats.evictionCount());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+}
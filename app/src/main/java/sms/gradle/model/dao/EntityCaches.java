@@ -0,0 +1,77 @@
+package sms.gradle.model.dao;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import sms.gradle.model.entities.Course;
+import sms.gradle.model.entities.Module;
+import sms.gradle.model.entities.Student;
+
+/**
+ * The <code>findById</code> caches of the DAOs for small, rarely changing tables. Each can be sized with the
+ * <code>sms.cache.&lt;name&gt;.maxSize</code> and <code>sms.cache.&lt;name&gt;.ttlSeconds</code> system properties.
+ */
+public final class EntityCaches {
+    static final EntityCache<Student> STUDENTS =
+            create("students", 5_000, Duration.ofMinutes(5), EntityCaches::copyStudent);
+    static final EntityCache<Course> COURSES =
+            create("courses", 1_000, Duration.ofMinutes(10), EntityCaches::copyCourse);
+    static final EntityCache<Module> MODULES =
+            create("modules", 1_000, Duration.ofMinutes(10), EntityCaches::copyModule);
+
+    private static final List<EntityCache<?>> ALL = List.of(STUDENTS, COURSES, MODULES);
+
+    private EntityCaches() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    private static <T> EntityCache<T> create(
+            final String name, final long maximumSize, final Duration timeToLive, final UnaryOperator<T> copier) {
+        return new EntityCache<>(
+                name, EntityCache.Config.fromSystemProperties(name, maximumSize, timeToLive), copier);
+    }
+
+    private static Student copyStudent(final Student student) {
+        return new Student(
+                student.getId(),
+                student.getFirstName(),
+                student.getLastName(),
+                student.getEmail(),
+                copyDate(student.getDateOfBirth()),
+                copyDate(student.getJoinDate()));
+    }
+
+    private static Course copyCourse(final Course course) {
+        return new Course(course.getId(), course.getName(), course.getDescription());
+    }
+
+    private static Module copyModule(final Module module) {
+        return new Module(
+                module.getId(), module.getName(), module.getDescription(), module.getLecturer(), module.getCourseId());
+    }
+
+    // java.sql.Date is mutable, so it is copied with the entity
+    private static Date copyDate(final Date date) {
+        return date == null ? null : new Date(date.getTime());
+    }
+
+    /**
+     * Gets a snapshot of every cache's size, hits, misses and evictions
+     * @return The statistics of each cache, keyed by cache name
+     */
+    public static Map<String, EntityCache.Statistics> getStatistics() {
+        Map<String, EntityCache.Statistics> statistics = new LinkedHashMap<>();
+        ALL.forEach(cache -> statistics.put(cache.getName(), cache.getStatistics()));
+        return statistics;
+    }
+
+    /**
+     * Empties every cache, for example after the database has been changed other than through the DAOs
+     */
+    public static void invalidateAll() {
+        ALL.forEach(EntityCache::invalidateAll);
+    }
+}
@@ -0,0 +1,76 @@
+package sms.gradle.model.dao;
+
+/**
+ * Grade statistics for a course, module, assessment or student, read from its grade summary
+ * @param studentCount The number of students enrolled in scope
+ * @param moduleCount The number of modules in scope
+ * @param assessmentCount The number of assessments in scope
+ * @param enrolledResultCount The number of graded results from students enrolled on the assessment's course
+ * @param resultCount The number of graded results
+ * @param passCount The number of those results at or above the passing grade
+ * @param gradeSum The sum of every grade
+ * @param gradeSumOfSquares The sum of the square of every grade
+ * @param lowestGrade The lowest grade, or 0 if there are no results
+ * @param highestGrade The highest grade, or 0 if there are no results
+ */
+public record GradeStatistics(
+        int studentCount,
+        int moduleCount,
+        int assessmentCount,
+        int enrolledResultCount,
+        int resultCount,
+        int passCount,
+        long gradeSum,
+        long gradeSumOfSquares,
+        int lowestGrade,
+        int highestGrade) {
+
+    public static final GradeStatistics EMPTY = new GradeStatistics(0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+
+    /**
+     * Checks whether any results were graded in scope
+     * @return true if there is at least one result
+     */
+    public boolean hasResults() {
+        return resultCount > 0;
+    }
+
+    /**
+     * Gets the mean grade
+     * @return The mean grade, or 0 if there are no results
+     */
+    public double averageGrade() {
+        return hasResults() ? (double) gradeSum / resultCount : 0.0;
+    }
+
+    /**
+     * Gets the population standard deviation of the grades
+     * @return The standard deviation, or 0 if there are no results
+     */
+    public double standardDeviation() {
+        if (!hasResults()) {
+            return 0.0;
+        }
+        double mean = averageGrade();
+        // Rounding can leave the variance of identical grades fractionally below zero
+        return Math.sqrt(Math.max(0.0, (double) gradeSumOfSquares / resultCount - mean * mean));
+    }
+
+    /**
+     * Gets the share of results at or above the passing grade
+     * @return The pass rate as a percentage, or 0 if there are no results
+     */
+    public double passRate() {
+        return hasResults() ? passCount * 100.0 / resultCount : 0.0;
+    }
+
+    /**
+     * Gets the share of expected results that have been graded, where every enrolled student is expected to
+     * complete every assessment in scope. Results from students who are not enrolled are not counted.
+     * @return The completion rate as a percentage, or 0 if no results are expected
+     */
+    public double completionRate() {
+        long expectedResults = (long) studentCount * assessmentCount;
+        return expectedResults > 0 ? enrolledResultCount * 100.0 / expectedResults : 0.0;
+    }
+}
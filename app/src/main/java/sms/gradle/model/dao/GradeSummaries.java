@@ -0,0 +1,460 @@
+package sms.gradle.model.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import sms.gradle.model.entities.Result;
+
+/**
+ * Maintains the materialized grade summary tables, which hold the result count, grade sum, sum of squares, pass
+ * count and grade range for every assessment, module, course and student. <code>GradeSummaryTrigger</code> keeps
+ * them current on every write to <code>results</code>, inside the writing transaction, so statistics panels read a
+ * single summary row instead of aggregating results. Bulk writes to <code>results</code> run through
+ * {@link #deferringUpdates}, which turns the per-row updates off and recomputes every summary the write touched with
+ * one set-based statement per table instead. This class also rebuilds the summaries from scratch and checks them
+ * against the <code>results</code> table. Statements run outside the trigger are reported through
+ * <code>JdbcTemplate</code> like any other DAO statement.
+ */
+public final class GradeSummaries {
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    private static final String SUMMARY_COLUMNS =
+            "result_count, grade_sum, grade_sum_squares, pass_count, lowest_grade, highest_grade";
+    // The modules and courses of the assessments whose results a bulk write changed
+    private static final String FIND_CHANGED_MODULES_SQL =
+            "SELECT DISTINCT module_id FROM assessments WHERE id = ANY(?)";
+    private static final String FIND_CHANGED_COURSES_SQL =
+            "SELECT DISTINCT m.course_id FROM assessments a JOIN modules m ON m.id = a.module_id WHERE a.id = ANY(?)";
+
+    // Set while a bulk write on this thread collects the results it changes. H2 fires triggers on the thread that
+    // runs the statement, so GradeSummaryTrigger sees it for the writes of that thread only
+    private static final ThreadLocal<ChangedResults> DEFERRED = new ThreadLocal<>();
+
+    /**
+     * A level that grades are summarized at, with how results are grouped into it
+     */
+    enum Scope {
+        ASSESSMENT("assessment_grade_summaries", "assessment_id", "r.assessment_id", "results r"),
+        MODULE(
+                "module_grade_summaries",
+                "module_id",
+                "a.module_id",
+                "results r JOIN assessments a ON a.id = r.assessment_id"),
+        COURSE(
+                "course_grade_summaries",
+                "course_id",
+                "m.course_id",
+                "results r JOIN assessments a ON a.id = r.assessment_id JOIN modules m ON m.id = a.module_id"),
+        STUDENT("student_grade_summaries", "student_id", "r.student_id", "results r");
+
+        private final String table;
+        private final String keyColumn;
+        private final String keyExpression;
+        private final String fromClause;
+
+        Scope(final String table, final String keyColumn, final String keyExpression, final String fromClause) {
+            this.table = table;
+            this.keyColumn = keyColumn;
+            this.keyExpression = keyExpression;
+            this.fromClause = fromClause;
+        }
+
+        String table() {
+            return table;
+        }
+
+        String keyColumn() {
+            return keyColumn;
+        }
+
+        /**
+         * Aggregates results into summary rows, one per key
+         */
+        private String aggregateSql(final String whereClause) {
+            return "SELECT " + keyExpression + ", COUNT(*), SUM(r.grade), SUM(CAST(r.grade AS BIGINT) * r.grade), "
+                    + "SUM(CASE WHEN r.grade >= " + Result.PASSING_GRADE + " THEN 1 ELSE 0 END), "
+                    + "MIN(r.grade), MAX(r.grade) "
+                    + "FROM " + fromClause + whereClause + " GROUP BY " + keyExpression;
+        }
+
+        String rebuildSql() {
+            return "INSERT INTO " + table + " (" + keyColumn + ", " + SUMMARY_COLUMNS + ") " + aggregateSql("");
+        }
+
+        String recomputeSql() {
+            return "INSERT INTO " + table + " (" + keyColumn + ", " + SUMMARY_COLUMNS + ") "
+                    + aggregateSql(" WHERE " + keyExpression + " = ?");
+        }
+
+        String deleteSql() {
+            return "DELETE FROM " + table + " WHERE " + keyColumn + " = ?";
+        }
+
+        String recomputeKeysSql() {
+            return "INSERT INTO " + table + " (" + keyColumn + ", " + SUMMARY_COLUMNS + ") "
+                    + aggregateSql(" WHERE " + keyExpression + " = ANY(?)");
+        }
+
+        String deleteKeysSql() {
+            return "DELETE FROM " + table + " WHERE " + keyColumn + " = ANY(?)";
+        }
+
+        String boundsSql() {
+            return "SELECT lowest_grade, highest_grade FROM " + table + " WHERE " + keyColumn + " = ?";
+        }
+
+        String applyDeltaSql() {
+            return "UPDATE " + table + " SET result_count = result_count + ?, grade_sum = grade_sum + ?, "
+                    + "grade_sum_squares = grade_sum_squares + ?, pass_count = pass_count + ?, "
+                    + "lowest_grade = LEAST(lowest_grade, COALESCE(CAST(? AS INT), lowest_grade)), "
+                    + "highest_grade = GREATEST(highest_grade, COALESCE(CAST(? AS INT), highest_grade)) "
+                    + "WHERE " + keyColumn + " = ?";
+        }
+
+        String insertSql() {
+            return "INSERT INTO " + table + " (" + keyColumn + ", " + SUMMARY_COLUMNS + ") "
+                    + "VALUES (?, 1, ?, ?, ?, ?, ?)";
+        }
+
+        /**
+         * Counts keys whose stored summary is missing, stale or left over compared to <code>results</code>
+         */
+        String mismatchSql() {
+            String expected = aggregateSql("");
+            String actual = "SELECT " + keyColumn + ", " + SUMMARY_COLUMNS + " FROM " + table;
+            return "SELECT COUNT(*) FROM ((" + expected + " EXCEPT " + actual + ") UNION ALL (" + actual + " EXCEPT "
+                    + expected + ")) mismatches";
+        }
+    }
+
+    /**
+     * The result of checking the summary tables against <code>results</code>
+     * @param mismatchesByTable The number of summary rows that are wrong or missing, keyed by summary table
+     */
+    public record ConsistencyReport(Map<String, Integer> mismatchesByTable) {
+
+        public ConsistencyReport {
+            mismatchesByTable = Collections.unmodifiableMap(new LinkedHashMap<>(mismatchesByTable));
+        }
+
+        /**
+         * Checks whether every summary table matches <code>results</code>
+         * @return true if no summary row is wrong or missing
+         */
+        public boolean isConsistent() {
+            return mismatchesByTable.values().stream().allMatch(mismatches -> mismatches == 0);
+        }
+    }
+
+    /**
+     * The assessments and students whose results a bulk write changed, collected by <code>GradeSummaryTrigger</code>
+     * in place of updating their summaries row by row
+     */
+    static final class ChangedResults {
+        private final Set<Integer> assessmentIds = new HashSet<>();
+        private final Set<Integer> studentIds = new HashSet<>();
+
+        void add(final int assessmentId, final int studentId) {
+            assessmentIds.add(assessmentId);
+            studentIds.add(studentId);
+        }
+    }
+
+    private GradeSummaries() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Rebuilds every summary table from <code>results</code> in a single transaction. Results written by other
+     * connections while the rebuild runs may be missed, so run it while the application is idle.
+     * @return The number of summary rows written
+     * @throws SQLException if the rebuild fails, in which case the existing summaries are kept
+     */
+    public static int rebuild() throws SQLException {
+        LOGGER.info("Rebuilding grade summaries");
+        try (Connection connection = DatabaseConnection.getInstance().getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                int rows = 0;
+                for (Scope scope : Scope.values()) {
+                    executeUpdate(connection, "DELETE FROM " + scope.table());
+                    rows += executeUpdate(connection, scope.rebuildSql());
+                }
+                connection.commit();
+                LOGGER.info("Rebuilt grade summaries with {} rows", rows);
+                return rows;
+            } catch (SQLException e) {
+                LOGGER.error("Failed to rebuild grade summaries, rolling back", e);
+                connection.rollback();
+                throw new SQLException("Failed to rebuild grade summaries", e);
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    /**
+     * Compares every summary table with the summaries aggregated from <code>results</code>
+     * @return The number of wrong or missing summary rows per table
+     * @throws SQLException if there is an error executing the queries
+     */
+    public static ConsistencyReport checkConsistency() throws SQLException {
+        LOGGER.debug("Checking grade summaries against results");
+        Map<String, Integer> mismatchesByTable = new LinkedHashMap<>();
+        try (Connection connection = DatabaseConnection.getInstance().getConnection()) {
+            for (Scope scope : Scope.values()) {
+                int mismatches = JdbcTemplate.timed(
+                        scope.mismatchSql(), List.of(), () -> countMismatches(connection, scope), count -> 1);
+                mismatchesByTable.put(scope.table(), mismatches);
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Failed to check grade summaries", e);
+            throw new SQLException("Failed to check grade summaries", e);
+        }
+        ConsistencyReport report = new ConsistencyReport(mismatchesByTable);
+        if (!report.isConsistent()) {
+            LOGGER.warn("Grade summaries do not match results: {}", report);
+        }
+        return report;
+    }
+
+    /**
+     * Runs one statement of the rebuild on its transaction's connection, reporting it through
+     * <code>JdbcTemplate</code>
+     * @return The number of rows affected
+     */
+    private static int executeUpdate(final Connection connection, final String sql) throws SQLException {
+        return JdbcTemplate.timed(
+                sql,
+                List.of(),
+                () -> {
+                    try (PreparedStatement updateSqlStatement = connection.prepareStatement(sql)) {
+                        return updateSqlStatement.executeUpdate();
+                    }
+                },
+                Integer::intValue);
+    }
+
+    /**
+     * Counts the summary rows of one table that don't match <code>results</code>
+     */
+    private static int countMismatches(final Connection connection, final Scope scope) throws SQLException {
+        try (PreparedStatement checkSqlStatement = connection.prepareStatement(scope.mismatchSql())) {
+            ResultSet resultSet = checkSqlStatement.executeQuery();
+            return resultSet.next() ? resultSet.getInt(1) : 0;
+        }
+    }
+
+    /**
+     * Gets the collector of the bulk write running on this thread, if there is one
+     * @return The results changed so far, or null if the summaries are being updated row by row
+     */
+    static ChangedResults deferredChanges() {
+        return DEFERRED.get();
+    }
+
+    /**
+     * Runs a bulk write to <code>results</code> with the trigger's per-row summary updates turned off, then
+     * recomputes every summary row the write touched. A write of many results costs a few statements per summary
+     * table rather than several per result. Call it on the connection of the writing transaction, before it
+     * commits, so the summaries commit or roll back with the write.
+     * @param connection The connection of the transaction making the change
+     * @param write Runs the write on that connection
+     * @return The result of the write
+     * @throws SQLException if the write or the recompute fails
+     */
+    static <R> R deferringUpdates(final Connection connection, final JdbcTemplate.TimedWork<R> write)
+            throws SQLException {
+        if (DEFERRED.get() != null) {
+            // Already inside a bulk write, which recomputes once it finishes
+            return write.execute();
+        }
+        ChangedResults changes = new ChangedResults();
+        DEFERRED.set(changes);
+        R result;
+        try {
+            result = write.execute();
+        } finally {
+            DEFERRED.remove();
+        }
+        recompute(connection, changes);
+        return result;
+    }
+
+    /**
+     * Recomputes the summary rows of every assessment, student, module and course a bulk write changed results of.
+     * Runs before the write's later statements, so the assessments of deleted results can still be looked up.
+     */
+    private static void recompute(final Connection connection, final ChangedResults changes) throws SQLException {
+        if (changes.assessmentIds.isEmpty()) {
+            return;
+        }
+        Integer[] assessmentIds = changes.assessmentIds.toArray(Integer[]::new);
+        LOGGER.debug(
+                "Recomputing grade summaries for {} assessments and {} students",
+                assessmentIds.length,
+                changes.studentIds.size());
+        recomputeKeys(connection, Scope.ASSESSMENT, assessmentIds);
+        recomputeKeys(connection, Scope.STUDENT, changes.studentIds.toArray(Integer[]::new));
+        recomputeKeys(connection, Scope.MODULE, findKeys(connection, FIND_CHANGED_MODULES_SQL, assessmentIds));
+        recomputeKeys(connection, Scope.COURSE, findKeys(connection, FIND_CHANGED_COURSES_SQL, assessmentIds));
+    }
+
+    /**
+     * Replaces the summary rows of a set of keys with rows aggregated from <code>results</code>
+     */
+    private static void recomputeKeys(final Connection connection, final Scope scope, final Integer[] keys)
+            throws SQLException {
+        if (keys.length == 0) {
+            return;
+        }
+        List<Object> reportedKeys = List.<Object>of(Arrays.asList(keys));
+        for (String sql : List.of(scope.deleteKeysSql(), scope.recomputeKeysSql())) {
+            JdbcTemplate.timed(
+                    sql,
+                    reportedKeys,
+                    () -> {
+                        try (PreparedStatement keysSqlStatement = connection.prepareStatement(sql)) {
+                            keysSqlStatement.setArray(1, connection.createArrayOf("INTEGER", keys));
+                            return keysSqlStatement.executeUpdate();
+                        }
+                    },
+                    Integer::intValue);
+        }
+    }
+
+    /**
+     * Looks up the module or course keys of a set of assessments
+     */
+    private static Integer[] findKeys(final Connection connection, final String sql, final Integer[] assessmentIds)
+            throws SQLException {
+        return JdbcTemplate.timed(
+                sql,
+                List.<Object>of(Arrays.asList(assessmentIds)),
+                () -> {
+                    List<Integer> keys = new ArrayList<>();
+                    try (PreparedStatement findSqlStatement = connection.prepareStatement(sql)) {
+                        findSqlStatement.setArray(1, connection.createArrayOf("INTEGER", assessmentIds));
+                        ResultSet resultSet = findSqlStatement.executeQuery();
+                        while (resultSet.next()) {
+                            keys.add(resultSet.getInt(1));
+                        }
+                    }
+                    return keys.toArray(Integer[]::new);
+                },
+                keys -> keys.length);
+    }
+
+    /**
+     * Applies a change to one result to a summary row. Removing a grade at either end of the stored range means
+     * the range can't be updated incrementally, so the row is recomputed from <code>results</code> instead, which
+     * already reflects the change when called from an AFTER trigger.
+     * @param connection The connection of the transaction making the change
+     * @param scope The summary level to update
+     * @param key The ID of the assessment, module, course or student the row summarizes
+     * @param oldGrade The grade being removed from the row, or null if a grade is only being added
+     * @param newGrade The grade being added to the row, or null if a grade is only being removed
+     * @throws SQLException if the summary row cannot be updated
+     */
+    static void applyChange(
+            final Connection connection,
+            final Scope scope,
+            final int key,
+            final Integer oldGrade,
+            final Integer newGrade)
+            throws SQLException {
+        if (oldGrade != null && isRangeBoundary(connection, scope, key, oldGrade)) {
+            recompute(connection, scope, key);
+            return;
+        }
+        if (applyDelta(connection, scope, key, oldGrade, newGrade) > 0 || newGrade == null) {
+            return;
+        }
+        try (PreparedStatement insertSqlStatement = connection.prepareStatement(scope.insertSql())) {
+            insertSqlStatement.setInt(1, key);
+            insertSqlStatement.setLong(2, newGrade);
+            insertSqlStatement.setLong(3, (long) newGrade * newGrade);
+            insertSqlStatement.setInt(4, newGrade >= Result.PASSING_GRADE ? 1 : 0);
+            insertSqlStatement.setInt(5, newGrade);
+            insertSqlStatement.setInt(6, newGrade);
+            insertSqlStatement.executeUpdate();
+        } catch (SQLException e) {
+            // Another transaction created the row first, so add to it instead
+            if (e.getErrorCode() != 23505) {
+                throw e;
+            }
+            applyDelta(connection, scope, key, null, newGrade);
+        }
+    }
+
+    /**
+     * Replaces a summary row with one aggregated from <code>results</code>, removing it if there are no results
+     * @param connection The connection of the transaction making the change
+     * @param scope The summary level to recompute
+     * @param key The ID of the assessment, module, course or student the row summarizes
+     * @throws SQLException if the summary row cannot be recomputed
+     */
+    static void recompute(final Connection connection, final Scope scope, final int key) throws SQLException {
+        try (PreparedStatement deleteSqlStatement = connection.prepareStatement(scope.deleteSql());
+                PreparedStatement recomputeSqlStatement = connection.prepareStatement(scope.recomputeSql())) {
+            deleteSqlStatement.setInt(1, key);
+            deleteSqlStatement.executeUpdate();
+            recomputeSqlStatement.setInt(1, key);
+            recomputeSqlStatement.executeUpdate();
+        }
+    }
+
+    /**
+     * Checks whether a grade sits at either end of a summary row's range, or the row is missing
+     */
+    private static boolean isRangeBoundary(
+            final Connection connection, final Scope scope, final int key, final int grade) throws SQLException {
+        try (PreparedStatement boundsSqlStatement = connection.prepareStatement(scope.boundsSql())) {
+            boundsSqlStatement.setInt(1, key);
+            ResultSet resultSet = boundsSqlStatement.executeQuery();
+            return !resultSet.next() || grade <= resultSet.getInt(1) || grade >= resultSet.getInt(2);
+        }
+    }
+
+    /**
+     * Adds the difference between two grades to a summary row
+     * @return The number of rows updated, 0 if the row doesn't exist yet
+     */
+    private static int applyDelta(
+            final Connection connection,
+            final Scope scope,
+            final int key,
+            final Integer oldGrade,
+            final Integer newGrade)
+            throws SQLException {
+        try (PreparedStatement updateSqlStatement = connection.prepareStatement(scope.applyDeltaSql())) {
+            updateSqlStatement.setInt(1, (newGrade != null ? 1 : 0) - (oldGrade != null ? 1 : 0));
+            updateSqlStatement.setLong(2, grade(newGrade) - grade(oldGrade));
+            updateSqlStatement.setLong(3, grade(newGrade) * grade(newGrade) - grade(oldGrade) * grade(oldGrade));
+            updateSqlStatement.setInt(4, passes(newGrade) - passes(oldGrade));
+            updateSqlStatement.setObject(5, newGrade);
+            updateSqlStatement.setObject(6, newGrade);
+            updateSqlStatement.setInt(7, key);
+            return updateSqlStatement.executeUpdate();
+        }
+    }
+
+    private static long grade(final Integer grade) {
+        return grade == null ? 0 : grade;
+    }
+
+    private static int passes(final Integer grade) {
+        return grade != null && grade >= Result.PASSING_GRADE ? 1 : 0;
+    }
+}
@@ -0,0 +1,164 @@
+package sms.gradle.model.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import org.h2.api.Trigger;
+import sms.gradle.model.dao.GradeSummaries.Scope;
+
+/**
+ * H2 trigger that keeps the grade summary tables current. It runs after every insert, update and delete on
+ * <code>results</code>, and after updates to <code>assessments</code> and <code>modules</code> that move an
+ * assessment to another module or a module to another course. H2 runs it inside the transaction that made the
+ * change, so the summaries commit or roll back with it. During a bulk write it only notes which results changed,
+ * and <code>GradeSummaries.deferringUpdates</code> recomputes their summaries once the write has run.
+ * Public only because H2 instantiates it by name; the application never calls it directly.
+ */
+public class GradeSummaryTrigger implements Trigger {
+    private static final String FIND_MODULE_AND_COURSE_SQL =
+            "SELECT a.module_id, m.course_id FROM assessments a JOIN modules m ON m.id = a.module_id WHERE a.id = ?";
+    private static final String FIND_COURSE_SQL = "SELECT course_id FROM modules WHERE id = ?";
+
+    private String tableName;
+    private final Map<String, Integer> columnIndexes = new HashMap<>();
+
+    @Override
+    public void init(
+            final Connection connection,
+            final String schemaName,
+            final String triggerName,
+            final String tableName,
+            final boolean before,
+            final int type)
+            throws SQLException {
+        this.tableName = tableName;
+        try (ResultSet columns = connection.getMetaData().getColumns(null, schemaName, tableName, null)) {
+            while (columns.next()) {
+                columnIndexes.put(columns.getString("COLUMN_NAME"), columns.getInt("ORDINAL_POSITION") - 1);
+            }
+        }
+    }
+
+    @Override
+    public void fire(final Connection connection, final Object[] oldRow, final Object[] newRow) throws SQLException {
+        switch (tableName) {
+            case "RESULTS" -> resultChanged(connection, oldRow, newRow);
+            case "ASSESSMENTS" -> assessmentChanged(connection, oldRow, newRow);
+            case "MODULES" -> moduleChanged(connection, oldRow, newRow);
+            default -> throw new SQLException(String.format("Grade summary trigger is not supported on %s", tableName));
+        }
+    }
+
+    /**
+     * Moves a result's grade out of the summaries it was in and into the summaries it is in now, or notes the change
+     * for the bulk write that made it
+     */
+    private void resultChanged(final Connection connection, final Object[] oldRow, final Object[] newRow)
+            throws SQLException {
+        GradeSummaries.ChangedResults deferred = GradeSummaries.deferredChanges();
+        if (deferred != null) {
+            for (Object[] row : new Object[][] {oldRow, newRow}) {
+                if (row != null) {
+                    deferred.add(value(row, "ASSESSMENT_ID"), value(row, "STUDENT_ID"));
+                }
+            }
+            return;
+        }
+        Map<Scope, Integer> oldKeys = oldRow == null ? Map.of() : summaryKeys(connection, oldRow);
+        Map<Scope, Integer> newKeys = newRow == null ? Map.of() : summaryKeys(connection, newRow);
+        Integer oldGrade = oldRow == null ? null : value(oldRow, "GRADE");
+        Integer newGrade = newRow == null ? null : value(newRow, "GRADE");
+
+        for (Scope scope : Scope.values()) {
+            Integer oldKey = oldKeys.get(scope);
+            Integer newKey = newKeys.get(scope);
+            if (oldKey != null && oldKey.equals(newKey)) {
+                if (!oldGrade.equals(newGrade)) {
+                    GradeSummaries.applyChange(connection, scope, oldKey, oldGrade, newGrade);
+                }
+                continue;
+            }
+            if (oldKey != null) {
+                GradeSummaries.applyChange(connection, scope, oldKey, oldGrade, null);
+            }
+            if (newKey != null) {
+                GradeSummaries.applyChange(connection, scope, newKey, null, newGrade);
+            }
+        }
+    }
+
+    /**
+     * Recomputes the module and course summaries on both sides when an assessment moves to another module
+     */
+    private void assessmentChanged(final Connection connection, final Object[] oldRow, final Object[] newRow)
+            throws SQLException {
+        if (oldRow == null || newRow == null) {
+            return;
+        }
+        int oldModuleId = value(oldRow, "MODULE_ID");
+        int newModuleId = value(newRow, "MODULE_ID");
+        if (oldModuleId == newModuleId) {
+            return;
+        }
+        GradeSummaries.recompute(connection, Scope.MODULE, oldModuleId);
+        GradeSummaries.recompute(connection, Scope.MODULE, newModuleId);
+        Integer oldCourseId = findCourseId(connection, oldModuleId);
+        Integer newCourseId = findCourseId(connection, newModuleId);
+        if (oldCourseId != null && !oldCourseId.equals(newCourseId)) {
+            GradeSummaries.recompute(connection, Scope.COURSE, oldCourseId);
+        }
+        if (newCourseId != null && !newCourseId.equals(oldCourseId)) {
+            GradeSummaries.recompute(connection, Scope.COURSE, newCourseId);
+        }
+    }
+
+    /**
+     * Recomputes the course summaries on both sides when a module moves to another course
+     */
+    private void moduleChanged(final Connection connection, final Object[] oldRow, final Object[] newRow)
+            throws SQLException {
+        if (oldRow == null || newRow == null) {
+            return;
+        }
+        int oldCourseId = value(oldRow, "COURSE_ID");
+        int newCourseId = value(newRow, "COURSE_ID");
+        if (oldCourseId != newCourseId) {
+            GradeSummaries.recompute(connection, Scope.COURSE, oldCourseId);
+            GradeSummaries.recompute(connection, Scope.COURSE, newCourseId);
+        }
+    }
+
+    /**
+     * Finds the key of every summary a result row belongs to
+     */
+    private Map<Scope, Integer> summaryKeys(final Connection connection, final Object[] row) throws SQLException {
+        int assessmentId = value(row, "ASSESSMENT_ID");
+        Map<Scope, Integer> keys = new HashMap<>();
+        keys.put(Scope.ASSESSMENT, assessmentId);
+        keys.put(Scope.STUDENT, value(row, "STUDENT_ID"));
+        try (PreparedStatement findSqlStatement = connection.prepareStatement(FIND_MODULE_AND_COURSE_SQL)) {
+            findSqlStatement.setInt(1, assessmentId);
+            ResultSet resultSet = findSqlStatement.executeQuery();
+            if (resultSet.next()) {
+                keys.put(Scope.MODULE, resultSet.getInt(1));
+                keys.put(Scope.COURSE, resultSet.getInt(2));
+            }
+        }
+        return keys;
+    }
+
+    private static Integer findCourseId(final Connection connection, final int moduleId) throws SQLException {
+        try (PreparedStatement findSqlStatement = connection.prepareStatement(FIND_COURSE_SQL)) {
+            findSqlStatement.setInt(1, moduleId);
+            ResultSet resultSet = findSqlStatement.executeQuery();
+            return resultSet.next() ? resultSet.getInt(1) : null;
+        }
+    }
+
+    private int value(final Object[] row, final String column) {
+        return ((Number) row[columnIndexes.get(column)]).intValue();
+    }
+}
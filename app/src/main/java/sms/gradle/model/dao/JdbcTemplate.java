@@ -0,0 +1,279 @@
+package sms.gradle.model.dao;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.ToIntFunction;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import sms.gradle.utils.jfr.DaoCallEvent;
+
+/**
+ * Runs a DAO statement from start to finish: borrows a connection, prepares and binds the statement, executes it,
+ * maps each row and closes the result set, statement and connection again. Every statement run through here is
+ * timed and reported to the registered {@link ExecutionListener}s, so metrics for every DAO query are collected
+ * in one place. Statements that have to share a connection, such as batches and transactions, report themselves
+ * through {@link #timed} instead.
+ * <p>
+ * The fetch size and query timeout are applied to every statement and can be set with the
+ * <code>sms.db.fetchSize</code> and <code>sms.db.queryTimeoutSeconds</code> system properties
+ * (both default to 0, which keeps the driver's behaviour).
+ */
+final class JdbcTemplate {
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    private static final int FETCH_SIZE = Integer.getInteger("sms.db.fetchSize", 0);
+    private static final int QUERY_TIMEOUT_SECONDS = Integer.getInteger("sms.db.queryTimeoutSeconds", 0);
+
+    // Every statement is recorded in the latency histograms and checked against the slow query threshold
+    private static final List<ExecutionListener> LISTENERS = new CopyOnWriteArrayList<>(
+            List.<ExecutionListener>of(QueryMetrics::record, SlowQueryLog.fromSystemProperties()));
+
+    /**
+     * Creates an item from the current row of a <code>ResultSet</code>
+     * @param <T> The type of item a row is mapped to
+     */
+    @FunctionalInterface
+    interface RowMapper<T> {
+        T mapRow(ResultSet resultSet) throws SQLException;
+    }
+
+    /**
+     * Binds the parameters of a write with a password, whose values must not be reported. Every other statement
+     * passes its values to the template so they are reported with it.
+     */
+    @FunctionalInterface
+    interface StatementBinder {
+        void bind(PreparedStatement statement) throws SQLException;
+    }
+
+    /**
+     * A statement that has finished running
+     * @param sql The SQL text of the statement
+     * @param parameters The values bound to the statement, or an empty list if they were bound by a
+     * <code>StatementBinder</code>
+     * @param elapsedNanos How long the statement took, including mapping its rows
+     * @param rowCount The number of rows read or affected, or 0 if it failed
+     * @param failed Whether the statement threw an exception
+     */
+    record Execution(String sql, List<Object> parameters, long elapsedNanos, int rowCount, boolean failed) {}
+
+    /**
+     * Told about every statement run through the template, on the thread that ran it
+     */
+    @FunctionalInterface
+    interface ExecutionListener {
+        void executed(Execution execution);
+    }
+
+    private JdbcTemplate() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Registers a listener to be told about every statement from now on
+     * @param listener The listener to add
+     */
+    static void addListener(final ExecutionListener listener) {
+        LISTENERS.add(listener);
+    }
+
+    /**
+     * Stops telling a listener about statements
+     * @param listener The listener to remove
+     */
+    static void removeListener(final ExecutionListener listener) {
+        LISTENERS.remove(listener);
+    }
+
+    /**
+     * Runs a query and maps every row
+     * @param sql The query to run
+     * @param mapper Maps each row to an item
+     * @param parameters The values bound to the query's placeholders, in order
+     * @return The items, in the order the rows were read
+     * @throws SQLException if the query fails
+     */
+    static <T> List<T> query(final String sql, final RowMapper<T> mapper, final Object... parameters)
+            throws SQLException {
+        return run(
+                sql,
+                parameters,
+                statement -> bind(statement, parameters),
+                statement -> {
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        List<T> items = new ArrayList<>();
+                        while (resultSet.next()) {
+                            items.add(mapper.mapRow(resultSet));
+                        }
+                        return items;
+                    }
+                },
+                List::size);
+    }
+
+    /**
+     * Runs a query and maps its first row, if there is one
+     * @param sql The query to run
+     * @param mapper Maps the row to an item
+     * @param parameters The values bound to the query's placeholders, in order
+     * @return The item for the first row, or an empty Optional if the query returned no rows
+     * @throws SQLException if the query fails
+     */
+    static <T> Optional<T> queryForOptional(final String sql, final RowMapper<T> mapper, final Object... parameters)
+            throws SQLException {
+        return run(
+                sql,
+                parameters,
+                statement -> bind(statement, parameters),
+                statement -> {
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        return resultSet.next() ? Optional.of(mapper.mapRow(resultSet)) : Optional.<T>empty();
+                    }
+                },
+                item -> item.isPresent() ? 1 : 0);
+    }
+
+    /**
+     * Runs an insert, update or delete
+     * @param sql The statement to run
+     * @param parameters The values bound to the statement's placeholders, in order
+     * @return The number of rows affected
+     * @throws SQLException if the statement fails
+     */
+    static int update(final String sql, final Object... parameters) throws SQLException {
+        return update(sql, parameters, statement -> bind(statement, parameters));
+    }
+
+    /**
+     * Runs a write with a password, whose parameters are bound by the caller and are not reported to listeners
+     * @param sql The statement to run
+     * @param binder Binds the statement's parameters
+     * @return The number of rows affected
+     * @throws SQLException if the statement fails
+     */
+    static int update(final String sql, final StatementBinder binder) throws SQLException {
+        return update(sql, new Object[0], binder);
+    }
+
+    private static int update(final String sql, final Object[] reportedParameters, final StatementBinder binder)
+            throws SQLException {
+        return run(sql, reportedParameters, binder, PreparedStatement::executeUpdate, Integer::intValue);
+    }
+
+    /**
+     * Binds each value with the setter for its type, so callers do not have to track placeholder indexes
+     * @param statement The statement to bind
+     * @param parameters The values for the statement's placeholders, in order
+     * @throws SQLException if a value cannot be bound
+     */
+    static void bind(final PreparedStatement statement, final Object... parameters) throws SQLException {
+        for (int i = 0; i < parameters.length; i++) {
+            int index = i + 1;
+            switch (parameters[i]) {
+                case null -> statement.setObject(index, null);
+                case Integer value -> statement.setInt(index, value);
+                case Long value -> statement.setLong(index, value);
+                case String value -> statement.setString(index, value);
+                case Date value -> statement.setDate(index, value);
+                default -> statement.setObject(index, parameters[i]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface StatementWork<R> {
+        R execute(PreparedStatement statement) throws SQLException;
+    }
+
+    /**
+     * Runs a statement on a connection the caller manages
+     * @param <R> The type of the statement's result
+     */
+    @FunctionalInterface
+    interface TimedWork<R> {
+        R execute() throws SQLException;
+    }
+
+    /**
+     * Times a statement that has to run on the caller's own connection, such as one batch of a bulk write or one
+     * step of a transaction, and reports it to the listeners like any statement run through the template
+     * @param sql The SQL text of the statement
+     * @param reportedParameters The values bound to the statement, or an empty list if they should not be reported
+     * @param work Runs the statement
+     * @param rowCounter Counts the rows read or affected from the result
+     * @return The result of the work
+     * @throws SQLException if the statement fails
+     */
+    static <R> R timed(
+            final String sql,
+            final List<Object> reportedParameters,
+            final TimedWork<R> work,
+            final ToIntFunction<R> rowCounter)
+            throws SQLException {
+        DaoCallEvent event = new DaoCallEvent();
+        event.begin();
+        long start = System.nanoTime();
+        int rowCount = 0;
+        boolean failed = true;
+        try {
+            R result = work.execute();
+            rowCount = rowCounter.applyAsInt(result);
+            failed = false;
+            return result;
+        } catch (SQLException e) {
+            LOGGER.debug("Statement failed: {} {}", sql, reportedParameters, e);
+            throw e;
+        } finally {
+            event.complete(sql, rowCount, failed);
+            notifyListeners(new Execution(sql, reportedParameters, System.nanoTime() - start, rowCount, failed));
+        }
+    }
+
+    /**
+     * Prepares, binds and runs a statement, timing it and telling the listeners once it finishes. A
+     * <code>DaoCallEvent</code> is recorded for it when a flight recording is running.
+     */
+    private static <R> R run(
+            final String sql,
+            final Object[] reportedParameters,
+            final StatementBinder binder,
+            final StatementWork<R> work,
+            final ToIntFunction<R> rowCounter)
+            throws SQLException {
+        return timed(
+                sql,
+                Arrays.asList(reportedParameters),
+                () -> {
+                    try (Connection connection = DatabaseConnection.getInstance().getConnection();
+                            PreparedStatement statement = connection.prepareStatement(sql)) {
+                        if (FETCH_SIZE > 0) {
+                            statement.setFetchSize(FETCH_SIZE);
+                        }
+                        if (QUERY_TIMEOUT_SECONDS > 0) {
+                            statement.setQueryTimeout(QUERY_TIMEOUT_SECONDS);
+                        }
+                        binder.bind(statement);
+                        return work.execute(statement);
+                    }
+                },
+                rowCounter);
+    }
+
+    private static void notifyListeners(final Execution execution) {
+        for (ExecutionListener listener : LISTENERS) {
+            try {
+                listener.executed(execution);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Statement listener {} failed", listener, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package sms.gradle.model.dao;
+
+/**
+ * The position of a row in a paged listing, given by the value of the column the listing is sorted on and the
+ * row's ID, which breaks ties between rows with the same sort value
+ * @param sortValue The row's value of the sort column
+ * @param id The row's ID
+ */
+public record Keyset(Object sortValue, int id) {}
@@ -0,0 +1,108 @@
+package sms.gradle.model.dao;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Reads pages of a table ordered by a sort column and then ID, seeking to the keyset with an index range instead
+ * of skipping rows with <code>OFFSET</code>. One extra row is read past the page to tell whether there are more.
+ */
+final class KeysetPager {
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    /**
+     * A table that can be paged, with the SQL for each kind of page built once up front
+     * @param <T> The type of item a row is read as
+     */
+    static final class Source<T> {
+        private final String table;
+        private final JdbcTemplate.RowMapper<T> mapper;
+        private final Function<T, Keyset> keysetOf;
+        private final String firstPageSql;
+        private final String lastPageSql;
+        private final String forwardSql;
+        private final String backwardSql;
+
+        /**
+         * @param table The table to page through
+         * @param columns The comma separated columns to select, in the order the mapper expects them
+         * @param sortColumn The column the listing is sorted on, which should be indexed
+         * @param mapper Reads a row of a page as an item
+         * @param keysetOf Gets an item's sort value and ID
+         */
+        Source(
+                final String table,
+                final String columns,
+                final String sortColumn,
+                final JdbcTemplate.RowMapper<T> mapper,
+                final Function<T, Keyset> keysetOf) {
+            this.table = table;
+            this.mapper = mapper;
+            this.keysetOf = keysetOf;
+            String select = "SELECT " + columns + " FROM " + table + " ";
+            String ascending = "ORDER BY " + sortColumn + ", id LIMIT ?";
+            String descending = "ORDER BY " + sortColumn + " DESC, id DESC LIMIT ?";
+            this.firstPageSql = select + ascending;
+            this.lastPageSql = select + descending;
+            // The leading range on the sort column alone lets H2 seek in its index
+            this.forwardSql = select + "WHERE " + sortColumn + " >= ? AND (" + sortColumn + " > ? OR id > ?) "
+                    + ascending;
+            this.backwardSql = select + "WHERE " + sortColumn + " <= ? AND (" + sortColumn + " < ? OR id < ?) "
+                    + descending;
+        }
+
+        String sql(final PageRequest request) {
+            boolean forward = request.direction() == PageRequest.Direction.FORWARD;
+            if (request.keyset() == null) {
+                return forward ? firstPageSql : lastPageSql;
+            }
+            return forward ? forwardSql : backwardSql;
+        }
+    }
+
+    private KeysetPager() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Reads one page of a table
+     * @param source The table to read from
+     * @param request The keyset, size and direction of the page
+     * @return The page, with its items in listing order
+     * @throws SQLException if there is an error executing the query
+     */
+    static <T> Page<T> findPage(final Source<T> source, final PageRequest request) throws SQLException {
+        LOGGER.debug("Finding page of {}: {}", source.table, request);
+        Keyset keyset = request.keyset();
+        Object[] parameters = keyset == null
+                ? new Object[] {request.size() + 1}
+                : new Object[] {keyset.sortValue(), keyset.sortValue(), keyset.id(), request.size() + 1};
+        try {
+            return toPage(JdbcTemplate.query(source.sql(request), source.mapper, parameters), source.keysetOf, request);
+        } catch (SQLException e) {
+            LOGGER.error("Failed to find page of {}: {}", source.table, request, e);
+            throw new SQLException(String.format("Failed to find a page of %s", source.table), e);
+        }
+    }
+
+    /**
+     * Trims the extra row read past the page and puts a backward page back into listing order
+     */
+    private static <T> Page<T> toPage(
+            final List<T> rows, final Function<T, Keyset> keysetOf, final PageRequest request) {
+        boolean hasMore = rows.size() > request.size();
+        List<T> items = new ArrayList<>(hasMore ? rows.subList(0, request.size()) : rows);
+        if (request.direction() == PageRequest.Direction.BACKWARD) {
+            Collections.reverse(items);
+        }
+        if (items.isEmpty()) {
+            return new Page<>(items, null, null, false);
+        }
+        return new Page<>(items, keysetOf.apply(items.get(0)), keysetOf.apply(items.get(items.size() - 1)), hasMore);
+    }
+}
@@ -0,0 +1,147 @@
+package sms.gradle.model.dao;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records how long a statement takes, in log-linear buckets of microseconds. Each power of two is split into four
+ * buckets, so a percentile is reported within about 25% of the true value while the histogram stays a fixed size
+ * however many executions are recorded. Recording is lock free and safe from any thread.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKETS = 4;
+    private static final int SUB_BUCKET_BITS = 2;
+    // Covers up to 2^40 microseconds, which is far beyond any statement timeout
+    private static final int BUCKETS = SUB_BUCKETS * 40;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * A point-in-time summary of a histogram
+     * @param count The number of executions recorded
+     * @param failures The number of those executions that failed
+     * @param rows The total rows read or affected
+     * @param totalNanos The total time spent in the executions
+     * @param p50Nanos The median execution time
+     * @param p95Nanos The 95th percentile execution time
+     * @param p99Nanos The 99th percentile execution time
+     * @param maxNanos The slowest execution time
+     */
+    public record Snapshot(
+            long count,
+            long failures,
+            long rows,
+            long totalNanos,
+            long p50Nanos,
+            long p95Nanos,
+            long p99Nanos,
+            long maxNanos) {
+
+        @Override
+        public String toString() {
+            return String.format(
+                    "count=%d failures=%d rows=%d total=%.1fms p50=%.2fms p95=%.2fms p99=%.2fms max=%.2fms",
+                    count,
+                    failures,
+                    rows,
+                    toMillis(totalNanos),
+                    toMillis(p50Nanos),
+                    toMillis(p95Nanos),
+                    toMillis(p99Nanos),
+                    toMillis(maxNanos));
+        }
+
+        private static double toMillis(final long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+
+    /**
+     * Records one execution
+     * @param elapsedNanos How long the execution took
+     * @param rowCount The number of rows it read or affected
+     * @param failed Whether it threw an exception
+     */
+    public void record(final long elapsedNanos, final int rowCount, final boolean failed) {
+        long nanos = Math.max(0, elapsedNanos);
+        buckets.incrementAndGet(bucketOf(nanos / 1_000));
+        if (failed) {
+            failures.increment();
+        }
+        rows.add(rowCount);
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    /**
+     * Summarises the executions recorded so far. Executions recorded while the snapshot is taken may be counted
+     * in some of its figures and not others.
+     * @return The snapshot
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        long recorded = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            recorded += counts[i];
+        }
+        long max = maxNanos.get();
+        return new Snapshot(
+                recorded,
+                failures.sum(),
+                rows.sum(),
+                totalNanos.sum(),
+                percentile(counts, recorded, 0.50, max),
+                percentile(counts, recorded, 0.95, max),
+                percentile(counts, recorded, 0.99, max),
+                max);
+    }
+
+    /**
+     * Finds the bucket a duration falls in. Durations below four microseconds get a bucket each, and every
+     * power of two above that is split into four equal buckets.
+     */
+    static int bucketOf(final long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) Math.max(0, micros);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return Math.min((exponent - 1) * SUB_BUCKETS + subBucket, BUCKETS - 1);
+    }
+
+    /**
+     * Gets the exclusive upper bound of a bucket in microseconds
+     */
+    static long upperBoundMicros(final int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket + 1;
+        }
+        int exponent = bucket / SUB_BUCKETS + 1;
+        int subBucket = bucket % SUB_BUCKETS;
+        return (long) (SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS);
+    }
+
+    /**
+     * Gets the upper bound of the bucket holding a percentile, capped at the slowest execution seen
+     */
+    private static long percentile(final long[] counts, final long recorded, final double fraction, final long max) {
+        if (recorded == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(fraction * recorded);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundMicros(i) * 1_000, max);
+            }
+        }
+        return max;
+    }
+}
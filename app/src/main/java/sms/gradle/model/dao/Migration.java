@@ -0,0 +1,57 @@
+package sms.gradle.model.dao;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * A single versioned change to the database schema
+ * @param version The schema version this migration upgrades the database to
+ * @param description A short description of the change, stored in the <code>schema_version</code> table
+ * @param statements The SQL statements to run, in order
+ * @param preconditions Checks that must find no rows before the statements are run
+ */
+public record Migration(int version, String description, List<String> statements, List<Precondition> preconditions) {
+
+    /**
+     * A query for rows that would stop a migration from applying, for example duplicates that a new unique
+     * constraint would reject. Rather than changing the data to fit, the migration is not applied and every row
+     * found is reported so it can be resolved by hand.
+     * @param description What the rows found have in common, for example "duplicate results"
+     * @param query The query returning the conflicting rows
+     */
+    public record Precondition(String description, String query) {}
+
+    public Migration {
+        if (version < 1) {
+            throw new IllegalArgumentException(String.format("Invalid migration version: %d", version));
+        }
+        statements = List.copyOf(statements);
+        preconditions = List.copyOf(preconditions);
+    }
+
+    /**
+     * Creates a migration with no preconditions
+     * @param version The schema version this migration upgrades the database to
+     * @param description A short description of the change
+     * @param statements The SQL statements to run, in order
+     */
+    public Migration(final int version, final String description, final List<String> statements) {
+        this(version, description, statements, List.of());
+    }
+
+    /**
+     * Calculates a checksum over the migration's SQL so that edits to an already applied migration can be detected.
+     * Whitespace at the start and end of each statement is ignored. Preconditions only read data, so they are not
+     * included.
+     * @return The CRC32 checksum of the migration's statements
+     */
+    public long checksum() {
+        CRC32 crc = new CRC32();
+        for (String statement : statements) {
+            crc.update(statement.strip().getBytes(StandardCharsets.UTF_8));
+            crc.update('\n');
+        }
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,32 @@
+package sms.gradle.model.dao;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import sms.gradle.model.entities.Assessment;
+import sms.gradle.model.entities.Module;
+
+/**
+ * A module together with its assessments, as returned by the grouped assessment lookups
+ * @param module The module
+ * @param assessments The module's assessments ordered by ID, empty if the module has none
+ */
+public record ModuleAssessments(Module module, List<Assessment> assessments) {
+
+    public ModuleAssessments {
+        assessments = Collections.unmodifiableList(assessments);
+    }
+
+    /**
+     * Flattens grouped assessments into a single list, keeping the module order
+     * @param groups The assessments grouped by module
+     * @return Every assessment across the groups
+     */
+    public static List<Assessment> allAssessments(final List<ModuleAssessments> groups) {
+        List<Assessment> assessments = new ArrayList<>();
+        for (ModuleAssessments group : groups) {
+            assessments.addAll(group.assessments());
+        }
+        return assessments;
+    }
+}
@@ -1,9 +1,8 @@
 package sms.gradle.model.dao;
 
-import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
@@ -13,48 +12,60 @@ import sms.gradle.model.entities.Module;
 public final class ModuleDAO {
     private static final Logger LOGGER = LogManager.getLogger();
 
+    private static final String INSERT_SQL =
+            "INSERT INTO modules (name, description, lecturer, course_id) VALUES (?, ?, ?, ?)";
+    private static final String UPDATE_SQL =
+            "UPDATE modules SET name = ?, description = ?, lecturer = ?, course_id = ? WHERE id = ?";
+    // Rows are read by position, so the readers below follow this column order
+    private static final String COLUMNS = "id, name, description, lecturer, course_id";
+    static final String FIND_BY_ID_SQL = "SELECT " + COLUMNS + " FROM modules WHERE id = ?";
+    static final String FIND_BY_NAME_SQL = "SELECT " + COLUMNS + " FROM modules WHERE name = ?";
+    static final String FIND_BY_LECTURER_SQL = "SELECT " + COLUMNS + " FROM modules WHERE lecturer = ?";
+    static final String FIND_BY_COURSE_ID_SQL = "SELECT " + COLUMNS + " FROM modules WHERE course_id = ?";
+
+    private static final List<CascadeDelete.Step> DELETE_MODULE_CASCADE = List.of(
+            new CascadeDelete.Step(
+                    "results",
+                    "DELETE FROM results WHERE assessment_id IN (SELECT id FROM assessments WHERE module_id = ?)"),
+            new CascadeDelete.Step("assessments", "DELETE FROM assessments WHERE module_id = ?"),
+            new CascadeDelete.Step("modules", "DELETE FROM modules WHERE id = ?"));
+
+    private static final List<CascadeDelete.Step> DELETE_COURSE_MODULES_CASCADE = List.of(
+            new CascadeDelete.Step(
+                    "results",
+                    """
+                    DELETE FROM results WHERE assessment_id IN (
+                        SELECT a.id FROM assessments a JOIN modules m ON a.module_id = m.id WHERE m.course_id = ?
+                    )"""),
+            new CascadeDelete.Step(
+                    "assessments",
+                    "DELETE FROM assessments WHERE module_id IN (SELECT id FROM modules WHERE course_id = ?)"),
+            new CascadeDelete.Step("modules", "DELETE FROM modules WHERE course_id = ?"));
+
+    private static final KeysetPager.Source<Module> PAGE_SOURCE = new KeysetPager.Source<>(
+            "modules",
+            COLUMNS,
+            "name",
+            ModuleDAO::readModule,
+            module -> new Keyset(module.getName(), module.getId()));
+
     private ModuleDAO() {
         throw new UnsupportedOperationException("This is a DAO class and cannot be instantiated");
     }
 
     /**
-     * Converts a <code>ResultSet</code> containing module data into a List of <code>Module</code> objects
-     * @param resultSet The ResultSet containing module data to convert
-     * @return A List of Module objects created from the ResultSet data
-     * @throws SQLException if there is an error accessing the ResultSet data
-     */
-    private static List<Module> getAllModulesFromResultSet(final ResultSet resultSet) throws SQLException {
-        LOGGER.debug("Converting ResultSet to List<Module>");
-        List<Module> modules = new ArrayList<>();
-        while (resultSet.next()) {
-            modules.add(new Module(
-                    resultSet.getInt("id"),
-                    resultSet.getString("name"),
-                    resultSet.getString("description"),
-                    resultSet.getString("lecturer"),
-                    resultSet.getInt("course_id")));
-        }
-        return modules;
-    }
-
-    /**
-     * Converts a <code>ResultSet</code> containing module data into a single <code>Optional<Module></code> object
-     * @param resultSet The ResultSet containing module data to convert
-     * @return An Optional containing the Module object if data is found, or an empty Optional if no data is found
+     * Creates a <code>Module</code> from the current <code>ResultSet</code> row
+     * @param resultSet The ResultSet positioned on a row of module data
+     * @return The Module for the current row
      * @throws SQLException if there is an error accessing the ResultSet data
      */
-    private static Optional<Module> getModuleFromResultSet(final ResultSet resultSet) throws SQLException {
-        LOGGER.debug("Converting ResultSet to Optional<Module>");
-        if (resultSet.next()) {
-            return Optional.of(new Module(
-                    resultSet.getInt("id"),
-                    resultSet.getString("name"),
-                    resultSet.getString("description"),
-                    resultSet.getString("lecturer"),
-                    resultSet.getInt("course_id")));
-        }
-        LOGGER.info("No module found in ResultSet");
-        return Optional.empty();
+    private static Module readModule(final ResultSet resultSet) throws SQLException {
+        return new Module(
+                resultSet.getInt(1),
+                resultSet.getString(2),
+                resultSet.getString(3),
+                resultSet.getString(4),
+                resultSet.getInt(5));
     }
 
     /**
@@ -64,15 +75,8 @@ public final class ModuleDAO {
      */
     public static void addModule(final Module module) throws SQLException {
         LOGGER.debug("Adding module to database {}", module);
-        final String sql = "INSERT INTO modules (name, description, lecturer, course_id) VALUES (?, ?, ?, ?)";
-        try (PreparedStatement addSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            addSqlStatement.setString(1, module.getName());
-            addSqlStatement.setString(2, module.getDescription());
-            addSqlStatement.setString(3, module.getLecturer());
-            addSqlStatement.setInt(4, module.getCourseId());
-            addSqlStatement.executeUpdate();
-
+        try {
+            JdbcTemplate.update(INSERT_SQL, insertParameters(module));
         } catch (SQLException e) {
             LOGGER.error("Failed to add module to database {}", module, e);
             throw new SQLException(String.format("Failed to add module: %s", module.toString()), e);
@@ -86,13 +90,16 @@ public final class ModuleDAO {
      * @throws SQLException if there is an error executing the query
      */
     public static Optional<Module> findById(final int id) throws SQLException {
+        return EntityCaches.MODULES.get(id, ModuleDAO::loadById);
+    }
+
+    /**
+     * Reads a module by its ID from the database, bypassing the cache
+     */
+    private static Optional<Module> loadById(final int id) throws SQLException {
         LOGGER.debug("Finding module by ID: {}", id);
-        final String sql = "SELECT * FROM modules WHERE id = ?";
-        try (PreparedStatement findSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            findSqlStatement.setInt(1, id);
-            ResultSet resultSet = findSqlStatement.executeQuery();
-            return getModuleFromResultSet(resultSet);
+        try {
+            return JdbcTemplate.queryForOptional(FIND_BY_ID_SQL, ModuleDAO::readModule, id);
         } catch (SQLException e) {
             LOGGER.error("Failed to find module by ID: {}", id, e);
             throw new SQLException(String.format("Failed to find module with Id: %d", id), e);
@@ -107,12 +114,8 @@ public final class ModuleDAO {
      */
     public static Optional<Module> findByName(final String name) throws SQLException {
         LOGGER.debug("Finding module by name: {}", name);
-        final String sql = "SELECT * FROM modules WHERE name = ?";
-        try (PreparedStatement findSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            findSqlStatement.setString(1, name);
-            ResultSet resultSet = findSqlStatement.executeQuery();
-            return getModuleFromResultSet(resultSet);
+        try {
+            return JdbcTemplate.queryForOptional(FIND_BY_NAME_SQL, ModuleDAO::readModule, name);
         } catch (SQLException e) {
             LOGGER.error("Failed to find module by name: {}", name, e);
             throw new SQLException(String.format("Failed to find module with name: %s", name), e);
@@ -127,12 +130,8 @@ public final class ModuleDAO {
      */
     public static List<Module> findByLecturer(final String lecturer) throws SQLException {
         LOGGER.debug("Finding module by lecturer: {}", lecturer);
-        final String sql = "SELECT * FROM modules WHERE lecturer = ?";
-        try (PreparedStatement findSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            findSqlStatement.setString(1, lecturer);
-            ResultSet resultSet = findSqlStatement.executeQuery();
-            return getAllModulesFromResultSet(resultSet);
+        try {
+            return JdbcTemplate.query(FIND_BY_LECTURER_SQL, ModuleDAO::readModule, lecturer);
         } catch (SQLException e) {
             LOGGER.error("Failed to find module by lecturer: {}", lecturer, e);
             throw new SQLException(String.format("Failed to find module with lecturer: %s", lecturer), e);
@@ -147,12 +146,8 @@ public final class ModuleDAO {
      */
     public static List<Module> findByCourseId(final int courseId) throws SQLException {
         LOGGER.debug("Finding module by course ID: {}", courseId);
-        final String sql = "SELECT * FROM modules WHERE course_id = ?";
-        try (PreparedStatement findSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            findSqlStatement.setInt(1, courseId);
-            ResultSet resultSet = findSqlStatement.executeQuery();
-            return getAllModulesFromResultSet(resultSet);
+        try {
+            return JdbcTemplate.query(FIND_BY_COURSE_ID_SQL, ModuleDAO::readModule, courseId);
         } catch (SQLException e) {
             LOGGER.error("Failed to find module by course ID: {}", courseId, e);
             throw new SQLException(String.format("Failed to find module with course_Id: %d", courseId), e);
@@ -166,17 +161,41 @@ public final class ModuleDAO {
      */
     public static List<Module> findAll() throws SQLException {
         LOGGER.debug("Finding all modules");
-        final String sql = "SELECT * FROM modules";
-        try (PreparedStatement findSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            ResultSet resultSet = findSqlStatement.executeQuery();
-            return getAllModulesFromResultSet(resultSet);
+        final String sql = "SELECT " + COLUMNS + " FROM modules";
+        try {
+            return JdbcTemplate.query(sql, ModuleDAO::readModule);
         } catch (SQLException e) {
             LOGGER.error("Failed to find all modules", e);
             throw new SQLException("Failed to find all modules", e);
         }
     }
 
+    /**
+     * Checks whether there is at least one module, reading a single row rather than the whole table
+     * @return true if any module exists
+     * @throws SQLException if there is an error executing the query
+     */
+    public static boolean hasAny() throws SQLException {
+        LOGGER.debug("Checking whether any modules exist");
+        final String sql = "SELECT 1 FROM modules LIMIT 1";
+        try {
+            return JdbcTemplate.queryForOptional(sql, resultSet -> resultSet.getInt(1)).isPresent();
+        } catch (SQLException e) {
+            LOGGER.error("Failed to check whether any modules exist", e);
+            throw new SQLException("Failed to check whether any modules exist", e);
+        }
+    }
+
+    /**
+     * Finds one page of modules, ordered by name and then ID
+     * @param request The keyset, size and direction of the page
+     * @return The page of modules
+     * @throws SQLException if there is an error executing the query
+     */
+    public static Page<Module> findPage(final PageRequest request) throws SQLException {
+        return KeysetPager.findPage(PAGE_SOURCE, request);
+    }
+
     /**
      * Updates a module in the database
      * @param module The Module object with updated information
@@ -185,54 +204,120 @@ public final class ModuleDAO {
      */
     public static int update(final Module module) throws SQLException {
         LOGGER.debug("Updating module: {}", module);
-        final String sql = "UPDATE modules SET name = ?, description = ?, lecturer = ?, course_id = ? WHERE id = ?";
-        try (PreparedStatement updateSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            updateSqlStatement.setString(1, module.getName());
-            updateSqlStatement.setString(2, module.getDescription());
-            updateSqlStatement.setString(3, module.getLecturer());
-            updateSqlStatement.setInt(4, module.getCourseId());
-            updateSqlStatement.setInt(5, module.getId());
-            return updateSqlStatement.executeUpdate();
+        try {
+            return JdbcTemplate.update(UPDATE_SQL, updateParameters(module));
         } catch (SQLException e) {
             LOGGER.error("Failed to update module: {}", module, e);
             throw new SQLException(String.format("Failed to update module with Id: %d", module.getId()), e);
+        } finally {
+            EntityCaches.MODULES.invalidate(module.getId());
+        }
+    }
+
+    /**
+     * Adds many modules to the database using JDBC batching, committing each batch in its own transaction
+     * @param modules The modules to add
+     * @return The IDs generated for the new modules, in the same order as the modules
+     * @throws SQLException if a batch fails, in which case that batch is rolled back but earlier batches stay committed
+     */
+    public static List<Integer> addAll(final Collection<Module> modules) throws SQLException {
+        LOGGER.debug("Adding {} modules to database", modules.size());
+        try {
+            return BatchWriter.insert(
+                    INSERT_SQL, List.copyOf(modules), ModuleDAO::insertParameters, BatchWriter.batchSize());
+        } catch (SQLException e) {
+            LOGGER.error("Failed to add {} modules to database", modules.size(), e);
+            throw new SQLException("Failed to add modules. " + e.getMessage(), e);
         }
     }
 
     /**
-     * Deletes a module from the database by its ID
+     * Updates many modules in the database using JDBC batching, committing each batch in its own transaction
+     * @param modules The modules with updated information
+     * @return The total number of rows affected
+     * @throws SQLException if a batch fails, in which case that batch is rolled back but earlier batches stay committed
+     */
+    public static int updateAll(final Collection<Module> modules) throws SQLException {
+        LOGGER.debug("Updating {} modules", modules.size());
+        try {
+            return BatchWriter.update(
+                    UPDATE_SQL, List.copyOf(modules), ModuleDAO::updateParameters, BatchWriter.batchSize());
+        } catch (SQLException e) {
+            LOGGER.error("Failed to update {} modules", modules.size(), e);
+            throw new SQLException("Failed to update modules. " + e.getMessage(), e);
+        } finally {
+            modules.forEach(module -> EntityCaches.MODULES.invalidate(module.getId()));
+        }
+    }
+
+    /**
+     * Deletes a module, along with its assessments and their results, from the database by its ID
      * @param id The ID of the module to delete
      * @return The number of rows affected (1 if successful, 0 if module not found)
      * @throws SQLException if there is an error executing the delete operation
      */
     public static int delete(final int id) throws SQLException {
+        return deleteCascade(id).rowsDeleted("modules");
+    }
+
+    /**
+     * Deletes a module together with its assessments and their results in a single transaction
+     * @param id The ID of the module to delete
+     * @return The number of rows deleted from each table
+     * @throws SQLException if there is an error executing the delete operation, in which case nothing is deleted
+     */
+    public static DeletionReport deleteCascade(final int id) throws SQLException {
         LOGGER.debug("Deleting module with ID: {}", id);
-        AssessmentDAO.deleteByModuleId(id);
-        final String sql = "DELETE FROM modules WHERE id = ?";
-        try (PreparedStatement deleteSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            deleteSqlStatement.setInt(1, id);
-            return deleteSqlStatement.executeUpdate();
+        try {
+            DeletionReport report = CascadeDelete.run(id, DELETE_MODULE_CASCADE);
+            LOGGER.info("Deleted module with ID: {} {}", id, report);
+            return report;
         } catch (SQLException e) {
             LOGGER.error("Failed to delete module with ID: {}", id, e);
             throw new SQLException(String.format("Failed to delete module with Id: %d", id), e);
+        } finally {
+            EntityCaches.MODULES.invalidate(id);
         }
     }
 
     /**
-     * Deletes all modules associated with a course ID
+     * Deletes all modules associated with a course ID, along with their assessments and results,
+     * in a single transaction
      * @param courseId The course ID of the modules to delete
      * @return The number of modules deleted
      * @throws SQLException if there is an error executing the delete operation
      */
     public static int deleteByCourseId(final int courseId) throws SQLException {
         LOGGER.debug("Deleting all modules associated with course ID: {}", courseId);
-        List<Module> modules = findByCourseId(courseId);
-        for (Module module : modules) {
-            delete(module.getId());
+        try {
+            DeletionReport report = CascadeDelete.run(courseId, DELETE_COURSE_MODULES_CASCADE);
+            LOGGER.info("Deleted modules associated with course ID: {} {}", courseId, report);
+            return report.rowsDeleted("modules");
+        } catch (SQLException e) {
+            LOGGER.error("Failed to delete modules by course ID: {}", courseId, e);
+            throw new SQLException(String.format("Failed to delete modules with course_Id: %d", courseId), e);
+        } finally {
+            EntityCaches.MODULES.invalidateAll();
         }
-        LOGGER.info("Deleted {} modules associated with course ID: {}", modules.size(), courseId);
-        return modules.size();
+    }
+
+    /**
+     * Lists the values of a module for the parameters of <code>INSERT_SQL</code>
+     */
+    private static Object[] insertParameters(final Module module) {
+        return new Object[] {module.getName(), module.getDescription(), module.getLecturer(), module.getCourseId()};
+    }
+
+    /**
+     * Lists the values of a module for the parameters of <code>UPDATE_SQL</code>
+     */
+    private static Object[] updateParameters(final Module module) {
+        return new Object[] {
+            module.getName(),
+            module.getDescription(),
+            module.getLecturer(),
+            module.getCourseId(),
+            module.getId()
+        };
     }
 }
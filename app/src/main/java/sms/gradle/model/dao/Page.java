@@ -0,0 +1,27 @@
+package sms.gradle.model.dao;
+
+import java.util.List;
+
+/**
+ * One page of a keyset paged listing. The items are always in listing order, whichever direction the page was
+ * read in.
+ * @param <T> The type of row in the listing
+ * @param items The rows in the page
+ * @param first The keyset of the first row, or null if the page is empty
+ * @param last The keyset of the last row, or null if the page is empty
+ * @param hasMore Whether there are more rows beyond this page in the direction it was read
+ */
+public record Page<T>(List<T> items, Keyset first, Keyset last, boolean hasMore) {
+
+    public Page {
+        items = List.copyOf(items);
+    }
+
+    /**
+     * Checks whether the page has no rows
+     * @return true if the page is empty
+     */
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+}
@@ -0,0 +1,64 @@
+package sms.gradle.model.dao;
+
+/**
+ * Asks a DAO for one page of a listing, relative to a keyset rather than an offset, so fetching a page deep into a
+ * large table costs the same as fetching the first
+ * @param keyset The row to start from, exclusive, or null to start from either end of the listing
+ * @param size The maximum number of rows in the page
+ * @param direction Whether the page follows or precedes the keyset
+ */
+public record PageRequest(Keyset keyset, int size, Direction direction) {
+
+    /**
+     * Which side of the keyset a page is read from
+     */
+    public enum Direction {
+        FORWARD,
+        BACKWARD
+    }
+
+    public PageRequest {
+        if (size < 1) {
+            throw new IllegalArgumentException(String.format("Invalid page size: %d", size));
+        }
+        if (direction == null) {
+            throw new IllegalArgumentException("A page request needs a direction");
+        }
+    }
+
+    /**
+     * Requests the first page of a listing
+     * @param size The maximum number of rows in the page
+     * @return The request for the first page
+     */
+    public static PageRequest first(final int size) {
+        return new PageRequest(null, size, Direction.FORWARD);
+    }
+
+    /**
+     * Requests the last page of a listing
+     * @param size The maximum number of rows in the page
+     * @return The request for the last page
+     */
+    public static PageRequest last(final int size) {
+        return new PageRequest(null, size, Direction.BACKWARD);
+    }
+
+    /**
+     * Requests the page after a page, with the same size as this request
+     * @param page The page to continue from
+     * @return The request for the following page
+     */
+    public PageRequest next(final Page<?> page) {
+        return new PageRequest(page.isEmpty() ? keyset : page.last(), size, Direction.FORWARD);
+    }
+
+    /**
+     * Requests the page before a page, with the same size as this request
+     * @param page The page to continue from
+     * @return The request for the preceding page
+     */
+    public PageRequest previous(final Page<?> page) {
+        return new PageRequest(page.isEmpty() ? keyset : page.first(), size, Direction.BACKWARD);
+    }
+}
@@ -0,0 +1,57 @@
+package sms.gradle.model.dao;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps a latency histogram for every distinct statement the DAOs run through <code>JdbcTemplate</code>, keyed by
+ * its SQL text, so the statements behind a slow screen can be found by their p95 and total time.
+ * <p>
+ * The SQL is the placeholder text, never the bound values, so the number of histograms is bounded by the
+ * number of statements in the code. Statements beyond <code>MAXIMUM_STATEMENTS</code> share one histogram.
+ */
+public final class QueryMetrics {
+    static final int MAXIMUM_STATEMENTS = 500;
+    static final String OTHER_STATEMENTS = "(other statements)";
+
+    private static final Map<String, LatencyHistogram> HISTOGRAMS = new ConcurrentHashMap<>();
+
+    private QueryMetrics() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Records a finished statement in its histogram
+     * @param execution The statement that finished
+     */
+    static void record(final JdbcTemplate.Execution execution) {
+        String sql = HISTOGRAMS.containsKey(execution.sql()) || HISTOGRAMS.size() < MAXIMUM_STATEMENTS
+                ? execution.sql()
+                : OTHER_STATEMENTS;
+        HISTOGRAMS
+                .computeIfAbsent(sql, key -> new LatencyHistogram())
+                .record(execution.elapsedNanos(), execution.rowCount(), execution.failed());
+    }
+
+    /**
+     * Gets a snapshot of every statement's latency, the statements that took the most time in total first
+     * @return The latency of each statement, keyed by its SQL
+     */
+    public static Map<String, LatencyHistogram.Snapshot> getSnapshots() {
+        Map<String, LatencyHistogram.Snapshot> snapshots = new LinkedHashMap<>();
+        HISTOGRAMS.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().snapshot()))
+                .sorted((first, second) ->
+                        Long.compare(second.getValue().totalNanos(), first.getValue().totalNanos()))
+                .forEach(entry -> snapshots.put(entry.getKey(), entry.getValue()));
+        return snapshots;
+    }
+
+    /**
+     * Forgets every recorded statement, for example before measuring a single screen
+     */
+    public static void reset() {
+        HISTOGRAMS.clear();
+    }
+}
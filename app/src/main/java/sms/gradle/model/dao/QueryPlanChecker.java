@@ -0,0 +1,145 @@
+package sms.gradle.model.dao;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Runs <code>EXPLAIN</code> on every filtered DAO lookup and reports any that H2 would answer with a
+ * full table scan, which usually means a migration is missing an index.
+ */
+public final class QueryPlanChecker {
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    // H2 marks a table scan in its plan output with a comment such as /* PUBLIC.RESULTS.tableScan */
+    private static final String TABLE_SCAN_MARKER = ".tableScan";
+
+    /**
+     * A DAO query to check, with sample parameters to bind so the query can be planned
+     * @param name The DAO method the query belongs to
+     * @param sql The SQL text of the query
+     * @param parameters Sample values for each parameter placeholder
+     */
+    public record Query(String name, String sql, List<Object> parameters) {}
+
+    /**
+     * The plan H2 chose for a query
+     * @param query The query that was explained
+     * @param plan The plan text returned by <code>EXPLAIN</code>
+     */
+    public record Report(Query query, String plan) {
+        public boolean isTableScan() {
+            return plan.contains(TABLE_SCAN_MARKER);
+        }
+    }
+
+    private static final Date SAMPLE_DATE = Date.valueOf("2025-01-01");
+    // A page after the first, which seeks to its keyset and so is the request that depends on an index
+    private static final PageRequest SAMPLE_PAGE =
+            new PageRequest(new Keyset("", 1), 50, PageRequest.Direction.FORWARD);
+    private static final List<Object> SAMPLE_PAGE_PARAMETERS = List.of("", "", 1, SAMPLE_PAGE.size() + 1);
+
+    /**
+     * The filtered lookups of the DAOs, using the SQL constants the DAOs run so the plans checked are the real ones
+     */
+    public static final List<Query> DAO_QUERIES = List.of(
+            new Query("StudentDAO.findById", StudentDAO.FIND_BY_ID_SQL, List.of(1)),
+            new Query("StudentDAO.findByEmail", StudentDAO.FIND_BY_EMAIL_SQL, List.of("")),
+            new Query("StudentDAO.verifyPassword", StudentDAO.VERIFY_PASSWORD_SQL, List.of("")),
+            new Query(
+                    "StudentDAO.findRosterByCourseId",
+                    String.format(StudentDAO.ROSTER_SQL, RosterOrder.LAST_NAME.orderByClause()),
+                    List.of(1, Integer.MAX_VALUE)),
+            new Query("StudentDAO.findPage", StudentDAO.PAGE_SOURCE.sql(SAMPLE_PAGE), SAMPLE_PAGE_PARAMETERS),
+            new Query("AdminDAO.findById", AdminDAO.FIND_BY_ID_SQL, List.of(1)),
+            new Query("AdminDAO.findByEmail", AdminDAO.FIND_BY_EMAIL_SQL, List.of("")),
+            new Query("AdminDAO.verifyPassword", AdminDAO.VERIFY_PASSWORD_SQL, List.of("")),
+            new Query("CredentialDAO.findByEmail", CredentialDAO.FIND_BY_EMAIL_SQL, List.of("")),
+            new Query("CourseDAO.findById", CourseDAO.FIND_BY_ID_SQL, List.of(1)),
+            new Query("CourseDAO.findByName", CourseDAO.FIND_BY_NAME_SQL, List.of("")),
+            new Query("ModuleDAO.findById", ModuleDAO.FIND_BY_ID_SQL, List.of(1)),
+            new Query("ModuleDAO.findByName", ModuleDAO.FIND_BY_NAME_SQL, List.of("")),
+            new Query("ModuleDAO.findByLecturer", ModuleDAO.FIND_BY_LECTURER_SQL, List.of("")),
+            new Query("ModuleDAO.findByCourseId", ModuleDAO.FIND_BY_COURSE_ID_SQL, List.of(1)),
+            new Query("AssessmentDAO.findById", AssessmentDAO.FIND_BY_ID_SQL, List.of(1)),
+            new Query("AssessmentDAO.findByName", AssessmentDAO.FIND_BY_NAME_SQL, List.of("")),
+            new Query("AssessmentDAO.findByDueDate", AssessmentDAO.FIND_BY_DUE_DATE_SQL, List.of(SAMPLE_DATE)),
+            new Query("AssessmentDAO.findPage", AssessmentDAO.PAGE_SOURCE.sql(SAMPLE_PAGE), SAMPLE_PAGE_PARAMETERS),
+            new Query("AssessmentDAO.findByModuleId", AssessmentDAO.FIND_BY_MODULE_ID_SQL, List.of(1)),
+            new Query(
+                    "AssessmentDAO.findByCourseIdGroupedByModule",
+                    AssessmentDAO.FIND_BY_COURSE_GROUPED_SQL,
+                    List.of(1)),
+            new Query(
+                    "AssessmentDAO.findByStudentIdGroupedByModule",
+                    AssessmentDAO.FIND_BY_STUDENT_GROUPED_SQL,
+                    List.of(1)),
+            new Query("CourseEnrollmentDAO.findById", CourseEnrollmentDAO.FIND_BY_ID_SQL, List.of(1)),
+            new Query("CourseEnrollmentDAO.findByStudentId", CourseEnrollmentDAO.FIND_BY_STUDENT_ID_SQL, List.of(1)),
+            new Query("CourseEnrollmentDAO.findByCourseId", CourseEnrollmentDAO.FIND_BY_COURSE_ID_SQL, List.of(1)),
+            new Query(
+                    "CourseEnrollmentDAO.findByStudentAndCourseId",
+                    CourseEnrollmentDAO.FIND_BY_STUDENT_AND_COURSE_ID_SQL,
+                    List.of(1, 1)),
+            new Query("ResultDAO.findById", ResultDAO.FIND_BY_ID_SQL, List.of(1)),
+            new Query("ResultDAO.findByStudentId", ResultDAO.FIND_BY_STUDENT_ID_SQL, List.of(1)),
+            new Query("ResultDAO.findByAssessmentId", ResultDAO.FIND_BY_ASSESSMENT_ID_SQL, List.of(1)),
+            new Query(
+                    "ResultDAO.findByStudentAndAssessment",
+                    ResultDAO.FIND_BY_STUDENT_AND_ASSESSMENT_SQL,
+                    List.of(1, 1)),
+            new Query("SettingDAO.findValue", SettingDAO.FIND_VALUE_SQL, List.of("")));
+
+    private QueryPlanChecker() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Explains each query and returns the plan H2 chose for it
+     * @param connection The connection to explain the queries on
+     * @param queries The queries to explain
+     * @return A report per query, in the same order
+     * @throws SQLException if a query cannot be explained
+     */
+    public static List<Report> explain(final Connection connection, final List<Query> queries) throws SQLException {
+        List<Report> reports = new ArrayList<>();
+        for (Query query : queries) {
+            try (PreparedStatement explainStatement = connection.prepareStatement("EXPLAIN " + query.sql())) {
+                for (int i = 0; i < query.parameters().size(); i++) {
+                    explainStatement.setObject(i + 1, query.parameters().get(i));
+                }
+                try (ResultSet resultSet = explainStatement.executeQuery()) {
+                    reports.add(new Report(query, resultSet.next() ? resultSet.getString(1) : ""));
+                }
+            } catch (SQLException e) {
+                LOGGER.error("Failed to explain query {}: {}", query.name(), query.sql(), e);
+                throw new SQLException(String.format("Failed to explain query: %s", query.name()), e);
+            }
+        }
+        return reports;
+    }
+
+    /**
+     * Explains every DAO lookup and logs a warning for each one that falls back to a table scan
+     * @param connection The connection to explain the queries on
+     * @return The queries that fall back to a table scan
+     * @throws SQLException if a query cannot be explained
+     */
+    public static List<Report> checkDaoQueries(final Connection connection) throws SQLException {
+        LOGGER.debug("Checking query plans for {} DAO queries", DAO_QUERIES.size());
+        List<Report> tableScans = explain(connection, DAO_QUERIES).stream()
+                .filter(Report::isTableScan)
+                .toList();
+        for (Report report : tableScans) {
+            LOGGER.warn("Query {} uses a table scan: {}", report.query().name(), report.plan());
+        }
+        LOGGER.info("Checked {} DAO query plans, {} use a table scan", DAO_QUERIES.size(), tableScans.size());
+        return tableScans;
+    }
+}
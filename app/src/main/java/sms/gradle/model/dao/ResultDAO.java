@@ -1,9 +1,8 @@
 package sms.gradle.model.dao;
 
-import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
@@ -16,51 +15,41 @@ import sms.gradle.model.entities.Result;
 public class ResultDAO {
     private static final Logger LOGGER = LogManager.getLogger(ResultDAO.class);
 
+    private static final String INSERT_SQL = "INSERT INTO results (student_id, assessment_id, grade) VALUES (?, ?, ?)";
+    private static final String UPDATE_SQL =
+            "UPDATE results SET student_id = ?, assessment_id = ?, grade = ? WHERE id = ?";
+    // Rows are read by position, so the readers below follow this column order
+    private static final String COLUMNS = "id, student_id, assessment_id, grade";
+    static final String FIND_BY_ID_SQL = "SELECT " + COLUMNS + " FROM results WHERE id = ?";
+    static final String FIND_BY_STUDENT_ID_SQL = "SELECT " + COLUMNS + " FROM results WHERE student_id = ?";
+    static final String FIND_BY_ASSESSMENT_ID_SQL = "SELECT " + COLUMNS + " FROM results WHERE assessment_id = ?";
+    static final String FIND_BY_STUDENT_AND_ASSESSMENT_SQL =
+            "SELECT " + COLUMNS + " FROM results WHERE student_id = ? AND assessment_id = ?";
+
+    private static final List<CascadeDelete.Step> DELETE_STUDENT_RESULTS =
+            List.of(new CascadeDelete.Step("results", "DELETE FROM results WHERE student_id = ?"));
+    private static final List<CascadeDelete.Step> DELETE_ASSESSMENT_RESULTS =
+            List.of(new CascadeDelete.Step("results", "DELETE FROM results WHERE assessment_id = ?"));
+
+    private static final KeysetPager.Source<Result> PAGE_SOURCE = new KeysetPager.Source<>(
+            "results",
+            COLUMNS,
+            "assessment_id",
+            ResultDAO::readResult,
+            result -> new Keyset(result.getAssessmentId(), result.getId()));
+
     private ResultDAO() {
         throw new UnsupportedOperationException("This is a DAO class and cannot be instantiated");
     }
 
     /**
-     * Converts a <code>ResultSet</code> containing result data into a List of <code>Result</code>
-     * objects
-     *
-     * @param resultSet The ResultSet containing result data to convert
-     * @return A List of Result objects created from the ResultSet data
+     * Creates a <code>Result</code> from the current <code>ResultSet</code> row
+     * @param resultSet The ResultSet positioned on a row of result data
+     * @return The Result for the current row
      * @throws SQLException if there is an error accessing the ResultSet data
      */
-    private static List<Result> getAllResultsFromResultSet(final ResultSet resultSet) throws SQLException {
-        LOGGER.debug("Converting ResultSet to List<Result>");
-        List<Result> results = new ArrayList<>();
-        while (resultSet.next()) {
-            results.add(new Result(
-                    resultSet.getInt("id"),
-                    resultSet.getInt("student_id"),
-                    resultSet.getInt("assessment_id"),
-                    resultSet.getInt("grade")));
-        }
-        return results;
-    }
-
-    /**
-     * Converts a <code>ResultSet</code> containing result data into a single
-     * <code>Optional<Result></code> object
-     *
-     * @param resultSet The ResultSet containing result data to convert
-     * @return An Optional containing the Result object if data is found, or an empty Optional if no
-     *         data is found
-     * @throws SQLException if there is an error accessing the ResultSet data
-     */
-    private static Optional<Result> getResultFromResultSet(final ResultSet resultSet) throws SQLException {
-        LOGGER.debug("Converting ResultSet to Optional<Result>");
-        if (resultSet.next()) {
-            return Optional.of(new Result(
-                    resultSet.getInt("id"),
-                    resultSet.getInt("student_id"),
-                    resultSet.getInt("assessment_id"),
-                    resultSet.getInt("grade")));
-        }
-        LOGGER.info("No result found in ResultSet");
-        return Optional.empty();
+    private static Result readResult(final ResultSet resultSet) throws SQLException {
+        return new Result(resultSet.getInt(1), resultSet.getInt(2), resultSet.getInt(3), resultSet.getInt(4));
     }
 
     /**
@@ -71,16 +60,18 @@ public class ResultDAO {
      */
     public static void addResult(final Result result) throws SQLException {
         LOGGER.debug("Adding result to database {}", result);
-        final String sql = "INSERT INTO results (student_id, assessment_id, grade) VALUES (?, ?, ?)";
-        try (PreparedStatement addSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            addSqlStatement.setInt(1, result.getStudentId());
-            addSqlStatement.setInt(2, result.getAssessmentId());
-            addSqlStatement.setInt(3, result.getGrade());
-            addSqlStatement.executeUpdate();
+        try {
+            JdbcTemplate.update(INSERT_SQL, insertParameters(result));
         } catch (SQLException e) {
             LOGGER.error("Failed to add result to database {}", result, e);
-            throw new SQLException(String.format("Failed to add result: %s", result.toString()), e);
+            switch (e.getErrorCode()) {
+                case 23505 -> throw new SQLException(
+                        String.format(
+                                "Student %d already has a result for assessment %d.",
+                                result.getStudentId(), result.getAssessmentId()),
+                        e);
+                default -> throw new SQLException(String.format("Failed to add result: %s", result.toString()), e);
+            }
         }
     }
 
@@ -93,12 +84,8 @@ public class ResultDAO {
      */
     public static Optional<Result> findById(final int id) throws SQLException {
         LOGGER.debug("Finding result by id: {}", id);
-        final String sql = "SELECT * FROM results WHERE id = ?";
-        try (PreparedStatement findSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            findSqlStatement.setInt(1, id);
-            ResultSet resultSet = findSqlStatement.executeQuery();
-            return getResultFromResultSet(resultSet);
+        try {
+            return JdbcTemplate.queryForOptional(FIND_BY_ID_SQL, ResultDAO::readResult, id);
         } catch (SQLException e) {
             LOGGER.error("Failed to find result by id: {}", id, e);
             throw new SQLException(String.format("Failed to find result with Id: %d", id), e);
@@ -114,12 +101,8 @@ public class ResultDAO {
      */
     public static List<Result> findByStudentId(final int studentId) throws SQLException {
         LOGGER.debug("Finding results by student id: {}", studentId);
-        final String sql = "SELECT * FROM results WHERE student_id = ?";
-        try (PreparedStatement findSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            findSqlStatement.setInt(1, studentId);
-            ResultSet resultSet = findSqlStatement.executeQuery();
-            return getAllResultsFromResultSet(resultSet);
+        try {
+            return JdbcTemplate.query(FIND_BY_STUDENT_ID_SQL, ResultDAO::readResult, studentId);
         } catch (SQLException e) {
             LOGGER.error("Failed to find results by student id: {}", studentId, e);
             throw new SQLException(String.format("Failed to find results for Student Id: %d", studentId), e);
@@ -135,12 +118,8 @@ public class ResultDAO {
      */
     public static List<Result> findByAssessmentId(final int assessmentId) throws SQLException {
         LOGGER.debug("Finding results by assessment id: {}", assessmentId);
-        final String sql = "SELECT * FROM results WHERE assessment_id = ?";
-        try (PreparedStatement findSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            findSqlStatement.setInt(1, assessmentId);
-            ResultSet resultSet = findSqlStatement.executeQuery();
-            return getAllResultsFromResultSet(resultSet);
+        try {
+            return JdbcTemplate.query(FIND_BY_ASSESSMENT_ID_SQL, ResultDAO::readResult, assessmentId);
         } catch (SQLException e) {
             LOGGER.error("Failed to find results by assessment id: {}", assessmentId, e);
             throw new SQLException(String.format("Failed to find result for assessment with Id: %d", assessmentId), e);
@@ -158,13 +137,9 @@ public class ResultDAO {
     public static Optional<Result> findByStudentAndAssessment(final int studentId, final int assessmentId)
             throws SQLException {
         LOGGER.debug("Finding result by student id: {} and assessment id: {}", studentId, assessmentId);
-        final String sql = "SELECT * FROM results WHERE student_id = ? AND assessment_id = ?";
-        try (PreparedStatement findSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            findSqlStatement.setInt(1, studentId);
-            findSqlStatement.setInt(2, assessmentId);
-            ResultSet resultSet = findSqlStatement.executeQuery();
-            return getResultFromResultSet(resultSet);
+        try {
+            return JdbcTemplate.queryForOptional(
+                    FIND_BY_STUDENT_AND_ASSESSMENT_SQL, ResultDAO::readResult, studentId, assessmentId);
         } catch (SQLException e) {
             LOGGER.error("Failed to find result by student id: {} and assessment id: {}", studentId, assessmentId, e);
             throw new SQLException(
@@ -182,17 +157,25 @@ public class ResultDAO {
      */
     public static List<Result> findAll() throws SQLException {
         LOGGER.debug("Finding all results");
-        final String sql = "SELECT * FROM results";
-        try (PreparedStatement findSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            ResultSet resultSet = findSqlStatement.executeQuery();
-            return getAllResultsFromResultSet(resultSet);
+        final String sql = "SELECT " + COLUMNS + " FROM results";
+        try {
+            return JdbcTemplate.query(sql, ResultDAO::readResult);
         } catch (SQLException e) {
             LOGGER.error("Failed to find all results", e);
             throw new SQLException("Failed to find all results", e);
         }
     }
 
+    /**
+     * Finds one page of results, ordered by assessment and then ID
+     * @param request The keyset, size and direction of the page
+     * @return The page of results
+     * @throws SQLException if there is an error executing the query
+     */
+    public static Page<Result> findPage(final PageRequest request) throws SQLException {
+        return KeysetPager.findPage(PAGE_SOURCE, request);
+    }
+
     /**
      * Updates a result in the database
      *
@@ -202,21 +185,52 @@ public class ResultDAO {
      */
     public static int update(final Result result) throws SQLException {
         LOGGER.debug("Updating result: {}", result);
-        final String sql = "UPDATE results SET student_id = ?, assessment_id = ?, grade = ? WHERE id = ?";
-        try (PreparedStatement updateSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            updateSqlStatement.setInt(1, result.getStudentId());
-            updateSqlStatement.setInt(2, result.getAssessmentId());
-            updateSqlStatement.setInt(3, result.getGrade());
-            updateSqlStatement.setInt(4, result.getId());
-
-            return updateSqlStatement.executeUpdate();
+        try {
+            return JdbcTemplate.update(UPDATE_SQL, updateParameters(result));
         } catch (SQLException e) {
             LOGGER.error("Failed to update result: {}", result, e);
             throw new SQLException(String.format("Failed to update result with Id: %d", result.getId()), e);
         }
     }
 
+    /**
+     * Adds many results to the database using JDBC batching, committing each batch in its own transaction
+     * @param results The results to add
+     * @return The IDs generated for the new results, in the same order as the results
+     * @throws SQLException if a batch fails, in which case that batch is rolled back but earlier batches stay committed
+     */
+    public static List<Integer> addAll(final Collection<Result> results) throws SQLException {
+        LOGGER.debug("Adding {} results to database", results.size());
+        try {
+            return BatchWriter.insert(
+                    INSERT_SQL, List.copyOf(results), ResultDAO::insertParameters, BatchWriter.batchSize());
+        } catch (SQLException e) {
+            LOGGER.error("Failed to add {} results to database", results.size(), e);
+            switch (e.getErrorCode()) {
+                case 23505 -> throw new SQLException(
+                        "A student already has a result for one of these assessments. " + e.getMessage(), e);
+                default -> throw new SQLException("Failed to add results. " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Updates many results in the database using JDBC batching, committing each batch in its own transaction
+     * @param results The results with updated information
+     * @return The total number of rows affected
+     * @throws SQLException if a batch fails, in which case that batch is rolled back but earlier batches stay committed
+     */
+    public static int updateAll(final Collection<Result> results) throws SQLException {
+        LOGGER.debug("Updating {} results", results.size());
+        try {
+            return BatchWriter.update(
+                    UPDATE_SQL, List.copyOf(results), ResultDAO::updateParameters, BatchWriter.batchSize());
+        } catch (SQLException e) {
+            LOGGER.error("Failed to update {} results", results.size(), e);
+            throw new SQLException("Failed to update results. " + e.getMessage(), e);
+        }
+    }
+
     /**
      * Deletes a result from the database by its ID
      *
@@ -227,10 +241,8 @@ public class ResultDAO {
     public static int delete(final int id) throws SQLException {
         LOGGER.debug("Deleting result with id: {}", id);
         final String sql = "DELETE FROM results WHERE id = ?";
-        try (PreparedStatement deleteSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            deleteSqlStatement.setInt(1, id);
-            return deleteSqlStatement.executeUpdate();
+        try {
+            return JdbcTemplate.update(sql, id);
         } catch (SQLException e) {
             LOGGER.error("Failed to delete result with id: {}", id, e);
             throw new SQLException(String.format("Failed to delete result with Id: %d", id), e);
@@ -238,7 +250,7 @@ public class ResultDAO {
     }
 
     /**
-     * Deletes results from the database by student ID
+     * Deletes results from the database by student ID, recomputing the grade summaries once for all of them
      *
      * @param studentId The ID of the student whose results to delete
      * @return The number of rows affected (number of results deleted)
@@ -246,16 +258,18 @@ public class ResultDAO {
      */
     public static int deleteByStudentId(final int studentId) throws SQLException {
         LOGGER.debug("Deleting results by student id: {}", studentId);
-        List<Result> results = findByStudentId(studentId);
-        for (Result result : results) {
-            delete(result.getId());
+        try {
+            int deleted = CascadeDelete.run(studentId, DELETE_STUDENT_RESULTS).rowsDeleted("results");
+            LOGGER.info("Deleted {} results for student id: {}", deleted, studentId);
+            return deleted;
+        } catch (SQLException e) {
+            LOGGER.error("Failed to delete results by student id: {}", studentId, e);
+            throw new SQLException(String.format("Failed to delete results for Student Id: %d", studentId), e);
         }
-        LOGGER.info("Deleted {} results for student id: {}", results.size(), studentId);
-        return results.size();
     }
 
     /**
-     * Deletes results from the database by assessment ID
+     * Deletes results from the database by assessment ID, recomputing the grade summaries once for all of them
      *
      * @param assessmentId The ID of the assessment whose results to delete
      * @return The number of rows affected (number of results deleted)
@@ -263,11 +277,28 @@ public class ResultDAO {
      */
     public static int deleteByAssessmentId(final int assessmentId) throws SQLException {
         LOGGER.debug("Deleting results by assessment id: {}", assessmentId);
-        List<Result> results = findByAssessmentId(assessmentId);
-        for (Result result : results) {
-            delete(result.getId());
+        try {
+            int deleted = CascadeDelete.run(assessmentId, DELETE_ASSESSMENT_RESULTS).rowsDeleted("results");
+            LOGGER.info("Deleted {} results for assessment id: {}", deleted, assessmentId);
+            return deleted;
+        } catch (SQLException e) {
+            LOGGER.error("Failed to delete results by assessment id: {}", assessmentId, e);
+            throw new SQLException(
+                    String.format("Failed to delete results for assessment with Id: %d", assessmentId), e);
         }
-        LOGGER.info("Deleted {} results for assessment id: {}", results.size(), assessmentId);
-        return results.size();
+    }
+
+    /**
+     * Lists the values of a result for the parameters of <code>INSERT_SQL</code>
+     */
+    private static Object[] insertParameters(final Result result) {
+        return new Object[] {result.getStudentId(), result.getAssessmentId(), result.getGrade()};
+    }
+
+    /**
+     * Lists the values of a result for the parameters of <code>UPDATE_SQL</code>
+     */
+    private static Object[] updateParameters(final Result result) {
+        return new Object[] {result.getStudentId(), result.getAssessmentId(), result.getGrade(), result.getId()};
     }
 }
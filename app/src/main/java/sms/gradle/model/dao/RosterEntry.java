@@ -0,0 +1,11 @@
+package sms.gradle.model.dao;
+
+import java.sql.Date;
+import sms.gradle.model.entities.Student;
+
+/**
+ * A student on a course roster, together with the date they enrolled on the course
+ * @param student The enrolled student
+ * @param enrollmentDate The date the student enrolled on the course
+ */
+public record RosterEntry(Student student, Date enrollmentDate) {}
@@ -0,0 +1,22 @@
+package sms.gradle.model.dao;
+
+/**
+ * The orderings a course roster can be returned in. Every ordering ends on a unique column so rows with equal
+ * sort keys come back in the same order each time, which keeps limited rosters stable.
+ */
+public enum RosterOrder {
+    LAST_NAME("s.last_name, s.first_name, s.id"),
+    FIRST_NAME("s.first_name, s.last_name, s.id"),
+    EMAIL("s.email"),
+    ENROLLMENT_DATE("ce.enrollment_date, s.id");
+
+    private final String orderByClause;
+
+    RosterOrder(final String orderByClause) {
+        this.orderByClause = orderByClause;
+    }
+
+    String orderByClause() {
+        return orderByClause;
+    }
+}
@@ -0,0 +1,253 @@
+package sms.gradle.model.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Brings the database schema up to date by applying versioned migrations in order.
+ * Applied migrations are recorded in the <code>schema_version</code> table together with a checksum,
+ * so a database that is already current only costs a single lookup at startup.
+ * <p>
+ * H2 commits each DDL statement as soon as it runs, so a migration that fails part way keeps the schema changes
+ * made before the failure and is applied again from the start on the next run. Every statement must therefore be
+ * safe to run twice, which is checked when the migrator is created: <code>CREATE</code> needs
+ * <code>IF NOT EXISTS</code> or <code>OR REPLACE</code>, <code>DROP</code> and <code>ALTER TABLE ... DROP</code> need
+ * <code>IF EXISTS</code>, <code>ALTER TABLE ... ADD</code> needs <code>IF NOT EXISTS</code>, renames are not allowed,
+ * and rows are written with <code>MERGE</code> rather than <code>INSERT</code>.
+ */
+public final class SchemaMigrator {
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    static final String CREATE_SCHEMA_VERSION_TABLE =
+            """
+        CREATE TABLE IF NOT EXISTS schema_version (
+            version INT PRIMARY KEY,
+            description VARCHAR(255) NOT NULL,
+            checksum BIGINT NOT NULL,
+            installed_on TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+            execution_time_ms BIGINT NOT NULL
+        );
+        """;
+
+    private static final Pattern CREATE = Pattern.compile("^CREATE\\b");
+    private static final Pattern RERUNNABLE_CREATE =
+            Pattern.compile("^CREATE\\s+(OR\\s+REPLACE\\b|(UNIQUE\\s+)?\\w+\\s+IF\\s+NOT\\s+EXISTS\\b)");
+    private static final Pattern DROP = Pattern.compile("^DROP\\b");
+    private static final Pattern RERUNNABLE_DROP = Pattern.compile("^DROP\\s+\\w+\\s+IF\\s+EXISTS\\b");
+    private static final Pattern ALTER_TABLE_ADD = Pattern.compile("^ALTER\\s+TABLE\\s+\\S+\\s+ADD\\b");
+    private static final Pattern RERUNNABLE_ALTER_TABLE_ADD = Pattern.compile(
+            "^ALTER\\s+TABLE\\s+\\S+\\s+ADD\\s+((COLUMN|CONSTRAINT)\\s+)?IF\\s+NOT\\s+EXISTS\\b");
+    private static final Pattern ALTER_TABLE_DROP = Pattern.compile("^ALTER\\s+TABLE\\s+\\S+\\s+DROP\\b");
+    private static final Pattern RERUNNABLE_ALTER_TABLE_DROP =
+            Pattern.compile("^ALTER\\s+TABLE\\s+\\S+\\s+DROP\\s+((COLUMN|CONSTRAINT)\\s+)?IF\\s+EXISTS\\b");
+    private static final Pattern RENAME = Pattern.compile("^ALTER\\s+\\w+\\s+\\S+\\s+RENAME\\b");
+    private static final Pattern INSERT = Pattern.compile("^INSERT\\b");
+
+    private final List<Migration> migrations;
+
+    /**
+     * Creates a migrator for the given migrations
+     * @param migrations The migrations that make up the schema, which must have unique versions and only contain
+     *     statements that are safe to run again
+     * @throws IllegalArgumentException if two migrations share a version or a statement can't be run again
+     */
+    public SchemaMigrator(final List<Migration> migrations) {
+        List<Migration> sorted = new ArrayList<>(migrations);
+        sorted.sort(Comparator.comparingInt(Migration::version));
+        for (int i = 1; i < sorted.size(); i++) {
+            if (sorted.get(i).version() == sorted.get(i - 1).version()) {
+                throw new IllegalArgumentException(
+                        String.format("Duplicate migration version: %d", sorted.get(i).version()));
+            }
+        }
+        sorted.forEach(SchemaMigrator::checkRerunnable);
+        this.migrations = List.copyOf(sorted);
+    }
+
+    /**
+     * Checks that every statement in a migration leaves the schema the same if it is run a second time
+     * @param migration The migration to check
+     * @throws IllegalArgumentException if a statement would fail or change the schema again when re-run
+     */
+    private static void checkRerunnable(final Migration migration) {
+        for (String statement : migration.statements()) {
+            String sql = statement.strip().toUpperCase(Locale.ROOT);
+            boolean rerunnable = guarded(sql, CREATE, RERUNNABLE_CREATE)
+                    && guarded(sql, DROP, RERUNNABLE_DROP)
+                    && guarded(sql, ALTER_TABLE_ADD, RERUNNABLE_ALTER_TABLE_ADD)
+                    && guarded(sql, ALTER_TABLE_DROP, RERUNNABLE_ALTER_TABLE_DROP)
+                    && !RENAME.matcher(sql).find()
+                    && !INSERT.matcher(sql).find();
+            if (!rerunnable) {
+                throw new IllegalArgumentException(String.format(
+                        "Migration %d (%s) has a statement that is not safe to run again: %s",
+                        migration.version(), migration.description(), statement.strip()));
+            }
+        }
+    }
+
+    /**
+     * Gets the version the schema will be at once every migration has been applied
+     * @return The latest migration version, or 0 if there are no migrations
+     */
+    public int getLatestVersion() {
+        return migrations.isEmpty() ? 0 : migrations.get(migrations.size() - 1).version();
+    }
+
+    /**
+     * Validates the checksums of applied migrations and applies any pending migrations in order
+     * @param connection The connection to migrate the schema on
+     * @return The number of migrations applied
+     * @throws SQLException if an applied migration has been modified or a pending migration fails
+     */
+    public int migrate(final Connection connection) throws SQLException {
+        LOGGER.debug("Checking database schema version");
+        Map<Integer, Long> appliedChecksums = findAppliedChecksums(connection);
+        validateChecksums(appliedChecksums);
+
+        List<Migration> pending = migrations.stream()
+                .filter(migration -> !appliedChecksums.containsKey(migration.version()))
+                .toList();
+        if (pending.isEmpty()) {
+            LOGGER.info("Database schema is up to date at version {}", getLatestVersion());
+            return 0;
+        }
+
+        for (Migration migration : pending) {
+            apply(connection, migration);
+        }
+        LOGGER.info("Migrated database schema to version {}", getLatestVersion());
+        return pending.size();
+    }
+
+    /**
+     * Checks that a statement of the given kind uses its form that can be run again
+     * @param sql The upper case statement
+     * @param kind Matches the kind of statement the rule applies to
+     * @param rerunnableForm Matches the form of that statement that can be run again
+     * @return true if the statement is not of that kind or uses the form that can be run again
+     */
+    private static boolean guarded(final String sql, final Pattern kind, final Pattern rerunnableForm) {
+        return !kind.matcher(sql).find() || rerunnableForm.matcher(sql).find();
+    }
+
+    /**
+     * Reads the version and checksum of every applied migration, creating the
+     * <code>schema_version</code> table first if it doesn't exist
+     * @param connection The connection to read from
+     * @return A map of applied migration versions to their checksums
+     * @throws SQLException if there is an error executing the query
+     */
+    private Map<Integer, Long> findAppliedChecksums(final Connection connection) throws SQLException {
+        Map<Integer, Long> appliedChecksums = new HashMap<>();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_SCHEMA_VERSION_TABLE);
+            try (ResultSet resultSet = statement.executeQuery("SELECT version, checksum FROM schema_version")) {
+                while (resultSet.next()) {
+                    appliedChecksums.put(resultSet.getInt(1), resultSet.getLong(2));
+                }
+            }
+        }
+        return appliedChecksums;
+    }
+
+    /**
+     * Checks that no applied migration has been changed since it was applied
+     * @param appliedChecksums The applied migration versions and their recorded checksums
+     * @throws SQLException if a checksum doesn't match
+     */
+    private void validateChecksums(final Map<Integer, Long> appliedChecksums) throws SQLException {
+        for (Migration migration : migrations) {
+            Long appliedChecksum = appliedChecksums.get(migration.version());
+            if (appliedChecksum != null && appliedChecksum != migration.checksum()) {
+                LOGGER.error("Checksum mismatch for applied migration {}", migration.version());
+                throw new SQLException(String.format(
+                        "Migration %d (%s) has been modified after it was applied",
+                        migration.version(), migration.description()));
+            }
+        }
+    }
+
+    /**
+     * Runs a migration's preconditions, logging every conflicting row found
+     * @param connection The connection the migration will be applied on
+     * @param migration The migration about to be applied
+     * @throws SQLException if any precondition finds rows, in which case none of the migration is applied
+     */
+    private void checkPreconditions(final Connection connection, final Migration migration) throws SQLException {
+        for (Migration.Precondition precondition : migration.preconditions()) {
+            List<String> conflicts = new ArrayList<>();
+            try (Statement statement = connection.createStatement();
+                    ResultSet resultSet = statement.executeQuery(precondition.query())) {
+                ResultSetMetaData metaData = resultSet.getMetaData();
+                while (resultSet.next()) {
+                    List<String> columns = new ArrayList<>();
+                    for (int column = 1; column <= metaData.getColumnCount(); column++) {
+                        columns.add(metaData.getColumnLabel(column) + "=" + resultSet.getObject(column));
+                    }
+                    conflicts.add(String.join(", ", columns));
+                }
+            }
+            if (conflicts.isEmpty()) {
+                continue;
+            }
+            for (String conflict : conflicts) {
+                LOGGER.error(
+                        "Migration {} blocked by {}: {}", migration.version(), precondition.description(), conflict);
+            }
+            throw new SQLException(String.format(
+                    "Migration %d (%s) cannot be applied: found %d %s, which must be resolved before restarting",
+                    migration.version(), migration.description(), conflicts.size(), precondition.description()));
+        }
+    }
+
+    /**
+     * Runs a migration's statements and records it in the <code>schema_version</code> table. They run in one
+     * transaction, but that only rolls back data changes: DDL statements that ran before a failure stay committed,
+     * which is why migrations must be safe to run again.
+     * @param connection The connection to apply the migration on
+     * @param migration The migration to apply
+     * @throws SQLException if any statement fails, in which case the migration is not recorded as applied
+     */
+    private void apply(final Connection connection, final Migration migration) throws SQLException {
+        LOGGER.info("Applying migration {}: {}", migration.version(), migration.description());
+        checkPreconditions(connection, migration);
+        long start = System.nanoTime();
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement();
+                PreparedStatement recordStatement = connection.prepareStatement(
+                        "INSERT INTO schema_version (version, description, checksum, execution_time_ms) VALUES (?, ?, ?, ?)")) {
+            for (String sql : migration.statements()) {
+                statement.execute(sql);
+            }
+            recordStatement.setInt(1, migration.version());
+            recordStatement.setString(2, migration.description());
+            recordStatement.setLong(3, migration.checksum());
+            recordStatement.setLong(4, (System.nanoTime() - start) / 1_000_000);
+            recordStatement.executeUpdate();
+            connection.commit();
+        } catch (SQLException e) {
+            LOGGER.error("Failed to apply migration {}", migration.version(), e);
+            connection.rollback();
+            throw new SQLException(
+                    String.format("Failed to apply migration %d: %s", migration.version(), migration.description()),
+                    e);
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+}
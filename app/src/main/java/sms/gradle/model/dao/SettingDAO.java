@@ -0,0 +1,52 @@
+package sms.gradle.model.dao;
+
+import java.sql.SQLException;
+import java.util.Optional;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Reads and writes named application settings, such as whether the sample data has finished being generated
+ */
+public final class SettingDAO {
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    static final String FIND_VALUE_SQL = "SELECT setting_value FROM settings WHERE name = ?";
+
+    private SettingDAO() {
+        throw new UnsupportedOperationException("This is a DAO class and cannot be instantiated");
+    }
+
+    /**
+     * Finds the value of a setting
+     * @param name The name of the setting
+     * @return An Optional containing the setting's value, or an empty Optional if it has never been set
+     * @throws SQLException if there is an error executing the query
+     */
+    public static Optional<String> findValue(final String name) throws SQLException {
+        LOGGER.debug("Finding setting: {}", name);
+        try {
+            return JdbcTemplate.queryForOptional(FIND_VALUE_SQL, resultSet -> resultSet.getString(1), name);
+        } catch (SQLException e) {
+            LOGGER.error("Failed to find setting: {}", name, e);
+            throw new SQLException(String.format("Failed to find setting: %s", name), e);
+        }
+    }
+
+    /**
+     * Sets the value of a setting, replacing any value it already has
+     * @param name The name of the setting
+     * @param value The new value
+     * @throws SQLException if there is an error executing the statement
+     */
+    public static void setValue(final String name, final String value) throws SQLException {
+        LOGGER.debug("Setting {} to {}", name, value);
+        final String sql = "MERGE INTO settings (name, setting_value) KEY (name) VALUES (?, ?)";
+        try {
+            JdbcTemplate.update(sql, name, value);
+        } catch (SQLException e) {
+            LOGGER.error("Failed to set setting: {}", name, e);
+            throw new SQLException(String.format("Failed to set setting: %s", name), e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package sms.gradle.model.dao;
+
+import java.time.Duration;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Writes every statement slower than a threshold to the <code>SlowQueries</code> logger with its bound parameters,
+ * which <code>log4j2.xml</code> sends to its own file. Writes with a password are bound by a
+ * <code>StatementBinder</code> and are logged without their parameters.
+ * <p>
+ * The threshold is set with the <code>sms.db.slowQueryThresholdMillis</code> system property (default 200,
+ * 0 disables the log).
+ */
+final class SlowQueryLog implements JdbcTemplate.ExecutionListener {
+    private static final Logger LOGGER = LogManager.getLogger("SlowQueries");
+
+    private final long thresholdNanos;
+
+    /**
+     * @param threshold Statements taking at least this long are logged, or zero to log nothing
+     */
+    SlowQueryLog(final Duration threshold) {
+        this.thresholdNanos = threshold.toNanos();
+    }
+
+    /**
+     * Creates the log with the threshold set by <code>sms.db.slowQueryThresholdMillis</code>
+     * @return The slow query log
+     */
+    static SlowQueryLog fromSystemProperties() {
+        return new SlowQueryLog(Duration.ofMillis(Long.getLong("sms.db.slowQueryThresholdMillis", 200)));
+    }
+
+    /**
+     * Checks whether a statement took long enough to be logged
+     * @param execution The statement that finished
+     * @return true if the log is enabled and the statement reached the threshold
+     */
+    boolean isSlow(final JdbcTemplate.Execution execution) {
+        return thresholdNanos > 0 && execution.elapsedNanos() >= thresholdNanos;
+    }
+
+    /**
+     * Describes a statement as it is written to the slow query log
+     * @param execution The statement that finished
+     * @return The log line, with the statement's bound parameters
+     */
+    String describe(final JdbcTemplate.Execution execution) {
+        return String.format(
+                "%s statement took %.1f ms (%d rows): %s parameters %s",
+                execution.failed() ? "Failed" : "Slow",
+                execution.elapsedNanos() / 1_000_000.0,
+                execution.rowCount(),
+                execution.sql(),
+                execution.parameters());
+    }
+
+    @Override
+    public void executed(final JdbcTemplate.Execution execution) {
+        if (isSlow(execution)) {
+            LOGGER.warn(describe(execution));
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package sms.gradle.model.dao;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * An LRU cache of prepared statements for a single physical connection, keyed by SQL text.
+ * Statements handed out by {@link #prepare(Connection, String)} are proxies whose <code>close()</code>
+ * resets the statement and keeps it in the cache, so DAOs can keep using try-with-resources.
+ * <p>
+ * A physical connection is only used by one borrower at a time, so the cache itself is not synchronised.
+ */
+final class StatementCache {
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    // The statement settings a borrower may change, with the getter that reads each one back so it can be restored.
+    // Changing a setting that has no getter, such as the cursor name, means the statement is closed instead
+    private static final Map<String, String> SETTING_GETTERS = Map.of(
+            "setFetchSize", "getFetchSize",
+            "setFetchDirection", "getFetchDirection",
+            "setQueryTimeout", "getQueryTimeout",
+            "setMaxRows", "getMaxRows",
+            "setLargeMaxRows", "getLargeMaxRows",
+            "setMaxFieldSize", "getMaxFieldSize",
+            "setPoolable", "isPoolable");
+
+    private final Connection physicalConnection;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final Map<String, CachedStatementHandler> statements;
+
+    /**
+     * Creates a statement cache for a physical connection
+     * @param physicalConnection The connection statements are prepared on
+     * @param maxSize The maximum number of statements kept before the least recently used is closed
+     * @param hits The counter incremented when a cached statement is reused
+     * @param misses The counter incremented when a statement has to be prepared
+     */
+    StatementCache(
+            final Connection physicalConnection, final int maxSize, final LongAdder hits, final LongAdder misses) {
+        this.physicalConnection = physicalConnection;
+        this.hits = hits;
+        this.misses = misses;
+        this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, CachedStatementHandler> eldest) {
+                if (size() <= maxSize) {
+                    return false;
+                }
+                LOGGER.debug("Evicting cached statement: {}", eldest.getKey());
+                eldest.getValue().evict();
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Gets a prepared statement for the given SQL, reusing a cached one if it is not already in use
+     * @param pooledConnection The pooled connection the statement should report as its owner
+     * @param sql The SQL text of the statement
+     * @return A prepared statement which is kept in the cache when closed
+     * @throws SQLException if the statement cannot be prepared
+     */
+    PreparedStatement prepare(final Connection pooledConnection, final String sql) throws SQLException {
+        CachedStatementHandler handler = statements.get(sql);
+        if (handler != null && !handler.inUse) {
+            hits.increment();
+        } else if (handler != null) {
+            // The same SQL is already open on this connection, so hand out a statement that isn't cached.
+            // It is still wrapped so getConnection() returns the pooled connection rather than the physical one,
+            // and marked evicted so closing it closes the statement.
+            misses.increment();
+            CachedStatementHandler uncached =
+                    new CachedStatementHandler(sql, physicalConnection.prepareStatement(sql));
+            uncached.evicted = true;
+            uncached.inUse = true;
+            uncached.owner = pooledConnection;
+            return uncached.proxy;
+        } else {
+            misses.increment();
+            handler = new CachedStatementHandler(sql, physicalConnection.prepareStatement(sql));
+            statements.put(sql, handler);
+        }
+        handler.inUse = true;
+        handler.owner = pooledConnection;
+        return handler.proxy;
+    }
+
+    /**
+     * Gets the number of statements currently held in the cache
+     * @return The cache size
+     */
+    int size() {
+        return statements.size();
+    }
+
+    /**
+     * Closes every cached statement, or closes it once its current user is done with it if it is still in use.
+     * Called when the physical connection is discarded.
+     */
+    void clear() {
+        statements.values().forEach(CachedStatementHandler::evict);
+        statements.clear();
+    }
+
+    /**
+     * Forwards every call to the physical statement except <code>close()</code>, which closes the last
+     * result set, clears the parameters and batch, and puts back any settings the borrower changed, so the next
+     * borrower gets the statement as it was prepared
+     */
+    private final class CachedStatementHandler implements InvocationHandler {
+        private final String sql;
+        private final PreparedStatement statement;
+        private final PreparedStatement proxy;
+        // The value each changed setting had before this borrower changed it, keyed by its setter
+        private final Map<Method, Object> changedSettings = new LinkedHashMap<>();
+        private boolean inUse;
+        private boolean evicted;
+        private Connection owner;
+        private ResultSet lastResultSet;
+
+        private CachedStatementHandler(final String sql, final PreparedStatement statement) {
+            this.sql = sql;
+            this.statement = statement;
+            this.proxy = (PreparedStatement) Proxy.newProxyInstance(
+                    StatementCache.class.getClassLoader(), new Class<?>[] {PreparedStatement.class}, this);
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    release();
+                    return null;
+                }
+                case "isClosed" -> {
+                    return !inUse || statement.isClosed();
+                }
+                case "getConnection" -> {
+                    return owner;
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "CachedStatement[" + statement + "]";
+                }
+                default -> {
+                    if (!inUse) {
+                        throw new SQLException("Statement has already been closed");
+                    }
+                    try {
+                        if (method.getDeclaringClass() == Statement.class) {
+                            rememberSetting(method);
+                        }
+                        Object result = method.invoke(statement, args);
+                        if (result instanceof ResultSet resultSet) {
+                            lastResultSet = resultSet;
+                        }
+                        return result;
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                }
+            }
+        }
+
+        /**
+         * Records the current value of a statement setting before it is first changed, or marks the statement to
+         * be closed on release if the setting cannot be read back
+         */
+        private void rememberSetting(final Method method) throws ReflectiveOperationException {
+            String name = method.getName();
+            if (!name.startsWith("set") && !name.equals("closeOnCompletion")) {
+                return;
+            }
+            String getter = SETTING_GETTERS.get(name);
+            if (getter == null) {
+                evicted = true;
+            } else if (!changedSettings.containsKey(method)) {
+                changedSettings.put(method, Statement.class.getMethod(getter).invoke(statement));
+            }
+        }
+
+        private void release() throws SQLException {
+            if (!inUse) {
+                return;
+            }
+            inUse = false;
+            owner = null;
+            if (lastResultSet != null) {
+                lastResultSet.close();
+                lastResultSet = null;
+            }
+            if (!evicted) {
+                try {
+                    reset();
+                    return;
+                } catch (SQLException e) {
+                    // A statement that could not be reset is not handed out again
+                    discard();
+                    throw e;
+                }
+            }
+            discard();
+        }
+
+        private void reset() throws SQLException {
+            statement.clearParameters();
+            statement.clearBatch();
+            try {
+                for (Map.Entry<Method, Object> setting : changedSettings.entrySet()) {
+                    setting.getKey().invoke(statement, setting.getValue());
+                }
+            } catch (InvocationTargetException e) {
+                throw e.getCause() instanceof SQLException sqlException
+                        ? sqlException
+                        : new SQLException("Failed to restore statement settings", e.getCause());
+            } catch (IllegalAccessException e) {
+                throw new SQLException("Failed to restore statement settings", e);
+            } finally {
+                changedSettings.clear();
+            }
+        }
+
+        /**
+         * Closes the statement and removes it from the cache if it is still there
+         */
+        private void discard() throws SQLException {
+            statements.remove(sql, this);
+            statement.close();
+        }
+
+        /**
+         * Closes the statement now, or once its current user closes it if it is still in use
+         */
+        private void evict() {
+            evicted = true;
+            if (inUse) {
+                return;
+            }
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                LOGGER.warn("Failed to close evicted statement", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package sms.gradle.model.dao;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Reads <code>GradeStatistics</code> for the detail views. The grades come from the single summary row that
+ * <code>GradeSummaries</code> maintains for the course, module, assessment or student, so the cost of a statistics
+ * panel does not grow with the number of results. Only the counts that define the scope are queried directly.
+ * <p>
+ * The summaries cover every recorded result, including results left behind for students no longer enrolled on the
+ * course. The completion rate compares against the enrolled students, so the results it counts are limited to
+ * enrolled students by a separate count.
+ */
+public final class StatisticsDAO {
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    // Results from students enrolled on the course of the assessment, filtered by each scope below
+    private static final String ENROLLED_RESULTS = "SELECT COUNT(*) FROM results r "
+            + "JOIN assessments a ON a.id = r.assessment_id JOIN modules m ON m.id = a.module_id "
+            + "JOIN course_enrollments ce ON ce.student_id = r.student_id AND ce.course_id = m.course_id WHERE ";
+
+    // ?1 is the ID of the course, module, assessment or student
+    private static final String COURSE_STATISTICS_SQL = statisticsSql(
+            "SELECT COUNT(*) FROM course_enrollments WHERE course_id = ?1",
+            "SELECT COUNT(*) FROM modules WHERE course_id = ?1",
+            "SELECT COUNT(*) FROM assessments a JOIN modules m ON m.id = a.module_id WHERE m.course_id = ?1",
+            ENROLLED_RESULTS + "m.course_id = ?1",
+            GradeSummaries.Scope.COURSE);
+    private static final String MODULE_STATISTICS_SQL = statisticsSql(
+            "SELECT COUNT(*) FROM course_enrollments ce JOIN modules m ON m.course_id = ce.course_id WHERE m.id = ?1",
+            "SELECT COUNT(*) FROM modules WHERE id = ?1",
+            "SELECT COUNT(*) FROM assessments WHERE module_id = ?1",
+            ENROLLED_RESULTS + "m.id = ?1",
+            GradeSummaries.Scope.MODULE);
+    private static final String ASSESSMENT_STATISTICS_SQL = statisticsSql(
+            "SELECT COUNT(*) FROM course_enrollments ce JOIN modules m ON m.course_id = ce.course_id "
+                    + "JOIN assessments a ON a.module_id = m.id WHERE a.id = ?1",
+            "SELECT COUNT(*) FROM assessments WHERE id = ?1",
+            "SELECT COUNT(*) FROM assessments WHERE id = ?1",
+            ENROLLED_RESULTS + "a.id = ?1",
+            GradeSummaries.Scope.ASSESSMENT);
+    private static final String STUDENT_STATISTICS_SQL = statisticsSql(
+            "SELECT COUNT(*) FROM students WHERE id = ?1",
+            "SELECT COUNT(*) FROM course_enrollments ce JOIN modules m ON m.course_id = ce.course_id "
+                    + "WHERE ce.student_id = ?1",
+            "SELECT COUNT(*) FROM course_enrollments ce JOIN modules m ON m.course_id = ce.course_id "
+                    + "JOIN assessments a ON a.module_id = m.id WHERE ce.student_id = ?1",
+            ENROLLED_RESULTS + "r.student_id = ?1",
+            GradeSummaries.Scope.STUDENT);
+
+    private StatisticsDAO() {
+        throw new UnsupportedOperationException("This is a DAO class and cannot be instantiated");
+    }
+
+    /**
+     * Builds a statistics query from the counts that define its scope and the summary table holding its grades.
+     * The summary row is left joined because there is none until the first result is recorded.
+     */
+    private static String statisticsSql(
+            final String studentCount,
+            final String moduleCount,
+            final String assessmentCount,
+            final String enrolledResultCount,
+            final GradeSummaries.Scope scope) {
+        return "SELECT (" + studentCount + ") AS student_count, (" + moduleCount + ") AS module_count, ("
+                + assessmentCount + ") AS assessment_count, (" + enrolledResultCount + ") AS enrolled_result_count, "
+                + "COALESCE(s.result_count, 0) AS result_count, COALESCE(s.pass_count, 0) AS pass_count, "
+                + "COALESCE(s.grade_sum, 0) AS grade_sum, COALESCE(s.grade_sum_squares, 0) AS grade_sum_squares, "
+                + "COALESCE(s.lowest_grade, 0) AS lowest_grade, COALESCE(s.highest_grade, 0) AS highest_grade "
+                + "FROM (SELECT 1) v LEFT JOIN " + scope.table() + " s ON s." + scope.keyColumn() + " = ?1";
+    }
+
+    /**
+     * Creates <code>GradeStatistics</code> from the single row of a statistics query
+     * @param resultSet The ResultSet positioned on the aggregated statistics
+     * @return The statistics for the row
+     * @throws SQLException if there is an error accessing the ResultSet data
+     */
+    private static GradeStatistics readStatistics(final ResultSet resultSet) throws SQLException {
+        return new GradeStatistics(
+                resultSet.getInt("student_count"),
+                resultSet.getInt("module_count"),
+                resultSet.getInt("assessment_count"),
+                resultSet.getInt("enrolled_result_count"),
+                resultSet.getInt("result_count"),
+                resultSet.getInt("pass_count"),
+                resultSet.getLong("grade_sum"),
+                resultSet.getLong("grade_sum_squares"),
+                resultSet.getInt("lowest_grade"),
+                resultSet.getInt("highest_grade"));
+    }
+
+    /**
+     * Runs one of the statistics queries for an ID
+     */
+    private static GradeStatistics findStatistics(final String sql, final String scope, final int id)
+            throws SQLException {
+        LOGGER.debug("Calculating statistics for {} ID: {}", scope, id);
+        try {
+            return JdbcTemplate.queryForOptional(sql, StatisticsDAO::readStatistics, id).orElse(GradeStatistics.EMPTY);
+        } catch (SQLException e) {
+            LOGGER.error("Failed to calculate statistics for {} ID: {}", scope, id, e);
+            throw new SQLException(String.format("Failed to calculate statistics for %s with Id: %d", scope, id), e);
+        }
+    }
+
+    /**
+     * Calculates grade statistics across every assessment in a course
+     * @param courseId The ID of the course
+     * @return The statistics for the course
+     * @throws SQLException if there is an error executing the query
+     */
+    public static GradeStatistics findCourseStatistics(final int courseId) throws SQLException {
+        return findStatistics(COURSE_STATISTICS_SQL, "course", courseId);
+    }
+
+    /**
+     * Calculates grade statistics across every assessment in a module
+     * @param moduleId The ID of the module
+     * @return The statistics for the module
+     * @throws SQLException if there is an error executing the query
+     */
+    public static GradeStatistics findModuleStatistics(final int moduleId) throws SQLException {
+        return findStatistics(MODULE_STATISTICS_SQL, "module", moduleId);
+    }
+
+    /**
+     * Calculates grade statistics for a single assessment
+     * @param assessmentId The ID of the assessment
+     * @return The statistics for the assessment
+     * @throws SQLException if there is an error executing the query
+     */
+    public static GradeStatistics findAssessmentStatistics(final int assessmentId) throws SQLException {
+        return findStatistics(ASSESSMENT_STATISTICS_SQL, "assessment", assessmentId);
+    }
+
+    /**
+     * Calculates grade statistics for a student across every result recorded for them
+     * @param studentId The ID of the student
+     * @return The statistics for the student
+     * @throws SQLException if there is an error executing the query
+     */
+    public static GradeStatistics findStudentStatistics(final int studentId) throws SQLException {
+        return findStatistics(STUDENT_STATISTICS_SQL, "student", studentId);
+    }
+}
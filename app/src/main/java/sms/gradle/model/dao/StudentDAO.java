@@ -13,50 +13,69 @@ import sms.gradle.model.entities.Student;
 public final class StudentDAO {
     private static final Logger LOGGER = LogManager.getLogger();
 
+    private static final String INSERT_SQL =
+            "INSERT INTO students (first_name, last_name, email, password, date_of_birth, join_date) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_SQL =
+            "UPDATE students SET first_name = ?, last_name = ?, email = ?, password = ?, date_of_birth = ?, join_date = ? WHERE id = ?";
+    // Rows are read by position, so the readers below follow this column order
+    private static final String COLUMNS = "id, first_name, last_name, email, date_of_birth, join_date";
+    static final String FIND_BY_ID_SQL = "SELECT " + COLUMNS + " FROM students WHERE id = ?";
+    static final String FIND_BY_EMAIL_SQL = "SELECT " + COLUMNS + " FROM students WHERE email = ?";
+    static final String VERIFY_PASSWORD_SQL = "SELECT password FROM students WHERE email = ?";
+    // The ORDER BY clause comes from RosterOrder, so there is one cached statement per ordering.
+    // The student columns come first, in the order of COLUMNS, so readStudent can read them
+    static final String ROSTER_SQL =
+            "SELECT s.id, s.first_name, s.last_name, s.email, s.date_of_birth, s.join_date, ce.enrollment_date "
+                    + "FROM course_enrollments ce JOIN students s ON s.id = ce.student_id "
+                    + "WHERE ce.course_id = ? ORDER BY %s LIMIT ?";
+    private static final int ROSTER_ENROLLMENT_DATE = 7;
+
+    /**
+     * Passed as the limit to the roster lookups to return every enrolled student
+     */
+    public static final int NO_LIMIT = 0;
+
+    private static final List<CascadeDelete.Step> DELETE_STUDENT_CASCADE = List.of(
+            new CascadeDelete.Step("results", "DELETE FROM results WHERE student_id = ?"),
+            new CascadeDelete.Step("course_enrollments", "DELETE FROM course_enrollments WHERE student_id = ?"),
+            new CascadeDelete.Step("students", "DELETE FROM students WHERE id = ?"));
+
+    static final KeysetPager.Source<Student> PAGE_SOURCE = new KeysetPager.Source<>(
+            "students",
+            COLUMNS,
+            "last_name",
+            StudentDAO::readStudent,
+            student -> new Keyset(student.getLastName(), student.getId()));
+
     private StudentDAO() {
         throw new UnsupportedOperationException("This is a DAO class and cannot be instantiated");
     }
 
     /**
-     * Converts a <code>ResultSet</code> containing student data into a List of <code>Student</code> objects
-     * @param resultSet The ResultSet containing student data to convert
-     * @return A List of Student objects created from the ResultSet data
+     * Creates a <code>Student</code> from the current <code>ResultSet</code> row
+     * @param resultSet The ResultSet positioned on a row of student data
+     * @return The Student for the current row
      * @throws SQLException if there is an error accessing the ResultSet data
      */
-    private static List<Student> getAllStudentsFromResultSet(final ResultSet resultSet) throws SQLException {
-        LOGGER.debug("Converting ResultSet to List<Student>");
-        List<Student> students = new ArrayList<>();
-        while (resultSet.next()) {
-            students.add(new Student(
-                    resultSet.getInt("id"),
-                    resultSet.getString("first_name"),
-                    resultSet.getString("last_name"),
-                    resultSet.getString("email"),
-                    resultSet.getDate("date_of_birth"),
-                    resultSet.getDate("join_date")));
-        }
-        return students;
+    private static Student readStudent(final ResultSet resultSet) throws SQLException {
+        return new Student(
+                resultSet.getInt(1),
+                resultSet.getString(2),
+                resultSet.getString(3),
+                resultSet.getString(4),
+                resultSet.getDate(5),
+                resultSet.getDate(6));
     }
 
     /**
-     * Creates an <code>Optional<Student></code> from a <code>ResultSet</code> row
-     * @param resultSet The ResultSet containing student data
-     * @return An Optional containing a Student object if data is present, or an empty Optional if not
+     * Creates a <code>StudentSummary</code> from the current row of a summary query
+     * @param resultSet The ResultSet positioned on a row of student summary data
+     * @return The StudentSummary for the current row
      * @throws SQLException if there is an error accessing the ResultSet data
      */
-    private static Optional<Student> getStudentFromResultSet(final ResultSet resultSet) throws SQLException {
-        LOGGER.debug("Converting ResultSet to Optional<Student>");
-        if (resultSet.next()) {
-            return Optional.of(new Student(
-                    resultSet.getInt("id"),
-                    resultSet.getString("first_name"),
-                    resultSet.getString("last_name"),
-                    resultSet.getString("email"),
-                    resultSet.getDate("date_of_birth"),
-                    resultSet.getDate("join_date")));
-        }
-        LOGGER.info("No student found in ResultSet");
-        return Optional.empty();
+    private static StudentSummary readSummary(final ResultSet resultSet) throws SQLException {
+        return new StudentSummary(
+                resultSet.getInt(1), resultSet.getString(2), resultSet.getString(3), resultSet.getString(4));
     }
 
     /**
@@ -67,17 +86,8 @@ public final class StudentDAO {
      */
     public static void addStudent(final Student student, final String hashedPassword) throws SQLException {
         LOGGER.debug("Adding student to database {}", student);
-        final String sql =
-                "INSERT INTO students (first_name, last_name, email, password, date_of_birth, join_date) VALUES (?, ?, ?, ?, ?, ?)";
-        try (PreparedStatement addSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            addSqlStatement.setString(1, student.getFirstName());
-            addSqlStatement.setString(2, student.getLastName());
-            addSqlStatement.setString(3, student.getEmail());
-            addSqlStatement.setString(4, hashedPassword);
-            addSqlStatement.setDate(5, student.getDateOfBirth());
-            addSqlStatement.setDate(6, student.getJoinDate());
-            addSqlStatement.executeUpdate();
+        try {
+            JdbcTemplate.update(INSERT_SQL, statement -> bindInsert(statement, student, hashedPassword));
         } catch (SQLException e) {
             LOGGER.error("Failed to add student to database {}", student, e);
 
@@ -86,6 +96,8 @@ public final class StudentDAO {
                         String.format("The email '%s' is associated with an existing student.", student.getEmail()), e);
                 default -> throw new SQLException("Failed to add student", e);
             }
+        } finally {
+            CredentialDAO.forgetUnknownEmails();
         }
     }
 
@@ -96,13 +108,16 @@ public final class StudentDAO {
      * @throws SQLException if there is an error executing the query
      */
     public static Optional<Student> findById(final int id) throws SQLException {
+        return EntityCaches.STUDENTS.get(id, StudentDAO::loadById);
+    }
+
+    /**
+     * Reads a student by its ID from the database, bypassing the cache
+     */
+    private static Optional<Student> loadById(final int id) throws SQLException {
         LOGGER.debug("Finding student by ID: {}", id);
-        final String sql = "SELECT * FROM students WHERE id = ?";
-        try (PreparedStatement findSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            findSqlStatement.setInt(1, id);
-            ResultSet results = findSqlStatement.executeQuery();
-            return getStudentFromResultSet(results);
+        try {
+            return JdbcTemplate.queryForOptional(FIND_BY_ID_SQL, StudentDAO::readStudent, id);
         } catch (SQLException e) {
             LOGGER.error("Failed to find student by ID: {}", id, e);
             throw new SQLException(String.format("Failed to find student with Id: %d", id), e);
@@ -117,12 +132,8 @@ public final class StudentDAO {
      */
     public static Optional<Student> findByEmail(final String email) throws SQLException {
         LOGGER.debug("Finding student by email: {}", email);
-        final String sql = "SELECT * FROM students WHERE email = ?";
-        try (PreparedStatement findSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            findSqlStatement.setString(1, email);
-            ResultSet results = findSqlStatement.executeQuery();
-            return getStudentFromResultSet(results);
+        try {
+            return JdbcTemplate.queryForOptional(FIND_BY_EMAIL_SQL, StudentDAO::readStudent, email);
         } catch (SQLException e) {
             LOGGER.error("Failed to find student by email: {}", email, e);
             throw new SQLException(String.format("Failed to find student with email: %s", email), e);
@@ -136,17 +147,112 @@ public final class StudentDAO {
      */
     public static List<Student> findAll() throws SQLException {
         LOGGER.debug("Finding all students");
-        final String sql = "SELECT * FROM students";
-        try (PreparedStatement findSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            ResultSet results = findSqlStatement.executeQuery();
-            return getAllStudentsFromResultSet(results);
+        final String sql = "SELECT " + COLUMNS + " FROM students";
+        try {
+            return JdbcTemplate.query(sql, StudentDAO::readStudent);
         } catch (SQLException e) {
             LOGGER.error("Failed to find all students", e);
             throw new SQLException("Failed to find all students", e);
         }
     }
 
+    /**
+     * Retrieves the display fields of every student, ordered by last name, without reading their
+     * passwords or dates
+     * @return A List containing a summary of every student in the database
+     * @throws SQLException if there is an error executing the query
+     */
+    public static List<StudentSummary> findAllSummaries() throws SQLException {
+        LOGGER.debug("Finding all student summaries");
+        final String sql = "SELECT id, first_name, last_name, email FROM students ORDER BY last_name, id";
+        try {
+            return JdbcTemplate.query(sql, StudentDAO::readSummary);
+        } catch (SQLException e) {
+            LOGGER.error("Failed to find all student summaries", e);
+            throw new SQLException("Failed to find all student summaries", e);
+        }
+    }
+
+    /**
+     * Picks one student at random and reads their display fields, without loading the rest of the table
+     * @return An Optional containing a random student's summary, or an empty Optional if there are no students
+     * @throws SQLException if there is an error executing the query
+     */
+    public static Optional<StudentSummary> findRandomSummary() throws SQLException {
+        LOGGER.debug("Finding a random student summary");
+        final String sql = "SELECT id, first_name, last_name, email FROM students ORDER BY RAND() LIMIT 1";
+        try {
+            return JdbcTemplate.queryForOptional(sql, StudentDAO::readSummary);
+        } catch (SQLException e) {
+            LOGGER.error("Failed to find a random student summary", e);
+            throw new SQLException("Failed to find a random student summary", e);
+        }
+    }
+
+    /**
+     * Finds one page of students, ordered by last name and then ID
+     * @param request The keyset, size and direction of the page
+     * @return The page of students
+     * @throws SQLException if there is an error executing the query
+     */
+    public static Page<Student> findPage(final PageRequest request) throws SQLException {
+        return KeysetPager.findPage(PAGE_SOURCE, request);
+    }
+
+    /**
+     * Finds the students enrolled on a course with a single join, ordered by last name
+     * @param courseId The ID of the course
+     * @return A List of the students enrolled on the course
+     * @throws SQLException if there is an error executing the query
+     */
+    public static List<Student> findByCourseId(final int courseId) throws SQLException {
+        return findByCourseId(courseId, RosterOrder.LAST_NAME, NO_LIMIT);
+    }
+
+    /**
+     * Finds the students enrolled on a course with a single join
+     * @param courseId The ID of the course
+     * @param order The order to return the students in
+     * @param limit The maximum number of students to return, or <code>NO_LIMIT</code> for all of them
+     * @return A List of the students enrolled on the course
+     * @throws SQLException if there is an error executing the query
+     */
+    public static List<Student> findByCourseId(final int courseId, final RosterOrder order, final int limit)
+            throws SQLException {
+        List<Student> students = new ArrayList<>();
+        for (RosterEntry entry : findRosterByCourseId(courseId, order, limit)) {
+            students.add(entry.student());
+        }
+        return students;
+    }
+
+    /**
+     * Finds the students enrolled on a course, with the date each of them enrolled, using a single join
+     * @param courseId The ID of the course
+     * @param order The order to return the roster in
+     * @param limit The maximum number of entries to return, or <code>NO_LIMIT</code> for the whole roster
+     * @return A List of roster entries for the course
+     * @throws SQLException if there is an error executing the query
+     */
+    public static List<RosterEntry> findRosterByCourseId(final int courseId, final RosterOrder order, final int limit)
+            throws SQLException {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Roster limit cannot be negative: " + limit);
+        }
+        LOGGER.debug("Finding roster for course ID: {} ordered by {} with limit {}", courseId, order, limit);
+        final String sql = String.format(ROSTER_SQL, order.orderByClause());
+        try {
+            return JdbcTemplate.query(
+                    sql,
+                    resultSet -> new RosterEntry(readStudent(resultSet), resultSet.getDate(ROSTER_ENROLLMENT_DATE)),
+                    courseId,
+                    limit == NO_LIMIT ? Integer.MAX_VALUE : limit);
+        } catch (SQLException e) {
+            LOGGER.error("Failed to find roster for course ID: {}", courseId, e);
+            throw new SQLException(String.format("Failed to find students for course with Id: %d", courseId), e);
+        }
+    }
+
     /**
      * Updates a student in the database
      * @param student The student object with updated information
@@ -155,42 +261,96 @@ public final class StudentDAO {
      */
     public static int update(final Student student, final String hashedPassword) throws SQLException {
         LOGGER.debug("Updating student: {}", student);
-        final String sql =
-                "UPDATE students SET first_name = ?, last_name = ?, email = ?, password = ?, date_of_birth = ?, join_date = ? WHERE id = ?";
-        try (PreparedStatement updateSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            updateSqlStatement.setString(1, student.getFirstName());
-            updateSqlStatement.setString(2, student.getLastName());
-            updateSqlStatement.setString(3, student.getEmail());
-            updateSqlStatement.setString(4, hashedPassword);
-            updateSqlStatement.setDate(5, student.getDateOfBirth());
-            updateSqlStatement.setDate(6, student.getJoinDate());
-            updateSqlStatement.setInt(7, student.getId());
-            return updateSqlStatement.executeUpdate();
+        try {
+            return JdbcTemplate.update(UPDATE_SQL, statement -> bindUpdate(statement, student, hashedPassword));
         } catch (SQLException e) {
             LOGGER.error("Failed to update student: {}", student, e);
             throw new SQLException(String.format("Failed to update student with Id: %d", student.getId()), e);
+        } finally {
+            EntityCaches.STUDENTS.invalidate(student.getId());
+            CredentialDAO.forgetUnknownEmails();
+        }
+    }
+
+    /**
+     * Adds many students to the database using JDBC batching, committing each batch in its own transaction
+     * @param students The students to add
+     * @param hashedPasswords The hashed password of each student, in the same order as the students
+     * @return The IDs generated for the new students, in the same order as the students
+     * @throws SQLException if a batch fails, in which case that batch is rolled back but earlier batches stay committed
+     */
+    public static List<Integer> addAll(final List<Student> students, final List<String> hashedPasswords)
+            throws SQLException {
+        LOGGER.debug("Adding {} students to database", students.size());
+        try {
+            return BatchWriter.insert(
+                    INSERT_SQL,
+                    withPasswords(students, hashedPasswords),
+                    (statement, row) -> bindInsert(statement, row.student(), row.hashedPassword()),
+                    BatchWriter.batchSize());
+        } catch (SQLException e) {
+            LOGGER.error("Failed to add {} students to database", students.size(), e);
+            switch (e.getErrorCode()) {
+                case 23505 -> throw new SQLException(
+                        "An email is associated with an existing student. " + e.getMessage(), e);
+                default -> throw new SQLException("Failed to add students. " + e.getMessage(), e);
+            }
+        } finally {
+            CredentialDAO.forgetUnknownEmails();
+        }
+    }
+
+    /**
+     * Updates many students in the database using JDBC batching, committing each batch in its own transaction
+     * @param students The students with updated information
+     * @param hashedPasswords The hashed password of each student, in the same order as the students
+     * @return The total number of rows affected
+     * @throws SQLException if a batch fails, in which case that batch is rolled back but earlier batches stay committed
+     */
+    public static int updateAll(final List<Student> students, final List<String> hashedPasswords) throws SQLException {
+        LOGGER.debug("Updating {} students", students.size());
+        try {
+            return BatchWriter.update(
+                    UPDATE_SQL,
+                    withPasswords(students, hashedPasswords),
+                    (statement, row) -> bindUpdate(statement, row.student(), row.hashedPassword()),
+                    BatchWriter.batchSize());
+        } catch (SQLException e) {
+            LOGGER.error("Failed to update {} students", students.size(), e);
+            throw new SQLException("Failed to update students. " + e.getMessage(), e);
+        } finally {
+            students.forEach(student -> EntityCaches.STUDENTS.invalidate(student.getId()));
+            CredentialDAO.forgetUnknownEmails();
         }
     }
 
     /**
-     * Deletes a student from the database by its ID
+     * Deletes a student, along with their results and course enrollments, from the database by its ID
      * @param id The ID of the student to delete
      * @return The number of rows affected (1 if successful, 0 if student not found)
      * @throws SQLException if there is an error executing the delete operation
      */
     public static int delete(final int id) throws SQLException {
-        ResultDAO.deleteByStudentId(id);
-        CourseEnrollmentDAO.deleteByStudentId(id);
+        return deleteCascade(id).rowsDeleted("students");
+    }
+
+    /**
+     * Deletes a student together with their results and course enrollments in a single transaction
+     * @param id The ID of the student to delete
+     * @return The number of rows deleted from each table
+     * @throws SQLException if there is an error executing the delete operation, in which case nothing is deleted
+     */
+    public static DeletionReport deleteCascade(final int id) throws SQLException {
         LOGGER.debug("Deleting student with ID: {}", id);
-        final String sql = "DELETE FROM students WHERE id = ?";
-        try (PreparedStatement deleteSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            deleteSqlStatement.setInt(1, id);
-            return deleteSqlStatement.executeUpdate();
+        try {
+            DeletionReport report = CascadeDelete.run(id, DELETE_STUDENT_CASCADE);
+            LOGGER.info("Deleted student with ID: {} {}", id, report);
+            return report;
         } catch (SQLException e) {
             LOGGER.error("Failed to delete student with ID: {}", id, e);
             throw new SQLException(String.format("Failed to delete student with Id: %d", id), e);
+        } finally {
+            EntityCaches.STUDENTS.invalidate(id);
         }
     }
 
@@ -219,20 +379,62 @@ public final class StudentDAO {
      */
     public static boolean verifyPassword(final String email, final String hashedPassword) throws SQLException {
         LOGGER.debug("Verifying password for student with email: {}", email);
-        final String sql = "SELECT password FROM students WHERE email = ?";
-        try (PreparedStatement findSqlStatement =
-                DatabaseConnection.getInstance().getConnection().prepareStatement(sql)) {
-            findSqlStatement.setString(1, email);
-            ResultSet results = findSqlStatement.executeQuery();
-            if (results.next()) {
-                LOGGER.debug("Found student with email: {}", email);
-                String storedPassword = results.getString("password");
-                return hashedPassword.equals(storedPassword);
-            }
-            return false;
+        try {
+            return JdbcTemplate.queryForOptional(VERIFY_PASSWORD_SQL, resultSet -> resultSet.getString(1), email)
+                    .map(hashedPassword::equals)
+                    .orElse(false);
         } catch (SQLException e) {
             LOGGER.error("Failed to verify password for student with email: {}", email, e);
             throw new SQLException(String.format("Failed to verify password for student with email: %s", email), e);
         }
     }
+
+    /**
+     * Binds a student to the parameters of <code>INSERT_SQL</code>
+     */
+    private static void bindInsert(
+            final PreparedStatement statement, final Student student, final String hashedPassword) throws SQLException {
+        statement.setString(1, student.getFirstName());
+        statement.setString(2, student.getLastName());
+        statement.setString(3, student.getEmail());
+        statement.setString(4, hashedPassword);
+        statement.setDate(5, student.getDateOfBirth());
+        statement.setDate(6, student.getJoinDate());
+    }
+
+    /**
+     * Binds a student to the parameters of <code>UPDATE_SQL</code>
+     */
+    private static void bindUpdate(
+            final PreparedStatement statement, final Student student, final String hashedPassword) throws SQLException {
+        statement.setString(1, student.getFirstName());
+        statement.setString(2, student.getLastName());
+        statement.setString(3, student.getEmail());
+        statement.setString(4, hashedPassword);
+        statement.setDate(5, student.getDateOfBirth());
+        statement.setDate(6, student.getJoinDate());
+        statement.setInt(7, student.getId());
+    }
+
+    /**
+     * A student paired with the hashed password to store for them
+     */
+    private record StudentWithPassword(Student student, String hashedPassword) {}
+
+    /**
+     * Pairs each student with its hashed password so they can be written as one batch row
+     * @throws IllegalArgumentException if the lists are not the same size
+     */
+    private static List<StudentWithPassword> withPasswords(
+            final List<Student> students, final List<String> hashedPasswords) {
+        if (students.size() != hashedPasswords.size()) {
+            throw new IllegalArgumentException(String.format(
+                    "Expected %d hashed passwords but got %d", students.size(), hashedPasswords.size()));
+        }
+        List<StudentWithPassword> rows = new ArrayList<>(students.size());
+        for (int i = 0; i < students.size(); i++) {
+            rows.add(new StudentWithPassword(students.get(i), hashedPasswords.get(i)));
+        }
+        return rows;
+    }
 }
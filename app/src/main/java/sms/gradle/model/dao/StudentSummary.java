@@ -0,0 +1,19 @@
+package sms.gradle.model.dao;
+
+/**
+ * The display fields of a student, read for lists that show who a student is without needing their full record
+ * @param id The ID of the student
+ * @param firstName The student's first name
+ * @param lastName The student's last name
+ * @param email The student's email address
+ */
+public record StudentSummary(int id, String firstName, String lastName, String email) {
+
+    /**
+     * Gets the student's name as shown in lists
+     * @return The first and last name separated by a space
+     */
+    public String fullName() {
+        return firstName + " " + lastName;
+    }
+}
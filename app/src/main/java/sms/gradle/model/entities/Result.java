@@ -6,6 +6,11 @@ import lombok.Data;
 @Data
 @AllArgsConstructor
 public class Result {
+    /**
+     * The lowest grade that counts as a pass
+     */
+    public static final int PASSING_GRADE = 50;
+
     private final int id;
     private final int studentId;
     private final int assessmentId;
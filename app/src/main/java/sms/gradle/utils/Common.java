@@ -2,6 +2,7 @@ package sms.gradle.utils;
 
 import com.google.common.hash.Hashing;
 import java.nio.charset.StandardCharsets;
+import javafx.application.Platform;
 import javafx.scene.Node;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Label;
@@ -55,11 +56,16 @@ public final class Common {
     }
 
     /**
-     * Shows an alert dialog with the specified title and message
+     * Shows an alert dialog with the specified title and message.
+     * Safe to call from any thread; off the FX application thread the alert is shown once that thread is free.
      * @param title The title of the alert
      * @param message The message to display
      */
     public static void showAlert(final String title, final String message) {
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(() -> showAlert(title, message));
+            return;
+        }
         LOGGER.debug("Showing alert: {} - {}", title, message);
         Alert alert = new Alert(Alert.AlertType.INFORMATION);
         alert.setTitle(title);
@@ -0,0 +1,51 @@
+package sms.gradle.utils;
+
+import java.util.List;
+import sms.gradle.model.dao.Migration;
+
+/**
+ * The ordered list of schema migrations applied by <code>SchemaMigrator</code> at startup.
+ * Never edit a migration once it has shipped; add a new one with the next version number instead.
+ */
+public final class DatabaseMigrations {
+
+    private DatabaseMigrations() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    public static final List<Migration> MIGRATIONS = List.of(
+            new Migration(
+                    1,
+                    "Create initial tables",
+                    List.of(
+                            DatabaseScripts.CREATE_STUDENTS_TABLE,
+                            DatabaseScripts.CREATE_ADMINS_TABLE,
+                            DatabaseScripts.CREATE_COURSES_TABLE,
+                            DatabaseScripts.CREATE_MODULES_TABLE,
+                            DatabaseScripts.CREATE_COURSE_ENROLLMENTS_TABLE,
+                            DatabaseScripts.CREATE_ASSESSMENTS_TABLE,
+                            DatabaseScripts.CREATE_RESULTS_TABLE)),
+            new Migration(2, "Create default admin account", List.of(DatabaseScripts.CREATE_DEFAULT_ADMIN)),
+            new Migration(
+                    3,
+                    "Add lookup indexes and unique enrollment and result constraints",
+                    DatabaseScripts.ADD_INDEXES_AND_CONSTRAINTS,
+                    List.of(
+                            new Migration.Precondition("duplicate results", DatabaseScripts.FIND_DUPLICATE_RESULTS),
+                            new Migration.Precondition(
+                                    "duplicate course enrollments",
+                                    DatabaseScripts.FIND_DUPLICATE_COURSE_ENROLLMENTS))),
+            new Migration(
+                    4,
+                    "Add grade summary tables maintained by triggers on results",
+                    DatabaseScripts.CREATE_GRADE_SUMMARIES),
+            new Migration(5, "Add index for paging students by last name", DatabaseScripts.ADD_PAGING_INDEXES),
+            new Migration(
+                    6,
+                    "Add user_credentials view for single lookup logins",
+                    List.of(DatabaseScripts.CREATE_USER_CREDENTIALS_VIEW)),
+            new Migration(
+                    7,
+                    "Add settings table for recording when sample data has been generated",
+                    DatabaseScripts.CREATE_SETTINGS));
+}
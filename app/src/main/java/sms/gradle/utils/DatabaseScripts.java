@@ -1,5 +1,8 @@
 package sms.gradle.utils;
 
+import java.util.List;
+import sms.gradle.model.entities.Result;
+
 public class DatabaseScripts {
 
     public static final String CREATE_STUDENTS_TABLE =
@@ -98,4 +101,174 @@ public class DatabaseScripts {
             '8c6976e5b5410415bde908bd4dee15dfb167a9c873fc4bb8a81f6f2ab448a918'
         );
         """;
+
+    // Duplicate rows would stop the unique constraints below from being added. They are reported rather than
+    // deleted, since which of them is correct (for example which of two grades) needs a person to decide
+    public static final String FIND_DUPLICATE_RESULTS =
+            """
+        SELECT r.id, r.student_id, r.assessment_id, r.grade FROM results r WHERE EXISTS (
+            SELECT 1 FROM results d
+            WHERE d.student_id = r.student_id AND d.assessment_id = r.assessment_id AND d.id <> r.id
+        )
+        ORDER BY r.student_id, r.assessment_id, r.id;
+        """;
+
+    public static final String FIND_DUPLICATE_COURSE_ENROLLMENTS =
+            """
+        SELECT e.id, e.student_id, e.course_id, e.enrollment_date FROM course_enrollments e WHERE EXISTS (
+            SELECT 1 FROM course_enrollments d
+            WHERE d.student_id = e.student_id AND d.course_id = e.course_id AND d.id <> e.id
+        )
+        ORDER BY e.student_id, e.course_id, e.id;
+        """;
+
+    // The unique constraints also serve lookups on their leading column (student_id)
+    public static final List<String> ADD_INDEXES_AND_CONSTRAINTS = List.of(
+            "ALTER TABLE results ADD CONSTRAINT IF NOT EXISTS uq_results_student_assessment UNIQUE (student_id, assessment_id)",
+            "CREATE INDEX IF NOT EXISTS idx_results_assessment_id ON results (assessment_id)",
+            "ALTER TABLE course_enrollments ADD CONSTRAINT IF NOT EXISTS uq_course_enrollments_student_course UNIQUE (student_id, course_id)",
+            "CREATE INDEX IF NOT EXISTS idx_course_enrollments_course_id ON course_enrollments (course_id)",
+            "CREATE INDEX IF NOT EXISTS idx_modules_course_id ON modules (course_id)",
+            "CREATE INDEX IF NOT EXISTS idx_modules_lecturer ON modules (lecturer)",
+            "CREATE INDEX IF NOT EXISTS idx_modules_name ON modules (name)",
+            "CREATE INDEX IF NOT EXISTS idx_assessments_module_id ON assessments (module_id)",
+            "CREATE INDEX IF NOT EXISTS idx_assessments_due_date ON assessments (due_date)",
+            "CREATE INDEX IF NOT EXISTS idx_assessments_name ON assessments (name)",
+            "CREATE INDEX IF NOT EXISTS idx_courses_name ON courses (name)");
+
+    // The triggers that maintain the summaries are created before the summaries are filled from existing results, so
+    // no result written in between is missed. H2 commits each DDL statement as it runs, so a failed run can leave
+    // part of this behind: every statement is safe to run again, and the fill merges each summary row by its key.
+    // The fill counts passes at Result.PASSING_GRADE, so changing the pass mark changes this migration's checksum and
+    // SchemaMigrator refuses to start on a database that has already applied it
+    public static final List<String> CREATE_GRADE_SUMMARIES = List.of(
+            """
+        CREATE TABLE IF NOT EXISTS assessment_grade_summaries (
+            assessment_id INT PRIMARY KEY,
+            result_count INT NOT NULL,
+            grade_sum BIGINT NOT NULL,
+            grade_sum_squares BIGINT NOT NULL,
+            pass_count INT NOT NULL,
+            lowest_grade INT NOT NULL,
+            highest_grade INT NOT NULL
+        );
+        """,
+            """
+        CREATE TABLE IF NOT EXISTS module_grade_summaries (
+            module_id INT PRIMARY KEY,
+            result_count INT NOT NULL,
+            grade_sum BIGINT NOT NULL,
+            grade_sum_squares BIGINT NOT NULL,
+            pass_count INT NOT NULL,
+            lowest_grade INT NOT NULL,
+            highest_grade INT NOT NULL
+        );
+        """,
+            """
+        CREATE TABLE IF NOT EXISTS course_grade_summaries (
+            course_id INT PRIMARY KEY,
+            result_count INT NOT NULL,
+            grade_sum BIGINT NOT NULL,
+            grade_sum_squares BIGINT NOT NULL,
+            pass_count INT NOT NULL,
+            lowest_grade INT NOT NULL,
+            highest_grade INT NOT NULL
+        );
+        """,
+            """
+        CREATE TABLE IF NOT EXISTS student_grade_summaries (
+            student_id INT PRIMARY KEY,
+            result_count INT NOT NULL,
+            grade_sum BIGINT NOT NULL,
+            grade_sum_squares BIGINT NOT NULL,
+            pass_count INT NOT NULL,
+            lowest_grade INT NOT NULL,
+            highest_grade INT NOT NULL
+        );
+        """,
+            """
+        CREATE TRIGGER IF NOT EXISTS results_grade_summaries
+        AFTER INSERT, UPDATE, DELETE ON results
+        FOR EACH ROW CALL 'sms.gradle.model.dao.GradeSummaryTrigger';
+        """,
+            """
+        CREATE TRIGGER IF NOT EXISTS assessments_grade_summaries
+        AFTER UPDATE ON assessments
+        FOR EACH ROW CALL 'sms.gradle.model.dao.GradeSummaryTrigger';
+        """,
+            """
+        CREATE TRIGGER IF NOT EXISTS modules_grade_summaries
+        AFTER UPDATE ON modules
+        FOR EACH ROW CALL 'sms.gradle.model.dao.GradeSummaryTrigger';
+        """,
+            """
+        MERGE INTO assessment_grade_summaries (
+            assessment_id, result_count, grade_sum, grade_sum_squares, pass_count, lowest_grade, highest_grade
+        ) KEY (assessment_id)
+        SELECT r.assessment_id, COUNT(*), SUM(r.grade), SUM(CAST(r.grade AS BIGINT) * r.grade),
+            SUM(CASE WHEN r.grade >= %d THEN 1 ELSE 0 END), MIN(r.grade), MAX(r.grade)
+        FROM results r
+        GROUP BY r.assessment_id;
+        """
+                    .formatted(Result.PASSING_GRADE),
+            """
+        MERGE INTO module_grade_summaries (
+            module_id, result_count, grade_sum, grade_sum_squares, pass_count, lowest_grade, highest_grade
+        ) KEY (module_id)
+        SELECT a.module_id, COUNT(*), SUM(r.grade), SUM(CAST(r.grade AS BIGINT) * r.grade),
+            SUM(CASE WHEN r.grade >= %d THEN 1 ELSE 0 END), MIN(r.grade), MAX(r.grade)
+        FROM results r JOIN assessments a ON a.id = r.assessment_id
+        GROUP BY a.module_id;
+        """
+                    .formatted(Result.PASSING_GRADE),
+            """
+        MERGE INTO course_grade_summaries (
+            course_id, result_count, grade_sum, grade_sum_squares, pass_count, lowest_grade, highest_grade
+        ) KEY (course_id)
+        SELECT m.course_id, COUNT(*), SUM(r.grade), SUM(CAST(r.grade AS BIGINT) * r.grade),
+            SUM(CASE WHEN r.grade >= %d THEN 1 ELSE 0 END), MIN(r.grade), MAX(r.grade)
+        FROM results r JOIN assessments a ON a.id = r.assessment_id
+            JOIN modules m ON m.id = a.module_id
+        GROUP BY m.course_id;
+        """
+                    .formatted(Result.PASSING_GRADE),
+            """
+        MERGE INTO student_grade_summaries (
+            student_id, result_count, grade_sum, grade_sum_squares, pass_count, lowest_grade, highest_grade
+        ) KEY (student_id)
+        SELECT r.student_id, COUNT(*), SUM(r.grade), SUM(CAST(r.grade AS BIGINT) * r.grade),
+            SUM(CASE WHEN r.grade >= %d THEN 1 ELSE 0 END), MIN(r.grade), MAX(r.grade)
+        FROM results r
+        GROUP BY r.student_id;
+        """
+                    .formatted(Result.PASSING_GRADE));
+
+    // Keyset paging orders students by last name, which no existing index covers
+    public static final List<String> ADD_PAGING_INDEXES =
+            List.of("CREATE INDEX IF NOT EXISTS idx_students_last_name ON students (last_name, id)");
+
+    // Login looks an email up in both account tables at once. The email filter is pushed into each branch,
+    // so both are answered from the unique email indexes
+    public static final String CREATE_USER_CREDENTIALS_VIEW =
+            """
+        CREATE OR REPLACE VIEW user_credentials AS
+            SELECT 'ADMIN' AS user_type, id, first_name, last_name, email, password FROM admins
+            UNION ALL
+            SELECT 'STUDENT' AS user_type, id, first_name, last_name, email, password FROM students;
+        """;
+
+    // Sample data is only generated until it is recorded as finished, so a cancelled run is finished on the next
+    // start. Databases that already have students were populated before this was recorded, so they are marked as
+    // finished rather than being topped up
+    public static final List<String> CREATE_SETTINGS = List.of(
+            """
+        CREATE TABLE IF NOT EXISTS settings (
+            name VARCHAR(64) PRIMARY KEY,
+            setting_value VARCHAR(255) NOT NULL
+        );
+        """,
+            """
+        MERGE INTO settings (name, setting_value) KEY (name)
+            SELECT 'sample_data_generated', 'true' FROM students LIMIT 1;
+        """);
 }
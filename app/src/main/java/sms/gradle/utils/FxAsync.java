@@ -0,0 +1,128 @@
+package sms.gradle.utils;
+
+import java.util.Collection;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
+import sms.gradle.model.dao.AsyncDAO;
+
+/**
+ * Runs DAO calls through <code>AsyncDAO</code> and hands their results back to the JavaFX application thread, so
+ * event handlers can load data without freezing the UI.
+ * <p>
+ * Each method returns a future that completes on the FX thread after the callback has run. Cancelling it, from the
+ * FX thread, guarantees the callback will not run, which is how a view drops a load it no longer needs, for example
+ * when it is switched to show a different record before the previous one has loaded.
+ */
+public final class FxAsync {
+    private static final String LOADING_TEXT = "Loading...";
+
+    private FxAsync() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Runs a DAO call in the background and passes its result to a callback on the FX thread
+     * @param query The DAO call
+     * @param onSuccess Receives the result on the FX thread
+     * @param onFailure Receives the <code>SQLException</code> or other failure on the FX thread
+     * @return A future completed with the result once <code>onSuccess</code> has run
+     */
+    public static <T> CompletableFuture<T> load(
+            final AsyncDAO.Query<T> query,
+            final Consumer<? super T> onSuccess,
+            final Consumer<? super Throwable> onFailure) {
+        CompletableFuture<T> delivered = new CompletableFuture<>();
+        CompletableFuture<T> running = AsyncDAO.supply(query);
+        running.whenComplete((result, error) -> Platform.runLater(() -> {
+            // Already completed here means the caller cancelled the load
+            if (delivered.isDone()) {
+                return;
+            }
+            if (error != null) {
+                Throwable cause = unwrap(error);
+                onFailure.accept(cause);
+                delivered.completeExceptionally(cause);
+            } else {
+                onSuccess.accept(result);
+                delivered.complete(result);
+            }
+        }));
+        delivered.whenComplete((result, error) -> {
+            if (error instanceof CancellationException) {
+                running.cancel(false);
+            }
+        });
+        return delivered;
+    }
+
+    /**
+     * Runs a DAO write in the background and calls back on the FX thread once it is done
+     * @param update The DAO call
+     * @param onSuccess Run on the FX thread after the write succeeds
+     * @param onFailure Receives the <code>SQLException</code> or other failure on the FX thread
+     * @return A future completed once <code>onSuccess</code> has run
+     */
+    public static CompletableFuture<Void> run(
+            final AsyncDAO.Update update, final Runnable onSuccess, final Consumer<? super Throwable> onFailure) {
+        return load(
+                () -> {
+                    update.run();
+                    return null;
+                },
+                ignored -> onSuccess.run(),
+                onFailure);
+    }
+
+    /**
+     * Replaces the items of a list with the result of a DAO call, showing a loading placeholder until it arrives
+     * @param listView The list to fill
+     * @param query The DAO call returning the new items
+     * @param onFailure Receives the failure on the FX thread, after the list has been left empty
+     * @return A future completed once the list has been filled
+     */
+    public static <T, C extends Collection<? extends T>> CompletableFuture<C> loadInto(
+            final ListView<T> listView, final AsyncDAO.Query<C> query, final Consumer<? super Throwable> onFailure) {
+        final Node placeholder = listView.getPlaceholder();
+        listView.getItems().clear();
+        listView.setPlaceholder(new Label(LOADING_TEXT));
+        CompletableFuture<C> future = load(
+                query,
+                items -> {
+                    listView.setPlaceholder(placeholder);
+                    listView.getItems().setAll(items);
+                },
+                error -> {
+                    listView.setPlaceholder(placeholder);
+                    onFailure.accept(error);
+                });
+        future.whenComplete((items, error) -> {
+            if (error instanceof CancellationException) {
+                listView.setPlaceholder(placeholder);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Gets the text shown in place of data that is still loading
+     * @return The loading text
+     */
+    public static String loadingText() {
+        return LOADING_TEXT;
+    }
+
+    /**
+     * Strips the <code>CompletionException</code> a future wraps failures in
+     * @param error The failure a future completed with
+     * @return The underlying cause
+     */
+    public static Throwable unwrap(final Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
@@ -0,0 +1,48 @@
+package sms.gradle.utils;
+
+import java.sql.SQLException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import sms.gradle.model.dao.GradeSummaries;
+import sms.gradle.model.dao.GradeSummaries.ConsistencyReport;
+
+/**
+ * Command line entry point for maintaining the grade summary tables of the database configured by
+ * <code>sms.db.url</code>. <code>rebuild</code> recreates every summary from the results table and
+ * <code>check</code> reports any summary that no longer matches it.
+ */
+public final class GradeSummaryCommand {
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    private GradeSummaryCommand() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Runs a grade summary command.
+     * Arguments: <code>rebuild|check</code>. <code>check</code> exits with status 1 if the summaries are inconsistent.
+     * @param args The command line arguments
+     * @throws SQLException if a database access error occurs
+     */
+    public static void main(final String[] args) throws SQLException {
+        String command = args.length > 0 ? args[0] : "check";
+        switch (command) {
+            case "rebuild" -> System.out.println("Rebuilt " + GradeSummaries.rebuild() + " grade summary rows");
+            case "check" -> {
+                ConsistencyReport report = GradeSummaries.checkConsistency();
+                report.mismatchesByTable()
+                        .forEach((table, mismatches) -> System.out.println(table + ": " + mismatches + " mismatched"));
+                if (!report.isConsistent()) {
+                    System.out.println("Grade summaries are inconsistent, run the rebuild command to repair them");
+                    System.exit(1);
+                }
+                System.out.println("Grade summaries are consistent");
+            }
+            default -> {
+                LOGGER.error("Unknown grade summary command: {}", command);
+                System.err.println("Usage: GradeSummaryCommand rebuild|check");
+                System.exit(2);
+            }
+        }
+    }
+}
@@ -5,6 +5,7 @@ import java.sql.Date;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import sms.gradle.model.dao.AssessmentDAO;
@@ -12,6 +13,7 @@ import sms.gradle.model.dao.CourseDAO;
 import sms.gradle.model.dao.CourseEnrollmentDAO;
 import sms.gradle.model.dao.ModuleDAO;
 import sms.gradle.model.dao.ResultDAO;
+import sms.gradle.model.dao.SettingDAO;
 import sms.gradle.model.dao.StudentDAO;
 import sms.gradle.model.entities.Assessment;
 import sms.gradle.model.entities.Course;
@@ -267,6 +269,52 @@ public final class MockDatabaseGenerator {
     private static final int NUMBER_OF_STUDENTS = 200;
     private static final int NUMBER_OF_COURSES = MockDatabaseGenerator.COURSE_NAMES.size();
 
+    // Recorded once populateTables finishes, so a cancelled or failed population is finished on the next start
+    private static final String GENERATED_SETTING = "sample_data_generated";
+
+    private static final List<String> STEPS =
+            List.of("students", "courses", "modules", "assessments", "enrollments and results");
+
+    /**
+     * Told how far populating the tables has got, and asked whether it should stop. Called on the thread
+     * populating the tables.
+     */
+    public interface Progress {
+        Progress NONE = new Progress() {
+            @Override
+            public void update(final String step, final double fraction) {}
+
+            @Override
+            public boolean isCancelled() {
+                return false;
+            }
+        };
+
+        /**
+         * Reports progress
+         * @param step The table being populated, for example "students"
+         * @param fraction How much of the whole population is done, from 0 to 1
+         */
+        void update(String step, double fraction);
+
+        /**
+         * Checked before each row is added
+         * @return true to stop populating the tables
+         */
+        boolean isCancelled();
+    }
+
+    /**
+     * Checks whether the sample data has been generated to the end. A population that was cancelled or failed part
+     * way through is not counted.
+     *
+     * @return true if <code>populateTables</code> has finished on this database
+     * @throws SQLException if a database access error occurs
+     */
+    public static boolean isGenerated() throws SQLException {
+        return SettingDAO.findValue(GENERATED_SETTING).isPresent();
+    }
+
     /**
      * Populates database tables with sample data, checking for existing data to avoid conflicts.
      * This method coordinates the population of all tables by calling specialized methods for each entity type.
@@ -274,31 +322,64 @@ public final class MockDatabaseGenerator {
      * @throws SQLException if a database access error occurs
      */
     public static void populateTables() throws SQLException {
+        populateTables(Progress.NONE);
+    }
+
+    /**
+     * Populates database tables with sample data, reporting progress as it goes. If the progress is cancelled,
+     * the rows added so far are kept. Every step only adds what is missing from the sample data, so running it
+     * again finishes a cancelled population without duplicating it. Once every step has finished, the population
+     * is recorded so that <code>isGenerated</code> returns true.
+     *
+     * @param progress Told how far population has got and checked for cancellation before each row
+     * @throws SQLException if a database access error occurs
+     * @throws CancellationException if the progress is cancelled before population finishes
+     */
+    public static void populateTables(final Progress progress) throws SQLException {
         LOGGER.info("Populating tables");
 
-        populateStudents();
-        populateCourses();
-        populateModules();
-        populateAssessments();
-        populateEnrollmentsAndResults();
+        populateStudents(progress);
+        populateCourses(progress);
+        populateModules(progress);
+        populateAssessments(progress);
+        populateEnrollmentsAndResults(progress);
+        SettingDAO.setValue(GENERATED_SETTING, "true");
+        progress.update(STEPS.getLast(), 1);
 
         LOGGER.info("Finished populating tables");
     }
 
     /**
-     * Populates the students table with sample data, checking for existing emails to avoid conflicts.
+     * Reports how far a step has got and stops population if the progress has been cancelled
      *
+     * @param progress The progress to report to
+     * @param step The index of the step in <code>STEPS</code>
+     * @param done The number of items the step has finished
+     * @param total The number of items in the step
+     * @throws CancellationException if the progress has been cancelled
+     */
+    private static void checkProgress(final Progress progress, final int step, final int done, final int total) {
+        if (progress.isCancelled()) {
+            LOGGER.info("Populating tables cancelled while populating {}", STEPS.get(step));
+            throw new CancellationException("Populating tables was cancelled");
+        }
+        double stepFraction = total == 0 ? 0 : (double) done / total;
+        progress.update(STEPS.get(step), (step + stepFraction) / STEPS.size());
+    }
+
+    /**
+     * Populates the students table with sample data. Each sample student has a numbered email, and numbers whose
+     * email already exists are skipped, so a cancelled run is topped up rather than repeated.
+     *
+     * @param progress Told how far the step has got and checked for cancellation
      * @throws SQLException if a database access error occurs
      */
-    private static void populateStudents() throws SQLException {
+    private static void populateStudents(final Progress progress) throws SQLException {
         LOGGER.debug("Populating students table");
         SecureRandom random = new SecureRandom();
 
-        // Find the highest student number from existing emails to avoid conflicts
-        int startingStudentNum = getNextAvailableStudentNumber();
-
-        for (int i = 0; i < NUMBER_OF_STUDENTS; i++) {
-            int studentNum = startingStudentNum + i;
+        for (int studentNum = 0; studentNum < NUMBER_OF_STUDENTS; studentNum++) {
+            checkProgress(progress, 0, studentNum, NUMBER_OF_STUDENTS);
             String firstName =
                     MockDatabaseGenerator.FIRST_NAMES.get(random.nextInt(MockDatabaseGenerator.FIRST_NAMES.size()));
             String lastName =
@@ -333,40 +414,17 @@ public final class MockDatabaseGenerator {
         return "student" + studentNum + "@sms.com";
     }
 
-    /**
-     * Determines the next available student number by analyzing existing email addresses.
-     *
-     * @return The next available student number
-     * @throws SQLException if a database access error occurs
-     */
-    private static int getNextAvailableStudentNumber() throws SQLException {
-        List<Student> existingStudents = StudentDAO.findAll();
-        int highestStudentNum = -1;
-
-        for (Student student : existingStudents) {
-            String email = student.getEmail();
-            if (email != null && email.matches("student\\d+@sms\\.com")) {
-                try {
-                    int studentNum = Integer.parseInt(email.substring(7, email.indexOf("@")));
-                    highestStudentNum = Math.max(highestStudentNum, studentNum);
-                } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
-                    LOGGER.debug("Skipping email that doesn't match pattern: {}", email);
-                }
-            }
-        }
-
-        return highestStudentNum + 1;
-    }
-
     /**
      * Populates the courses table with sample data, checking for existing courses to avoid conflicts.
      *
+     * @param progress Told how far the step has got and checked for cancellation
      * @throws SQLException if a database access error occurs
      */
-    private static void populateCourses() throws SQLException {
+    private static void populateCourses(final Progress progress) throws SQLException {
         LOGGER.debug("Populating courses table");
 
         for (int courseNum = 0; courseNum < NUMBER_OF_COURSES; courseNum++) {
+            checkProgress(progress, 1, courseNum, NUMBER_OF_COURSES);
             String courseName = MockDatabaseGenerator.COURSE_NAMES.get(courseNum);
 
             if (CourseDAO.findByName(courseName).isPresent()) {
@@ -382,9 +440,10 @@ public final class MockDatabaseGenerator {
     /**
      * Populates the modules table with sample data, checking for existing modules to avoid conflicts.
      *
+     * @param progress Told how far the step has got and checked for cancellation
      * @throws SQLException if a database access error occurs
      */
-    private static void populateModules() throws SQLException {
+    private static void populateModules(final Progress progress) throws SQLException {
         LOGGER.debug("Populating modules table");
         SecureRandom random = new SecureRandom();
 
@@ -394,7 +453,9 @@ public final class MockDatabaseGenerator {
             return;
         }
 
-        for (Course course : courses) {
+        for (int courseIndex = 0; courseIndex < courses.size(); courseIndex++) {
+            checkProgress(progress, 2, courseIndex, courses.size());
+            Course course = courses.get(courseIndex);
             List<Module> existingModules = ModuleDAO.findByCourseId(course.getId());
             int modulesToAdd = NUMBER_OF_MODULES_PER_COURSE - existingModules.size();
 
@@ -420,9 +481,10 @@ public final class MockDatabaseGenerator {
     /**
      * Populates the assessments table with sample data, checking for existing assessments to avoid conflicts.
      *
+     * @param progress Told how far the step has got and checked for cancellation
      * @throws SQLException if a database access error occurs
      */
-    private static void populateAssessments() throws SQLException {
+    private static void populateAssessments(final Progress progress) throws SQLException {
         LOGGER.debug("Populating assessments table");
 
         List<Module> modules = ModuleDAO.findAll();
@@ -431,7 +493,9 @@ public final class MockDatabaseGenerator {
             return;
         }
 
-        for (Module module : modules) {
+        for (int moduleIndex = 0; moduleIndex < modules.size(); moduleIndex++) {
+            checkProgress(progress, 3, moduleIndex, modules.size());
+            Module module = modules.get(moduleIndex);
             List<Assessment> existingAssessments = AssessmentDAO.findByModuleId(module.getId());
             int assessmentsToAdd = NUMBER_OF_ASSESSMENTS_PER_MODULE - existingAssessments.size();
 
@@ -455,9 +519,10 @@ public final class MockDatabaseGenerator {
      * Populates the course enrollments and results tables with sample data,
      * checking for existing enrollments to avoid conflicts.
      *
+     * @param progress Told how far the step has got and checked for cancellation
      * @throws SQLException if a database access error occurs
      */
-    private static void populateEnrollmentsAndResults() throws SQLException {
+    private static void populateEnrollmentsAndResults(final Progress progress) throws SQLException {
         LOGGER.debug("Populating enrollments and results tables");
         SecureRandom random = new SecureRandom();
 
@@ -469,7 +534,9 @@ public final class MockDatabaseGenerator {
             return;
         }
 
-        for (Student student : students) {
+        for (int studentIndex = 0; studentIndex < students.size(); studentIndex++) {
+            checkProgress(progress, 4, studentIndex, students.size());
+            Student student = students.get(studentIndex);
             List<CourseEnrollment> existingEnrollments = CourseEnrollmentDAO.findByStudentId(student.getId());
             int enrollmentsToAdd =
                     Math.min(NUMBER_OF_ENROLLMENTS_PER_STUDENT - existingEnrollments.size(), courses.size());
@@ -0,0 +1,52 @@
+package sms.gradle.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The background loads a view has started for the record it is showing, so they can all be dropped when it
+ * switches to another record or is closed before they finish. Only used from the JavaFX application thread.
+ * <p>
+ * Each load runs on its own virtual thread, so a view forks all of its sections at once and fills each one in as
+ * its result arrives. A failed load does not cancel the others, since each section reports its own failure.
+ */
+public final class PendingLoads {
+    private final List<CompletableFuture<?>> loads = new ArrayList<>();
+
+    /**
+     * Tracks a load so it is cancelled by the next {@link #cancelAll()}
+     * @param load The future returned by <code>FxAsync</code>
+     * @return The same future, for chaining
+     */
+    public <T> CompletableFuture<T> track(final CompletableFuture<T> load) {
+        loads.removeIf(CompletableFuture::isDone);
+        loads.add(load);
+        return load;
+    }
+
+    /**
+     * Gets a future completed once every tracked load has finished. It completes exceptionally if any of them
+     * failed or was cancelled.
+     * @return A future over the loads tracked so far
+     */
+    public CompletableFuture<Void> whenAllDone() {
+        return CompletableFuture.allOf(loads.toArray(CompletableFuture<?>[]::new));
+    }
+
+    /**
+     * Checks whether any tracked load has not delivered its result yet
+     * @return true if a load is still running
+     */
+    public boolean hasUnfinished() {
+        return loads.stream().anyMatch(load -> !load.isDone());
+    }
+
+    /**
+     * Cancels every tracked load that has not delivered its result yet
+     */
+    public void cancelAll() {
+        loads.forEach(load -> load.cancel(false));
+        loads.clear();
+    }
+}
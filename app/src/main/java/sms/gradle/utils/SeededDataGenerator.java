@@ -0,0 +1,359 @@
+package sms.gradle.utils;
+
+import java.sql.Date;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import sms.gradle.model.dao.AssessmentDAO;
+import sms.gradle.model.dao.CourseDAO;
+import sms.gradle.model.dao.CourseEnrollmentDAO;
+import sms.gradle.model.dao.DatabaseConnection;
+import sms.gradle.model.dao.ModuleDAO;
+import sms.gradle.model.dao.ResultDAO;
+import sms.gradle.model.dao.StudentDAO;
+import sms.gradle.model.entities.Assessment;
+import sms.gradle.model.entities.Course;
+import sms.gradle.model.entities.CourseEnrollment;
+import sms.gradle.model.entities.Module;
+import sms.gradle.model.entities.Result;
+import sms.gradle.model.entities.Student;
+
+/**
+ * Generates a reproducible dataset of any size for benchmarking.
+ * Every row is derived only from the seed and the row's position, so runs with the same seed and scale produce
+ * identical data. Rows are generated in parallel, in chunks, and written in order through the DAO batch APIs,
+ * which keeps the IDs the database assigns the same from run to run.
+ */
+public final class SeededDataGenerator {
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    private static final LocalDate BASE_DATE = LocalDate.of(2024, 9, 1);
+    private static final int STUDENTS_PER_CHUNK = 2_000;
+
+    // Every table the generator writes to. They must all be empty for the database to assign the same IDs each run
+    private static final List<String> GENERATED_TABLES =
+            List.of("students", "courses", "modules", "assessments", "course_enrollments", "results");
+
+    // Each kind of row draws from its own random stream so changing one table's rules doesn't shift the others
+    private static final long STUDENT_STREAM = 1;
+    private static final long MODULE_STREAM = 2;
+    private static final long ASSESSMENT_STREAM = 3;
+    private static final long ENROLLMENT_STREAM = 4;
+
+    /**
+     * The size of the generated dataset
+     * @param students The number of students
+     * @param courses The number of courses
+     * @param modulesPerCourse The number of modules in each course
+     * @param assessmentsPerModule The number of assessments in each module
+     * @param enrollmentsPerStudent The number of courses each student is enrolled in, with a result for every
+     *                              assessment in those courses
+     */
+    public record Scale(
+            int students, int courses, int modulesPerCourse, int assessmentsPerModule, int enrollmentsPerStudent) {
+
+        /** The dataset the application seeds on first run: 200 students across 50 courses */
+        public static final Scale DEFAULT = new Scale(200, 50, 5, 3, 3);
+
+        public Scale {
+            if (students < 0 || courses < 1 || modulesPerCourse < 0 || assessmentsPerModule < 0) {
+                throw new IllegalArgumentException(String.format(
+                        "Invalid scale: %d students, %d courses, %d modules per course, %d assessments per module",
+                        students, courses, modulesPerCourse, assessmentsPerModule));
+            }
+            if (enrollmentsPerStudent < 0 || enrollmentsPerStudent > courses) {
+                throw new IllegalArgumentException(String.format(
+                        "Invalid scale: %d enrollments per student with %d courses", enrollmentsPerStudent, courses));
+            }
+        }
+
+        /**
+         * Scales the number of students and courses of the default dataset, keeping the shape of each course the same.
+         * A factor of 500 gives 100,000 students and 4.5 million results.
+         * @param factor How many times larger than the default dataset to make
+         * @return The scaled dataset size
+         */
+        public static Scale of(final double factor) {
+            if (factor <= 0) {
+                throw new IllegalArgumentException(String.format("Invalid scale factor: %s", factor));
+            }
+            int courses = Math.max(DEFAULT.enrollmentsPerStudent, (int) Math.round(DEFAULT.courses * factor));
+            return new Scale(
+                    (int) Math.round(DEFAULT.students * factor),
+                    courses,
+                    DEFAULT.modulesPerCourse,
+                    DEFAULT.assessmentsPerModule,
+                    DEFAULT.enrollmentsPerStudent);
+        }
+
+        /**
+         * Gets the number of results the dataset will contain
+         * @return The number of result rows
+         */
+        public long results() {
+            return (long) students * enrollmentsPerStudent * modulesPerCourse * assessmentsPerModule;
+        }
+    }
+
+    /**
+     * The number of rows written to each table by a run
+     */
+    public record Summary(
+            int students,
+            int courses,
+            int modules,
+            int assessments,
+            int enrollments,
+            long results,
+            long elapsedMillis) {}
+
+    private final long seed;
+    private final Scale scale;
+    private final int threads;
+
+    /**
+     * Creates a generator
+     * @param seed The seed every generated value is derived from
+     * @param scale The size of the dataset
+     * @param threads The number of threads used to generate rows
+     */
+    public SeededDataGenerator(final long seed, final Scale scale, final int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException(String.format("Invalid thread count: %d", threads));
+        }
+        this.seed = seed;
+        this.scale = scale;
+        this.threads = threads;
+    }
+
+    /**
+     * Generates the dataset into the database. Every table the generator writes to must be empty, otherwise the
+     * IDs assigned would depend on the rows already there and the generated emails could clash with existing ones.
+     * @return The number of rows written to each table
+     * @throws SQLException if a database access error occurs
+     * @throws IllegalStateException if any of the tables the generator writes to already has rows
+     */
+    public Summary generate() throws SQLException {
+        List<String> nonEmptyTables = DatabaseConnection.getInstance().findNonEmptyTables(GENERATED_TABLES);
+        if (!nonEmptyTables.isEmpty()) {
+            throw new IllegalStateException(String.format(
+                    "Seeded data can only be generated into an empty database, but these tables have rows: %s",
+                    String.join(", ", nonEmptyTables)));
+        }
+        LOGGER.info("Generating seeded dataset with seed {} and scale {}", seed, scale);
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Integer> courseIds = CourseDAO.addAll(generateCourses());
+            List<Integer> moduleIds = ModuleDAO.addAll(generateModules(courseIds));
+            List<Integer> assessmentIds = AssessmentDAO.addAll(generateAssessments(moduleIds));
+            LOGGER.info(
+                    "Generated {} courses, {} modules and {} assessments",
+                    courseIds.size(),
+                    moduleIds.size(),
+                    assessmentIds.size());
+
+            int enrollments = 0;
+            long results = 0;
+            int chunks = (scale.students() + STUDENTS_PER_CHUNK - 1) / STUDENTS_PER_CHUNK;
+            Deque<Future<StudentChunk>> pending = new ArrayDeque<>();
+            int nextChunk = 0;
+            while (nextChunk < chunks || !pending.isEmpty()) {
+                // Keep a bounded number of chunks in flight so large runs don't hold the whole dataset in memory
+                while (nextChunk < chunks && pending.size() < threads * 2) {
+                    final int chunkIndex = nextChunk++;
+                    pending.add(executor.submit(() -> generateStudentChunk(chunkIndex)));
+                }
+                StudentChunk chunk = await(pending.removeFirst());
+                List<Integer> studentIds = StudentDAO.addAll(chunk.students(), chunk.hashedPasswords());
+                List<CourseEnrollment> chunkEnrollments = new ArrayList<>();
+                List<Result> chunkResults = new ArrayList<>();
+                for (int i = 0; i < studentIds.size(); i++) {
+                    addEnrollmentsAndResults(
+                            chunk.firstIndex() + i,
+                            studentIds.get(i),
+                            chunk.students().get(i).getJoinDate(),
+                            courseIds,
+                            assessmentIds,
+                            chunkEnrollments,
+                            chunkResults);
+                }
+                CourseEnrollmentDAO.addAll(chunkEnrollments);
+                ResultDAO.addAll(chunkResults);
+                enrollments += chunkEnrollments.size();
+                results += chunkResults.size();
+                LOGGER.debug("Wrote students {} to {}", chunk.firstIndex(), chunk.firstIndex() + studentIds.size());
+            }
+
+            Summary summary = new Summary(
+                    scale.students(),
+                    courseIds.size(),
+                    moduleIds.size(),
+                    assessmentIds.size(),
+                    enrollments,
+                    results,
+                    (System.nanoTime() - start) / 1_000_000);
+            LOGGER.info("Generated seeded dataset: {}", summary);
+            return summary;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Creates a random number generator for one row, derived only from the seed, the kind of row and its index
+     * @param stream The kind of row being generated
+     * @param index The position of the row
+     * @return A random number generator unique to that row
+     */
+    private SplittableRandom randomFor(final long stream, final long index) {
+        return new SplittableRandom(seed ^ (stream * 0x9E3779B97F4A7C15L) ^ (index * 0xC2B2AE3D27D4EB4FL));
+    }
+
+    private List<Course> generateCourses() {
+        List<Course> courses = new ArrayList<>(scale.courses());
+        List<String> names = MockDatabaseGenerator.COURSE_NAMES;
+        for (int i = 0; i < scale.courses(); i++) {
+            // Course names must be unique, so later passes through the name list are numbered
+            int pass = i / names.size();
+            String name = names.get(i % names.size()) + (pass == 0 ? "" : " " + (pass + 1));
+            courses.add(new Course(0, name, "Description" + i));
+        }
+        return courses;
+    }
+
+    private List<Module> generateModules(final List<Integer> courseIds) {
+        List<Module> modules = new ArrayList<>(courseIds.size() * scale.modulesPerCourse());
+        for (int c = 0; c < courseIds.size(); c++) {
+            for (int m = 0; m < scale.modulesPerCourse(); m++) {
+                SplittableRandom random = randomFor(MODULE_STREAM, (long) c * scale.modulesPerCourse() + m);
+                modules.add(new Module(
+                        0,
+                        pick(random, MockDatabaseGenerator.MODULE_NAMES),
+                        "Description-" + c + "-" + m,
+                        pick(random, MockDatabaseGenerator.LAST_NAMES),
+                        courseIds.get(c)));
+            }
+        }
+        return modules;
+    }
+
+    private List<Assessment> generateAssessments(final List<Integer> moduleIds) {
+        List<Assessment> assessments = new ArrayList<>(moduleIds.size() * scale.assessmentsPerModule());
+        for (int m = 0; m < moduleIds.size(); m++) {
+            for (int a = 0; a < scale.assessmentsPerModule(); a++) {
+                SplittableRandom random = randomFor(ASSESSMENT_STREAM, (long) m * scale.assessmentsPerModule() + a);
+                assessments.add(new Assessment(
+                        0,
+                        "Assessment-" + moduleIds.get(m) + "-" + (a + 1),
+                        "Description-" + m + "-" + a,
+                        Date.valueOf(BASE_DATE.plusDays(random.nextInt(270))),
+                        moduleIds.get(m)));
+            }
+        }
+        return assessments;
+    }
+
+    /**
+     * A chunk of consecutive students and their hashed passwords
+     */
+    private record StudentChunk(int firstIndex, List<Student> students, List<String> hashedPasswords) {}
+
+    private StudentChunk generateStudentChunk(final int chunk) {
+        int firstIndex = chunk * STUDENTS_PER_CHUNK;
+        int size = Math.min(STUDENTS_PER_CHUNK, scale.students() - firstIndex);
+        List<Student> students = new ArrayList<>(size);
+        List<String> hashedPasswords = new ArrayList<>(size);
+        for (int i = firstIndex; i < firstIndex + size; i++) {
+            SplittableRandom random = randomFor(STUDENT_STREAM, i);
+            String firstName = pick(random, MockDatabaseGenerator.FIRST_NAMES);
+            String lastName = pick(random, MockDatabaseGenerator.LAST_NAMES);
+            students.add(new Student(
+                    0,
+                    firstName,
+                    lastName,
+                    "student" + i + "@sms.com",
+                    Date.valueOf(BASE_DATE.minusYears(18).minusDays(random.nextInt(3650))),
+                    Date.valueOf(BASE_DATE.minusDays(random.nextInt(1460)))));
+            hashedPasswords.add(Common.generateSha256Hash(firstName + lastName));
+        }
+        return new StudentChunk(firstIndex, students, hashedPasswords);
+    }
+
+    /**
+     * Enrolls a student in distinct random courses and gives them a result for every assessment in those courses
+     */
+    private void addEnrollmentsAndResults(
+            final int studentIndex,
+            final int studentId,
+            final Date joinDate,
+            final List<Integer> courseIds,
+            final List<Integer> assessmentIds,
+            final List<CourseEnrollment> enrollments,
+            final List<Result> results) {
+        SplittableRandom random = randomFor(ENROLLMENT_STREAM, studentIndex);
+        int[] chosen = new int[scale.enrollmentsPerStudent()];
+        for (int e = 0; e < chosen.length; e++) {
+            int course;
+            do {
+                course = random.nextInt(courseIds.size());
+            } while (contains(chosen, e, course));
+            chosen[e] = course;
+
+            enrollments.add(new CourseEnrollment(0, studentId, courseIds.get(course), joinDate));
+            int assessmentsPerCourse = scale.modulesPerCourse() * scale.assessmentsPerModule();
+            for (int a = 0; a < assessmentsPerCourse; a++) {
+                int assessmentId = assessmentIds.get(course * assessmentsPerCourse + a);
+                results.add(new Result(0, studentId, assessmentId, random.nextInt(101)));
+            }
+        }
+    }
+
+    private static boolean contains(final int[] values, final int length, final int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String pick(final SplittableRandom random, final List<String> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static <T> T await(final Future<T> future) throws SQLException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while generating seeded data", e);
+        } catch (ExecutionException e) {
+            throw new SQLException("Failed to generate seeded data", e.getCause());
+        }
+    }
+
+    /**
+     * Generates a seeded dataset into the database configured by <code>sms.db.url</code>.
+     * Arguments: <code>[scaleFactor] [seed] [threads]</code>, defaulting to 1, 42 and the number of processors.
+     * @param args The command line arguments
+     * @throws SQLException if a database access error occurs
+     */
+    public static void main(final String[] args) throws SQLException {
+        double factor = args.length > 0 ? Double.parseDouble(args[0]) : 1;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 42;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        Summary summary = new SeededDataGenerator(seed, Scale.of(factor), threads).generate();
+        System.out.println(summary);
+    }
+}
@@ -0,0 +1,41 @@
+package sms.gradle.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A statement run by a DAO. The event's stack trace shows which DAO method ran it and which view asked for it.
+ */
+@Name("sms.gradle.DaoCall")
+@Label("DAO Call")
+@Category({"Student Management System", "Database"})
+@Description("A SQL statement run by a DAO")
+public final class DaoCallEvent extends Event {
+    @Label("SQL")
+    private String sql;
+
+    @Label("Rows")
+    @Description("The number of rows read or affected")
+    private int rowCount;
+
+    @Label("Failed")
+    private boolean failed;
+
+    /**
+     * Ends the event and commits it if a recording wants it. Does nothing else when no recording is running.
+     * @param sql The statement that was run
+     * @param rowCount The number of rows read or affected
+     * @param failed Whether the statement threw an exception
+     */
+    public void complete(final String sql, final int rowCount, final boolean failed) {
+        if (shouldCommit()) {
+            this.sql = sql;
+            this.rowCount = rowCount;
+            this.failed = failed;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package sms.gradle.utils.jfr;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Loading a record into a detail view, from its <code>set*Id</code> call until every background load it started
+ * has delivered its result on the FX thread, failed or been dropped for another record.
+ */
+@Name("sms.gradle.DetailLoad")
+@Label("Detail View Load")
+@Category({"Student Management System", "Views"})
+@Description("Loading a record into a detail view and showing its data")
+public final class DetailLoadEvent extends Event {
+    @Label("View")
+    private String view;
+
+    @Label("Record ID")
+    private int recordId;
+
+    @Label("Failed")
+    private boolean failed;
+
+    @Label("Cancelled")
+    @Description("The view was switched to another record before this one finished loading")
+    private boolean cancelled;
+
+    /**
+     * Starts timing a detail view load
+     * @param view The name of the detail view
+     * @param recordId The ID of the record being loaded
+     * @return The started event
+     */
+    public static DetailLoadEvent start(final String view, final int recordId) {
+        DetailLoadEvent event = new DetailLoadEvent();
+        event.view = view;
+        event.recordId = recordId;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Commits the event once the view's loads have all finished. Does nothing when no recording wants the event.
+     * @param loads A future completed once every load the view started has finished
+     */
+    public void completeWhenDone(final CompletableFuture<Void> loads) {
+        if (!isEnabled()) {
+            return;
+        }
+        loads.whenComplete((ignored, error) -> {
+            Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+            if (shouldCommit()) {
+                cancelled = cause instanceof CancellationException;
+                failed = cause != null && !cancelled;
+                commit();
+            }
+        });
+    }
+}
@@ -0,0 +1,41 @@
+package sms.gradle.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A login attempt, from looking the email up to checking the password. The email is not recorded.
+ */
+@Name("sms.gradle.LoginAttempt")
+@Label("Login Attempt")
+@Category({"Student Management System", "Login"})
+@Description("Looking up and checking the credentials entered on the login screen")
+public final class LoginAttemptEvent extends Event {
+    @Label("Accounts Found")
+    @Description("The number of accounts using the email entered")
+    private int accountsFound;
+
+    @Label("Succeeded")
+    private boolean succeeded;
+
+    @Label("User Type")
+    @Description("The type of account logged in to, or empty if the attempt failed")
+    private String userType;
+
+    /**
+     * Ends the event and commits it if a recording wants it
+     * @param accountsFound The number of accounts using the email entered
+     * @param userType The type of account logged in to, or null if the attempt failed
+     */
+    public void complete(final int accountsFound, final String userType) {
+        if (shouldCommit()) {
+            this.accountsFound = accountsFound;
+            this.succeeded = userType != null;
+            this.userType = userType == null ? "" : userType;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package sms.gradle.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A change to another stage through <code>ViewFactory</code>, including the stage's on shown handler
+ */
+@Name("sms.gradle.StageChange")
+@Label("Stage Change")
+@Category({"Student Management System", "Views"})
+@Description("Showing a stage and running its on shown handler")
+public final class StageChangeEvent extends Event {
+    @Label("Stage")
+    private String stage;
+
+    /**
+     * Ends the event and commits it if a recording wants it
+     * @param stage The name of the stage that was shown
+     */
+    public void complete(final String stage) {
+        if (shouldCommit()) {
+            this.stage = stage;
+            commit();
+        }
+    }
+}
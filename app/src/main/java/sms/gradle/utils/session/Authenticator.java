@@ -0,0 +1,52 @@
+package sms.gradle.utils.session;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import sms.gradle.model.dao.CredentialDAO;
+import sms.gradle.model.dao.CredentialDAO.Credential;
+import sms.gradle.utils.jfr.LoginAttemptEvent;
+
+/**
+ * Checks login attempts against admin and student accounts with a single credentials lookup
+ */
+public final class Authenticator {
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    private Authenticator() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Finds the account an email and password log in to. If both an admin and a student use the email,
+     * the admin account is tried first.
+     * @param email The email entered
+     * @param hashedPassword The hash of the password entered
+     * @return The user logged in as, or an empty Optional if no account matches the email and password
+     * @throws SQLException if the credentials cannot be looked up
+     */
+    public static Optional<User> authenticate(final String email, final String hashedPassword) throws SQLException {
+        LOGGER.debug("Authenticating user with email: {}", email);
+        LoginAttemptEvent event = new LoginAttemptEvent();
+        event.begin();
+        List<Credential> credentials = List.of();
+        Optional<User> user = Optional.empty();
+        try {
+            credentials = CredentialDAO.findByEmail(email);
+            user = credentials.stream()
+                    .filter(credential -> credential.matches(hashedPassword))
+                    .findFirst()
+                    .map(Authenticator::toUser);
+            return user;
+        } finally {
+            event.complete(credentials.size(), user.map(found -> found.getType().name()).orElse(null));
+        }
+    }
+
+    private static User toUser(final Credential credential) {
+        return new User(
+                credential.id(), credential.type(), credential.firstName(), credential.lastName(), credential.email());
+    }
+}
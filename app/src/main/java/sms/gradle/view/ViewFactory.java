@@ -1,10 +1,12 @@
 package sms.gradle.view;
 
+import java.util.List;
+import java.util.function.Supplier;
+import javafx.application.Platform;
 import javafx.geometry.Rectangle2D;
 import javafx.scene.Scene;
 import javafx.stage.Screen;
 import javafx.stage.Stage;
-import lombok.Getter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import sms.gradle.controller.admin.AdminDashboardController;
@@ -16,7 +18,9 @@ import sms.gradle.controller.admin.ManageStudentController;
 import sms.gradle.controller.student.AccessStudentAssessmentsController;
 import sms.gradle.controller.student.AccessStudentModulesController;
 import sms.gradle.controller.student.StudentDashboardController;
+import sms.gradle.utils.jfr.StageChangeEvent;
 import sms.gradle.utils.session.Session;
+import sms.gradle.utils.session.UserType;
 import sms.gradle.view.frames.LoginView;
 import sms.gradle.view.frames.admin.AdminDashboardView;
 import sms.gradle.view.frames.admin.AssessmentDetailView;
@@ -36,340 +40,477 @@ import sms.gradle.view.frames.student.StudentDashboardView;
  * Co-ordinates creating & interchanging between application views using Singleton design pattern
  */
 
-@Getter
 public class ViewFactory {
     private static final Logger LOGGER = LogManager.getLogger();
 
     private static final Rectangle2D bounds = Screen.getPrimary().getVisualBounds();
 
+    // Whether the screens a user is likely to open next are built while they look at their dashboard
+    private static final boolean PREWARM = Boolean.parseBoolean(System.getProperty("sms.view.prewarm", "true"));
+
     private static final ViewFactory instance = new ViewFactory();
-    private Stage loginStage;
-    private Stage studentDashboardStage;
-    private Stage studentModulesStage;
-    private Stage studentAssessmentsStage;
-    private Stage adminDashboardStage;
-    private Stage manageStudentStage;
-    private Stage manageCourseStage;
-    private Stage manageModulesStage;
-    private Stage manageAdminStage;
-    private Stage courseDetailStage;
-    private Stage moduleDetailStage;
-    private Stage assessmentDetailStage;
-    private Stage studentDetailStage;
-    private Stage manageAssessmentsStage;
+    private final LazyStage loginStage = new LazyStage("login", this::createLoginStage);
+    private final LazyStage studentDashboardStage =
+            new LazyStage("student dashboard", this::createStudentDashboardStage);
+    private final LazyStage studentModulesStage =
+            new LazyStage("access student modules", this::createStudentModulesStage);
+    private final LazyStage studentAssessmentsStage =
+            new LazyStage("access student assessments", this::createStudentAssessmentsStage);
+    private final LazyStage adminDashboardStage = new LazyStage("admin dashboard", this::createAdminDashboardStage);
+    private final LazyStage manageStudentStage = new LazyStage("manage student", this::createManageStudentStage);
+    private final LazyStage manageCourseStage = new LazyStage("manage course", this::createManageCourseStage);
+    private final LazyStage manageModulesStage = new LazyStage("manage modules", this::createManageModulesStage);
+    private final LazyStage manageAdminStage = new LazyStage("manage admin", this::createManageAdminStage);
+    private final LazyStage courseDetailStage = new LazyStage("course detail", this::createCourseDetailStage);
+    private final LazyStage moduleDetailStage = new LazyStage("module detail", this::createModuleDetailStage);
+    private final LazyStage assessmentDetailStage =
+            new LazyStage("assessment detail", this::createAssessmentDetailStage);
+    private final LazyStage studentDetailStage = new LazyStage("student detail", this::createStudentDetailStage);
+    private final LazyStage manageAssessmentsStage =
+            new LazyStage("manage assessments", this::createManageAssessmentsStage);
 
     private ViewFactory() {
-        LOGGER.info("Initialising View Factory");
-        initialiseLoginStage();
-        initialiseStudentDashboardStage();
-        initialiseStudentModulesStage();
-        initialiseStudentAssessmentsStage();
-        initialiseAdminDashboardStage();
-        initialiseManageStudentStage();
-        initialiseManageCourseStage();
-        initialiseManageModulesStage();
-        initialiseManageAdminStage();
-        initialiseCourseDetailStage();
-        initialiseModuleDetailStage();
-        initialiseAssessmentDetailStage();
-        initialiseStudentDetailStage();
-        initialiseManageAssessmentsStage();
-        LOGGER.info("View Factory initialised");
+        LOGGER.info("Initialising View Factory, stages are built when first shown");
     }
 
     public static ViewFactory getInstance() {
         return instance;
     }
 
+    public Stage getLoginStage() {
+        return loginStage.get();
+    }
+
+    public Stage getStudentDashboardStage() {
+        return studentDashboardStage.get();
+    }
+
+    public Stage getStudentModulesStage() {
+        return studentModulesStage.get();
+    }
+
+    public Stage getStudentAssessmentsStage() {
+        return studentAssessmentsStage.get();
+    }
+
+    public Stage getAdminDashboardStage() {
+        return adminDashboardStage.get();
+    }
+
+    public Stage getManageStudentStage() {
+        return manageStudentStage.get();
+    }
+
+    public Stage getManageCourseStage() {
+        return manageCourseStage.get();
+    }
+
+    public Stage getManageModulesStage() {
+        return manageModulesStage.get();
+    }
+
+    public Stage getManageAdminStage() {
+        return manageAdminStage.get();
+    }
+
+    public Stage getCourseDetailStage() {
+        return courseDetailStage.get();
+    }
+
+    public Stage getModuleDetailStage() {
+        return moduleDetailStage.get();
+    }
+
+    public Stage getAssessmentDetailStage() {
+        return assessmentDetailStage.get();
+    }
+
+    public Stage getStudentDetailStage() {
+        return studentDetailStage.get();
+    }
+
+    public Stage getManageAssessmentsStage() {
+        return manageAssessmentsStage.get();
+    }
+
+    /**
+     * Queues the stages a user is likely to open from their dashboard to be built, one per pulse of the JavaFX
+     * application thread, so the first click on them does not wait for the view to be constructed. Stages have
+     * to be created on that thread, so each build is a separate <code>Platform.runLater</code> call and input
+     * events are handled between them. Does nothing if <code>sms.view.prewarm</code> is <code>false</code>.
+     * @param userType The type of user who has just logged in
+     */
+    public void prewarm(final UserType userType) {
+        if (!PREWARM) {
+            return;
+        }
+        List<LazyStage> likelyNext = userType == UserType.ADMIN
+                ? List.of(
+                        manageStudentStage,
+                        manageCourseStage,
+                        manageModulesStage,
+                        manageAssessmentsStage,
+                        manageAdminStage,
+                        courseDetailStage,
+                        moduleDetailStage,
+                        studentDetailStage,
+                        assessmentDetailStage)
+                : List.of(studentModulesStage, studentAssessmentsStage);
+        LOGGER.debug("Pre-warming {} stages for {}", likelyNext.size(), userType);
+        likelyNext.forEach(stage -> Platform.runLater(stage::get));
+    }
+
     public void changeToLoginStage() {
         LOGGER.debug("Changing to login stage");
         Session.getInstance().clearSession();
-        loginStage.show();
+        show(loginStage);
     }
 
     public void changeToStudentDashboardStage() {
         LOGGER.debug("Changing to student dashboard stage");
-        studentDashboardStage.show();
+        show(studentDashboardStage);
     }
 
     public void changeToStudentModulesStage() {
         LOGGER.debug("Changing to access student modules stage");
-        studentModulesStage.show();
+        show(studentModulesStage);
     }
 
     public void changeToStudentAssessmentsStage() {
         LOGGER.debug("Changing to access student assessments stage");
-        studentAssessmentsStage.show();
+        show(studentAssessmentsStage);
     }
 
     public void changeToAdminDashboardStage() {
         LOGGER.debug("Changing to admin dashboard stage");
-        adminDashboardStage.show();
+        show(adminDashboardStage);
     }
 
     public void changeToManageStudentStage() {
         LOGGER.debug("Changing to manage student stage");
-        manageStudentStage.show();
+        show(manageStudentStage);
     }
 
     public void changeToManageCourseStage() {
         LOGGER.debug("Changing to manage course stage");
-        manageCourseStage.show();
+        show(manageCourseStage);
     }
 
     public void changeToManageModulesStage() {
         LOGGER.debug("Changing to manage modules stage");
-        manageModulesStage.show();
+        show(manageModulesStage);
     }
 
     public void changeToManageAdminStage() {
         LOGGER.debug("Changing to manage admin stage");
-        manageAdminStage.show();
+        show(manageAdminStage);
     }
 
     public void changeToCourseDetailStage() {
         LOGGER.debug("Changing to course detail stage");
-        courseDetailStage.show();
+        show(courseDetailStage);
     }
 
     public void changeToModuleDetailStage() {
         LOGGER.debug("Changing to module detail stage");
-        moduleDetailStage.show();
+        show(moduleDetailStage);
     }
 
     public void changeToAssessmentDetailStage() {
         LOGGER.debug("Changing to assessment detail stage");
-        assessmentDetailStage.show();
+        show(assessmentDetailStage);
     }
 
     public void changeToStudentDetailStage() {
         LOGGER.debug("Changing to student detail stage");
-        studentDetailStage.show();
+        show(studentDetailStage);
     }
 
     public void changeToManageAssessmentsStage() {
         LOGGER.debug("Changing to manage assessments stage");
-        manageAssessmentsStage.show();
+        show(manageAssessmentsStage);
     }
 
-    private void initialiseLoginStage() {
+    /**
+     * Shows a stage, building it first if this is the first time, and records a <code>StageChangeEvent</code>
+     * that covers its on shown handler when a flight recording is running
+     */
+    private void show(final LazyStage lazyStage) {
+        Stage stage = lazyStage.get();
+        StageChangeEvent event = new StageChangeEvent();
+        event.begin();
+        try {
+            stage.show();
+        } finally {
+            event.complete(lazyStage.name);
+        }
+    }
+
+    private Stage createLoginStage() {
         LOGGER.debug("Initialising login stage");
         LoginView login = new LoginView();
-        loginStage = new Stage();
-        loginStage.setScene(new Scene(login, 450, 350));
-        loginStage.setTitle("Student Management System - Login");
-        loginStage.setResizable(false);
+        Stage stage = new Stage();
+        stage.setScene(new Scene(login, 450, 420));
+        stage.setTitle("Student Management System - Login");
+        stage.setResizable(false);
+        return stage;
     }
 
-    private void initialiseStudentDashboardStage() {
+    private Stage createStudentDashboardStage() {
         LOGGER.debug("Initialising student dashboard stage");
 
         StudentDashboardView studentDashboardView = new StudentDashboardView();
 
-        studentDashboardStage = new Stage();
-        studentDashboardStage.setOnShown(StudentDashboardController::handleOnShowEvent);
-        studentDashboardStage.setX(bounds.getMinX());
-        studentDashboardStage.setY(bounds.getMinY());
-        studentDashboardStage.setWidth(bounds.getWidth());
-        studentDashboardStage.setHeight(bounds.getHeight());
-        studentDashboardStage.setMinHeight(550);
-        studentDashboardStage.setMinWidth(750);
-        studentDashboardStage.setTitle("SMS - Student Dashboard");
-        studentDashboardStage.setScene(new Scene(studentDashboardView));
+        Stage stage = new Stage();
+        stage.setOnShown(StudentDashboardController::handleOnShowEvent);
+        stage.setX(bounds.getMinX());
+        stage.setY(bounds.getMinY());
+        stage.setWidth(bounds.getWidth());
+        stage.setHeight(bounds.getHeight());
+        stage.setMinHeight(550);
+        stage.setMinWidth(750);
+        stage.setTitle("SMS - Student Dashboard");
+        stage.setScene(new Scene(studentDashboardView));
+        return stage;
     }
 
-    private void initialiseStudentModulesStage() {
+    private Stage createStudentModulesStage() {
         LOGGER.debug("Initialising student modules stage");
 
         AccessStudentModulesView modulesView = new AccessStudentModulesView();
 
-        studentModulesStage = new Stage();
-        studentModulesStage.setOnShown(AccessStudentModulesController::handleOnShowEvent);
-        studentModulesStage.setX(bounds.getMinX());
-        studentModulesStage.setY(bounds.getMinY());
-        studentModulesStage.setWidth(bounds.getWidth());
-        studentModulesStage.setHeight(bounds.getHeight());
-        studentModulesStage.setMinHeight(550);
-        studentModulesStage.setMinWidth(750);
-        studentModulesStage.setTitle("SMS - Module View");
-        studentModulesStage.setScene(new Scene(modulesView));
+        Stage stage = new Stage();
+        stage.setOnShown(AccessStudentModulesController::handleOnShowEvent);
+        stage.setX(bounds.getMinX());
+        stage.setY(bounds.getMinY());
+        stage.setWidth(bounds.getWidth());
+        stage.setHeight(bounds.getHeight());
+        stage.setMinHeight(550);
+        stage.setMinWidth(750);
+        stage.setTitle("SMS - Module View");
+        stage.setScene(new Scene(modulesView));
+        return stage;
     }
 
-    private void initialiseStudentAssessmentsStage() {
+    private Stage createStudentAssessmentsStage() {
         LOGGER.debug("Initialising student assessments stage");
 
         AccessStudentAssessmentsView assessmentsView = new AccessStudentAssessmentsView();
 
-        studentAssessmentsStage = new Stage();
-        studentAssessmentsStage.setOnShown(AccessStudentAssessmentsController::handleOnShowEvent);
-        studentAssessmentsStage.setX(bounds.getMinX());
-        studentAssessmentsStage.setY(bounds.getMinY());
-        studentAssessmentsStage.setWidth(bounds.getWidth());
-        studentAssessmentsStage.setHeight(bounds.getHeight());
-        studentAssessmentsStage.setMinHeight(550);
-        studentAssessmentsStage.setMinWidth(750);
-        studentAssessmentsStage.setTitle("SMS - Assessments View");
-        studentAssessmentsStage.setScene(new Scene(assessmentsView));
+        Stage stage = new Stage();
+        stage.setOnShown(AccessStudentAssessmentsController::handleOnShowEvent);
+        stage.setX(bounds.getMinX());
+        stage.setY(bounds.getMinY());
+        stage.setWidth(bounds.getWidth());
+        stage.setHeight(bounds.getHeight());
+        stage.setMinHeight(550);
+        stage.setMinWidth(750);
+        stage.setTitle("SMS - Assessments View");
+        stage.setScene(new Scene(assessmentsView));
+        return stage;
     }
 
-    private void initialiseAdminDashboardStage() {
+    private Stage createAdminDashboardStage() {
         LOGGER.debug("Initialising admin dashboard stage");
 
         AdminDashboardView adminDashboardView = new AdminDashboardView();
 
-        adminDashboardStage = new Stage();
-        adminDashboardStage.setOnShown(AdminDashboardController::handleOnShowEvent);
-        adminDashboardStage.setX(bounds.getMinX());
-        adminDashboardStage.setY(bounds.getMinY());
-        adminDashboardStage.setWidth(bounds.getWidth());
-        adminDashboardStage.setHeight(bounds.getHeight());
-        adminDashboardStage.setMinHeight(550);
-        adminDashboardStage.setMinWidth(750);
-        adminDashboardStage.setTitle("SMS - Admin Dashboard");
-        adminDashboardStage.setScene(new Scene(adminDashboardView));
+        Stage stage = new Stage();
+        stage.setOnShown(AdminDashboardController::handleOnShowEvent);
+        stage.setX(bounds.getMinX());
+        stage.setY(bounds.getMinY());
+        stage.setWidth(bounds.getWidth());
+        stage.setHeight(bounds.getHeight());
+        stage.setMinHeight(550);
+        stage.setMinWidth(750);
+        stage.setTitle("SMS - Admin Dashboard");
+        stage.setScene(new Scene(adminDashboardView));
+        return stage;
     }
 
-    private void initialiseManageStudentStage() {
+    private Stage createManageStudentStage() {
         LOGGER.debug("Initialising manage student stage");
 
         ManageStudentView manageStudentView = new ManageStudentView();
 
-        manageStudentStage = new Stage();
-        manageStudentStage.setOnShown(ManageStudentController::handleOnShowEvent);
-        manageStudentStage.setX(bounds.getMinX());
-        manageStudentStage.setY(bounds.getMinY());
-        manageStudentStage.setWidth(bounds.getWidth());
-        manageStudentStage.setHeight(bounds.getHeight());
-        manageStudentStage.setMinHeight(550);
-        manageStudentStage.setMinWidth(750);
-        manageStudentStage.setTitle("SMS - Manage Students");
-        manageStudentStage.setScene(new Scene(manageStudentView));
+        Stage stage = new Stage();
+        stage.setOnShown(ManageStudentController::handleOnShowEvent);
+        stage.setX(bounds.getMinX());
+        stage.setY(bounds.getMinY());
+        stage.setWidth(bounds.getWidth());
+        stage.setHeight(bounds.getHeight());
+        stage.setMinHeight(550);
+        stage.setMinWidth(750);
+        stage.setTitle("SMS - Manage Students");
+        stage.setScene(new Scene(manageStudentView));
+        return stage;
     }
 
-    private void initialiseManageCourseStage() {
+    private Stage createManageCourseStage() {
         LOGGER.debug("Initialising manage course stage");
 
         ManageCourseView manageCourseView = new ManageCourseView();
 
-        manageCourseStage = new Stage();
-        manageCourseStage.setOnShown(ManageCourseController::handleOnShowEvent);
-        manageCourseStage.setX(bounds.getMinX());
-        manageCourseStage.setY(bounds.getMinY());
-        manageCourseStage.setWidth(bounds.getWidth());
-        manageCourseStage.setHeight(bounds.getHeight());
-        manageCourseStage.setMinHeight(550);
-        manageCourseStage.setMinWidth(750);
-        manageCourseStage.setTitle("SMS - Manage Courses");
-        manageCourseStage.setScene(new Scene(manageCourseView));
+        Stage stage = new Stage();
+        stage.setOnShown(ManageCourseController::handleOnShowEvent);
+        stage.setX(bounds.getMinX());
+        stage.setY(bounds.getMinY());
+        stage.setWidth(bounds.getWidth());
+        stage.setHeight(bounds.getHeight());
+        stage.setMinHeight(550);
+        stage.setMinWidth(750);
+        stage.setTitle("SMS - Manage Courses");
+        stage.setScene(new Scene(manageCourseView));
+        return stage;
     }
 
-    private void initialiseManageModulesStage() {
+    private Stage createManageModulesStage() {
         LOGGER.debug("Initialising manage modules stage");
 
         ManageModulesView manageModulesView = new ManageModulesView();
 
-        manageModulesStage = new Stage();
-        manageModulesStage.setOnShown(ManageModuleController::handleOnShowEvent);
-        manageModulesStage.setX(bounds.getMinX());
-        manageModulesStage.setY(bounds.getMinY());
-        manageModulesStage.setWidth(bounds.getWidth());
-        manageModulesStage.setHeight(bounds.getHeight());
-        manageModulesStage.setMinHeight(550);
-        manageModulesStage.setMinWidth(750);
-        manageModulesStage.setTitle("SMS - Manage Modules");
-        manageModulesStage.setScene(new Scene(manageModulesView));
+        Stage stage = new Stage();
+        stage.setOnShown(ManageModuleController::handleOnShowEvent);
+        stage.setX(bounds.getMinX());
+        stage.setY(bounds.getMinY());
+        stage.setWidth(bounds.getWidth());
+        stage.setHeight(bounds.getHeight());
+        stage.setMinHeight(550);
+        stage.setMinWidth(750);
+        stage.setTitle("SMS - Manage Modules");
+        stage.setScene(new Scene(manageModulesView));
+        return stage;
     }
 
-    private void initialiseManageAdminStage() {
+    private Stage createManageAdminStage() {
         LOGGER.debug("Initialising manage admin stage");
         ManageAdminView manageAdminView = new ManageAdminView();
 
-        manageAdminStage = new Stage();
-        manageAdminStage.setOnShown(ManageAdminsController::handleOnShowEvent);
-        manageAdminStage.setX(bounds.getMinX());
-        manageAdminStage.setY(bounds.getMinY());
-        manageAdminStage.setWidth(bounds.getWidth());
-        manageAdminStage.setHeight(bounds.getHeight());
-        manageAdminStage.setMinHeight(550);
-        manageAdminStage.setMinWidth(750);
-        manageAdminStage.setScene(new Scene(manageAdminView));
-        manageAdminStage.setTitle("SMS - Manage Admins");
+        Stage stage = new Stage();
+        stage.setOnShown(ManageAdminsController::handleOnShowEvent);
+        stage.setX(bounds.getMinX());
+        stage.setY(bounds.getMinY());
+        stage.setWidth(bounds.getWidth());
+        stage.setHeight(bounds.getHeight());
+        stage.setMinHeight(550);
+        stage.setMinWidth(750);
+        stage.setScene(new Scene(manageAdminView));
+        stage.setTitle("SMS - Manage Admins");
+        return stage;
     }
 
-    private void initialiseCourseDetailStage() {
+    private Stage createCourseDetailStage() {
         LOGGER.debug("Initialising course detail stage");
         CourseDetailView courseDetailView = new CourseDetailView();
 
-        courseDetailStage = new Stage();
-        courseDetailStage.setX(bounds.getMinX());
-        courseDetailStage.setY(bounds.getMinY());
-        courseDetailStage.setWidth(bounds.getWidth());
-        courseDetailStage.setHeight(bounds.getHeight());
-        courseDetailStage.setMinHeight(550);
-        courseDetailStage.setMinWidth(750);
-        courseDetailStage.setScene(new Scene(courseDetailView));
-        courseDetailStage.setTitle("SMS - Course Detail");
+        Stage stage = new Stage();
+        stage.setX(bounds.getMinX());
+        stage.setY(bounds.getMinY());
+        stage.setWidth(bounds.getWidth());
+        stage.setHeight(bounds.getHeight());
+        stage.setMinHeight(550);
+        stage.setMinWidth(750);
+        stage.setScene(new Scene(courseDetailView));
+        stage.setTitle("SMS - Course Detail");
+        // Leaving the view drops loads it no longer needs, and coming back finishes them
+        stage.setOnHidden(event -> courseDetailView.cancelLoads());
+        stage.setOnShown(event -> courseDetailView.resumeLoads());
+        return stage;
     }
 
-    private void initialiseModuleDetailStage() {
+    private Stage createModuleDetailStage() {
         LOGGER.debug("Initialising module detail stage");
         ModuleDetailView moduleDetailView = new ModuleDetailView();
 
-        moduleDetailStage = new Stage();
-        moduleDetailStage.setX(bounds.getMinX());
-        moduleDetailStage.setY(bounds.getMinY());
-        moduleDetailStage.setWidth(bounds.getWidth());
-        moduleDetailStage.setHeight(bounds.getHeight());
-        moduleDetailStage.setMinHeight(550);
-        moduleDetailStage.setMinWidth(750);
-        moduleDetailStage.setScene(new Scene(moduleDetailView));
-        moduleDetailStage.setTitle("SMS - Module Detail");
+        Stage stage = new Stage();
+        stage.setX(bounds.getMinX());
+        stage.setY(bounds.getMinY());
+        stage.setWidth(bounds.getWidth());
+        stage.setHeight(bounds.getHeight());
+        stage.setMinHeight(550);
+        stage.setMinWidth(750);
+        stage.setScene(new Scene(moduleDetailView));
+        stage.setTitle("SMS - Module Detail");
+        stage.setOnHidden(event -> moduleDetailView.cancelLoads());
+        stage.setOnShown(event -> moduleDetailView.resumeLoads());
+        return stage;
     }
 
-    private void initialiseAssessmentDetailStage() {
+    private Stage createAssessmentDetailStage() {
         LOGGER.debug("Initialising assessment detail stage");
         AssessmentDetailView assessmentDetailView = new AssessmentDetailView();
 
-        assessmentDetailStage = new Stage();
-        assessmentDetailStage.setX(bounds.getMinX());
-        assessmentDetailStage.setY(bounds.getMinY());
-        assessmentDetailStage.setWidth(bounds.getWidth());
-        assessmentDetailStage.setHeight(bounds.getHeight());
-        assessmentDetailStage.setMinHeight(550);
-        assessmentDetailStage.setMinWidth(750);
-        assessmentDetailStage.setScene(new Scene(assessmentDetailView));
-        assessmentDetailStage.setTitle("SMS - Assessment Detail");
+        Stage stage = new Stage();
+        stage.setX(bounds.getMinX());
+        stage.setY(bounds.getMinY());
+        stage.setWidth(bounds.getWidth());
+        stage.setHeight(bounds.getHeight());
+        stage.setMinHeight(550);
+        stage.setMinWidth(750);
+        stage.setScene(new Scene(assessmentDetailView));
+        stage.setTitle("SMS - Assessment Detail");
+        stage.setOnHidden(event -> assessmentDetailView.cancelLoads());
+        stage.setOnShown(event -> assessmentDetailView.resumeLoads());
+        return stage;
     }
 
-    private void initialiseStudentDetailStage() {
+    private Stage createStudentDetailStage() {
         LOGGER.debug("Initialising student detail stage");
         StudentDetailView studentDetailView = new StudentDetailView();
 
-        studentDetailStage = new Stage();
-        studentDetailStage.setX(bounds.getMinX());
-        studentDetailStage.setY(bounds.getMinY());
-        studentDetailStage.setWidth(bounds.getWidth());
-        studentDetailStage.setHeight(bounds.getHeight());
-        studentDetailStage.setMinHeight(550);
-        studentDetailStage.setMinWidth(750);
-        studentDetailStage.setScene(new Scene(studentDetailView));
-        studentDetailStage.setTitle("SMS - Student Detail");
+        Stage stage = new Stage();
+        stage.setX(bounds.getMinX());
+        stage.setY(bounds.getMinY());
+        stage.setWidth(bounds.getWidth());
+        stage.setHeight(bounds.getHeight());
+        stage.setMinHeight(550);
+        stage.setMinWidth(750);
+        stage.setScene(new Scene(studentDetailView));
+        stage.setTitle("SMS - Student Detail");
+        stage.setOnHidden(event -> studentDetailView.cancelLoads());
+        stage.setOnShown(event -> studentDetailView.resumeLoads());
+        return stage;
     }
 
-    private void initialiseManageAssessmentsStage() {
+    private Stage createManageAssessmentsStage() {
         LOGGER.debug("Initialising manage assessments stage");
 
         ManageAssessmentsView manageAssessmentsView = new ManageAssessmentsView();
 
-        manageAssessmentsStage = new Stage();
-        manageAssessmentsStage.setOnShown(ManageAssessmentsController::handleOnShowEvent);
-        manageAssessmentsStage.setX(bounds.getMinX());
-        manageAssessmentsStage.setY(bounds.getMinY());
-        manageAssessmentsStage.setWidth(bounds.getWidth());
-        manageAssessmentsStage.setHeight(bounds.getHeight());
-        manageAssessmentsStage.setMinHeight(550);
-        manageAssessmentsStage.setMinWidth(750);
-        manageAssessmentsStage.setTitle("SMS - Manage Assessments");
-        manageAssessmentsStage.setScene(new Scene(manageAssessmentsView));
+        Stage stage = new Stage();
+        stage.setOnShown(ManageAssessmentsController::handleOnShowEvent);
+        stage.setX(bounds.getMinX());
+        stage.setY(bounds.getMinY());
+        stage.setWidth(bounds.getWidth());
+        stage.setHeight(bounds.getHeight());
+        stage.setMinHeight(550);
+        stage.setMinWidth(750);
+        stage.setTitle("SMS - Manage Assessments");
+        stage.setScene(new Scene(manageAssessmentsView));
+        return stage;
+    }
+
+    /**
+     * A stage that is only built the first time it is needed, and kept from then on. Only used from the JavaFX
+     * application thread, so it needs no locking.
+     */
+    private static final class LazyStage {
+        private final String name;
+        private final Supplier<Stage> factory;
+        private Stage stage;
+
+        private LazyStage(final String name, final Supplier<Stage> factory) {
+            this.name = name;
+            this.factory = factory;
+        }
+
+        private Stage get() {
+            if (stage == null) {
+                long start = System.nanoTime();
+                stage = factory.get();
+                LOGGER.info("Built {} stage in {} ms", name, (System.nanoTime() - start) / 1_000_000);
+            }
+            return stage;
+        }
     }
 }
@@ -0,0 +1,129 @@
+package sms.gradle.view.components;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import javafx.beans.binding.Bindings;
+import javafx.beans.value.ObservableDoubleValue;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.ContentDisplay;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+
+/**
+ * A list cell that shows its item as a row of text columns, each taking a fixed share of the row's width.
+ * The row and its labels are built once per cell and only their text changes as the <code>ListView</code> reuses
+ * the cell for other items, so a list of any length only lays out the rows in view.
+ * <p>
+ * The row carries the item's id as its user data, as the hand-built rows it replaces did.
+ * @param <T> The type of item in the list
+ */
+public final class ColumnsListCell<T> extends ListCell<T> {
+    private static final double SPACING = 20;
+
+    // Left and right padding of the default list cell, which the row has to fit inside
+    private static final double CELL_PADDING = 14;
+
+    /**
+     * One column of a row
+     * @param title The text shown for the column in a header row
+     * @param widthFraction The share of the row's width the column takes
+     * @param minWidth The narrowest the column is drawn
+     * @param styleClass The style class of the column's label
+     */
+    public record Column(String title, double widthFraction, double minWidth, String styleClass) {}
+
+    private final HBox row;
+    private final List<Label> labels = new ArrayList<>();
+    private final Function<? super T, List<String>> texts;
+    private final ToIntFunction<? super T> idOf;
+
+    /**
+     * Creates a cell, usually from a list's cell factory
+     * @param columns The columns of the row, in order
+     * @param padding The padding around the row
+     * @param texts Gets the text of each column for an item, in the same order as <code>columns</code>
+     * @param idOf Gets the id stored as the row's user data
+     */
+    public ColumnsListCell(
+            final List<Column> columns,
+            final Insets padding,
+            final Function<? super T, List<String>> texts,
+            final ToIntFunction<? super T> idOf) {
+        this.texts = texts;
+        this.idOf = idOf;
+        row = new HBox();
+        layoutColumns(row, columns, padding, widthProperty(), CELL_PADDING, labels);
+        setContentDisplay(ContentDisplay.GRAPHIC_ONLY);
+    }
+
+    /**
+     * Creates a header row that lines up with the rows of a list using the same columns
+     * @param columns The columns of the list
+     * @param padding The padding the list's rows use
+     * @return A row showing each column's title
+     */
+    public static HBox createHeaderRow(final List<Column> columns, final Insets padding) {
+        List<Label> titles = new ArrayList<>();
+        HBox header = new HBox();
+        layoutColumns(header, columns, padding, header.widthProperty(), 0, titles);
+        for (int i = 0; i < columns.size(); i++) {
+            titles.get(i).setText(columns.get(i).title());
+        }
+        return header;
+    }
+
+    @Override
+    protected void updateItem(final T item, final boolean empty) {
+        super.updateItem(item, empty);
+        if (empty || item == null) {
+            row.setUserData(null);
+            setGraphic(null);
+            return;
+        }
+        List<String> values = texts.apply(item);
+        for (int i = 0; i < labels.size(); i++) {
+            labels.get(i).setText(values.get(i));
+        }
+        row.setUserData(idOf.applyAsInt(item));
+        setGraphic(row);
+    }
+
+    /**
+     * Adds a label to a row for each column, sized as a share of a width
+     * @param row The row to fill
+     * @param columns The columns of the row
+     * @param padding The padding around the row
+     * @param width The width the columns share, usually the cell's
+     * @param inset Width taken from <code>width</code> before it is shared out
+     * @param labels Receives the column labels, in order
+     */
+    private static void layoutColumns(
+            final HBox row,
+            final List<Column> columns,
+            final Insets padding,
+            final ObservableDoubleValue width,
+            final double inset,
+            final List<Label> labels) {
+        row.setSpacing(SPACING);
+        row.setAlignment(Pos.CENTER_LEFT);
+        row.setPadding(padding);
+
+        double reserved = inset + padding.getLeft() + padding.getRight() + SPACING * (columns.size() - 1);
+        for (Column column : columns) {
+            Label label = new Label();
+            label.getStyleClass().add(column.styleClass());
+            label.setMinWidth(column.minWidth());
+            label.setMaxWidth(Double.MAX_VALUE);
+            label.prefWidthProperty()
+                    .bind(Bindings.createDoubleBinding(() -> (width.get() - reserved) * column.widthFraction(), width));
+            HBox.setHgrow(label, Priority.ALWAYS);
+            labels.add(label);
+        }
+        row.getChildren().addAll(labels);
+    }
+}
@@ -0,0 +1,14 @@
+package sms.gradle.view.components;
+
+/**
+ * The stylesheet shared by the reusable components. A view that shows components adds it once to its root, so it
+ * is resolved and parsed once for the whole view rather than once per component.
+ */
+public final class ComponentStyles {
+    public static final String STYLESHEET =
+            ComponentStyles.class.getResource("/styles/components.css").toExternalForm();
+
+    private ComponentStyles() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+}
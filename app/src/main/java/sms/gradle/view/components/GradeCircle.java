@@ -1,22 +1,39 @@
 package sms.gradle.view.components;
 
-import javafx.geometry.Pos;
-import javafx.scene.control.Label;
-import javafx.scene.control.Tooltip;
+import java.util.HashMap;
+import java.util.Map;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
 import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Circle;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextAlignment;
+import javafx.scene.transform.Transform;
+import javafx.stage.Screen;
+import sms.gradle.model.entities.Result;
 
 /**
  * Display Module Grade icon in circular manner, colour-coded by grade score
+ * <p>
+ * The badge is drawn once per grade and size and the image is shared by every circle showing it, so each circle
+ * is a single <code>ImageView</code> node rather than a circle, a label and a tooltip.
  */
-public class GradeCircle extends StackPane {
+public class GradeCircle extends ImageView {
+
+    public static final double DEFAULT_RADIUS = 100;
 
-    private final Circle circle;
-    private final Label gradeLabel;
     private static final int EXCEPTIONAL_GRADE = 80;
     private static final int MERIT_GRADE = 70;
-    private static final int PASSING_GRADE = 50;
+    private static final int PASSING_GRADE = Result.PASSING_GRADE;
+
+    // Only touched on the JavaFX application thread. Bounded by 101 grades for each radius in use.
+    private static final Map<BadgeKey, Image> BADGES = new HashMap<>();
+
+    private record BadgeKey(int grade, double radius) {}
 
     /**
      * Constructor for GradeCircle
@@ -25,26 +42,25 @@ public class GradeCircle extends StackPane {
      * @throws IllegalArgumentException if the grade is not between 0 and 100
      */
     public GradeCircle(final int grade) {
+        this(grade, DEFAULT_RADIUS);
+    }
 
-        getStylesheets().add(getClass().getResource("/styles/components.css").toExternalForm());
-
+    /**
+     * Constructor for a GradeCircle of a given size, for example a small badge in a list row
+     *
+     * @param grade The grade score to be displayed
+     * @param radius The radius of the circle
+     * @throws IllegalArgumentException if the grade is not between 0 and 100
+     */
+    public GradeCircle(final int grade, final double radius) {
         gradeValidation(grade);
-        circle = new Circle(100);
-
-        styleCircleColourByGrade(grade);
+        setImage(BADGES.computeIfAbsent(new BadgeKey(grade, radius), GradeCircle::drawBadge));
+        // The snapshot is taken at the output scale, so it is drawn back at its logical size
+        setFitWidth(getImage().getWidth() / Screen.getPrimary().getOutputScaleX());
+        setPreserveRatio(true);
+        setSmooth(true);
 
-        gradeLabel = new Label("Grade:\n" + grade + "%");
-        gradeLabel.setTextFill(Color.WHITE);
-        gradeLabel.setStyle("-fx-font-size: 28px; -fx-font-weight: bold;");
-        gradeLabel.setAlignment(Pos.CENTER);
-        gradeLabel.setWrapText(true);
-        gradeLabel.setPrefHeight(80);
-        gradeLabel.setPrefWidth(180);
-
-        getChildren().addAll(circle, gradeLabel);
-
-        Tooltip tooltip = new Tooltip("Module Grade: " + grade + "%");
-        Tooltip.install(this, tooltip);
+        LazyTooltip.install(this, () -> "Module Grade: " + grade + "%");
     }
 
     /**
@@ -60,24 +76,47 @@ public class GradeCircle extends StackPane {
     }
 
     /**
-     * Styles the circle colour based on the grade score
+     * Draws the badge for a grade by taking a snapshot of a circle and its text, at the screen's output scale so
+     * it stays sharp on high DPI displays
      *
-     * @param grade The grade score to be styled
+     * @param key The grade and radius to draw
+     * @return The badge image
      */
-    private void styleCircleColourByGrade(final int grade) {
+    private static Image drawBadge(final BadgeKey key) {
+        Circle circle = new Circle(key.radius());
+        circle.setFill(colourByGrade(key.grade()));
 
+        // White border
+        circle.setStroke(Color.WHITE);
+        circle.setStrokeWidth(key.radius() / 20);
+
+        Text gradeText = new Text("Grade:\n" + key.grade() + "%");
+        gradeText.setFill(Color.WHITE);
+        gradeText.setFont(Font.font(null, FontWeight.BOLD, key.radius() * 0.28));
+        gradeText.setTextAlignment(TextAlignment.CENTER);
+
+        double scale = Screen.getPrimary().getOutputScaleX();
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        parameters.setTransform(Transform.scale(scale, scale));
+        return new StackPane(circle, gradeText).snapshot(parameters, null);
+    }
+
+    /**
+     * Picks the circle colour based on the grade score
+     *
+     * @param grade The grade score to be styled
+     * @return The fill colour for the grade
+     */
+    private static Color colourByGrade(final int grade) {
         if (grade >= EXCEPTIONAL_GRADE) {
-            circle.setFill(Color.PALEGREEN);
+            return Color.PALEGREEN;
         } else if (grade >= MERIT_GRADE) {
-            circle.setFill(Color.PALETURQUOISE);
+            return Color.PALETURQUOISE;
         } else if (grade >= PASSING_GRADE) {
-            circle.setFill(Color.PALEGOLDENROD);
+            return Color.PALEGOLDENROD;
         } else {
-            circle.setFill(Color.LIGHTSALMON);
+            return Color.LIGHTSALMON;
         }
-
-        // White border
-        circle.setStroke(Color.WHITE);
-        circle.setStrokeWidth(5);
     }
 }
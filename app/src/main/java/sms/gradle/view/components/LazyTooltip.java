@@ -0,0 +1,34 @@
+package sms.gradle.view.components;
+
+import java.util.function.Supplier;
+import javafx.event.EventHandler;
+import javafx.scene.Node;
+import javafx.scene.control.Tooltip;
+import javafx.scene.input.MouseEvent;
+
+/**
+ * Installs a tooltip the first time the mouse enters a node, rather than when the node is built. Rows in a long
+ * list are mostly never hovered, so most of them never create a tooltip.
+ */
+public final class LazyTooltip {
+
+    private LazyTooltip() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Creates and installs the tooltip for a node when the mouse first enters it
+     * @param node The node the tooltip belongs to
+     * @param text Builds the tooltip's text, only called on the first hover
+     */
+    public static void install(final Node node, final Supplier<String> text) {
+        EventHandler<MouseEvent> installer = new EventHandler<>() {
+            @Override
+            public void handle(final MouseEvent event) {
+                node.removeEventHandler(MouseEvent.MOUSE_ENTERED, this);
+                Tooltip.install(node, new Tooltip(text.get()));
+            }
+        };
+        node.addEventHandler(MouseEvent.MOUSE_ENTERED, installer);
+    }
+}
@@ -1,16 +1,22 @@
 package sms.gradle.view.components;
 
 import javafx.geometry.Insets;
+import javafx.geometry.Pos;
 import javafx.scene.control.Label;
-import javafx.scene.control.Tooltip;
 import javafx.scene.layout.HBox;
-import javafx.scene.layout.VBox;
+import javafx.scene.layout.Priority;
 
 /**
  * Displays student module details - name, lecturer, room, and grade
+ * <p>
+ * Styled by <code>ComponentStyles.STYLESHEET</code>, which the view showing the rows adds once to its root.
+ * Each row is an HBox with one label and a grade badge, and its tooltip is only created when it is first hovered.
  */
 public class ModuleRow extends HBox {
 
+    // A list row shows a small badge rather than the full size grade circle
+    private static final double GRADE_BADGE_RADIUS = 30;
+
     private final GradeCircle gradeCircle;
 
     public ModuleRow(
@@ -19,39 +25,35 @@ public class ModuleRow extends HBox {
             final String moduleRoomNumber,
             final int moduleGrade) {
 
-        getStylesheets().add(getClass().getResource("/styles/components.css").toExternalForm());
-
         setUpModuleRowLayout();
 
-        gradeCircle = new GradeCircle(moduleGrade);
+        gradeCircle = new GradeCircle(moduleGrade, GRADE_BADGE_RADIUS);
 
-        VBox moduleDetailsContainer = createModuleDetailsContainer(moduleName, moduleLecturer, moduleRoomNumber);
+        Label moduleDetailsLabel = createModuleDetailsLabel(moduleName, moduleLecturer, moduleRoomNumber);
 
-        getChildren().addAll(moduleDetailsContainer, gradeCircle);
+        getChildren().addAll(moduleDetailsLabel, gradeCircle);
 
-        setUpToolTips(moduleName, moduleLecturer, moduleRoomNumber);
+        LazyTooltip.install(
+                this,
+                () -> "Module: " + moduleName + "\nLecturer: " + moduleLecturer + "\nRoom No: " + moduleRoomNumber);
     }
 
     private void setUpModuleRowLayout() {
+        getStyleClass().add("module-row");
         setSpacing(20);
         setPadding(new Insets(10));
+        setAlignment(Pos.CENTER_LEFT);
     }
 
-    private VBox createModuleDetailsContainer(
+    private Label createModuleDetailsLabel(
             final String moduleName, final String moduleLecturer, final String moduleRoomNumber) {
 
-        final Label moduleNameLabel = new Label("Module Name, ID: " + moduleName);
-        final Label moduleLecturerLabel = new Label("Lecturer: " + moduleLecturer);
-        final Label moduleRoomNumberLabel = new Label("Room No: " + moduleRoomNumber);
-
-        VBox container = new VBox(5);
-        container.getChildren().addAll(moduleLecturerLabel, moduleNameLabel, moduleRoomNumberLabel);
-        return container;
-    }
-
-    private void setUpToolTips(final String moduleName, final String moduleLecturer, final String moduleRoomNumber) {
-        Tooltip toolTip = (new Tooltip(
-                "Module: " + moduleName + "\nLecturer: " + moduleLecturer + "\nRoom No: " + moduleRoomNumber));
-        Tooltip.install(this, toolTip);
+        final Label moduleDetailsLabel = new Label("Lecturer: " + moduleLecturer + "\nModule Name, ID: " + moduleName
+                + "\nRoom No: " + moduleRoomNumber);
+        moduleDetailsLabel.getStyleClass().add("module-details");
+        moduleDetailsLabel.setLineSpacing(5);
+        moduleDetailsLabel.setMaxWidth(Double.MAX_VALUE);
+        HBox.setHgrow(moduleDetailsLabel, Priority.ALWAYS);
+        return moduleDetailsLabel;
     }
 }
@@ -0,0 +1,159 @@
+package sms.gradle.view.components;
+
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.util.Callback;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import sms.gradle.model.dao.Page;
+import sms.gradle.model.dao.PageRequest;
+import sms.gradle.utils.FxAsync;
+
+/**
+ * Fills a <code>ListView</code> one page at a time. The next page is fetched when a cell close to the end of the
+ * loaded items is shown, so a list over a large table only holds the rows the user has scrolled to.
+ * Pages are fetched off the FX application thread, so scrolling never waits on the database.
+ * @param <T> The type of item in the list
+ */
+public final class PagedListLoader<T> {
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    // How close to the end of the loaded items a shown cell has to be to fetch the next page
+    private static final int PREFETCH_ROWS = 10;
+    private static final String LOADER_PROPERTY = PagedListLoader.class.getName();
+
+    /**
+     * Fetches one page of items, usually a DAO <code>findPage</code> method
+     * @param <T> The type of item in the page
+     */
+    @FunctionalInterface
+    public interface PageFetcher<T> {
+        Page<T> fetch(PageRequest request) throws SQLException;
+    }
+
+    private final ListView<T> listView;
+    private final int pageSize;
+    private final PageFetcher<T> fetcher;
+    private final Consumer<? super Throwable> onError;
+    private final Node placeholder;
+
+    // The request for the page after the loaded items, or null once the last page has been loaded
+    private PageRequest nextRequest;
+    private CompletableFuture<Page<T>> pendingPage;
+
+    private PagedListLoader(
+            final ListView<T> listView,
+            final int pageSize,
+            final PageFetcher<T> fetcher,
+            final Consumer<? super Throwable> onError) {
+        this.listView = listView;
+        this.pageSize = pageSize;
+        this.fetcher = fetcher;
+        this.onError = onError;
+        this.placeholder = listView.getPlaceholder();
+        wrapCellFactory();
+    }
+
+    /**
+     * Gets the loader for a list, attaching one the first time. Attach after the list's cell factory is set, since
+     * the loader wraps it to see which cells are shown.
+     * @param listView The list to fill
+     * @param pageSize The number of items fetched at a time
+     * @param fetcher Fetches a page of items
+     * @param onError Called if a page cannot be fetched, after which the list stops loading until it is reloaded
+     * @return The loader attached to the list
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PagedListLoader<T> attach(
+            final ListView<T> listView,
+            final int pageSize,
+            final PageFetcher<T> fetcher,
+            final Consumer<? super Throwable> onError) {
+        return (PagedListLoader<T>) listView.getProperties()
+                .computeIfAbsent(LOADER_PROPERTY, key -> new PagedListLoader<>(listView, pageSize, fetcher, onError));
+    }
+
+    /**
+     * Clears the list and loads the first page, dropping any page still being fetched
+     */
+    public void reload() {
+        LOGGER.debug("Reloading paged list {}", listView.getId());
+        if (pendingPage != null) {
+            pendingPage.cancel(false);
+            pendingPage = null;
+        }
+        listView.getItems().clear();
+        listView.setPlaceholder(new Label(FxAsync.loadingText()));
+        nextRequest = PageRequest.first(pageSize);
+        loadNextPage();
+    }
+
+    /**
+     * Starts fetching the next page, if there is one and no page is already being fetched.
+     * The page is appended to the list on the FX application thread once it arrives.
+     */
+    public void loadNextPage() {
+        if (nextRequest == null || pendingPage != null) {
+            return;
+        }
+        final PageRequest request = nextRequest;
+        pendingPage = FxAsync.load(
+                () -> fetcher.fetch(request),
+                page -> {
+                    pendingPage = null;
+                    listView.setPlaceholder(placeholder);
+                    listView.getItems().addAll(page.items());
+                    nextRequest = page.hasMore() ? request.next(page) : null;
+                    LOGGER.debug("Loaded {} items into {}", page.items().size(), listView.getId());
+                },
+                error -> {
+                    LOGGER.error("Failed to load page into {}", listView.getId(), error);
+                    pendingPage = null;
+                    nextRequest = null;
+                    listView.setPlaceholder(placeholder);
+                    onError.accept(error);
+                });
+    }
+
+    /**
+     * Checks whether every page has been loaded
+     * @return true if there are no more items to fetch
+     */
+    public boolean isFullyLoaded() {
+        return nextRequest == null && pendingPage == null;
+    }
+
+    /**
+     * Wraps the list's cell factory so each cell asks for the next page when it is shown near the end of the list
+     */
+    private void wrapCellFactory() {
+        final Callback<ListView<T>, ListCell<T>> cellFactory = listView.getCellFactory();
+        listView.setCellFactory(view -> {
+            ListCell<T> cell = cellFactory != null ? cellFactory.call(view) : new TextCell<>();
+            cell.indexProperty().addListener((observable, oldIndex, newIndex) -> {
+                if (newIndex.intValue() >= view.getItems().size() - PREFETCH_ROWS) {
+                    loadNextPage();
+                }
+            });
+            return cell;
+        });
+    }
+
+    /**
+     * Shows an item's text, as the list's default cell does
+     */
+    private static final class TextCell<T> extends ListCell<T> {
+        @Override
+        protected void updateItem(final T item, final boolean empty) {
+            super.updateItem(item, empty);
+            setText(empty || item == null ? null : item.toString());
+        }
+    }
+}
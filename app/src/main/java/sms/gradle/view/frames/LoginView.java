@@ -6,12 +6,15 @@ import javafx.geometry.Pos;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.PasswordField;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.control.TextField;
 import javafx.scene.control.Tooltip;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import sms.gradle.controller.login.LoginController;
+import sms.gradle.controller.login.StartupController;
 import sms.gradle.utils.checks.textfield.MinLengthCheck;
 import sms.gradle.utils.checks.textfield.TextFieldValidator;
 import sms.gradle.view.CoreViewInterface;
@@ -30,6 +33,10 @@ public class LoginView extends VBox implements CoreViewInterface {
     private Label titleLabel = new Label("Student Management System");
     private Button fillAdminDetailsButton = new Button("Fill Admin Details");
     private Button fillStudentDetailsButton = new Button("Fill Student Details");
+    private Label startupStatusLabel = new Label();
+    private ProgressBar seedingProgressBar = new ProgressBar(0);
+    private Button cancelSeedingButton = new Button("Cancel");
+    private HBox seedingSection = new HBox(10, seedingProgressBar, cancelSeedingButton);
 
     public LoginView() {
         LOGGER.debug("Initialising Login View");
@@ -45,6 +52,7 @@ public class LoginView extends VBox implements CoreViewInterface {
         loginButton.setOnAction(LoginController::handleLoginAttempt);
         fillAdminDetailsButton.setOnAction(LoginController::handleFillAdminDetails);
         fillStudentDetailsButton.setOnAction(LoginController::handleFillStudentDetails);
+        cancelSeedingButton.setOnAction(StartupController::handleCancelSeeding);
     }
 
     private void configureValidationChecks() {
@@ -78,6 +86,23 @@ public class LoginView extends VBox implements CoreViewInterface {
         loginErrorLabel.setVisible(false);
         loginErrorLabel.getStyleClass().add("login-error-label");
 
+        fillAdminDetailsButton.setId("fill_admin_details_button");
+        fillStudentDetailsButton.setId("fill_student_details_button");
+
+        // Shown by StartupController while the database opens and sample data is generated
+        startupStatusLabel.setId("startup_status_label");
+        startupStatusLabel.setVisible(false);
+        startupStatusLabel.managedProperty().bind(startupStatusLabel.visibleProperty());
+
+        seedingProgressBar.setId("seeding_progress_bar");
+        seedingProgressBar.setPrefWidth(200);
+        cancelSeedingButton.setId("cancel_seeding_button");
+        cancelSeedingButton.setTooltip(new Tooltip("Stop generating sample data, keeping what has been added"));
+        seedingSection.setId("seeding_section");
+        seedingSection.setAlignment(Pos.CENTER);
+        seedingSection.setVisible(false);
+        seedingSection.setManaged(false);
+
         configureValidationChecks();
     }
 
@@ -97,7 +122,15 @@ public class LoginView extends VBox implements CoreViewInterface {
         Label passwordLabel = new Label("Password");
         passwordSection.getChildren().addAll(passwordLabel, passwordField, fillStudentDetailsButton);
 
-        getChildren().addAll(titleLabel, usernameSection, passwordSection, loginErrorLabel, loginButton);
+        getChildren()
+                .addAll(
+                        titleLabel,
+                        usernameSection,
+                        passwordSection,
+                        loginErrorLabel,
+                        loginButton,
+                        startupStatusLabel,
+                        seedingSection);
     }
 
     @Override
@@ -106,6 +139,7 @@ public class LoginView extends VBox implements CoreViewInterface {
         titleLabel.getStyleClass().add("title-label");
         loginButton.getStyleClass().add("login-button");
         loginErrorLabel.getStyleClass().add("login-error-label");
+        startupStatusLabel.getStyleClass().add("startup-status-label");
 
         usernameField.getStyleClass().add("text-input-field");
         passwordField.getStyleClass().add("text-input-field");
@@ -16,8 +16,12 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import sms.gradle.controller.admin.AssessmentDetailViewController;
 import sms.gradle.model.dao.AssessmentDAO;
+import sms.gradle.model.dao.GradeStatistics;
+import sms.gradle.model.dao.StudentSummary;
 import sms.gradle.model.entities.Module;
-import sms.gradle.model.entities.Student;
+import sms.gradle.utils.FxAsync;
+import sms.gradle.utils.PendingLoads;
+import sms.gradle.utils.jfr.DetailLoadEvent;
 import sms.gradle.view.CoreViewInterface;
 
 /**
@@ -47,6 +51,7 @@ public final class AssessmentDetailView extends BorderPane implements CoreViewIn
     private Label totalSubmissionsLabel = new Label("Total Submissions: 0");
     private Label averageGradeLabel = new Label("Average Grade: 0.0");
     private Label passRateLabel = new Label("Pass Rate: 0%");
+    private Label gradeRangeLabel = new Label("Grade Range: N/A");
 
     // Main information panel components
     private VBox mainInfoPanel = new VBox(10);
@@ -60,6 +65,12 @@ public final class AssessmentDetailView extends BorderPane implements CoreViewIn
     // Current assessment ID
     private int currentAssessmentId = -1;
 
+    // Loads started for the current assessment, dropped when another assessment is shown or the view is hidden
+    private final PendingLoads pendingLoads = new PendingLoads();
+
+    // Set when hiding the view dropped loads that had not finished, so the assessment is loaded again when shown
+    private boolean reloadOnShow;
+
     public AssessmentDetailView() {
         LOGGER.debug("Initialising Assessment View");
         getStylesheets().add(getClass().getResource("/styles/manager.css").toExternalForm());
@@ -105,7 +116,7 @@ public final class AssessmentDetailView extends BorderPane implements CoreViewIn
         VBox.setVgrow(spacer, Priority.ALWAYS);
         sidebar.getChildren().add(6, spacer);
 
-        statsPanel.getChildren().addAll(totalSubmissionsLabel, averageGradeLabel, passRateLabel);
+        statsPanel.getChildren().addAll(totalSubmissionsLabel, averageGradeLabel, passRateLabel, gradeRangeLabel);
         statsPanel.setPadding(new Insets(20));
         statsPanel.setAlignment(Pos.CENTER_LEFT);
         HBox.setHgrow(statsPanel, Priority.ALWAYS);
@@ -149,6 +160,7 @@ public final class AssessmentDetailView extends BorderPane implements CoreViewIn
         totalSubmissionsLabel.getStyleClass().add("stats-label");
         averageGradeLabel.getStyleClass().add("stats-label");
         passRateLabel.getStyleClass().add("stats-label");
+        gradeRangeLabel.getStyleClass().add("stats-label");
 
         // Main information panel
         mainInfoPanel.getStyleClass().add("center-panel");
@@ -187,19 +199,46 @@ public final class AssessmentDetailView extends BorderPane implements CoreViewIn
     }
 
     /**
-     * Sets the current assessment ID and updates the assessment information and student list
+     * Sets the current assessment ID and updates the assessment information and student list.
+     * The data is loaded in the background, and any loads still running for the previous assessment are dropped.
      * @param assessmentId The ID of the assessment to display
      */
     public void setAssessmentId(int assessmentId) {
+        pendingLoads.cancelAll();
+        reloadOnShow = false;
+        DetailLoadEvent loadEvent = DetailLoadEvent.start("assessment detail", assessmentId);
         this.currentAssessmentId = assessmentId;
         updateAssessmentInformation();
         updateStudentList();
         updateModuleList();
+        loadEvent.completeWhenDone(pendingLoads.whenAllDone());
 
         // Log the update for debugging
         LOGGER.debug("Assessment ID set to: {}", assessmentId);
     }
 
+    /**
+     * Drops the loads still running for the current assessment. Called when the view is hidden, for example when the
+     * user moves to another screen before it has finished loading.
+     */
+    public void cancelLoads() {
+        if (pendingLoads.hasUnfinished()) {
+            LOGGER.debug("Dropping unfinished loads for assessment ID {}", currentAssessmentId);
+            pendingLoads.cancelAll();
+            reloadOnShow = true;
+        }
+    }
+
+    /**
+     * Loads the current assessment again if hiding the view dropped its loads, so returning to it does not leave
+     * sections waiting on loads that were cancelled. Called when the view is shown.
+     */
+    public void resumeLoads() {
+        if (reloadOnShow) {
+            setAssessmentId(currentAssessmentId);
+        }
+    }
+
     /**
      * Updates the assessment name and description labels with data from AssessmentDAO
      */
@@ -212,31 +251,32 @@ public final class AssessmentDetailView extends BorderPane implements CoreViewIn
             return;
         }
 
-        try {
-            AssessmentDAO.findById(currentAssessmentId)
-                    .ifPresentOrElse(
-                            assessment -> {
-                                assessmentNameLabel.setText(assessment.getName());
-                                assessmentDescriptionLabel.setText(assessment.getDescription());
-                                dueDateLabel.setText("Due Date: "
-                                        + (assessment.getDueDate() != null
-                                                ? assessment.getDueDate().toString()
-                                                : "Not set"));
-                                LOGGER.debug(
-                                        "Updated assessment information for assessment ID: {}", currentAssessmentId);
-                            },
-                            () -> {
-                                LOGGER.warn("Assessment not found for ID: {}", currentAssessmentId);
-                                assessmentNameLabel.setText("Assessment Not Found");
-                                assessmentDescriptionLabel.setText("No description available");
-                                dueDateLabel.setText("Due Date: Not set");
-                            });
-        } catch (Exception e) {
-            LOGGER.error("Error loading assessment information for assessment ID: {}", currentAssessmentId, e);
-            assessmentNameLabel.setText("Error Loading Assessment");
-            assessmentDescriptionLabel.setText("Could not load assessment description");
-            dueDateLabel.setText("Due Date: Not set");
-        }
+        final int assessmentId = currentAssessmentId;
+        assessmentNameLabel.setText(FxAsync.loadingText());
+        assessmentDescriptionLabel.setText("");
+        dueDateLabel.setText("Due Date: ");
+        pendingLoads.track(FxAsync.load(
+                () -> AssessmentDAO.findById(assessmentId),
+                assessment -> assessment.ifPresentOrElse(
+                        found -> {
+                            assessmentNameLabel.setText(found.getName());
+                            assessmentDescriptionLabel.setText(found.getDescription());
+                            dueDateLabel.setText("Due Date: "
+                                    + (found.getDueDate() != null ? found.getDueDate().toString() : "Not set"));
+                            LOGGER.debug("Updated assessment information for assessment ID: {}", assessmentId);
+                        },
+                        () -> {
+                            LOGGER.warn("Assessment not found for ID: {}", assessmentId);
+                            assessmentNameLabel.setText("Assessment Not Found");
+                            assessmentDescriptionLabel.setText("No description available");
+                            dueDateLabel.setText("Due Date: Not set");
+                        }),
+                error -> {
+                    LOGGER.error("Error loading assessment information for assessment ID: {}", assessmentId, error);
+                    assessmentNameLabel.setText("Error Loading Assessment");
+                    assessmentDescriptionLabel.setText("Could not load assessment description");
+                    dueDateLabel.setText("Due Date: Not set");
+                }));
     }
 
     private void assignButtonActions() {
@@ -258,7 +298,18 @@ public final class AssessmentDetailView extends BorderPane implements CoreViewIn
             return;
         }
 
-        List<Student> students = AssessmentDetailViewController.loadStudentsForAssessment(currentAssessmentId);
+        final int assessmentId = currentAssessmentId;
+        studentListContainer.getChildren().add(new Label(FxAsync.loadingText()));
+        pendingLoads.track(FxAsync.load(
+                () -> AssessmentDetailViewController.loadStudentsForAssessment(assessmentId),
+                this::showStudents,
+                error -> LOGGER.error("Failed to load students for assessment ID {}", assessmentId, error)));
+
+        updateAssessmentStatistics();
+    }
+
+    private void showStudents(List<StudentSummary> students) {
+        studentListContainer.getChildren().clear();
         totalSubmissionsLabel.setText("Total Submissions: " + students.size());
 
         LOGGER.debug("Loaded {} students for assessment ID: {}", students.size(), currentAssessmentId);
@@ -270,17 +321,14 @@ public final class AssessmentDetailView extends BorderPane implements CoreViewIn
             return;
         }
 
-        for (Student student : students) {
-            String fullName = student.getFirstName() + " " + student.getLastName();
+        for (StudentSummary student : students) {
             String submissionDate = "N/A"; // TODO: Replace with actual submission date when available
 
             studentListContainer
                     .getChildren()
                     .add(createStudentRow(
-                            String.valueOf(student.getId()), fullName, student.getEmail(), submissionDate));
+                            String.valueOf(student.id()), student.fullName(), student.email(), submissionDate));
         }
-
-        updateAssessmentStatistics();
     }
 
     /**
@@ -295,7 +343,16 @@ public final class AssessmentDetailView extends BorderPane implements CoreViewIn
             return;
         }
 
-        List<Module> modules = AssessmentDetailViewController.loadModulesForAssessment(currentAssessmentId);
+        final int assessmentId = currentAssessmentId;
+        moduleListContainer.getChildren().add(new Label(FxAsync.loadingText()));
+        pendingLoads.track(FxAsync.load(
+                () -> AssessmentDetailViewController.loadModulesForAssessment(assessmentId),
+                this::showModules,
+                error -> LOGGER.error("Failed to load modules for assessment ID {}", assessmentId, error)));
+    }
+
+    private void showModules(List<Module> modules) {
+        moduleListContainer.getChildren().clear();
 
         LOGGER.debug("Loaded {} modules for assessment ID: {}", modules.size(), currentAssessmentId);
 
@@ -321,17 +378,29 @@ public final class AssessmentDetailView extends BorderPane implements CoreViewIn
             totalSubmissionsLabel.setText("Total Submissions: 0");
             averageGradeLabel.setText("Average Grade: 0.0");
             passRateLabel.setText("Pass Rate: 0%");
+            gradeRangeLabel.setText("Grade Range: N/A");
             return;
         }
 
-        double[] stats = AssessmentDetailViewController.calculateAssessmentStatistics(currentAssessmentId);
-        int totalSubmissions = (int) stats[0];
-        double averageGrade = stats[1];
-        double passRate = stats[2];
+        final int assessmentId = currentAssessmentId;
+        pendingLoads.track(FxAsync.load(
+                () -> AssessmentDetailViewController.calculateAssessmentStatistics(assessmentId),
+                this::showAssessmentStatistics,
+                error -> LOGGER.error("Failed to load statistics for assessment ID {}", assessmentId, error)));
+    }
+
+    private void showAssessmentStatistics(GradeStatistics stats) {
+        int totalSubmissions = stats.resultCount();
+        double averageGrade = stats.averageGrade();
+        double passRate = stats.passRate();
 
         totalSubmissionsLabel.setText("Total Submissions: " + totalSubmissions);
         averageGradeLabel.setText("Average Grade: " + String.format("%.1f", averageGrade));
         passRateLabel.setText("Pass Rate: " + String.format("%.0f%%", passRate));
+        gradeRangeLabel.setText(
+                stats.hasResults()
+                        ? "Grade Range: " + stats.lowestGrade() + " - " + stats.highestGrade()
+                        : "Grade Range: N/A");
 
         LOGGER.debug(
                 "Updated statistics for assessment ID {}: {} submissions, {} avg grade, {}% pass rate",
@@ -5,7 +5,7 @@ import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
-import javafx.scene.control.ScrollPane;
+import javafx.scene.control.ListView;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Priority;
@@ -15,9 +15,15 @@ import javafx.scene.text.FontWeight;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import sms.gradle.controller.admin.CourseDetailViewController;
+import sms.gradle.model.dao.GradeStatistics;
+import sms.gradle.model.dao.RosterEntry;
 import sms.gradle.model.entities.Assessment;
-import sms.gradle.model.entities.Student;
+import sms.gradle.model.entities.Module;
+import sms.gradle.utils.FxAsync;
+import sms.gradle.utils.PendingLoads;
+import sms.gradle.utils.jfr.DetailLoadEvent;
 import sms.gradle.view.CoreViewInterface;
+import sms.gradle.view.components.ColumnsListCell;
 
 /**
  * Course View that displays detailed information about a course and its students.
@@ -29,6 +35,16 @@ public final class CourseDetailView extends BorderPane implements CoreViewInterf
     private static final double SIDEBAR_WIDTH_PERCENT = 0.25;
     private static final double STATS_PANEL_HEIGHT_PERCENT = 0.15;
 
+    private static final Insets SIDEBAR_ROW_PADDING = new Insets(5);
+    private static final List<ColumnsListCell.Column> SIDEBAR_COLUMNS =
+            List.of(new ColumnsListCell.Column("", 1, 0, "sidebar-label"));
+    private static final Insets STUDENT_ROW_PADDING = new Insets(10, 5, 10, 5);
+    private static final List<ColumnsListCell.Column> STUDENT_COLUMNS = List.of(
+            new ColumnsListCell.Column("ID", 0.15, 50, "student-details"),
+            new ColumnsListCell.Column("Name", 0.25, 100, "student-name"),
+            new ColumnsListCell.Column("Email", 0.40, 150, "student-details"),
+            new ColumnsListCell.Column("Enrolled", 0.20, 80, "student-details"));
+
     // Sidebar components
     private VBox sidebar = new VBox(15);
     private Label courseNameLabel = new Label("Course Name");
@@ -37,24 +53,19 @@ public final class CourseDetailView extends BorderPane implements CoreViewInterf
     private Button assessmentDetailButton = new Button("View Assessment");
     private Button backButton = new Button("Back");
     private Button logoutButton = new Button("Logout");
-    private VBox moduleListContainer = new VBox(5);
-    private ScrollPane moduleScrollPane = new ScrollPane(moduleListContainer);
-    private HBox selectedModuleRow = null;
-    private VBox assessmentListContainer = new VBox(5);
-    private ScrollPane assessmentScrollPane = new ScrollPane(assessmentListContainer);
-    private HBox selectedAssessmentRow = null;
+    private ListView<Module> moduleListView = new ListView<>();
+    private ListView<Assessment> assessmentListView = new ListView<>();
 
     // Stats panel components
     private HBox statsPanel = new HBox(30);
     private Label totalStudentsLabel = new Label("Total Students: 0");
     private Label averageGradeLabel = new Label("Average Grade: 0.0");
     private Label passRateLabel = new Label("Pass Rate: 0%");
+    private Label gradeRangeLabel = new Label("Grade Range: N/A");
 
     // Main information panel components
     private VBox mainInfoPanel = new VBox(10);
-    private VBox studentListContainer = new VBox(5);
-    private ScrollPane studentScrollPane = new ScrollPane(studentListContainer);
-    private HBox selectedStudentRow = null;
+    private ListView<RosterEntry> studentListView = new ListView<>();
     private Button viewStudentButton = new Button("View Student Details");
     private VBox studentSection = new VBox(0);
     private HBox headerRow;
@@ -62,6 +73,12 @@ public final class CourseDetailView extends BorderPane implements CoreViewInterf
     // Current course ID
     private int currentCourseId = -1;
 
+    // Loads started for the current course, dropped when another course is shown or the view is hidden
+    private final PendingLoads pendingLoads = new PendingLoads();
+
+    // Set when hiding the view dropped loads that had not finished, so the course is loaded again when shown
+    private boolean reloadOnShow;
+
     public CourseDetailView() {
         LOGGER.debug("Initialising Course View");
         getStylesheets().add(getClass().getResource("/styles/manager.css").toExternalForm());
@@ -83,14 +100,49 @@ public final class CourseDetailView extends BorderPane implements CoreViewInterf
         moduleDetailButton.setDisable(true);
         assessmentDetailButton.setDisable(true);
 
-        studentScrollPane.setFitToWidth(true);
-
-        headerRow = createStudentRow("ID", "Name", "Email", "Join Date");
+        // Only the rows in view are built, so long rosters cost no more to show than short ones
+        studentListView.setCellFactory(view -> new ColumnsListCell<>(
+                STUDENT_COLUMNS,
+                STUDENT_ROW_PADDING,
+                entry -> List.of(
+                        String.valueOf(entry.student().getId()),
+                        entry.student().getFirstName() + " " + entry.student().getLastName(),
+                        entry.student().getEmail(),
+                        entry.enrollmentDate() != null ? entry.enrollmentDate().toString() : "N/A"),
+                entry -> entry.student().getId()));
+        studentListView.setPlaceholder(new Label("No students found"));
+        studentListView
+                .getSelectionModel()
+                .selectedItemProperty()
+                .addListener((observable, oldEntry, entry) -> {
+                    viewStudentButton.setDisable(entry == null);
+                    if (entry != null) {
+                        LOGGER.debug("Selected student ID: {}", entry.student().getId());
+                    }
+                });
+
+        headerRow = ColumnsListCell.createHeaderRow(STUDENT_COLUMNS, STUDENT_ROW_PADDING);
         headerRow.getStyleClass().add("student-header-row");
 
-        moduleScrollPane.setFitToWidth(true);
-
-        assessmentScrollPane.setFitToWidth(true);
+        moduleListView.setCellFactory(view -> new ColumnsListCell<>(
+                SIDEBAR_COLUMNS, SIDEBAR_ROW_PADDING, module -> List.of(module.getName()), Module::getId));
+        moduleListView.setPlaceholder(new Label("No modules found"));
+        moduleListView
+                .getSelectionModel()
+                .selectedItemProperty()
+                .addListener((observable, oldModule, module) -> moduleDetailButton.setDisable(module == null));
+
+        assessmentListView.setCellFactory(view -> new ColumnsListCell<>(
+                SIDEBAR_COLUMNS,
+                SIDEBAR_ROW_PADDING,
+                assessment -> List.of(assessment.getName()),
+                Assessment::getId));
+        assessmentListView.setPlaceholder(new Label("No assessments found"));
+        assessmentListView
+                .getSelectionModel()
+                .selectedItemProperty()
+                .addListener((observable, oldAssessment, assessment) ->
+                        assessmentDetailButton.setDisable(assessment == null));
     }
 
     @Override
@@ -100,10 +152,10 @@ public final class CourseDetailView extends BorderPane implements CoreViewInterf
                         courseNameLabel,
                         courseDescriptionLabel,
                         new Label("Modules:"),
-                        moduleScrollPane,
+                        moduleListView,
                         moduleDetailButton,
                         new Label("Assessments:"),
-                        assessmentScrollPane,
+                        assessmentListView,
                         assessmentDetailButton,
                         backButton,
                         logoutButton);
@@ -114,7 +166,7 @@ public final class CourseDetailView extends BorderPane implements CoreViewInterf
         VBox.setVgrow(spacer, Priority.ALWAYS);
         sidebar.getChildren().add(5, spacer);
 
-        statsPanel.getChildren().addAll(totalStudentsLabel, averageGradeLabel, passRateLabel);
+        statsPanel.getChildren().addAll(totalStudentsLabel, averageGradeLabel, passRateLabel, gradeRangeLabel);
         statsPanel.setPadding(new Insets(20));
         statsPanel.setAlignment(Pos.CENTER_LEFT);
         HBox.setHgrow(statsPanel, Priority.ALWAYS);
@@ -124,9 +176,9 @@ public final class CourseDetailView extends BorderPane implements CoreViewInterf
         VBox.setVgrow(mainInfoPanel, Priority.ALWAYS);
 
         studentSection = new VBox(0);
-        studentSection.getChildren().addAll(headerRow, studentScrollPane, viewStudentButton);
+        studentSection.getChildren().addAll(headerRow, studentListView, viewStudentButton);
         studentSection.setAlignment(Pos.TOP_CENTER);
-        VBox.setVgrow(studentScrollPane, Priority.ALWAYS);
+        VBox.setVgrow(studentListView, Priority.ALWAYS);
 
         mainInfoPanel.getChildren().add(studentSection);
         mainInfoPanel.setPadding(new Insets(20));
@@ -158,17 +210,15 @@ public final class CourseDetailView extends BorderPane implements CoreViewInterf
         totalStudentsLabel.getStyleClass().add("stats-label");
         averageGradeLabel.getStyleClass().add("stats-label");
         passRateLabel.getStyleClass().add("stats-label");
+        gradeRangeLabel.getStyleClass().add("stats-label");
 
         // Main information panel
         mainInfoPanel.getStyleClass().add("center-panel");
-        studentScrollPane.getStyleClass().add("scroll-pane");
-        studentListContainer.getStyleClass().add("student-list-container");
-
-        // Scroll panes
-        moduleScrollPane.getStyleClass().add("sidebar-scroll-pane");
-        assessmentScrollPane.getStyleClass().add("sidebar-scroll-pane");
-        moduleListContainer.getStyleClass().add("sidebar-list-container");
-        assessmentListContainer.getStyleClass().add("sidebar-list-container");
+        studentListView.getStyleClass().add("student-list-container");
+
+        // Sidebar lists
+        moduleListView.getStyleClass().add("sidebar-list-container");
+        assessmentListView.getStyleClass().add("sidebar-list-container");
     }
 
     /**
@@ -194,23 +244,50 @@ public final class CourseDetailView extends BorderPane implements CoreViewInterf
             double moduleHeight = availableHeight * 0.25;
             double assessmentHeight = availableHeight * 0.25;
 
-            moduleScrollPane.setPrefHeight(moduleHeight);
-            assessmentScrollPane.setPrefHeight(assessmentHeight);
+            moduleListView.setPrefHeight(moduleHeight);
+            assessmentListView.setPrefHeight(assessmentHeight);
 
-            studentScrollPane.setPrefHeight(availableHeight * 0.8);
+            studentListView.setPrefHeight(availableHeight * 0.8);
         });
     }
 
     /**
-     * Sets the current course ID and updates the course information and student list
+     * Sets the current course ID and updates the course information and student list.
+     * The data is loaded in the background, and any loads still running for the previous course are dropped.
      * @param courseId The ID of the course to display
      */
     public void setCourseId(int courseId) {
+        pendingLoads.cancelAll();
+        reloadOnShow = false;
+        DetailLoadEvent loadEvent = DetailLoadEvent.start("course detail", courseId);
         this.currentCourseId = courseId;
         updateCourseInformation();
         updateStudentList();
         updateModuleList();
         updateAssessmentList();
+        loadEvent.completeWhenDone(pendingLoads.whenAllDone());
+    }
+
+    /**
+     * Drops the loads still running for the current course. Called when the view is hidden, for example when the
+     * user moves to another screen before it has finished loading.
+     */
+    public void cancelLoads() {
+        if (pendingLoads.hasUnfinished()) {
+            LOGGER.debug("Dropping unfinished loads for course ID {}", currentCourseId);
+            pendingLoads.cancelAll();
+            reloadOnShow = true;
+        }
+    }
+
+    /**
+     * Loads the current course again if hiding the view dropped its loads, so returning to it does not leave
+     * sections waiting on loads that were cancelled. Called when the view is shown.
+     */
+    public void resumeLoads() {
+        if (reloadOnShow) {
+            setCourseId(currentCourseId);
+        }
     }
 
     /**
@@ -224,8 +301,16 @@ public final class CourseDetailView extends BorderPane implements CoreViewInterf
             return;
         }
 
-        String[] courseInfo = CourseDetailViewController.loadCourseInformation(currentCourseId);
+        courseNameLabel.setText(FxAsync.loadingText());
+        courseDescriptionLabel.setText("");
+        final int courseId = currentCourseId;
+        pendingLoads.track(FxAsync.load(
+                () -> CourseDetailViewController.loadCourseInformation(courseId),
+                this::showCourseInformation,
+                error -> LOGGER.error("Failed to load information for course ID {}", courseId, error)));
+    }
 
+    private void showCourseInformation(String[] courseInfo) {
         if (courseInfo != null) {
             courseNameLabel.setText(courseInfo[0]);
             // Check if description is empty or null and provide a default message
@@ -254,177 +339,32 @@ public final class CourseDetailView extends BorderPane implements CoreViewInterf
      * Updates the student list with students enrolled in the current course
      */
     private void updateStudentList() {
-        clearStudentSelection();
-        studentListContainer.getChildren().clear();
+        studentListView.getItems().clear();
 
         if (currentCourseId <= 0) {
             LOGGER.warn("No course ID set, cannot load students");
             return;
         }
 
-        List<Student> students = CourseDetailViewController.loadStudentsForCourse(currentCourseId);
-        totalStudentsLabel.setText("Total Students: " + students.size());
-
-        for (Student student : students) {
-            String fullName = student.getFirstName() + " " + student.getLastName();
-            String joinDate =
-                    student.getJoinDate() != null ? student.getJoinDate().toString() : "N/A";
-
-            studentListContainer
-                    .getChildren()
-                    .add(createStudentRow(String.valueOf(student.getId()), fullName, student.getEmail(), joinDate));
-        }
+        final int courseId = currentCourseId;
+        pendingLoads
+                .track(FxAsync.loadInto(
+                        studentListView,
+                        () -> CourseDetailViewController.loadRosterForCourse(courseId),
+                        error -> LOGGER.error("Failed to load students for course ID {}", courseId, error)))
+                .thenAccept(roster -> totalStudentsLabel.setText("Total Students: " + roster.size()));
 
         // Update statistics
         updateCourseStatistics();
     }
 
-    private HBox createSidebarRow(String text) {
-        HBox row = new HBox(10);
-        row.setAlignment(Pos.CENTER_LEFT);
-        row.setPadding(new Insets(5));
-
-        Label label = new Label(text);
-        HBox.setHgrow(label, Priority.ALWAYS);
-        label.setMaxWidth(Double.MAX_VALUE);
-        row.getChildren().add(label);
-
-        row.setOnMouseEntered(e -> {
-            if (row != selectedModuleRow && row != selectedAssessmentRow) {
-                row.setStyle("-fx-background-color: #f0f0f0;");
-            }
-        });
-
-        row.setOnMouseExited(e -> {
-            if (row != selectedModuleRow && row != selectedAssessmentRow) {
-                row.setStyle("-fx-background-color: transparent;");
-            }
-        });
-
-        row.setOnMouseClicked(e -> {
-            LOGGER.debug(text + " selected");
-
-            if (moduleListContainer.getChildren().contains(row)) {
-                if (selectedModuleRow != null) {
-                    selectedModuleRow.setStyle("-fx-background-color: transparent;");
-                }
-                selectedModuleRow = row;
-                row.setStyle("-fx-background-color: #cce0ff;");
-                moduleDetailButton.setDisable(false);
-            } else {
-                if (selectedAssessmentRow != null) {
-                    selectedAssessmentRow.setStyle("-fx-background-color: transparent;");
-                }
-                selectedAssessmentRow = row;
-                row.setStyle("-fx-background-color: #cce0ff;");
-                assessmentDetailButton.setDisable(false);
-            }
-        });
-
-        row.getStyleClass().add("sidebar-row");
-        row.setMaxWidth(Double.MAX_VALUE);
-        HBox.setHgrow(row, Priority.ALWAYS);
-
-        return row;
-    }
-
     /**
      * Clears all selections (modules, assessments, students)
      */
     public void clearSelections() {
-        if (selectedModuleRow != null) {
-            selectedModuleRow.setStyle("-fx-background-color: transparent;");
-            selectedModuleRow = null;
-            moduleDetailButton.setDisable(true);
-        }
-        if (selectedAssessmentRow != null) {
-            selectedAssessmentRow.setStyle("-fx-background-color: transparent;");
-            selectedAssessmentRow = null;
-            assessmentDetailButton.setDisable(true);
-        }
-        clearStudentSelection();
-    }
-
-    /**
-     * Creates a row for the student list with the given information.
-     *
-     * @param id Student ID
-     * @param name Student name
-     * @param email Student email
-     * @param joinDate Student join date
-     * @return HBox containing the student information
-     */
-    private HBox createStudentRow(String id, String name, String email, String joinDate) {
-        HBox row = new HBox();
-        row.setAlignment(Pos.CENTER_LEFT);
-        row.setPadding(new Insets(10, 5, 10, 5));
-        row.getStyleClass().add("student-row");
-        row.setSpacing(20);
-
-        double totalWidth = 100.0;
-        double idWidth = totalWidth * 0.15;
-        double nameWidth = totalWidth * 0.25;
-        double emailWidth = totalWidth * 0.40;
-        double dateWidth = totalWidth * 0.20;
-
-        Label idLabel = new Label(id);
-        Label nameLabel = new Label(name);
-        Label emailLabel = new Label(email);
-        Label joinDateLabel = new Label(joinDate);
-
-        HBox.setHgrow(idLabel, Priority.ALWAYS);
-        HBox.setHgrow(nameLabel, Priority.ALWAYS);
-        HBox.setHgrow(emailLabel, Priority.ALWAYS);
-        HBox.setHgrow(joinDateLabel, Priority.ALWAYS);
-
-        idLabel.setMaxWidth(Double.MAX_VALUE);
-        nameLabel.setMaxWidth(Double.MAX_VALUE);
-        emailLabel.setMaxWidth(Double.MAX_VALUE);
-        joinDateLabel.setMaxWidth(Double.MAX_VALUE);
-
-        idLabel.setMinWidth(50);
-        nameLabel.setMinWidth(100);
-        emailLabel.setMinWidth(150);
-        joinDateLabel.setMinWidth(80);
-
-        idLabel.prefWidthProperty().bind(row.widthProperty().multiply(idWidth / totalWidth));
-        nameLabel.prefWidthProperty().bind(row.widthProperty().multiply(nameWidth / totalWidth));
-        emailLabel.prefWidthProperty().bind(row.widthProperty().multiply(emailWidth / totalWidth));
-        joinDateLabel.prefWidthProperty().bind(row.widthProperty().multiply(dateWidth / totalWidth));
-
-        idLabel.getStyleClass().add("student-details");
-        nameLabel.getStyleClass().add("student-name");
-        emailLabel.getStyleClass().add("student-details");
-        joinDateLabel.getStyleClass().add("student-details");
-
-        row.getChildren().addAll(idLabel, nameLabel, emailLabel, joinDateLabel);
-
-        row.setOnMouseEntered(e -> {
-            if (row != selectedStudentRow) {
-                row.setStyle("-fx-background-color: #f0f0f0;");
-            }
-        });
-
-        row.setOnMouseExited(e -> {
-            if (row != selectedStudentRow) {
-                row.setStyle("-fx-background-color: transparent;");
-            }
-        });
-
-        row.setOnMouseClicked(e -> {
-            if (selectedStudentRow != null) {
-                selectedStudentRow.setStyle("-fx-background-color: transparent;");
-            }
-
-            selectedStudentRow = row;
-            row.setStyle("-fx-background-color: #cce0ff;");
-
-            viewStudentButton.setDisable(false);
-
-            LOGGER.debug("Selected student ID: " + id);
-        });
-
-        return row;
+        moduleListView.getSelectionModel().clearSelection();
+        assessmentListView.getSelectionModel().clearSelection();
+        studentListView.getSelectionModel().clearSelection();
     }
 
     /**
@@ -432,43 +372,26 @@ public final class CourseDetailView extends BorderPane implements CoreViewInterf
      * @return The ID of the selected student, or null if no student is selected
      */
     public String getSelectedStudentId() {
-        if (selectedStudentRow == null) {
-            return null;
-        }
-
-        HBox row = selectedStudentRow;
-        if (!row.getChildren().isEmpty() && row.getChildren().get(0) instanceof Label) {
-            return ((Label) row.getChildren().get(0)).getText();
-        }
-
-        return null;
+        RosterEntry selected = studentListView.getSelectionModel().getSelectedItem();
+        return selected != null ? String.valueOf(selected.student().getId()) : null;
     }
 
     /**
-     * Gets the currently selected module row
-     * @return The selected module row, or null if no module is selected
+     * Gets the ID of the currently selected module
+     * @return The ID of the selected module, or null if no module is selected
      */
-    public HBox getSelectedModuleRow() {
-        return selectedModuleRow;
+    public Integer getSelectedModuleId() {
+        Module selected = moduleListView.getSelectionModel().getSelectedItem();
+        return selected != null ? selected.getId() : null;
     }
 
     /**
-     * Gets the currently selected assessment row
-     * @return The selected assessment row, or null if no assessment is selected
+     * Gets the ID of the currently selected assessment
+     * @return The ID of the selected assessment, or null if no assessment is selected
      */
-    public HBox getSelectedAssessmentRow() {
-        return selectedAssessmentRow;
-    }
-
-    /**
-     * Clears the current student selection and disables the view button
-     */
-    private void clearStudentSelection() {
-        if (selectedStudentRow != null) {
-            selectedStudentRow.setStyle("-fx-background-color: transparent;");
-            selectedStudentRow = null;
-            viewStudentButton.setDisable(true);
-        }
+    public Integer getSelectedAssessmentId() {
+        Assessment selected = assessmentListView.getSelectionModel().getSelectedItem();
+        return selected != null ? selected.getId() : null;
     }
 
     /**
@@ -480,17 +403,29 @@ public final class CourseDetailView extends BorderPane implements CoreViewInterf
             totalStudentsLabel.setText("Total Students: 0");
             averageGradeLabel.setText("Average Grade: 0.0");
             passRateLabel.setText("Pass Rate: 0%");
+            gradeRangeLabel.setText("Grade Range: N/A");
             return;
         }
 
-        double[] stats = CourseDetailViewController.calculateCourseStatistics(currentCourseId);
-        int totalStudents = (int) stats[0];
-        double averageGrade = stats[1];
-        double passRate = stats[2];
+        final int courseId = currentCourseId;
+        pendingLoads.track(FxAsync.load(
+                () -> CourseDetailViewController.calculateCourseStatistics(courseId),
+                this::showCourseStatistics,
+                error -> LOGGER.error("Failed to load statistics for course ID {}", courseId, error)));
+    }
+
+    private void showCourseStatistics(GradeStatistics stats) {
+        int totalStudents = stats.studentCount();
+        double averageGrade = stats.averageGrade();
+        double passRate = stats.passRate();
 
         totalStudentsLabel.setText("Total Students: " + totalStudents);
         averageGradeLabel.setText("Average Grade: " + String.format("%.1f", averageGrade));
         passRateLabel.setText("Pass Rate: " + String.format("%.0f%%", passRate));
+        gradeRangeLabel.setText(
+                stats.hasResults()
+                        ? "Grade Range: " + stats.lowestGrade() + " - " + stats.highestGrade()
+                        : "Grade Range: N/A");
 
         LOGGER.debug(
                 "Updated statistics for course ID {}: {} students, {} avg grade, {}% pass rate",
@@ -501,56 +436,35 @@ public final class CourseDetailView extends BorderPane implements CoreViewInterf
      * Updates the module list with modules from the current course
      */
     public void updateModuleList() {
-        moduleListContainer.getChildren().clear();
+        moduleListView.getItems().clear();
 
         if (currentCourseId <= 0) {
             LOGGER.warn("No course ID set, cannot load modules");
             return;
         }
 
-        List<sms.gradle.model.entities.Module> modules =
-                CourseDetailViewController.loadModulesForCourse(currentCourseId);
-
-        if (modules.isEmpty()) {
-            HBox noModulesRow = createSidebarRow("No modules found");
-            moduleListContainer.getChildren().add(noModulesRow);
-            return;
-        }
-
-        for (sms.gradle.model.entities.Module module : modules) {
-            HBox moduleRow = createSidebarRow(module.getName());
-            moduleRow.setUserData(module.getId());
-            moduleListContainer.getChildren().add(moduleRow);
-        }
-
-        LOGGER.debug("Updated module list with {} modules", modules.size());
+        final int courseId = currentCourseId;
+        pendingLoads.track(FxAsync.loadInto(
+                moduleListView,
+                () -> CourseDetailViewController.loadModulesForCourse(courseId),
+                error -> LOGGER.error("Failed to load modules for course ID {}", courseId, error)));
     }
 
     /**
      * Updates the assessment list with assessments from the current course's modules
      */
     public void updateAssessmentList() {
-        assessmentListContainer.getChildren().clear();
+        assessmentListView.getItems().clear();
 
         if (currentCourseId <= 0) {
             LOGGER.warn("No course ID set, cannot load assessments");
             return;
         }
 
-        List<Assessment> assessments = CourseDetailViewController.loadAssessmentsForCourse(currentCourseId);
-
-        if (assessments.isEmpty()) {
-            HBox noAssessmentsRow = createSidebarRow("No assessments found");
-            assessmentListContainer.getChildren().add(noAssessmentsRow);
-            return;
-        }
-
-        for (Assessment assessment : assessments) {
-            HBox assessmentRow = createSidebarRow(assessment.getName());
-            assessmentRow.setUserData(assessment.getId());
-            assessmentListContainer.getChildren().add(assessmentRow);
-        }
-
-        LOGGER.debug("Updated assessment list with {} assessments", assessments.size());
+        final int courseId = currentCourseId;
+        pendingLoads.track(FxAsync.loadInto(
+                assessmentListView,
+                () -> CourseDetailViewController.loadAssessmentsForCourse(courseId),
+                error -> LOGGER.error("Failed to load assessments for course ID {}", courseId, error)));
     }
 }
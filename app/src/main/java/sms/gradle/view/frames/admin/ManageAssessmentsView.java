@@ -2,7 +2,7 @@ package sms.gradle.view.frames.admin;
 
 import static javafx.geometry.Pos.CENTER;
 
-import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
 import javafx.geometry.Insets;
 import javafx.scene.control.Button;
 import javafx.scene.control.DatePicker;
@@ -22,6 +22,7 @@ import sms.gradle.model.dao.ModuleDAO;
 import sms.gradle.model.entities.Assessment;
 import sms.gradle.model.entities.Course;
 import sms.gradle.utils.Common;
+import sms.gradle.utils.FxAsync;
 import sms.gradle.view.CoreViewInterface;
 
 public class ManageAssessmentsView extends BorderPane implements CoreViewInterface {
@@ -232,9 +233,14 @@ public class ManageAssessmentsView extends BorderPane implements CoreViewInterfa
     }
 
     private static class AssessmentListCell extends ListCell<Assessment> {
+        private CompletableFuture<String> pendingModuleName;
+
         @Override
         protected void updateItem(Assessment assessment, boolean empty) {
             super.updateItem(assessment, empty);
+            if (pendingModuleName != null) {
+                pendingModuleName.cancel(false);
+            }
             if (empty || assessment == null) {
                 setText(null);
                 setGraphic(null);
@@ -244,16 +250,6 @@ public class ManageAssessmentsView extends BorderPane implements CoreViewInterfa
         }
 
         private VBox createAssessmentDisplay(Assessment assessment) {
-            // Get module name using DAO
-            String moduleName;
-            try {
-                moduleName = ModuleDAO.findById(assessment.getModuleId())
-                        .map(sms.gradle.model.entities.Module::getName)
-                        .orElse("Unknown Module");
-            } catch (SQLException e) {
-                moduleName = "Unknown Module";
-            }
-
             Label nameLabel =
                     Common.createStyledLabel(assessment.getName(), "-fx-font-weight: bold; -fx-font-size: 14px;");
 
@@ -268,8 +264,16 @@ public class ManageAssessmentsView extends BorderPane implements CoreViewInterfa
             Label dueDateLabel = Common.createStyledLabel(
                     "Due: " + assessment.getDueDate(), "-fx-font-size: 11px; -fx-text-fill: #555;");
 
-            Label moduleLabel =
-                    Common.createStyledLabel("Module: " + moduleName, "-fx-font-size: 11px; -fx-text-fill: #555;");
+            Label moduleLabel = Common.createStyledLabel(
+                    "Module: " + FxAsync.loadingText(), "-fx-font-size: 11px; -fx-text-fill: #555;");
+
+            // Get module name using DAO, off the FX thread
+            pendingModuleName = FxAsync.load(
+                    () -> ModuleDAO.findById(assessment.getModuleId())
+                            .map(sms.gradle.model.entities.Module::getName)
+                            .orElse("Unknown Module"),
+                    moduleName -> moduleLabel.setText("Module: " + moduleName),
+                    error -> moduleLabel.setText("Module: Unknown Module"));
 
             VBox content = new VBox(2, topLine, descLabel, dueDateLabel, moduleLabel);
             content.setPadding(new Insets(5));
@@ -279,9 +283,14 @@ public class ManageAssessmentsView extends BorderPane implements CoreViewInterfa
     }
 
     private static class ModuleListCell extends ListCell<sms.gradle.model.entities.Module> {
+        private CompletableFuture<String> pendingCourseName;
+
         @Override
         protected void updateItem(sms.gradle.model.entities.Module module, boolean empty) {
             super.updateItem(module, empty);
+            if (pendingCourseName != null) {
+                pendingCourseName.cancel(false);
+            }
 
             if (empty || module == null) {
                 setText(null);
@@ -292,16 +301,6 @@ public class ManageAssessmentsView extends BorderPane implements CoreViewInterfa
         }
 
         private VBox createModuleDisplay(sms.gradle.model.entities.Module module) {
-            // Lookup course name
-            String courseName;
-            try {
-                courseName = CourseDAO.findById(module.getCourseId())
-                        .map(Course::getName)
-                        .orElse("Unknown Course");
-            } catch (SQLException e) {
-                courseName = "Unknown Course";
-            }
-
             Label nameLabel = Common.createStyledLabel(module.getName(), "-fx-font-weight: bold; -fx-font-size: 14px;");
 
             Label idLabel = Common.createStyledLabel(
@@ -314,8 +313,16 @@ public class ManageAssessmentsView extends BorderPane implements CoreViewInterfa
             Label lecturerLabel = Common.createStyledLabel(
                     "Lecturer: " + module.getLecturer(), "-fx-font-size: 11px; -fx-text-fill: #555;");
 
-            Label courseLabel =
-                    Common.createStyledLabel("Course: " + courseName, "-fx-font-size: 11px; -fx-text-fill: #555;");
+            Label courseLabel = Common.createStyledLabel(
+                    "Course: " + FxAsync.loadingText(), "-fx-font-size: 11px; -fx-text-fill: #555;");
+
+            // Lookup course name, off the FX thread
+            pendingCourseName = FxAsync.load(
+                    () -> CourseDAO.findById(module.getCourseId())
+                            .map(Course::getName)
+                            .orElse("Unknown Course"),
+                    courseName -> courseLabel.setText("Course: " + courseName),
+                    error -> courseLabel.setText("Course: Unknown Course"));
 
             VBox content = new VBox(2, topLine, descLabel, lecturerLabel, courseLabel);
             content.setPadding(new Insets(5));
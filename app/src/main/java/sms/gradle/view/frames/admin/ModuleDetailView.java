@@ -5,7 +5,7 @@ import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
-import javafx.scene.control.ScrollPane;
+import javafx.scene.control.ListView;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Priority;
@@ -15,10 +15,15 @@ import javafx.scene.text.FontWeight;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import sms.gradle.controller.admin.ModuleDetailViewController;
+import sms.gradle.model.dao.GradeStatistics;
 import sms.gradle.model.dao.ModuleDAO;
 import sms.gradle.model.entities.Assessment;
 import sms.gradle.model.entities.Student;
+import sms.gradle.utils.FxAsync;
+import sms.gradle.utils.PendingLoads;
+import sms.gradle.utils.jfr.DetailLoadEvent;
 import sms.gradle.view.CoreViewInterface;
+import sms.gradle.view.components.ColumnsListCell;
 
 /**
  * Module View that displays detailed information about a module and its students.
@@ -30,6 +35,16 @@ public final class ModuleDetailView extends BorderPane implements CoreViewInterf
     private static final double SIDEBAR_WIDTH_PERCENT = 0.25;
     private static final double STATS_PANEL_HEIGHT_PERCENT = 0.15;
 
+    private static final Insets SIDEBAR_ROW_PADDING = new Insets(5);
+    private static final List<ColumnsListCell.Column> SIDEBAR_COLUMNS =
+            List.of(new ColumnsListCell.Column("", 1, 0, "sidebar-label"));
+    private static final Insets STUDENT_ROW_PADDING = new Insets(10, 5, 10, 5);
+    private static final List<ColumnsListCell.Column> STUDENT_COLUMNS = List.of(
+            new ColumnsListCell.Column("ID", 0.15, 50, "student-details"),
+            new ColumnsListCell.Column("Name", 0.25, 100, "student-name"),
+            new ColumnsListCell.Column("Email", 0.40, 150, "student-details"),
+            new ColumnsListCell.Column("Join Date", 0.20, 80, "student-details"));
+
     // Sidebar components
     private VBox sidebar = new VBox(15);
     private Label moduleNameLabel = new Label("Module Name");
@@ -38,21 +53,18 @@ public final class ModuleDetailView extends BorderPane implements CoreViewInterf
     private Button assessmentDetailButton = new Button("View Assessment");
     private Button backButton = new Button("Back");
     private Button logoutButton = new Button("Logout");
-    private VBox assessmentListContainer = new VBox(5);
-    private ScrollPane assessmentScrollPane = new ScrollPane(assessmentListContainer);
-    private HBox selectedAssessmentRow = null;
+    private ListView<Assessment> assessmentListView = new ListView<>();
 
     // Stats panel components
     private HBox statsPanel = new HBox(30);
     private Label totalStudentsLabel = new Label("Total Students: 0");
     private Label averageGradeLabel = new Label("Average Grade: 0.0");
     private Label passRateLabel = new Label("Pass Rate: 0%");
+    private Label gradeRangeLabel = new Label("Grade Range: N/A");
 
     // Main information panel components
     private VBox mainInfoPanel = new VBox(10);
-    private VBox studentListContainer = new VBox(5);
-    private ScrollPane studentScrollPane = new ScrollPane(studentListContainer);
-    private HBox selectedStudentRow = null;
+    private ListView<Student> studentListView = new ListView<>();
     private Button viewStudentButton = new Button("View Student Details");
     private VBox studentSection = new VBox(0);
     private HBox headerRow;
@@ -60,6 +72,12 @@ public final class ModuleDetailView extends BorderPane implements CoreViewInterf
     // Current module ID
     private int currentModuleId = -1;
 
+    // Loads started for the current module, dropped when another module is shown or the view is hidden
+    private final PendingLoads pendingLoads = new PendingLoads();
+
+    // Set when hiding the view dropped loads that had not finished, so the module is loaded again when shown
+    private boolean reloadOnShow;
+
     public ModuleDetailView() {
         LOGGER.debug("Initialising Module View");
         getStylesheets().add(getClass().getResource("/styles/manager.css").toExternalForm());
@@ -77,12 +95,44 @@ public final class ModuleDetailView extends BorderPane implements CoreViewInterf
     public void initialiseCoreUIComponents() {
         // Main information panel components
         viewStudentButton.setDisable(true);
-        studentScrollPane.setFitToWidth(true);
-
-        headerRow = createStudentRow("ID", "Name", "Email", "Join Date");
+        assessmentDetailButton.setDisable(true);
+
+        // Only the rows in view are built, so long rosters cost no more to show than short ones
+        studentListView.setCellFactory(view -> new ColumnsListCell<>(
+                STUDENT_COLUMNS,
+                STUDENT_ROW_PADDING,
+                student -> List.of(
+                        String.valueOf(student.getId()),
+                        student.getFirstName() + " " + student.getLastName(),
+                        student.getEmail(),
+                        student.getJoinDate() != null ? student.getJoinDate().toString() : "N/A"),
+                Student::getId));
+        studentListView.setPlaceholder(new Label("No students found"));
+        studentListView
+                .getSelectionModel()
+                .selectedItemProperty()
+                .addListener((observable, oldStudent, student) -> {
+                    viewStudentButton.setDisable(student == null);
+                    if (student != null) {
+                        LOGGER.debug("Selected student ID: {}", student.getId());
+                    }
+                });
+
+        headerRow = ColumnsListCell.createHeaderRow(STUDENT_COLUMNS, STUDENT_ROW_PADDING);
         headerRow.getStyleClass().add("student-header-row");
 
-        assessmentScrollPane.setFitToWidth(true);
+        assessmentListView.setCellFactory(view -> new ColumnsListCell<>(
+                SIDEBAR_COLUMNS,
+                SIDEBAR_ROW_PADDING,
+                assessment -> List.of(assessment.getName() + " ("
+                        + (assessment.getDueDate() != null ? assessment.getDueDate().toString() : "N/A") + ")"),
+                Assessment::getId));
+        assessmentListView.setPlaceholder(new Label("No assessments found"));
+        assessmentListView
+                .getSelectionModel()
+                .selectedItemProperty()
+                .addListener((observable, oldAssessment, assessment) ->
+                        assessmentDetailButton.setDisable(assessment == null));
     }
 
     @Override
@@ -93,7 +143,7 @@ public final class ModuleDetailView extends BorderPane implements CoreViewInterf
                         moduleDescriptionLabel,
                         moduleLecturerLabel,
                         new Label("Assessments:"),
-                        assessmentScrollPane,
+                        assessmentListView,
                         assessmentDetailButton,
                         backButton,
                         logoutButton);
@@ -104,7 +154,7 @@ public final class ModuleDetailView extends BorderPane implements CoreViewInterf
         VBox.setVgrow(spacer, Priority.ALWAYS);
         sidebar.getChildren().add(5, spacer);
 
-        statsPanel.getChildren().addAll(totalStudentsLabel, averageGradeLabel, passRateLabel);
+        statsPanel.getChildren().addAll(totalStudentsLabel, averageGradeLabel, passRateLabel, gradeRangeLabel);
         statsPanel.setPadding(new Insets(20));
         statsPanel.setAlignment(Pos.CENTER_LEFT);
         HBox.setHgrow(statsPanel, Priority.ALWAYS);
@@ -114,9 +164,9 @@ public final class ModuleDetailView extends BorderPane implements CoreViewInterf
         VBox.setVgrow(mainInfoPanel, Priority.ALWAYS);
 
         studentSection = new VBox(0);
-        studentSection.getChildren().addAll(headerRow, studentScrollPane, viewStudentButton);
+        studentSection.getChildren().addAll(headerRow, studentListView, viewStudentButton);
         studentSection.setAlignment(Pos.TOP_CENTER);
-        VBox.setVgrow(studentScrollPane, Priority.ALWAYS);
+        VBox.setVgrow(studentListView, Priority.ALWAYS);
 
         mainInfoPanel.getChildren().add(studentSection);
         mainInfoPanel.setPadding(new Insets(20));
@@ -148,15 +198,14 @@ public final class ModuleDetailView extends BorderPane implements CoreViewInterf
         totalStudentsLabel.getStyleClass().add("stats-label");
         averageGradeLabel.getStyleClass().add("stats-label");
         passRateLabel.getStyleClass().add("stats-label");
+        gradeRangeLabel.getStyleClass().add("stats-label");
 
         // Main information panel
         mainInfoPanel.getStyleClass().add("center-panel");
-        studentScrollPane.getStyleClass().add("scroll-pane");
-        studentListContainer.getStyleClass().add("student-list-container");
+        studentListView.getStyleClass().add("student-list-container");
 
-        // Scroll panes
-        assessmentScrollPane.getStyleClass().add("sidebar-scroll-pane");
-        assessmentListContainer.getStyleClass().add("sidebar-list-container");
+        // Sidebar list
+        assessmentListView.getStyleClass().add("sidebar-list-container");
     }
 
     /**
@@ -180,21 +229,48 @@ public final class ModuleDetailView extends BorderPane implements CoreViewInterf
             double availableHeight = newVal.doubleValue() - statsPanelHeight - 200;
             double assessmentHeight = availableHeight * 0.3;
 
-            assessmentScrollPane.setPrefHeight(assessmentHeight);
+            assessmentListView.setPrefHeight(assessmentHeight);
 
-            studentScrollPane.setPrefHeight(availableHeight * 0.8);
+            studentListView.setPrefHeight(availableHeight * 0.8);
         });
     }
 
     /**
-     * Sets the current module ID and updates the module information and student list
+     * Sets the current module ID and updates the module information and student list.
+     * The data is loaded in the background, and any loads still running for the previous module are dropped.
      * @param moduleId The ID of the module to display
      */
     public void setModuleId(int moduleId) {
+        pendingLoads.cancelAll();
+        reloadOnShow = false;
+        DetailLoadEvent loadEvent = DetailLoadEvent.start("module detail", moduleId);
         this.currentModuleId = moduleId;
         updateModuleInformation();
         updateStudentList();
         updateAssessmentList();
+        loadEvent.completeWhenDone(pendingLoads.whenAllDone());
+    }
+
+    /**
+     * Drops the loads still running for the current module. Called when the view is hidden, for example when the
+     * user moves to another screen before it has finished loading.
+     */
+    public void cancelLoads() {
+        if (pendingLoads.hasUnfinished()) {
+            LOGGER.debug("Dropping unfinished loads for module ID {}", currentModuleId);
+            pendingLoads.cancelAll();
+            reloadOnShow = true;
+        }
+    }
+
+    /**
+     * Loads the current module again if hiding the view dropped its loads, so returning to it does not leave
+     * sections waiting on loads that were cancelled. Called when the view is shown.
+     */
+    public void resumeLoads() {
+        if (reloadOnShow) {
+            setModuleId(currentModuleId);
+        }
     }
 
     /**
@@ -209,27 +285,31 @@ public final class ModuleDetailView extends BorderPane implements CoreViewInterf
             return;
         }
 
-        try {
-            ModuleDAO.findById(currentModuleId)
-                    .ifPresentOrElse(
-                            module -> {
-                                moduleNameLabel.setText(module.getName());
-                                moduleDescriptionLabel.setText(module.getDescription());
-                                moduleLecturerLabel.setText("Lecturer: " + module.getLecturer());
-                                LOGGER.debug("Updated module information for module ID: {}", currentModuleId);
-                            },
-                            () -> {
-                                LOGGER.warn("Module not found for ID: {}", currentModuleId);
-                                moduleNameLabel.setText("Module Not Found");
-                                moduleDescriptionLabel.setText("No description available");
-                                moduleLecturerLabel.setText("Lecturer: Unknown");
-                            });
-        } catch (Exception e) {
-            LOGGER.error("Error loading module information for module ID: {}", currentModuleId, e);
-            moduleNameLabel.setText("Error Loading Module");
-            moduleDescriptionLabel.setText("Could not load module description");
-            moduleLecturerLabel.setText("Lecturer: Unknown");
-        }
+        final int moduleId = currentModuleId;
+        moduleNameLabel.setText(FxAsync.loadingText());
+        moduleDescriptionLabel.setText("");
+        moduleLecturerLabel.setText("Lecturer: ");
+        pendingLoads.track(FxAsync.load(
+                () -> ModuleDAO.findById(moduleId),
+                module -> module.ifPresentOrElse(
+                        found -> {
+                            moduleNameLabel.setText(found.getName());
+                            moduleDescriptionLabel.setText(found.getDescription());
+                            moduleLecturerLabel.setText("Lecturer: " + found.getLecturer());
+                            LOGGER.debug("Updated module information for module ID: {}", moduleId);
+                        },
+                        () -> {
+                            LOGGER.warn("Module not found for ID: {}", moduleId);
+                            moduleNameLabel.setText("Module Not Found");
+                            moduleDescriptionLabel.setText("No description available");
+                            moduleLecturerLabel.setText("Lecturer: Unknown");
+                        }),
+                error -> {
+                    LOGGER.error("Error loading module information for module ID: {}", moduleId, error);
+                    moduleNameLabel.setText("Error Loading Module");
+                    moduleDescriptionLabel.setText("Could not load module description");
+                    moduleLecturerLabel.setText("Lecturer: Unknown");
+                }));
     }
 
     private void assignButtonActions() {
@@ -243,26 +323,20 @@ public final class ModuleDetailView extends BorderPane implements CoreViewInterf
      * Updates the student list with students enrolled in the current module
      */
     private void updateStudentList() {
-        clearStudentSelection();
-        studentListContainer.getChildren().clear();
+        studentListView.getItems().clear();
 
         if (currentModuleId <= 0) {
             LOGGER.warn("No module ID set, cannot load students");
             return;
         }
 
-        List<Student> students = ModuleDetailViewController.loadStudentsForModule(currentModuleId);
-        totalStudentsLabel.setText("Total Students: " + students.size());
-
-        for (Student student : students) {
-            String fullName = student.getFirstName() + " " + student.getLastName();
-            String joinDate =
-                    student.getJoinDate() != null ? student.getJoinDate().toString() : "N/A";
-
-            studentListContainer
-                    .getChildren()
-                    .add(createStudentRow(String.valueOf(student.getId()), fullName, student.getEmail(), joinDate));
-        }
+        final int moduleId = currentModuleId;
+        pendingLoads
+                .track(FxAsync.loadInto(
+                        studentListView,
+                        () -> ModuleDetailViewController.loadStudentsForModule(moduleId),
+                        error -> LOGGER.error("Failed to load students for module ID {}", moduleId, error)))
+                .thenAccept(students -> totalStudentsLabel.setText("Total Students: " + students.size()));
 
         // Update statistics
         updateModuleStatistics();
@@ -272,28 +346,18 @@ public final class ModuleDetailView extends BorderPane implements CoreViewInterf
      * Updates the assessment list with assessments for the current module
      */
     private void updateAssessmentList() {
-        clearAssessmentSelection();
-        assessmentListContainer.getChildren().clear();
+        assessmentListView.getItems().clear();
 
         if (currentModuleId <= 0) {
             LOGGER.warn("No module ID set, cannot load assessments");
             return;
         }
 
-        List<Assessment> assessments = ModuleDetailViewController.loadAssessmentsForModule(currentModuleId);
-
-        if (assessments.isEmpty()) {
-            assessmentListContainer.getChildren().add(createSidebarRow("No assessments found"));
-            return;
-        }
-
-        for (Assessment assessment : assessments) {
-            String dueDate =
-                    assessment.getDueDate() != null ? assessment.getDueDate().toString() : "N/A";
-            assessmentListContainer
-                    .getChildren()
-                    .add(createSidebarRow(assessment.getName() + " (" + dueDate + ")", assessment.getId()));
-        }
+        final int moduleId = currentModuleId;
+        pendingLoads.track(FxAsync.loadInto(
+                assessmentListView,
+                () -> ModuleDetailViewController.loadAssessmentsForModule(moduleId),
+                error -> LOGGER.error("Failed to load assessments for module ID {}", moduleId, error)));
     }
 
     /**
@@ -305,206 +369,55 @@ public final class ModuleDetailView extends BorderPane implements CoreViewInterf
             totalStudentsLabel.setText("Total Students: 0");
             averageGradeLabel.setText("Average Grade: 0.0");
             passRateLabel.setText("Pass Rate: 0%");
+            gradeRangeLabel.setText("Grade Range: N/A");
             return;
         }
 
-        double[] stats = ModuleDetailViewController.calculateModuleStatistics(currentModuleId);
-        int totalStudents = (int) stats[0];
-        double averageGrade = stats[1];
-        double passRate = stats[2];
+        final int moduleId = currentModuleId;
+        pendingLoads.track(FxAsync.load(
+                () -> ModuleDetailViewController.calculateModuleStatistics(moduleId),
+                this::showModuleStatistics,
+                error -> LOGGER.error("Failed to load statistics for module ID {}", moduleId, error)));
+    }
+
+    private void showModuleStatistics(GradeStatistics stats) {
+        int totalStudents = stats.studentCount();
+        double averageGrade = stats.averageGrade();
+        double passRate = stats.passRate();
 
         totalStudentsLabel.setText("Total Students: " + totalStudents);
         averageGradeLabel.setText("Average Grade: " + String.format("%.1f", averageGrade));
         passRateLabel.setText("Pass Rate: " + String.format("%.0f%%", passRate));
+        gradeRangeLabel.setText(
+                stats.hasResults()
+                        ? "Grade Range: " + stats.lowestGrade() + " - " + stats.highestGrade()
+                        : "Grade Range: N/A");
 
         LOGGER.debug(
                 "Updated statistics for module ID {}: {} students, {} avg grade, {}% pass rate",
                 currentModuleId, totalStudents, averageGrade, passRate);
     }
 
-    private HBox createSidebarRow(String text, Integer assessmentId) {
-        HBox row = new HBox(10);
-        row.setAlignment(Pos.CENTER_LEFT);
-        row.setPadding(new Insets(5));
-
-        // Store the assessment ID as user data for later retrieval
-        row.setUserData(assessmentId);
-
-        Label label = new Label(text);
-        HBox.setHgrow(label, Priority.ALWAYS);
-        label.setMaxWidth(Double.MAX_VALUE);
-        row.getChildren().add(label);
-
-        row.setOnMouseEntered(e -> {
-            if (row != selectedAssessmentRow) {
-                row.setStyle("-fx-background-color: #f0f0f0;");
-            }
-        });
-
-        row.setOnMouseExited(e -> {
-            if (row != selectedAssessmentRow) {
-                row.setStyle("-fx-background-color: transparent;");
-            }
-        });
-
-        row.setOnMouseClicked(e -> {
-            LOGGER.debug(text + " selected");
-
-            if (selectedAssessmentRow != null) {
-                selectedAssessmentRow.setStyle("-fx-background-color: transparent;");
-            }
-            selectedAssessmentRow = row;
-            row.setStyle("-fx-background-color: #cce0ff;");
-
-            assessmentDetailButton.setDisable(false);
-        });
-
-        row.getStyleClass().add("sidebar-row");
-        row.setMaxWidth(Double.MAX_VALUE);
-        HBox.setHgrow(row, Priority.ALWAYS);
-
-        return row;
-    }
-
-    private HBox createSidebarRow(String text) {
-        return createSidebarRow(text, null);
-    }
-
     public void clearSelections() {
-        clearAssessmentSelection();
-        clearStudentSelection();
-    }
-
-    /**
-     * Clears the current assessment selection
-     */
-    private void clearAssessmentSelection() {
-        if (selectedAssessmentRow != null) {
-            selectedAssessmentRow.setStyle("-fx-background-color: transparent;");
-            selectedAssessmentRow = null;
-            assessmentDetailButton.setDisable(true);
-        }
-    }
-
-    /**
-     * Creates a row for the student list with the given information.
-     *
-     * @param id Student ID
-     * @param name Student name
-     * @param email Student email
-     * @param joinDate Student join date
-     * @return HBox containing the student information
-     */
-    private HBox createStudentRow(String id, String name, String email, String joinDate) {
-        HBox row = new HBox();
-        row.setAlignment(Pos.CENTER_LEFT);
-        row.setPadding(new Insets(10, 5, 10, 5));
-        row.getStyleClass().add("student-row");
-        row.setSpacing(20);
-
-        double totalWidth = 100.0;
-        double idWidth = totalWidth * 0.15;
-        double nameWidth = totalWidth * 0.25;
-        double emailWidth = totalWidth * 0.40;
-        double dateWidth = totalWidth * 0.20;
-
-        Label idLabel = new Label(id);
-        Label nameLabel = new Label(name);
-        Label emailLabel = new Label(email);
-        Label joinDateLabel = new Label(joinDate);
-
-        HBox.setHgrow(idLabel, Priority.ALWAYS);
-        HBox.setHgrow(nameLabel, Priority.ALWAYS);
-        HBox.setHgrow(emailLabel, Priority.ALWAYS);
-        HBox.setHgrow(joinDateLabel, Priority.ALWAYS);
-
-        idLabel.setMaxWidth(Double.MAX_VALUE);
-        nameLabel.setMaxWidth(Double.MAX_VALUE);
-        emailLabel.setMaxWidth(Double.MAX_VALUE);
-        joinDateLabel.setMaxWidth(Double.MAX_VALUE);
-
-        idLabel.setMinWidth(50);
-        nameLabel.setMinWidth(100);
-        emailLabel.setMinWidth(150);
-        joinDateLabel.setMinWidth(80);
-
-        idLabel.prefWidthProperty().bind(row.widthProperty().multiply(idWidth / totalWidth));
-        nameLabel.prefWidthProperty().bind(row.widthProperty().multiply(nameWidth / totalWidth));
-        emailLabel.prefWidthProperty().bind(row.widthProperty().multiply(emailWidth / totalWidth));
-        joinDateLabel.prefWidthProperty().bind(row.widthProperty().multiply(dateWidth / totalWidth));
-
-        idLabel.getStyleClass().add("student-details");
-        nameLabel.getStyleClass().add("student-name");
-        emailLabel.getStyleClass().add("student-details");
-        joinDateLabel.getStyleClass().add("student-details");
-
-        row.getChildren().addAll(idLabel, nameLabel, emailLabel, joinDateLabel);
-
-        row.setOnMouseEntered(e -> {
-            if (row != selectedStudentRow) {
-                row.setStyle("-fx-background-color: #f0f0f0;");
-            }
-        });
-
-        row.setOnMouseExited(e -> {
-            if (row != selectedStudentRow) {
-                row.setStyle("-fx-background-color: transparent;");
-            }
-        });
-
-        row.setOnMouseClicked(e -> {
-            if (selectedStudentRow != null) {
-                selectedStudentRow.setStyle("-fx-background-color: transparent;");
-            }
-
-            selectedStudentRow = row;
-            row.setStyle("-fx-background-color: #cce0ff;");
-
-            viewStudentButton.setDisable(false);
-
-            LOGGER.debug("Selected student ID: " + id);
-        });
-
-        return row;
+        assessmentListView.getSelectionModel().clearSelection();
+        studentListView.getSelectionModel().clearSelection();
     }
 
     /**
-     * Gets the currently selected assessment row
-     * @return The selected assessment row, or null if no assessment is selected
+     * Gets the ID of the currently selected assessment
+     * @return The ID of the selected assessment, or null if no assessment is selected
      */
-    public HBox getSelectedAssessmentRow() {
-        return selectedAssessmentRow;
+    public Integer getSelectedAssessmentId() {
+        Assessment selected = assessmentListView.getSelectionModel().getSelectedItem();
+        return selected != null ? selected.getId() : null;
     }
 
-    /**
-     * Gets the ID of the currently selected student
-     * @return The ID of the selected student, or null if no student is selected
-     */
     /**
      * Gets the ID of the currently selected student
      * @return The ID of the selected student, or null if no student is selected
      */
     public String getSelectedStudentId() {
-        if (selectedStudentRow == null) {
-            return null;
-        }
-
-        HBox row = selectedStudentRow;
-        if (!row.getChildren().isEmpty() && row.getChildren().get(0) instanceof Label) {
-            return ((Label) row.getChildren().get(0)).getText();
-        }
-
-        return null;
-    }
-
-    /**
-     * Clears the current student selection and disables the view button
-     */
-    private void clearStudentSelection() {
-        if (selectedStudentRow != null) {
-            selectedStudentRow.setStyle("-fx-background-color: transparent;");
-            selectedStudentRow = null;
-            viewStudentButton.setDisable(true);
-        }
+        Student selected = studentListView.getSelectionModel().getSelectedItem();
+        return selected != null ? String.valueOf(selected.getId()) : null;
     }
 }
@@ -3,9 +3,12 @@ package sms.gradle.view.frames.admin;
 import java.util.List;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
+import javafx.scene.Node;
 import javafx.scene.control.Button;
+import javafx.scene.control.ContentDisplay;
 import javafx.scene.control.Label;
-import javafx.scene.control.ScrollPane;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
@@ -16,10 +19,15 @@ import javafx.scene.text.FontWeight;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import sms.gradle.controller.admin.StudentDetailViewController;
+import sms.gradle.model.dao.GradeStatistics;
 import sms.gradle.model.entities.Assessment;
 import sms.gradle.model.entities.Module;
 import sms.gradle.model.entities.Student;
+import sms.gradle.utils.FxAsync;
+import sms.gradle.utils.PendingLoads;
+import sms.gradle.utils.jfr.DetailLoadEvent;
 import sms.gradle.view.CoreViewInterface;
+import sms.gradle.view.components.ColumnsListCell;
 
 /**
  * Student View that displays detailed information about a student and their modules/assessments.
@@ -31,16 +39,16 @@ public final class StudentDetailView extends BorderPane implements CoreViewInter
     private static final double SIDEBAR_WIDTH_PERCENT = 0.25;
     private static final double STATS_PANEL_HEIGHT_PERCENT = 0.15;
 
+    private static final Insets SIDEBAR_ROW_PADDING = new Insets(5);
+    private static final List<ColumnsListCell.Column> SIDEBAR_COLUMNS =
+            List.of(new ColumnsListCell.Column("", 1, 0, "sidebar-label"));
+
     // Sidebar components
     private VBox sidebar = new VBox(15);
     private Label studentNameLabel = new Label("Student Name");
-    private VBox moduleListContainer = new VBox(5);
-    private ScrollPane moduleScrollPane = new ScrollPane(moduleListContainer);
-    private HBox selectedModuleRow = null;
+    private ListView<Module> moduleListView = new ListView<>();
     private Button moduleDetailButton = new Button("View Module");
-    private VBox assessmentListContainer = new VBox(5);
-    private ScrollPane assessmentScrollPane = new ScrollPane(assessmentListContainer);
-    private HBox selectedAssessmentRow = null;
+    private ListView<Assessment> assessmentListView = new ListView<>();
     private Button assessmentDetailButton = new Button("View Assessment");
     private Button backButton = new Button("Back");
     private Button logoutButton = new Button("Logout");
@@ -50,6 +58,7 @@ public final class StudentDetailView extends BorderPane implements CoreViewInter
     private Label totalModulesLabel = new Label("Total Modules: 0");
     private Label averageGradeLabel = new Label("Average Grade: 0.0");
     private Label completionRateLabel = new Label("Completion Rate: 0%");
+    private Label gradeRangeLabel = new Label("Grade Range: N/A");
 
     // Main information panel components
     private VBox mainInfoPanel = new VBox(15);
@@ -65,12 +74,17 @@ public final class StudentDetailView extends BorderPane implements CoreViewInter
     private Label joinDateLabel = new Label("Join Date:");
     private Label joinDateValueLabel = new Label("");
     private Label modulesHeaderLabel = new Label("Enrolled Modules");
-    private VBox enrolledModulesContainer = new VBox(5);
-    private ScrollPane enrolledModulesScrollPane = new ScrollPane(enrolledModulesContainer);
+    private ListView<Module> enrolledModulesListView = new ListView<>();
 
     // Current student ID
     private int currentStudentId = -1;
 
+    // Loads started for the current student, dropped when another student is shown or the view is hidden
+    private final PendingLoads pendingLoads = new PendingLoads();
+
+    // Set when hiding the view dropped loads that had not finished, so the student is loaded again when shown
+    private boolean reloadOnShow;
+
     public StudentDetailView() {
         LOGGER.debug("Initialising Student View");
         getStylesheets().add(getClass().getResource("/styles/manager.css").toExternalForm());
@@ -90,10 +104,31 @@ public final class StudentDetailView extends BorderPane implements CoreViewInter
         moduleDetailButton.setDisable(true);
         assessmentDetailButton.setDisable(true);
 
-        // Set up scroll panes
-        moduleScrollPane.setFitToWidth(true);
-        assessmentScrollPane.setFitToWidth(true);
-        enrolledModulesScrollPane.setFitToWidth(true);
+        // Set up lists, which only build the rows in view
+        moduleListView.setCellFactory(view -> new ColumnsListCell<>(
+                SIDEBAR_COLUMNS, SIDEBAR_ROW_PADDING, module -> List.of(module.getName()), Module::getId));
+        moduleListView.setPlaceholder(new Label("No modules found"));
+        moduleListView
+                .getSelectionModel()
+                .selectedItemProperty()
+                .addListener((observable, oldModule, module) -> moduleDetailButton.setDisable(module == null));
+
+        assessmentListView.setCellFactory(view -> new ColumnsListCell<>(
+                SIDEBAR_COLUMNS,
+                SIDEBAR_ROW_PADDING,
+                assessment -> List.of(assessment.getName()),
+                Assessment::getId));
+        assessmentListView.setPlaceholder(new Label("No assessments found"));
+        assessmentListView
+                .getSelectionModel()
+                .selectedItemProperty()
+                .addListener((observable, oldAssessment, assessment) ->
+                        assessmentDetailButton.setDisable(assessment == null));
+
+        enrolledModulesListView.setCellFactory(view -> new EnrolledModuleCell());
+        Label noModulesLabel = new Label("No modules enrolled");
+        noModulesLabel.getStyleClass().add("no-data-label");
+        enrolledModulesListView.setPlaceholder(noModulesLabel);
 
         // Set up grid for student details
         studentDetailsGrid.setHgap(10);
@@ -108,10 +143,10 @@ public final class StudentDetailView extends BorderPane implements CoreViewInter
                 .addAll(
                         studentNameLabel,
                         new Label("Modules:"),
-                        moduleScrollPane,
+                        moduleListView,
                         moduleDetailButton,
                         new Label("Assessments:"),
-                        assessmentScrollPane,
+                        assessmentListView,
                         assessmentDetailButton,
                         backButton,
                         logoutButton);
@@ -123,7 +158,7 @@ public final class StudentDetailView extends BorderPane implements CoreViewInter
         sidebar.getChildren().add(7, spacer);
 
         // Stats panel layout
-        statsPanel.getChildren().addAll(totalModulesLabel, averageGradeLabel, completionRateLabel);
+        statsPanel.getChildren().addAll(totalModulesLabel, averageGradeLabel, completionRateLabel, gradeRangeLabel);
         statsPanel.setPadding(new Insets(20));
         statsPanel.setAlignment(Pos.CENTER_LEFT);
         HBox.setHgrow(statsPanel, Priority.ALWAYS);
@@ -141,9 +176,9 @@ public final class StudentDetailView extends BorderPane implements CoreViewInter
         studentDetailsGrid.add(joinDateValueLabel, 1, 4);
 
         // Main panel layout
-        mainInfoPanel.getChildren().addAll(studentDetailsGrid, modulesHeaderLabel, enrolledModulesScrollPane);
+        mainInfoPanel.getChildren().addAll(studentDetailsGrid, modulesHeaderLabel, enrolledModulesListView);
         mainInfoPanel.setPadding(new Insets(20));
-        VBox.setVgrow(enrolledModulesScrollPane, Priority.ALWAYS);
+        VBox.setVgrow(enrolledModulesListView, Priority.ALWAYS);
 
         // Main content layout
         VBox mainContent = new VBox();
@@ -173,6 +208,7 @@ public final class StudentDetailView extends BorderPane implements CoreViewInter
         totalModulesLabel.getStyleClass().add("stats-label");
         averageGradeLabel.getStyleClass().add("stats-label");
         completionRateLabel.getStyleClass().add("stats-label");
+        gradeRangeLabel.getStyleClass().add("stats-label");
 
         // Student details
         studentDetailsGrid.getStyleClass().add("student-details-grid");
@@ -193,14 +229,11 @@ public final class StudentDetailView extends BorderPane implements CoreViewInter
 
         // Main information panel
         mainInfoPanel.getStyleClass().add("center-panel");
-        enrolledModulesScrollPane.getStyleClass().add("scroll-pane");
-        enrolledModulesContainer.getStyleClass().add("module-list-container");
-
-        // Scroll panes
-        moduleScrollPane.getStyleClass().add("sidebar-scroll-pane");
-        assessmentScrollPane.getStyleClass().add("sidebar-scroll-pane");
-        moduleListContainer.getStyleClass().add("sidebar-list-container");
-        assessmentListContainer.getStyleClass().add("sidebar-list-container");
+        enrolledModulesListView.getStyleClass().add("module-list-container");
+
+        // Sidebar lists
+        moduleListView.getStyleClass().add("sidebar-list-container");
+        assessmentListView.getStyleClass().add("sidebar-list-container");
     }
 
     /**
@@ -226,9 +259,9 @@ public final class StudentDetailView extends BorderPane implements CoreViewInter
             double moduleHeight = availableHeight * 0.25;
             double assessmentHeight = availableHeight * 0.25;
 
-            moduleScrollPane.setPrefHeight(moduleHeight);
-            assessmentScrollPane.setPrefHeight(assessmentHeight);
-            enrolledModulesScrollPane.setPrefHeight(availableHeight * 0.4);
+            moduleListView.setPrefHeight(moduleHeight);
+            assessmentListView.setPrefHeight(assessmentHeight);
+            enrolledModulesListView.setPrefHeight(availableHeight * 0.4);
         });
 
         sceneProperty().addListener((observable, oldScene, newScene) -> {
@@ -266,20 +299,47 @@ public final class StudentDetailView extends BorderPane implements CoreViewInter
     }
 
     /**
-     * Sets the current student ID and updates the student information and module/assessment lists
+     * Sets the current student ID and updates the student information and module/assessment lists.
+     * The data is loaded in the background, and any loads still running for the previous student are dropped.
      * @param studentId The ID of the student to display
      */
     public void setStudentId(int studentId) {
+        pendingLoads.cancelAll();
+        reloadOnShow = false;
+        DetailLoadEvent loadEvent = DetailLoadEvent.start("student detail", studentId);
         this.currentStudentId = studentId;
         updateStudentInformation();
         updateModuleList();
         updateAssessmentList();
-        updateEnrolledModulesList();
+        updateStudentStatistics();
+        loadEvent.completeWhenDone(pendingLoads.whenAllDone());
 
         // Log the update for debugging
         LOGGER.debug("Student ID set to: {}", studentId);
     }
 
+    /**
+     * Drops the loads still running for the current student. Called when the view is hidden, for example when the
+     * user moves to another screen before it has finished loading.
+     */
+    public void cancelLoads() {
+        if (pendingLoads.hasUnfinished()) {
+            LOGGER.debug("Dropping unfinished loads for student ID {}", currentStudentId);
+            pendingLoads.cancelAll();
+            reloadOnShow = true;
+        }
+    }
+
+    /**
+     * Loads the current student again if hiding the view dropped its loads, so returning to it does not leave
+     * sections waiting on loads that were cancelled. Called when the view is shown.
+     */
+    public void resumeLoads() {
+        if (reloadOnShow) {
+            setStudentId(currentStudentId);
+        }
+    }
+
     /**
      * Updates the student information labels with data from StudentDAO
      */
@@ -295,35 +355,40 @@ public final class StudentDetailView extends BorderPane implements CoreViewInter
             return;
         }
 
-        try {
-            Student student = StudentDetailViewController.loadStudent(currentStudentId);
-
-            if (student != null) {
-                String fullName = student.getFirstName() + " " + student.getLastName();
-                studentNameLabel.setText(fullName);
-                studentIdValueLabel.setText(String.valueOf(student.getId()));
-                firstNameValueLabel.setText(student.getFirstName());
-                lastNameValueLabel.setText(student.getLastName());
-                emailValueLabel.setText(student.getEmail());
-                joinDateValueLabel.setText(
-                        student.getJoinDate() != null ? student.getJoinDate().toString() : "Not set");
-
-                // Log the student details for debugging
-                LOGGER.debug("Updated student information for student ID: {}", currentStudentId);
-                LOGGER.debug("Student name: {}", fullName);
-                LOGGER.debug("Student email: {}", student.getEmail());
-            } else {
-                LOGGER.warn("Student not found for ID: {}", currentStudentId);
-                studentNameLabel.setText("Student Not Found");
-                studentIdValueLabel.setText("");
-                firstNameValueLabel.setText("");
-                lastNameValueLabel.setText("");
-                emailValueLabel.setText("");
-                joinDateValueLabel.setText("");
-            }
-        } catch (Exception e) {
-            LOGGER.error("Error loading student information for student ID: {}", currentStudentId, e);
-            studentNameLabel.setText("Error Loading Student");
+        final int studentId = currentStudentId;
+        studentNameLabel.setText(FxAsync.loadingText());
+        pendingLoads.track(FxAsync.load(
+                () -> StudentDetailViewController.loadStudent(studentId),
+                this::showStudentInformation,
+                error -> {
+                    LOGGER.error("Error loading student information for student ID: {}", studentId, error);
+                    studentNameLabel.setText("Error Loading Student");
+                    studentIdValueLabel.setText("");
+                    firstNameValueLabel.setText("");
+                    lastNameValueLabel.setText("");
+                    emailValueLabel.setText("");
+                    joinDateValueLabel.setText("");
+                }));
+    }
+
+    private void showStudentInformation(Student student) {
+        if (student != null) {
+            String fullName = student.getFirstName() + " " + student.getLastName();
+            studentNameLabel.setText(fullName);
+            studentIdValueLabel.setText(String.valueOf(student.getId()));
+            firstNameValueLabel.setText(student.getFirstName());
+            lastNameValueLabel.setText(student.getLastName());
+            emailValueLabel.setText(student.getEmail());
+            joinDateValueLabel.setText(
+                    student.getJoinDate() != null ? student.getJoinDate().toString() : "Not set");
+
+            // Log the student details for debugging
+            LOGGER.debug("Updated student information for student ID: {}", currentStudentId);
+            LOGGER.debug("Student name: {}", fullName);
+            LOGGER.debug("Student email: {}", student.getEmail());
+        } else {
+            LOGGER.warn("Student not found for ID: {}", currentStudentId);
+            studentNameLabel.setText("Student Not Found");
             studentIdValueLabel.setText("");
             firstNameValueLabel.setText("");
             lastNameValueLabel.setText("");
@@ -340,126 +405,100 @@ public final class StudentDetailView extends BorderPane implements CoreViewInter
     }
 
     /**
-     * Updates the module list in the sidebar
+     * Updates the module list in the sidebar and the enrolled modules list in the main panel
      */
     private void updateModuleList() {
-        clearModuleSelection();
-        moduleListContainer.getChildren().clear();
+        moduleListView.getItems().clear();
+        enrolledModulesListView.getItems().clear();
 
         if (currentStudentId <= 0) {
             LOGGER.warn("No student ID set, cannot load modules");
             return;
         }
 
-        List<Module> modules = StudentDetailViewController.loadModulesForStudent(currentStudentId);
-
-        if (modules.isEmpty()) {
-            HBox noModulesRow = createSidebarRow("No modules found");
-            moduleListContainer.getChildren().add(noModulesRow);
-            return;
-        }
-
-        for (Module module : modules) {
-            HBox moduleRow = createSidebarRow(module.getName());
-            // Store the module ID as a property for later retrieval
-            moduleRow.setUserData(module.getId());
-            moduleListContainer.getChildren().add(moduleRow);
-        }
-
-        LOGGER.debug("Updated module list with {} modules", modules.size());
+        final int studentId = currentStudentId;
+        final Node enrolledPlaceholder = enrolledModulesListView.getPlaceholder();
+        enrolledModulesListView.setPlaceholder(new Label(FxAsync.loadingText()));
+        // The sidebar and the enrolled modules list show the same modules, so they share one load
+        pendingLoads
+                .track(FxAsync.loadInto(
+                        moduleListView,
+                        () -> StudentDetailViewController.loadModulesForStudent(studentId),
+                        error -> LOGGER.error("Failed to load modules for student ID {}", studentId, error)))
+                .whenComplete((modules, error) -> {
+                    enrolledModulesListView.setPlaceholder(enrolledPlaceholder);
+                    if (modules != null) {
+                        showEnrolledModules(modules);
+                    }
+                });
     }
 
     /**
      * Updates the assessment list in the sidebar
      */
     private void updateAssessmentList() {
-        clearAssessmentSelection();
-        assessmentListContainer.getChildren().clear();
+        assessmentListView.getItems().clear();
 
         if (currentStudentId <= 0) {
             LOGGER.warn("No student ID set, cannot load assessments");
             return;
         }
 
-        List<Assessment> assessments = StudentDetailViewController.loadAssessmentsForStudent(currentStudentId);
-
-        if (assessments.isEmpty()) {
-            HBox noAssessmentsRow = createSidebarRow("No assessments found");
-            assessmentListContainer.getChildren().add(noAssessmentsRow);
-            return;
-        }
-
-        for (Assessment assessment : assessments) {
-            HBox assessmentRow = createSidebarRow(assessment.getName());
-            // Store the assessment ID as a property for later retrieval
-            assessmentRow.setUserData(assessment.getId());
-            assessmentListContainer.getChildren().add(assessmentRow);
-        }
-
-        LOGGER.debug("Updated assessment list with {} assessments", assessments.size());
+        final int studentId = currentStudentId;
+        pendingLoads.track(FxAsync.loadInto(
+                assessmentListView,
+                () -> StudentDetailViewController.loadAssessmentsForStudent(studentId),
+                error -> LOGGER.error("Failed to load assessments for student ID {}", studentId, error)));
     }
 
     /**
-     * Updates the enrolled modules list in the main panel
+     * Shows the student's modules in the enrolled modules list in the main panel
+     * @param modules The modules the student is enrolled on
      */
-    private void updateEnrolledModulesList() {
-        enrolledModulesContainer.getChildren().clear();
-
-        if (currentStudentId <= 0) {
-            LOGGER.warn("No student ID set, cannot load enrolled modules");
-            return;
-        }
-
-        List<Module> modules = StudentDetailViewController.loadModulesForStudent(currentStudentId);
-        totalModulesLabel.setText("Total Modules: " + modules.size());
+    private void showEnrolledModules(List<Module> modules) {
+        enrolledModulesListView.getItems().setAll(modules);
 
         LOGGER.debug("Loaded {} modules for enrolled modules list", modules.size());
-
-        if (modules.isEmpty()) {
-            Label noModulesLabel = new Label("No modules enrolled");
-            noModulesLabel.getStyleClass().add("no-data-label");
-            enrolledModulesContainer.getChildren().add(noModulesLabel);
-            return;
-        }
-
-        for (Module module : modules) {
-            HBox moduleRow = createEnrolledModuleRow(module);
-            enrolledModulesContainer.getChildren().add(moduleRow);
-            LOGGER.debug("Added module to enrolled list: {}", module.getName());
-        }
-
-        updateStudentStatistics();
     }
 
     /**
-     * Creates a row for the enrolled modules list
-     * @param module The module to display
-     * @return HBox containing the module information
+     * Shows a module in the enrolled modules list, reusing its labels as the list scrolls
      */
-    private HBox createEnrolledModuleRow(Module module) {
-        HBox row = new HBox(10);
-        row.setAlignment(Pos.CENTER_LEFT);
-        row.setPadding(new Insets(10));
-        row.getStyleClass().add("enrolled-module-row");
-
-        VBox moduleInfo = new VBox(5);
-        Label nameLabel = new Label(module.getName());
-        nameLabel.getStyleClass().add("module-name");
-        nameLabel.setFont(Font.font("System", FontWeight.BOLD, 14));
-
-        Label descriptionLabel = new Label(module.getDescription());
-        descriptionLabel.getStyleClass().add("module-description");
-        descriptionLabel.setWrapText(true);
-
-        Label lecturerLabel = new Label("Lecturer: " + module.getLecturer());
-        lecturerLabel.getStyleClass().add("module-lecturer");
-
-        moduleInfo.getChildren().addAll(nameLabel, descriptionLabel, lecturerLabel);
-
-        row.getChildren().add(moduleInfo);
-        HBox.setHgrow(moduleInfo, Priority.ALWAYS);
+    private static final class EnrolledModuleCell extends ListCell<Module> {
+        private final VBox moduleInfo = new VBox(5);
+        private final Label nameLabel = new Label();
+        private final Label descriptionLabel = new Label();
+        private final Label lecturerLabel = new Label();
+
+        private EnrolledModuleCell() {
+            nameLabel.getStyleClass().add("module-name");
+            nameLabel.setFont(Font.font("System", FontWeight.BOLD, 14));
+            descriptionLabel.getStyleClass().add("module-description");
+            descriptionLabel.setWrapText(true);
+            lecturerLabel.getStyleClass().add("module-lecturer");
+
+            moduleInfo.getChildren().addAll(nameLabel, descriptionLabel, lecturerLabel);
+            moduleInfo.setPadding(new Insets(10));
+            moduleInfo.getStyleClass().add("enrolled-module-row");
+            // Wrap the description to the list's width rather than widening the row
+            moduleInfo.prefWidthProperty().bind(widthProperty().subtract(20));
+            setContentDisplay(ContentDisplay.GRAPHIC_ONLY);
+        }
 
-        return row;
+        @Override
+        protected void updateItem(final Module module, final boolean empty) {
+            super.updateItem(module, empty);
+            if (empty || module == null) {
+                moduleInfo.setUserData(null);
+                setGraphic(null);
+                return;
+            }
+            nameLabel.setText(module.getName());
+            descriptionLabel.setText(module.getDescription());
+            lecturerLabel.setText("Lecturer: " + module.getLecturer());
+            moduleInfo.setUserData(module.getId());
+            setGraphic(moduleInfo);
+        }
     }
 
     /**
@@ -471,115 +510,58 @@ public final class StudentDetailView extends BorderPane implements CoreViewInter
             totalModulesLabel.setText("Total Modules: 0");
             averageGradeLabel.setText("Average Grade: 0.0");
             completionRateLabel.setText("Completion Rate: 0%");
+            gradeRangeLabel.setText("Grade Range: N/A");
             return;
         }
 
-        double[] stats = StudentDetailViewController.calculateStudentStatistics(currentStudentId);
-        int totalModules = (int) stats[0];
-        double averageGrade = stats[1];
-        double completionRate = stats[2];
+        final int studentId = currentStudentId;
+        pendingLoads.track(FxAsync.load(
+                () -> StudentDetailViewController.calculateStudentStatistics(studentId),
+                this::showStudentStatistics,
+                error -> LOGGER.error("Failed to load statistics for student ID {}", studentId, error)));
+    }
+
+    private void showStudentStatistics(GradeStatistics stats) {
+        int totalModules = stats.moduleCount();
+        double averageGrade = stats.averageGrade();
+        double completionRate = stats.completionRate();
 
         totalModulesLabel.setText("Total Modules: " + totalModules);
         averageGradeLabel.setText("Average Grade: " + String.format("%.1f", averageGrade));
         completionRateLabel.setText("Completion Rate: " + String.format("%.0f%%", completionRate));
+        gradeRangeLabel.setText(
+                stats.hasResults()
+                        ? "Grade Range: " + stats.lowestGrade() + " - " + stats.highestGrade()
+                        : "Grade Range: N/A");
 
         LOGGER.debug(
                 "Updated statistics for student ID {}: {} modules, {} avg grade, {}% completion rate",
                 currentStudentId, totalModules, averageGrade, completionRate);
     }
 
-    private HBox createSidebarRow(String text) {
-        HBox row = new HBox(10);
-        row.setAlignment(Pos.CENTER_LEFT);
-        row.setPadding(new Insets(5));
-
-        Label label = new Label(text);
-        HBox.setHgrow(label, Priority.ALWAYS);
-        label.setMaxWidth(Double.MAX_VALUE);
-        row.getChildren().add(label);
-
-        row.setOnMouseEntered(e -> {
-            if (row != selectedModuleRow && row != selectedAssessmentRow) {
-                row.setStyle("-fx-background-color: #f0f0f0;");
-            }
-        });
-
-        row.setOnMouseExited(e -> {
-            if (row != selectedModuleRow && row != selectedAssessmentRow) {
-                row.setStyle("-fx-background-color: transparent;");
-            }
-        });
-
-        row.setOnMouseClicked(e -> {
-            LOGGER.debug(text + " selected");
-
-            if (moduleListContainer.getChildren().contains(row)) {
-                if (selectedModuleRow != null) {
-                    selectedModuleRow.setStyle("-fx-background-color: transparent;");
-                }
-                selectedModuleRow = row;
-                row.setStyle("-fx-background-color: #cce0ff;");
-                moduleDetailButton.setDisable(false);
-            } else {
-                if (selectedAssessmentRow != null) {
-                    selectedAssessmentRow.setStyle("-fx-background-color: transparent;");
-                }
-                selectedAssessmentRow = row;
-                row.setStyle("-fx-background-color: #cce0ff;");
-                assessmentDetailButton.setDisable(false);
-            }
-        });
-
-        row.getStyleClass().add("sidebar-row");
-        row.setMaxWidth(Double.MAX_VALUE);
-        HBox.setHgrow(row, Priority.ALWAYS);
-
-        return row;
-    }
-
     /**
      * Clears all selections (modules and assessments)
      */
     public void clearSelections() {
-        clearModuleSelection();
-        clearAssessmentSelection();
-    }
-
-    /**
-     * Clears the current module selection and disables the view button
-     */
-    private void clearModuleSelection() {
-        if (selectedModuleRow != null) {
-            selectedModuleRow.setStyle("-fx-background-color: transparent;");
-            selectedModuleRow = null;
-            moduleDetailButton.setDisable(true);
-        }
-    }
-
-    /**
-     * Clears the current assessment selection and disables the view button
-     */
-    private void clearAssessmentSelection() {
-        if (selectedAssessmentRow != null) {
-            selectedAssessmentRow.setStyle("-fx-background-color: transparent;");
-            selectedAssessmentRow = null;
-            assessmentDetailButton.setDisable(true);
-        }
+        moduleListView.getSelectionModel().clearSelection();
+        assessmentListView.getSelectionModel().clearSelection();
     }
 
     /**
-     * Gets the currently selected module row
-     * @return The selected module row, or null if no module is selected
+     * Gets the ID of the currently selected module
+     * @return The ID of the selected module, or null if no module is selected
      */
-    public HBox getSelectedModuleRow() {
-        return selectedModuleRow;
+    public Integer getSelectedModuleId() {
+        Module selected = moduleListView.getSelectionModel().getSelectedItem();
+        return selected != null ? selected.getId() : null;
     }
 
     /**
-     * Gets the currently selected assessment row
-     * @return The selected assessment row, or null if no assessment is selected
+     * Gets the ID of the currently selected assessment
+     * @return The ID of the selected assessment, or null if no assessment is selected
      */
-    public HBox getSelectedAssessmentRow() {
-        return selectedAssessmentRow;
+    public Integer getSelectedAssessmentId() {
+        Assessment selected = assessmentListView.getSelectionModel().getSelectedItem();
+        return selected != null ? selected.getId() : null;
     }
 }
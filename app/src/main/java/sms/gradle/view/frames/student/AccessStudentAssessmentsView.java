@@ -1,6 +1,6 @@
 package sms.gradle.view.frames.student;
 
-import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
@@ -18,7 +18,9 @@ import sms.gradle.controller.student.AccessStudentAssessmentsController;
 import sms.gradle.model.dao.ModuleDAO;
 import sms.gradle.model.entities.Assessment;
 import sms.gradle.model.entities.Course;
+import sms.gradle.utils.FxAsync;
 import sms.gradle.view.CoreViewInterface;
+import sms.gradle.view.components.ComponentStyles;
 
 public class AccessStudentAssessmentsView extends BorderPane implements CoreViewInterface {
     private static final Logger LOGGER = LogManager.getLogger();
@@ -58,6 +60,8 @@ public class AccessStudentAssessmentsView extends BorderPane implements CoreView
     public AccessStudentAssessmentsView() {
         LOGGER.debug("Initialising Access Student Assessments View");
         getStylesheets().add(getClass().getResource("/styles/dashboard.css").toExternalForm());
+        // Shared by every grade circle shown in the results area
+        getStylesheets().add(ComponentStyles.STYLESHEET);
         initialiseCoreUIComponents();
         layoutCoreUIComponents();
         styleCoreUIComponents();
@@ -89,23 +93,31 @@ public class AccessStudentAssessmentsView extends BorderPane implements CoreView
     }
 
     private static class AssessmentListCell extends ListCell<Assessment> {
+        private CompletableFuture<String> pendingModuleName;
+
         @Override
         protected void updateItem(Assessment assessment, boolean empty) {
             super.updateItem(assessment, empty);
+            if (pendingModuleName != null) {
+                pendingModuleName.cancel(false);
+            }
 
             if (empty || assessment == null) {
                 setText(null);
                 return;
             }
-            String moduleName;
-            try {
-                moduleName = ModuleDAO.findById(assessment.getModuleId())
-                        .map(sms.gradle.model.entities.Module::getName)
-                        .orElse("Unknown Module");
-            } catch (SQLException e) {
-                moduleName = "Unknown Module";
-            }
+            showAssessment(assessment, FxAsync.loadingText());
+            setWrapText(true);
 
+            pendingModuleName = FxAsync.load(
+                    () -> ModuleDAO.findById(assessment.getModuleId())
+                            .map(sms.gradle.model.entities.Module::getName)
+                            .orElse("Unknown Module"),
+                    moduleName -> showAssessment(assessment, moduleName),
+                    error -> showAssessment(assessment, "Unknown Module"));
+        }
+
+        private void showAssessment(Assessment assessment, String moduleName) {
             String displayText = String.format(
                     "%s (ID: %d)\n%s\nDue: %s\nModule: %s",
                     assessment.getName(),
@@ -115,7 +127,6 @@ public class AccessStudentAssessmentsView extends BorderPane implements CoreView
                     moduleName);
 
             setText(displayText);
-            setWrapText(true);
         }
     }
 
@@ -39,7 +39,7 @@ public class AdminDAOTest {
     private ResultSet mockResultSet;
 
     @BeforeEach
-    public void setUp() {
+    public void setUp() throws SQLException {
         MockitoAnnotations.openMocks(this);
         mockStaticDbConnection = mockStatic(DatabaseConnection.class);
         mockStaticDbConnection.when(DatabaseConnection::getInstance).thenReturn(mockDbConnection);
@@ -71,10 +71,10 @@ public class AdminDAOTest {
         when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
         when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
         when(mockResultSet.next()).thenReturn(true);
-        when(mockResultSet.getInt("id")).thenReturn(1);
-        when(mockResultSet.getString("first_name")).thenReturn("James");
-        when(mockResultSet.getString("last_name")).thenReturn("Bond");
-        when(mockResultSet.getString("email")).thenReturn("jamesbond@gmail.com");
+        when(mockResultSet.getInt(1)).thenReturn(1);
+        when(mockResultSet.getString(2)).thenReturn("James");
+        when(mockResultSet.getString(3)).thenReturn("Bond");
+        when(mockResultSet.getString(4)).thenReturn("jamesbond@gmail.com");
 
         Optional<Admin> result = AdminDAO.findById(adminId);
 
@@ -93,10 +93,10 @@ public class AdminDAOTest {
         when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
         when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
         when(mockResultSet.next()).thenReturn(true);
-        when(mockResultSet.getInt("id")).thenReturn(1);
-        when(mockResultSet.getString("first_name")).thenReturn("James");
-        when(mockResultSet.getString("last_name")).thenReturn("Bond");
-        when(mockResultSet.getString("email")).thenReturn("jamesbond@gmail.com");
+        when(mockResultSet.getInt(1)).thenReturn(1);
+        when(mockResultSet.getString(2)).thenReturn("James");
+        when(mockResultSet.getString(3)).thenReturn("Bond");
+        when(mockResultSet.getString(4)).thenReturn("jamesbond@gmail.com");
 
         Optional<Admin> result = AdminDAO.findByEmail(email);
 
@@ -114,19 +114,19 @@ public class AdminDAOTest {
         when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
         when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
         when(mockResultSet.next()).thenReturn(true, true, false);
-        when(mockResultSet.getInt("id")).thenReturn(1, 2);
-        when(mockResultSet.getString("first_name")).thenReturn("James", "Will");
-        when(mockResultSet.getString("last_name")).thenReturn("Bond", "Byers");
-        when(mockResultSet.getString("email")).thenReturn("jamesbond@gmail.com", "willbyers@gmail.com");
+        when(mockResultSet.getInt(1)).thenReturn(1, 2);
+        when(mockResultSet.getString(2)).thenReturn("James", "Will");
+        when(mockResultSet.getString(3)).thenReturn("Bond", "Byers");
+        when(mockResultSet.getString(4)).thenReturn("jamesbond@gmail.com", "willbyers@gmail.com");
 
         List<Admin> admins = AdminDAO.findAll();
 
         verify(mockPreparedStatement).executeQuery();
         verify(mockResultSet, times(3)).next();
-        verify(mockResultSet, times(2)).getInt("id");
-        verify(mockResultSet, times(2)).getString("first_name");
-        verify(mockResultSet, times(2)).getString("last_name");
-        verify(mockResultSet, times(2)).getString("email");
+        verify(mockResultSet, times(2)).getInt(1);
+        verify(mockResultSet, times(2)).getString(2);
+        verify(mockResultSet, times(2)).getString(3);
+        verify(mockResultSet, times(2)).getString(4);
 
         assertEquals(2, admins.size());
         assertEquals(1, admins.get(0).getId());
@@ -2,7 +2,6 @@ package sms.gradle.model.dao;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.times;
@@ -30,8 +29,6 @@ public class AssessmentDAOTest {
 
     private MockedStatic<DatabaseConnection> mockStaticDbConnection;
 
-    private MockedStatic<ResultDAO> mockResultDAO;
-
     @Mock
     private Connection mockConnection;
 
@@ -44,20 +41,16 @@ public class AssessmentDAOTest {
     private final Date dueDate = java.sql.Date.valueOf("2025-10-30");
 
     @BeforeEach
-    public void setUp() {
+    public void setUp() throws SQLException {
         MockitoAnnotations.openMocks(this);
         mockStaticDbConnection = mockStatic(DatabaseConnection.class);
         mockStaticDbConnection.when(DatabaseConnection::getInstance).thenReturn(mockDbConnection);
         when(mockDbConnection.getConnection()).thenReturn(mockConnection);
-
-        mockResultDAO = mockStatic(ResultDAO.class);
-        mockResultDAO.when(() -> ResultDAO.deleteByAssessmentId(anyInt())).thenReturn(1);
     }
 
     @AfterEach
     public void tearDown() {
         mockStaticDbConnection.close();
-        mockResultDAO.close();
     }
 
     @Test
@@ -80,21 +73,21 @@ public class AssessmentDAOTest {
         when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
         when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
         when(mockResultSet.next()).thenReturn(true);
-        when(mockResultSet.getInt("id")).thenReturn(assessmentId);
-        when(mockResultSet.getString("name")).thenReturn("Test Assessment");
-        when(mockResultSet.getString("description")).thenReturn("Test Description");
-        when(mockResultSet.getDate("due_date")).thenReturn(dueDate);
-        when(mockResultSet.getInt("module_id")).thenReturn(2);
+        when(mockResultSet.getInt(1)).thenReturn(assessmentId);
+        when(mockResultSet.getString(2)).thenReturn("Test Assessment");
+        when(mockResultSet.getString(3)).thenReturn("Test Description");
+        when(mockResultSet.getDate(4)).thenReturn(dueDate);
+        when(mockResultSet.getInt(5)).thenReturn(2);
 
         Optional<Assessment> result = AssessmentDAO.findById(assessmentId);
 
         verify(mockPreparedStatement).setInt(1, assessmentId);
         verify(mockResultSet).next();
-        verify(mockResultSet).getInt("id");
-        verify(mockResultSet).getString("name");
-        verify(mockResultSet).getString("description");
-        verify(mockResultSet).getDate("due_date");
-        verify(mockResultSet).getInt("module_id");
+        verify(mockResultSet).getInt(1);
+        verify(mockResultSet).getString(2);
+        verify(mockResultSet).getString(3);
+        verify(mockResultSet).getDate(4);
+        verify(mockResultSet).getInt(5);
 
         assertTrue(result.isPresent());
         assertEquals(assessmentId, result.get().getId());
@@ -110,21 +103,21 @@ public class AssessmentDAOTest {
         when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
         when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
         when(mockResultSet.next()).thenReturn(true);
-        when(mockResultSet.getInt("id")).thenReturn(1);
-        when(mockResultSet.getString("name")).thenReturn(assessmentName);
-        when(mockResultSet.getString("description")).thenReturn("Test Description");
-        when(mockResultSet.getDate("due_date")).thenReturn(dueDate);
-        when(mockResultSet.getInt("module_id")).thenReturn(2);
+        when(mockResultSet.getInt(1)).thenReturn(1);
+        when(mockResultSet.getString(2)).thenReturn(assessmentName);
+        when(mockResultSet.getString(3)).thenReturn("Test Description");
+        when(mockResultSet.getDate(4)).thenReturn(dueDate);
+        when(mockResultSet.getInt(5)).thenReturn(2);
 
         Optional<Assessment> result = AssessmentDAO.findByName(assessmentName);
 
         verify(mockPreparedStatement).setString(1, assessmentName);
         verify(mockResultSet).next();
-        verify(mockResultSet).getInt("id");
-        verify(mockResultSet).getString("name");
-        verify(mockResultSet).getString("description");
-        verify(mockResultSet).getDate("due_date");
-        verify(mockResultSet).getInt("module_id");
+        verify(mockResultSet).getInt(1);
+        verify(mockResultSet).getString(2);
+        verify(mockResultSet).getString(3);
+        verify(mockResultSet).getDate(4);
+        verify(mockResultSet).getInt(5);
 
         assertTrue(result.isPresent());
         assertEquals(1, result.get().getId());
@@ -139,21 +132,21 @@ public class AssessmentDAOTest {
         when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
         when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
         when(mockResultSet.next()).thenReturn(true, false);
-        when(mockResultSet.getInt("id")).thenReturn(1);
-        when(mockResultSet.getString("name")).thenReturn("Test Assessment");
-        when(mockResultSet.getString("description")).thenReturn("Test Description");
-        when(mockResultSet.getDate("due_date")).thenReturn(dueDate);
-        when(mockResultSet.getInt("module_id")).thenReturn(2);
+        when(mockResultSet.getInt(1)).thenReturn(1);
+        when(mockResultSet.getString(2)).thenReturn("Test Assessment");
+        when(mockResultSet.getString(3)).thenReturn("Test Description");
+        when(mockResultSet.getDate(4)).thenReturn(dueDate);
+        when(mockResultSet.getInt(5)).thenReturn(2);
 
         List<Assessment> result = AssessmentDAO.findByDueDate(dueDate);
 
         verify(mockPreparedStatement).setDate(1, dueDate);
         verify(mockResultSet, times(2)).next(); // Verify we checked for more results
-        verify(mockResultSet).getInt("id");
-        verify(mockResultSet).getString("name");
-        verify(mockResultSet).getString("description");
-        verify(mockResultSet).getDate("due_date");
-        verify(mockResultSet).getInt("module_id");
+        verify(mockResultSet).getInt(1);
+        verify(mockResultSet).getString(2);
+        verify(mockResultSet).getString(3);
+        verify(mockResultSet).getDate(4);
+        verify(mockResultSet).getInt(5);
 
         Assessment assessment = result.get(0);
 
@@ -185,21 +178,21 @@ public class AssessmentDAOTest {
         when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
         when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
         when(mockResultSet.next()).thenReturn(true, false);
-        when(mockResultSet.getInt("id")).thenReturn(1);
-        when(mockResultSet.getString("name")).thenReturn("Test Assessment");
-        when(mockResultSet.getString("description")).thenReturn("Test Description");
-        when(mockResultSet.getDate("due_date")).thenReturn(dueDate);
-        when(mockResultSet.getInt("module_id")).thenReturn(2);
+        when(mockResultSet.getInt(1)).thenReturn(1);
+        when(mockResultSet.getString(2)).thenReturn("Test Assessment");
+        when(mockResultSet.getString(3)).thenReturn("Test Description");
+        when(mockResultSet.getDate(4)).thenReturn(dueDate);
+        when(mockResultSet.getInt(5)).thenReturn(2);
 
         List<Assessment> result = AssessmentDAO.findByModuleId(moduleId);
 
         verify(mockPreparedStatement).setInt(1, moduleId);
         verify(mockResultSet, times(2)).next();
-        verify(mockResultSet).getInt("id");
-        verify(mockResultSet).getString("name");
-        verify(mockResultSet).getString("description");
-        verify(mockResultSet).getDate("due_date");
-        verify(mockResultSet).getInt("module_id");
+        verify(mockResultSet).getInt(1);
+        verify(mockResultSet).getString(2);
+        verify(mockResultSet).getString(3);
+        verify(mockResultSet).getDate(4);
+        verify(mockResultSet).getInt(5);
 
         Assessment assessment = result.get(0);
 
@@ -226,26 +219,66 @@ public class AssessmentDAOTest {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    public void testFindByCourseIdGroupedByModule() throws SQLException {
+        int courseId = 4;
+        when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        // Module 1 has two assessments, module 2 has none so its assessment columns are null
+        when(mockResultSet.next()).thenReturn(true, true, true, false);
+        when(mockResultSet.getInt(1)).thenReturn(1, 1, 2);
+        when(mockResultSet.getString(2)).thenReturn("Module 1", "Module 2");
+        when(mockResultSet.getInt(5)).thenReturn(courseId);
+        when(mockResultSet.getInt(6)).thenReturn(10, 11, 0);
+        when(mockResultSet.wasNull()).thenReturn(false, false, true);
+        when(mockResultSet.getString(7)).thenReturn("Essay", "Exam");
+        when(mockResultSet.getDate(9)).thenReturn(dueDate);
+
+        List<ModuleAssessments> groups = AssessmentDAO.findByCourseIdGroupedByModule(courseId);
+
+        verify(mockPreparedStatement).setInt(1, courseId);
+        verify(mockPreparedStatement, times(1)).executeQuery();
+        assertEquals(2, groups.size());
+        assertEquals("Module 1", groups.get(0).module().getName());
+        assertEquals(List.of(10, 11), groups.get(0).assessments().stream().map(Assessment::getId).toList());
+        assertEquals(1, groups.get(0).assessments().get(1).getModuleId());
+        assertEquals("Module 2", groups.get(1).module().getName());
+        assertTrue(groups.get(1).assessments().isEmpty());
+        assertEquals(2, ModuleAssessments.allAssessments(groups).size());
+    }
+
+    @Test
+    public void testFindByStudentIdGroupedByModuleNoEnrollments() throws SQLException {
+        when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(false);
+
+        List<ModuleAssessments> groups = AssessmentDAO.findByStudentIdGroupedByModule(7);
+
+        verify(mockPreparedStatement).setInt(1, 7);
+        assertTrue(groups.isEmpty());
+    }
+
     @Test
     public void testFindAll() throws SQLException {
         when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
         when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
         when(mockResultSet.next()).thenReturn(true, true, false);
-        when(mockResultSet.getInt("id")).thenReturn(1, 2);
-        when(mockResultSet.getString("name")).thenReturn("Test Module One", "Test Module Two");
-        when(mockResultSet.getString("description")).thenReturn("Test Description One", "Test Description Two");
-        when(mockResultSet.getDate("due_date")).thenReturn(dueDate, dueDate);
-        when(mockResultSet.getInt("module_id")).thenReturn(2, 4);
+        when(mockResultSet.getInt(1)).thenReturn(1, 2);
+        when(mockResultSet.getString(2)).thenReturn("Test Module One", "Test Module Two");
+        when(mockResultSet.getString(3)).thenReturn("Test Description One", "Test Description Two");
+        when(mockResultSet.getDate(4)).thenReturn(dueDate, dueDate);
+        when(mockResultSet.getInt(5)).thenReturn(2, 4);
 
         List<Assessment> results = AssessmentDAO.findAll();
 
         verify(mockPreparedStatement).executeQuery();
         verify(mockResultSet, times(3)).next();
-        verify(mockResultSet, times(2)).getInt("id");
-        verify(mockResultSet, times(2)).getString("name");
-        verify(mockResultSet, times(2)).getString("description");
-        verify(mockResultSet, times(2)).getDate("due_date");
-        verify(mockResultSet, times(2)).getInt("module_id");
+        verify(mockResultSet, times(2)).getInt(1);
+        verify(mockResultSet, times(2)).getString(2);
+        verify(mockResultSet, times(2)).getString(3);
+        verify(mockResultSet, times(2)).getDate(4);
+        verify(mockResultSet, times(2)).getInt(5);
 
         assertEquals(2, results.size());
         assertEquals(1, results.get(0).getId());
@@ -286,7 +319,8 @@ public class AssessmentDAOTest {
 
         int result = AssessmentDAO.delete(assessmentId);
 
-        verify(mockPreparedStatement).setInt(1, assessmentId);
+        verify(mockPreparedStatement, times(2)).setInt(1, assessmentId);
+        verify(mockConnection).commit();
 
         assertEquals(1, result);
     }
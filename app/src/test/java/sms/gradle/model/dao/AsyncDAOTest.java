@@ -0,0 +1,54 @@
+package sms.gradle.model.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+public class AsyncDAOTest {
+
+    @Test
+    public void testSupplyReturnsResult() {
+        CompletableFuture<List<String>> future = AsyncDAO.supply(() -> List.of("Maths", "Physics"));
+
+        assertEquals(List.of("Maths", "Physics"), future.join());
+    }
+
+    @Test
+    public void testSupplyRunsOnVirtualThread() {
+        Thread caller = Thread.currentThread();
+
+        Thread worker = AsyncDAO.supply(Thread::currentThread).join();
+
+        assertNotSame(caller, worker);
+        assertTrue(worker.isVirtual());
+    }
+
+    @Test
+    public void testSupplyWrapsSQLException() {
+        CompletableFuture<String> future = AsyncDAO.supply(() -> {
+            throw new SQLException("Table not found");
+        });
+
+        CompletionException exception = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(SQLException.class, exception.getCause());
+        assertEquals("Table not found", exception.getCause().getMessage());
+    }
+
+    @Test
+    public void testRunCompletesAfterUpdate() {
+        AtomicBoolean updated = new AtomicBoolean();
+
+        AsyncDAO.run(() -> updated.set(true)).join();
+
+        assertTrue(updated.get());
+    }
+}
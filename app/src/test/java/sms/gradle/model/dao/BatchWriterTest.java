@@ -0,0 +1,159 @@
+package sms.gradle.model.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.MockitoAnnotations;
+
+public class BatchWriterTest {
+    private static final String SQL = "INSERT INTO t (value) VALUES (?)";
+
+    @Mock
+    private DatabaseConnection mockDbConnection;
+
+    private MockedStatic<DatabaseConnection> mockStaticDbConnection;
+
+    @Mock
+    private Connection mockConnection;
+
+    @Mock
+    private PreparedStatement mockPreparedStatement;
+
+    @Mock
+    private ResultSet mockKeys;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        MockitoAnnotations.openMocks(this);
+        mockStaticDbConnection = mockStatic(DatabaseConnection.class);
+        mockStaticDbConnection.when(DatabaseConnection::getInstance).thenReturn(mockDbConnection);
+        when(mockDbConnection.getConnection()).thenReturn(mockConnection);
+        when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+        when(mockConnection.prepareStatement(anyString(), anyInt())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.getGeneratedKeys()).thenReturn(mockKeys);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        mockStaticDbConnection.close();
+    }
+
+    @Test
+    public void testInsertCommitsEachBatchAndReturnsGeneratedIds() throws SQLException {
+        when(mockPreparedStatement.executeBatch()).thenReturn(new int[] {1, 1}, new int[] {1});
+        when(mockKeys.next()).thenReturn(true, true, false, true, false);
+        when(mockKeys.getInt(1)).thenReturn(10, 11, 12);
+
+        List<Integer> ids =
+                BatchWriter.insert(SQL, List.of(1, 2, 3), (statement, value) -> statement.setInt(1, value), 2);
+
+        assertEquals(List.of(10, 11, 12), ids);
+        verify(mockConnection).prepareStatement(SQL, Statement.RETURN_GENERATED_KEYS);
+        verify(mockPreparedStatement, times(3)).addBatch();
+        verify(mockPreparedStatement, times(2)).executeBatch();
+        verify(mockConnection, times(2)).commit();
+        verify(mockConnection).setAutoCommit(true);
+    }
+
+    @Test
+    public void testUpdateReturnsTotalRowsAffected() throws SQLException {
+        when(mockPreparedStatement.executeBatch()).thenReturn(new int[] {1, 0, 1});
+
+        int rows = BatchWriter.update(SQL, List.of(1, 2, 3), (statement, value) -> statement.setInt(1, value), 10);
+
+        assertEquals(2, rows);
+        verify(mockPreparedStatement, times(1)).executeBatch();
+        verify(mockPreparedStatement, never()).getGeneratedKeys();
+        verify(mockConnection).commit();
+    }
+
+    @Test
+    public void testEachBatchReportedToListeners() throws SQLException {
+        List<JdbcTemplate.Execution> executions = new ArrayList<>();
+        JdbcTemplate.ExecutionListener listener = executions::add;
+        when(mockPreparedStatement.executeBatch()).thenReturn(new int[] {1, 1}, new int[] {1});
+        JdbcTemplate.addListener(listener);
+        try {
+            BatchWriter.update(SQL, List.of(1, 2, 3), (statement, value) -> statement.setInt(1, value), 2);
+        } finally {
+            JdbcTemplate.removeListener(listener);
+        }
+
+        assertEquals(2, executions.size());
+        assertEquals(SQL, executions.get(0).sql());
+        assertEquals(2, executions.get(0).rowCount());
+        assertEquals(1, executions.get(1).rowCount());
+        assertTrue(executions.get(0).parameters().isEmpty());
+    }
+
+    @Test
+    public void testRowParametersReportedWithEachBatch() throws SQLException {
+        List<JdbcTemplate.Execution> executions = new ArrayList<>();
+        JdbcTemplate.ExecutionListener listener = executions::add;
+        when(mockPreparedStatement.executeBatch()).thenReturn(new int[] {1, 1}, new int[] {1});
+        JdbcTemplate.addListener(listener);
+        try {
+            BatchWriter.update(SQL, List.of(1, 2, 3), value -> new Object[] {value, "row" + value}, 2);
+        } finally {
+            JdbcTemplate.removeListener(listener);
+        }
+
+        assertEquals(List.of(List.of(1, "row1"), List.of(2, "row2")), executions.get(0).parameters());
+        assertEquals(List.of(List.of(3, "row3")), executions.get(1).parameters());
+        verify(mockPreparedStatement).setInt(1, 3);
+        verify(mockPreparedStatement).setString(2, "row3");
+    }
+
+    @Test
+    public void testFailedBatchIsRolledBackAndKeepsErrorCode() throws SQLException {
+        when(mockPreparedStatement.executeBatch())
+                .thenReturn(new int[] {1})
+                .thenThrow(new BatchUpdateException("Unique index violation", "23505", 23505, new int[0]));
+        when(mockKeys.next()).thenReturn(true, false);
+
+        SQLException exception = assertThrows(
+                SQLException.class,
+                () -> BatchWriter.insert(SQL, List.of(1, 2), (statement, value) -> statement.setInt(1, value), 1));
+
+        assertEquals(23505, exception.getErrorCode());
+        assertTrue(exception.getMessage().contains("1 of 2"));
+        verify(mockConnection, times(1)).commit();
+        verify(mockConnection).rollback();
+        verify(mockConnection).setAutoCommit(true);
+    }
+
+    @Test
+    public void testEmptyInputDoesNotBorrowConnection() throws SQLException {
+        assertEquals(List.of(), BatchWriter.insert(SQL, List.<Integer>of(), (statement, value) -> {}, 10));
+        verifyNoInteractions(mockConnection);
+    }
+
+    @Test
+    public void testInvalidBatchSizeIsRejected() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> BatchWriter.update(SQL, List.of(1), (statement, value) -> statement.setInt(1, value), 0));
+    }
+}
@@ -0,0 +1,206 @@
+package sms.gradle.model.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ConnectionPoolTest {
+    private final List<Connection> createdConnections = new ArrayList<>();
+    private ConnectionPool pool;
+
+    private Connection createMockConnection() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.isValid(anyInt())).thenReturn(true);
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(connection.prepareStatement(anyString())).thenAnswer(invocation -> mock(PreparedStatement.class));
+        createdConnections.add(connection);
+        return connection;
+    }
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        pool = new ConnectionPool(this::createMockConnection, new ConnectionPool.Config(1, 2, 100, 1, 0, 2));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    public void testCreatesMinimumConnectionsUpFront() {
+        assertEquals(1, createdConnections.size());
+        assertEquals(1, pool.getStatistics().idle());
+    }
+
+    @Test
+    public void testBorrowedConnectionIsReturnedOnClose() throws SQLException {
+        Connection connection = pool.borrow();
+        assertEquals(1, pool.getStatistics().active());
+        assertEquals(0, pool.getStatistics().idle());
+
+        connection.close();
+
+        assertTrue(connection.isClosed());
+        assertEquals(0, pool.getStatistics().active());
+        assertEquals(1, pool.getStatistics().idle());
+        verify(createdConnections.get(0), never()).close();
+    }
+
+    @Test
+    public void testBorrowTimesOutWhenPoolIsExhausted() throws SQLException {
+        try (Connection first = pool.borrow();
+                Connection second = pool.borrow()) {
+            assertNotSame(first, second);
+            assertThrows(SQLException.class, pool::borrow);
+            assertEquals(1, pool.getStatistics().totalTimeouts());
+        }
+        assertEquals(2, pool.getStatistics().idle());
+    }
+
+    @Test
+    public void testInvalidConnectionIsReplacedOnBorrow() throws SQLException {
+        Connection stale = createdConnections.get(0);
+        when(stale.isValid(anyInt())).thenReturn(false);
+
+        try (Connection connection = pool.borrow()) {
+            connection.createStatement();
+        }
+
+        verify(stale).close();
+        assertEquals(2, createdConnections.size());
+        verify(createdConnections.get(1)).createStatement();
+    }
+
+    @Test
+    public void testOpenTransactionIsRolledBackOnReturn() throws SQLException {
+        Connection physical = createdConnections.get(0);
+        when(physical.getAutoCommit()).thenReturn(false);
+
+        pool.borrow().close();
+
+        verify(physical).rollback();
+        verify(physical).setAutoCommit(true);
+    }
+
+    @Test
+    public void testReturnedConnectionCannotBeUsed() throws SQLException {
+        Connection connection = pool.borrow();
+        connection.close();
+
+        assertThrows(SQLException.class, connection::createStatement);
+    }
+
+    @Test
+    public void testPreparedStatementIsReusedAcrossBorrows() throws SQLException {
+        final String sql = "SELECT * FROM students WHERE id = ?";
+        for (int i = 0; i < 3; i++) {
+            try (Connection connection = pool.borrow();
+                    PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setInt(1, i);
+                statement.executeQuery();
+            }
+        }
+
+        verify(createdConnections.get(0), times(1)).prepareStatement(sql);
+        assertEquals(2, pool.getStatistics().statementCacheHits());
+        assertEquals(1, pool.getStatistics().statementCacheMisses());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedStatementIsEvicted() throws SQLException {
+        PreparedStatement evicted;
+        try (Connection connection = pool.borrow()) {
+            try (PreparedStatement statement = connection.prepareStatement("SELECT 1")) {
+                evicted = statement;
+            }
+            connection.prepareStatement("SELECT 2").close();
+            connection.prepareStatement("SELECT 3").close();
+            connection.prepareStatement("SELECT 1").close();
+        }
+
+        verify(createdConnections.get(0), times(2)).prepareStatement("SELECT 1");
+        assertTrue(evicted.isClosed());
+    }
+
+    @Test
+    public void testStatementAlreadyInUseReportsPooledConnection() throws SQLException {
+        final String sql = "SELECT * FROM students WHERE id = ?";
+        try (Connection connection = pool.borrow();
+                PreparedStatement first = connection.prepareStatement(sql);
+                PreparedStatement second = connection.prepareStatement(sql)) {
+            assertNotSame(first, second);
+            assertSame(connection, first.getConnection());
+            assertSame(connection, second.getConnection());
+        }
+
+        verify(createdConnections.get(0), times(2)).prepareStatement(anyString());
+    }
+
+    @Test
+    public void testReleasedStatementIsResetForTheNextBorrower() throws SQLException {
+        PreparedStatement physicalStatement = mock(PreparedStatement.class);
+        when(physicalStatement.getQueryTimeout()).thenReturn(0);
+        when(createdConnections.get(0).prepareStatement("SELECT 1")).thenReturn(physicalStatement);
+
+        try (Connection connection = pool.borrow();
+                PreparedStatement statement = connection.prepareStatement("SELECT 1")) {
+            statement.setQueryTimeout(30);
+            statement.setInt(1, 7);
+            statement.addBatch();
+        }
+
+        verify(physicalStatement).clearParameters();
+        verify(physicalStatement).clearBatch();
+        verify(physicalStatement).setQueryTimeout(0);
+        verify(physicalStatement, never()).close();
+    }
+
+    @Test
+    public void testStatementWithSettingThatCannotBeRestoredIsNotReused() throws SQLException {
+        PreparedStatement physicalStatement = mock(PreparedStatement.class);
+        when(createdConnections.get(0).prepareStatement("SELECT 1")).thenReturn(physicalStatement);
+
+        try (Connection connection = pool.borrow()) {
+            try (PreparedStatement statement = connection.prepareStatement("SELECT 1")) {
+                statement.setCursorName("roster");
+            }
+            connection.prepareStatement("SELECT 1").close();
+        }
+
+        verify(physicalStatement).close();
+        verify(createdConnections.get(0), times(2)).prepareStatement("SELECT 1");
+    }
+
+    @Test
+    public void testDiscardedConnectionClosesCachedStatements() throws SQLException {
+        PreparedStatement physicalStatement = mock(PreparedStatement.class);
+        when(createdConnections.get(0).prepareStatement("SELECT 1")).thenReturn(physicalStatement);
+
+        try (Connection connection = pool.borrow()) {
+            connection.prepareStatement("SELECT 1").close();
+        }
+        pool.close();
+
+        verify(physicalStatement).close();
+        verify(createdConnections.get(0)).close();
+    }
+}
@@ -1,6 +1,7 @@
 package sms.gradle.model.dao;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
@@ -25,8 +26,6 @@ public class CourseDAOTest {
 
     private MockedStatic<DatabaseConnection> mockStaticDbConnection;
 
-    private MockedStatic<ModuleDAO> mockModuleDAO;
-
     @Mock
     private Connection mockConnection;
 
@@ -37,20 +36,17 @@ public class CourseDAOTest {
     private ResultSet mockResultSet;
 
     @BeforeEach
-    public void setUp() {
+    public void setUp() throws SQLException {
         MockitoAnnotations.openMocks(this);
         mockStaticDbConnection = mockStatic(DatabaseConnection.class);
         mockStaticDbConnection.when(DatabaseConnection::getInstance).thenReturn(mockDbConnection);
         when(mockDbConnection.getConnection()).thenReturn(mockConnection);
-
-        mockModuleDAO = mockStatic(ModuleDAO.class);
-        mockModuleDAO.when(() -> ModuleDAO.deleteByCourseId(anyInt())).thenReturn(1);
+        EntityCaches.invalidateAll();
     }
 
     @AfterEach
     public void tearDown() {
         mockStaticDbConnection.close();
-        mockModuleDAO.close();
     }
 
     @Test
@@ -71,9 +67,9 @@ public class CourseDAOTest {
         when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
         when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
         when(mockResultSet.next()).thenReturn(true);
-        when(mockResultSet.getInt("id")).thenReturn(1);
-        when(mockResultSet.getString("name")).thenReturn("Computer Science");
-        when(mockResultSet.getString("description")).thenReturn("Computers");
+        when(mockResultSet.getInt(1)).thenReturn(1);
+        when(mockResultSet.getString(2)).thenReturn("Computer Science");
+        when(mockResultSet.getString(3)).thenReturn("Computers");
 
         Optional<Course> result = CourseDAO.findById(courseId);
 
@@ -91,9 +87,9 @@ public class CourseDAOTest {
         when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
         when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
         when(mockResultSet.next()).thenReturn(true);
-        when(mockResultSet.getInt("id")).thenReturn(1);
-        when(mockResultSet.getString("name")).thenReturn("Computer Science");
-        when(mockResultSet.getString("description")).thenReturn("Computers");
+        when(mockResultSet.getInt(1)).thenReturn(1);
+        when(mockResultSet.getString(2)).thenReturn("Computer Science");
+        when(mockResultSet.getString(3)).thenReturn("Computers");
 
         Optional<Course> result = CourseDAO.findByName(courseName);
 
@@ -110,17 +106,17 @@ public class CourseDAOTest {
         when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
         when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
         when(mockResultSet.next()).thenReturn(true, true, false);
-        when(mockResultSet.getInt("id")).thenReturn(1, 2);
-        when(mockResultSet.getString("name")).thenReturn("Computer Science", "Mathematics");
-        when(mockResultSet.getString("description")).thenReturn("Computers", "Addition");
+        when(mockResultSet.getInt(1)).thenReturn(1, 2);
+        when(mockResultSet.getString(2)).thenReturn("Computer Science", "Mathematics");
+        when(mockResultSet.getString(3)).thenReturn("Computers", "Addition");
 
         List<Course> courses = CourseDAO.findAll();
 
         verify(mockPreparedStatement).executeQuery();
         verify(mockResultSet, times(3)).next();
-        verify(mockResultSet, times(2)).getInt("id");
-        verify(mockResultSet, times(2)).getString("name");
-        verify(mockResultSet, times(2)).getString("description");
+        verify(mockResultSet, times(2)).getInt(1);
+        verify(mockResultSet, times(2)).getString(2);
+        verify(mockResultSet, times(2)).getString(3);
 
         assertEquals(2, courses.size());
         assertEquals(1, courses.get(0).getId());
@@ -131,6 +127,26 @@ public class CourseDAOTest {
         assertEquals("Addition", courses.get(1).getDescription());
     }
 
+    @Test
+    public void testHasAnyReadsOneRow() throws SQLException {
+        when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(true);
+        when(mockResultSet.getInt(1)).thenReturn(1);
+
+        assertTrue(CourseDAO.hasAny());
+        verify(mockConnection).prepareStatement("SELECT 1 FROM courses LIMIT 1");
+    }
+
+    @Test
+    public void testHasAnyWhenEmpty() throws SQLException {
+        when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(false);
+
+        assertFalse(CourseDAO.hasAny());
+    }
+
     @Test
     public void testUpdateCourse() throws SQLException {
         Course course = new Course(1, "name", "description");
@@ -154,6 +170,7 @@ public class CourseDAOTest {
         int result = CourseDAO.delete(courseId);
 
         assertEquals(1, result);
-        verify(mockPreparedStatement).setInt(1, courseId);
+        verify(mockPreparedStatement, times(5)).setInt(1, courseId);
+        verify(mockConnection).commit();
     }
 }
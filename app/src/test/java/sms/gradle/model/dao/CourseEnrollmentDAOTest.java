@@ -32,7 +32,7 @@ public class CourseEnrollmentDAOTest {
     private ResultSet mockResultSet;
 
     @BeforeEach
-    public void setUp() {
+    public void setUp() throws SQLException {
         MockitoAnnotations.openMocks(this);
         mockStaticDbConnection = mockStatic(DatabaseConnection.class);
         mockStaticDbConnection.when(DatabaseConnection::getInstance).thenReturn(mockDbConnection);
@@ -64,20 +64,20 @@ public class CourseEnrollmentDAOTest {
         when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
         when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
         when(mockResultSet.next()).thenReturn(true);
-        when(mockResultSet.getInt("id")).thenReturn(1);
-        when(mockResultSet.getInt("student_id")).thenReturn(2);
-        when(mockResultSet.getInt("course_id")).thenReturn(3);
-        when(mockResultSet.getDate("enrollment_date")).thenReturn(new Date(5000));
+        when(mockResultSet.getInt(1)).thenReturn(1);
+        when(mockResultSet.getInt(2)).thenReturn(2);
+        when(mockResultSet.getInt(3)).thenReturn(3);
+        when(mockResultSet.getDate(4)).thenReturn(new Date(5000));
 
         Optional<CourseEnrollment> result = CourseEnrollmentDAO.findById(enrollmentId);
 
         verify(mockPreparedStatement).setInt(1, enrollmentId);
         verify(mockPreparedStatement).executeQuery();
         verify(mockResultSet).next();
-        verify(mockResultSet).getInt("id");
-        verify(mockResultSet).getInt("student_id");
-        verify(mockResultSet).getInt("course_id");
-        verify(mockResultSet).getDate("enrollment_date");
+        verify(mockResultSet).getInt(1);
+        verify(mockResultSet).getInt(2);
+        verify(mockResultSet).getInt(3);
+        verify(mockResultSet).getDate(4);
 
         assertTrue(result.isPresent());
         assertEquals(1, result.get().getId());
@@ -92,20 +92,20 @@ public class CourseEnrollmentDAOTest {
         when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
         when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
         when(mockResultSet.next()).thenReturn(true, true, false);
-        when(mockResultSet.getInt("id")).thenReturn(1, 2);
-        when(mockResultSet.getInt("student_id")).thenReturn(2, 2);
-        when(mockResultSet.getInt("course_id")).thenReturn(3, 5);
-        when(mockResultSet.getDate("enrollment_date")).thenReturn(new Date(5000), new Date(6000));
+        when(mockResultSet.getInt(1)).thenReturn(1, 2);
+        when(mockResultSet.getInt(2)).thenReturn(2, 2);
+        when(mockResultSet.getInt(3)).thenReturn(3, 5);
+        when(mockResultSet.getDate(4)).thenReturn(new Date(5000), new Date(6000));
 
         List<CourseEnrollment> result = CourseEnrollmentDAO.findByStudentId(studentId);
 
         verify(mockPreparedStatement).setInt(1, studentId);
         verify(mockPreparedStatement).executeQuery();
         verify(mockResultSet, times(3)).next();
-        verify(mockResultSet, times(2)).getInt("id");
-        verify(mockResultSet, times(2)).getInt("student_id");
-        verify(mockResultSet, times(2)).getInt("course_id");
-        verify(mockResultSet, times(2)).getDate("enrollment_date");
+        verify(mockResultSet, times(2)).getInt(1);
+        verify(mockResultSet, times(2)).getInt(2);
+        verify(mockResultSet, times(2)).getInt(3);
+        verify(mockResultSet, times(2)).getDate(4);
 
         assertEquals(2, result.size());
         assertEquals(1, result.get(0).getId());
@@ -125,20 +125,20 @@ public class CourseEnrollmentDAOTest {
         when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
         when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
         when(mockResultSet.next()).thenReturn(true, true, false);
-        when(mockResultSet.getInt("id")).thenReturn(1, 2);
-        when(mockResultSet.getInt("student_id")).thenReturn(2, 5);
-        when(mockResultSet.getInt("course_id")).thenReturn(3, 3);
-        when(mockResultSet.getDate("enrollment_date")).thenReturn(new Date(5000), new Date(6000));
+        when(mockResultSet.getInt(1)).thenReturn(1, 2);
+        when(mockResultSet.getInt(2)).thenReturn(2, 5);
+        when(mockResultSet.getInt(3)).thenReturn(3, 3);
+        when(mockResultSet.getDate(4)).thenReturn(new Date(5000), new Date(6000));
 
         List<CourseEnrollment> result = CourseEnrollmentDAO.findByCourseId(courseId);
 
         verify(mockPreparedStatement).setInt(1, courseId);
         verify(mockPreparedStatement).executeQuery();
         verify(mockResultSet, times(3)).next();
-        verify(mockResultSet, times(2)).getInt("id");
-        verify(mockResultSet, times(2)).getInt("student_id");
-        verify(mockResultSet, times(2)).getInt("course_id");
-        verify(mockResultSet, times(2)).getDate("enrollment_date");
+        verify(mockResultSet, times(2)).getInt(1);
+        verify(mockResultSet, times(2)).getInt(2);
+        verify(mockResultSet, times(2)).getInt(3);
+        verify(mockResultSet, times(2)).getDate(4);
 
         assertEquals(2, result.size());
         assertEquals(1, result.get(0).getId());
@@ -159,10 +159,10 @@ public class CourseEnrollmentDAOTest {
         when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
         when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
         when(mockResultSet.next()).thenReturn(true);
-        when(mockResultSet.getInt("id")).thenReturn(1);
-        when(mockResultSet.getInt("student_id")).thenReturn(5);
-        when(mockResultSet.getInt("course_id")).thenReturn(3);
-        when(mockResultSet.getDate("enrollment_date")).thenReturn(new Date(5000), new Date(6000));
+        when(mockResultSet.getInt(1)).thenReturn(1);
+        when(mockResultSet.getInt(2)).thenReturn(5);
+        when(mockResultSet.getInt(3)).thenReturn(3);
+        when(mockResultSet.getDate(4)).thenReturn(new Date(5000), new Date(6000));
 
         Optional<CourseEnrollment> result = CourseEnrollmentDAO.findByStudentAndCourseId(studentId, courseId);
 
@@ -170,10 +170,10 @@ public class CourseEnrollmentDAOTest {
         verify(mockPreparedStatement).setInt(2, courseId);
         verify(mockPreparedStatement).executeQuery();
         verify(mockResultSet).next();
-        verify(mockResultSet).getInt("id");
-        verify(mockResultSet).getInt("student_id");
-        verify(mockResultSet).getInt("course_id");
-        verify(mockResultSet).getDate("enrollment_date");
+        verify(mockResultSet).getInt(1);
+        verify(mockResultSet).getInt(2);
+        verify(mockResultSet).getInt(3);
+        verify(mockResultSet).getDate(4);
 
         assertTrue(result.isPresent());
 
@@ -188,19 +188,19 @@ public class CourseEnrollmentDAOTest {
         when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
         when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
         when(mockResultSet.next()).thenReturn(true, true, false);
-        when(mockResultSet.getInt("id")).thenReturn(1, 2);
-        when(mockResultSet.getInt("student_id")).thenReturn(2, 5);
-        when(mockResultSet.getInt("course_id")).thenReturn(10, 15);
-        when(mockResultSet.getDate("enrollment_date")).thenReturn(new Date(5000), new Date(6000));
+        when(mockResultSet.getInt(1)).thenReturn(1, 2);
+        when(mockResultSet.getInt(2)).thenReturn(2, 5);
+        when(mockResultSet.getInt(3)).thenReturn(10, 15);
+        when(mockResultSet.getDate(4)).thenReturn(new Date(5000), new Date(6000));
 
         List<CourseEnrollment> result = CourseEnrollmentDAO.findAll();
 
         verify(mockPreparedStatement).executeQuery();
         verify(mockResultSet, times(3)).next();
-        verify(mockResultSet, times(2)).getInt("id");
-        verify(mockResultSet, times(2)).getInt("student_id");
-        verify(mockResultSet, times(2)).getInt("course_id");
-        verify(mockResultSet, times(2)).getDate("enrollment_date");
+        verify(mockResultSet, times(2)).getInt(1);
+        verify(mockResultSet, times(2)).getInt(2);
+        verify(mockResultSet, times(2)).getInt(3);
+        verify(mockResultSet, times(2)).getDate(4);
 
         assertEquals(2, result.size());
         assertEquals(1, result.get(0).getId());
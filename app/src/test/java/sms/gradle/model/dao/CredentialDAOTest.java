@@ -0,0 +1,125 @@
+package sms.gradle.model.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.MockitoAnnotations;
+import sms.gradle.model.dao.CredentialDAO.Credential;
+import sms.gradle.model.entities.Student;
+import sms.gradle.utils.session.UserType;
+
+public class CredentialDAOTest {
+
+    @Mock
+    private DatabaseConnection mockDbConnection;
+
+    private MockedStatic<DatabaseConnection> mockStaticDbConnection;
+
+    @Mock
+    private Connection mockConnection;
+
+    @Mock
+    private PreparedStatement mockPreparedStatement;
+
+    @Mock
+    private ResultSet mockResultSet;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        MockitoAnnotations.openMocks(this);
+        mockStaticDbConnection = mockStatic(DatabaseConnection.class);
+        mockStaticDbConnection.when(DatabaseConnection::getInstance).thenReturn(mockDbConnection);
+        when(mockDbConnection.getConnection()).thenReturn(mockConnection);
+        when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        CredentialDAO.forgetUnknownEmails();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        mockStaticDbConnection.close();
+    }
+
+    @Test
+    public void testFindByEmail() throws SQLException {
+        String email = "jamesbond@gmail.com";
+        when(mockResultSet.next()).thenReturn(true, true, false);
+        when(mockResultSet.getString(1)).thenReturn("ADMIN", "STUDENT");
+        when(mockResultSet.getInt(2)).thenReturn(1, 7);
+        when(mockResultSet.getString(3)).thenReturn("James");
+        when(mockResultSet.getString(4)).thenReturn("Bond");
+        when(mockResultSet.getString(5)).thenReturn(email);
+        when(mockResultSet.getString(6)).thenReturn("AdminHash", "StudentHash");
+
+        List<Credential> result = CredentialDAO.findByEmail(email);
+
+        verify(mockPreparedStatement).setString(1, email);
+        assertEquals(
+                List.of(
+                        new Credential(UserType.ADMIN, 1, "James", "Bond", email, "AdminHash"),
+                        new Credential(UserType.STUDENT, 7, "James", "Bond", email, "StudentHash")),
+                result);
+    }
+
+    @Test
+    public void testFindByEmailRemembersUnknownEmail() throws SQLException {
+        when(mockResultSet.next()).thenReturn(false);
+
+        assertTrue(CredentialDAO.findByEmail("nobody@sms.com").isEmpty());
+        assertTrue(CredentialDAO.findByEmail("nobody@sms.com").isEmpty());
+
+        verify(mockConnection, times(1)).prepareStatement(anyString());
+    }
+
+    @Test
+    public void testForgetUnknownEmailsLooksUpAgain() throws SQLException {
+        when(mockResultSet.next()).thenReturn(false);
+
+        CredentialDAO.findByEmail("nobody@sms.com");
+        CredentialDAO.forgetUnknownEmails();
+        CredentialDAO.findByEmail("nobody@sms.com");
+
+        verify(mockConnection, times(2)).prepareStatement(anyString());
+    }
+
+    @Test
+    public void testAddStudentForgetsUnknownEmails() throws SQLException {
+        when(mockResultSet.next()).thenReturn(false);
+        when(mockPreparedStatement.executeUpdate()).thenReturn(1);
+
+        CredentialDAO.findByEmail("new@sms.com");
+        StudentDAO.addStudent(
+                new Student(0, "New", "Student", "new@sms.com", Date.valueOf("2000-01-01"), Date.valueOf("2025-01-01")),
+                "AHashedPassword");
+        CredentialDAO.findByEmail("new@sms.com");
+
+        verify(mockPreparedStatement, times(2)).executeQuery();
+    }
+
+    @Test
+    public void testFindByEmailThrowsException() throws SQLException {
+        when(mockPreparedStatement.executeQuery()).thenThrow(new SQLException("Connection refused"));
+
+        SQLException exception =
+                assertThrows(SQLException.class, () -> CredentialDAO.findByEmail("jamesbond@gmail.com"));
+
+        assertEquals("Failed to find credentials with email: jamesbond@gmail.com", exception.getMessage());
+    }
+}
@@ -0,0 +1,161 @@
+package sms.gradle.model.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import sms.gradle.model.entities.Course;
+
+public class EntityCacheTest {
+
+    private EntityCache<String> cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    public void setUp() {
+        cache = new EntityCache<>("test", new EntityCache.Config(10, Duration.ofMinutes(1)));
+        loads = new AtomicInteger();
+    }
+
+    private Optional<String> load(final int id) {
+        loads.incrementAndGet();
+        return id > 0 ? Optional.of("Entity " + id) : Optional.empty();
+    }
+
+    @Test
+    public void testGetCachesLoadedEntity() throws SQLException {
+        assertEquals(Optional.of("Entity 1"), cache.get(1, this::load));
+        assertEquals(Optional.of("Entity 1"), cache.get(1, this::load));
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testGetDoesNotCacheMissingEntity() throws SQLException {
+        assertTrue(cache.get(-1, this::load).isEmpty());
+        assertTrue(cache.get(-1, this::load).isEmpty());
+
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.getStatistics().size());
+    }
+
+    @Test
+    public void testGetDoesNotCacheFailedLoad() throws SQLException {
+        assertThrows(SQLException.class, () -> cache.get(1, id -> {
+            throw new SQLException("Connection refused");
+        }));
+
+        assertEquals(Optional.of("Entity 1"), cache.get(1, this::load));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testInvalidateReloadsEntity() throws SQLException {
+        cache.get(1, this::load);
+        cache.get(2, this::load);
+
+        cache.invalidate(1);
+        cache.get(1, this::load);
+        cache.get(2, this::load);
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    public void testInvalidateAllReloadsEveryEntity() throws SQLException {
+        cache.get(1, this::load);
+        cache.get(2, this::load);
+
+        cache.invalidateAll();
+        cache.get(1, this::load);
+        cache.get(2, this::load);
+
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    public void testGetDropsEntityInvalidatedDuringLoad() throws SQLException {
+        // The row is changed and invalidated after the load has read it, but before the load finishes
+        assertEquals(Optional.of("Entity 1"), cache.get(1, id -> {
+            Optional<String> stale = load(id);
+            cache.invalidate(id);
+            return stale;
+        }));
+
+        cache.get(1, this::load);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testGetReturnsCopies() throws SQLException {
+        EntityCache<Course> courses = new EntityCache<>(
+                "courses",
+                new EntityCache.Config(10, Duration.ofMinutes(1)),
+                course -> new Course(course.getId(), course.getName(), course.getDescription()));
+        EntityCache.Loader<Course> loader = id -> Optional.of(new Course(id, "Computer Science", "CS"));
+
+        courses.get(1, loader).orElseThrow().setName("Changed by the first caller");
+        Course cached = courses.get(1, loader).orElseThrow();
+        cached.setName("Changed by the second caller");
+
+        assertEquals("Computer Science", courses.get(1, loader).orElseThrow().getName());
+    }
+
+    @Test
+    public void testStatisticsCountHitsAndMisses() throws SQLException {
+        cache.get(1, this::load);
+        cache.get(1, this::load);
+        cache.get(1, this::load);
+        cache.get(2, this::load);
+
+        EntityCache.Statistics statistics = cache.getStatistics();
+
+        assertEquals(2, statistics.size());
+        assertEquals(2, statistics.hits());
+        assertEquals(2, statistics.misses());
+        assertEquals(0.5, statistics.hitRate());
+    }
+
+    @Test
+    public void testStatisticsHitRateWithoutLookups() {
+        assertEquals(1.0, cache.getStatistics().hitRate());
+    }
+
+    @Test
+    public void testZeroMaximumSizeDisablesCaching() throws SQLException {
+        cache = new EntityCache<>("disabled", new EntityCache.Config(0, Duration.ofMinutes(1)));
+
+        cache.get(1, this::load);
+        cache.get(1, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testConfigRejectsInvalidLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new EntityCache.Config(-1, Duration.ofMinutes(1)));
+        assertThrows(IllegalArgumentException.class, () -> new EntityCache.Config(10, Duration.ofSeconds(-1)));
+        assertThrows(IllegalArgumentException.class, () -> new EntityCache.Config(10, null));
+    }
+
+    @Test
+    public void testConfigFromSystemProperties() {
+        System.setProperty("sms.cache.test.maxSize", "25");
+        System.setProperty("sms.cache.test.ttlSeconds", "30");
+        try {
+            EntityCache.Config config = EntityCache.Config.fromSystemProperties("test", 10, Duration.ofMinutes(1));
+
+            assertEquals(25, config.maximumSize());
+            assertEquals(Duration.ofSeconds(30), config.timeToLive());
+        } finally {
+            System.clearProperty("sms.cache.test.maxSize");
+            System.clearProperty("sms.cache.test.ttlSeconds");
+        }
+    }
+}
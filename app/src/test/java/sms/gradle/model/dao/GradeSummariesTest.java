@@ -0,0 +1,181 @@
+package sms.gradle.model.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.MockitoAnnotations;
+import sms.gradle.model.dao.GradeSummaries.ConsistencyReport;
+import sms.gradle.model.dao.GradeSummaries.Scope;
+
+public class GradeSummariesTest {
+    @Mock
+    private DatabaseConnection mockDbConnection;
+
+    private MockedStatic<DatabaseConnection> mockStaticDbConnection;
+
+    @Mock
+    private Connection mockConnection;
+
+    @Mock
+    private PreparedStatement mockPreparedStatement;
+
+    @Mock
+    private ResultSet mockResultSet;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        MockitoAnnotations.openMocks(this);
+        mockStaticDbConnection = mockStatic(DatabaseConnection.class);
+        mockStaticDbConnection.when(DatabaseConnection::getInstance).thenReturn(mockDbConnection);
+        when(mockDbConnection.getConnection()).thenReturn(mockConnection);
+        when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        mockStaticDbConnection.close();
+    }
+
+    @Test
+    public void testRebuildCommitsEveryTable() throws SQLException {
+        when(mockPreparedStatement.executeUpdate()).thenReturn(3);
+
+        assertEquals(12, GradeSummaries.rebuild());
+
+        for (Scope scope : Scope.values()) {
+            verify(mockConnection).prepareStatement("DELETE FROM " + scope.table());
+            verify(mockConnection).prepareStatement(scope.rebuildSql());
+        }
+        verify(mockConnection).commit();
+        verify(mockConnection).setAutoCommit(true);
+    }
+
+    @Test
+    public void testRebuildRollsBackOnFailure() throws SQLException {
+        when(mockPreparedStatement.executeUpdate()).thenThrow(new SQLException("Table not found"));
+
+        SQLException exception = assertThrows(SQLException.class, GradeSummaries::rebuild);
+
+        assertEquals("Failed to rebuild grade summaries", exception.getMessage());
+        verify(mockConnection).rollback();
+        verify(mockConnection, never()).commit();
+    }
+
+    @Test
+    public void testRebuildStatementsReportedToListeners() throws SQLException {
+        List<JdbcTemplate.Execution> executions = new ArrayList<>();
+        JdbcTemplate.ExecutionListener listener = executions::add;
+        when(mockPreparedStatement.executeUpdate()).thenReturn(3);
+        JdbcTemplate.addListener(listener);
+        try {
+            GradeSummaries.rebuild();
+        } finally {
+            JdbcTemplate.removeListener(listener);
+        }
+
+        assertEquals(Scope.values().length * 2, executions.size());
+        assertEquals("DELETE FROM assessment_grade_summaries", executions.get(0).sql());
+        assertEquals(Scope.ASSESSMENT.rebuildSql(), executions.get(1).sql());
+        assertEquals(3, executions.get(1).rowCount());
+    }
+
+    @Test
+    public void testCheckConsistencyReportsMismatches() throws SQLException {
+        when(mockResultSet.next()).thenReturn(true);
+        when(mockResultSet.getInt(1)).thenReturn(0, 2, 0, 0);
+
+        ConsistencyReport report = GradeSummaries.checkConsistency();
+
+        assertFalse(report.isConsistent());
+        assertEquals(2, report.mismatchesByTable().get("module_grade_summaries"));
+        assertEquals(0, report.mismatchesByTable().get("student_grade_summaries"));
+    }
+
+    @Test
+    public void testDeferredUpdatesRecomputeEachSummaryTableOnce() throws SQLException {
+        when(mockResultSet.next()).thenReturn(true, false, true, false);
+        when(mockResultSet.getInt(1)).thenReturn(2, 1);
+
+        int written = GradeSummaries.deferringUpdates(mockConnection, () -> {
+            for (int studentId = 1; studentId <= 3; studentId++) {
+                GradeSummaries.deferredChanges().add(7, studentId);
+            }
+            return 3;
+        });
+
+        assertEquals(3, written);
+        assertNull(GradeSummaries.deferredChanges());
+        for (Scope scope : Scope.values()) {
+            verify(mockConnection).prepareStatement(scope.deleteKeysSql());
+            verify(mockConnection).prepareStatement(scope.recomputeKeysSql());
+        }
+        verify(mockConnection).createArrayOf("INTEGER", new Integer[] {1, 2, 3});
+        verify(mockConnection, never()).prepareStatement(Scope.STUDENT.applyDeltaSql());
+    }
+
+    @Test
+    public void testDeferredUpdatesWithoutResultChangesRunNoStatements() throws SQLException {
+        assertEquals(0, GradeSummaries.deferringUpdates(mockConnection, () -> 0));
+
+        verify(mockConnection, never()).prepareStatement(anyString());
+    }
+
+    @Test
+    public void testApplyChangeInsertsMissingSummary() throws SQLException {
+        when(mockPreparedStatement.executeUpdate()).thenReturn(0, 1);
+
+        GradeSummaries.applyChange(mockConnection, Scope.STUDENT, 4, null, 60);
+
+        verify(mockConnection).prepareStatement(Scope.STUDENT.applyDeltaSql());
+        verify(mockConnection).prepareStatement(Scope.STUDENT.insertSql());
+        verify(mockPreparedStatement).setLong(3, 3600L);
+    }
+
+    @Test
+    public void testApplyChangeAddsDeltaInsideRange() throws SQLException {
+        when(mockResultSet.next()).thenReturn(true);
+        when(mockResultSet.getInt(1)).thenReturn(20);
+        when(mockResultSet.getInt(2)).thenReturn(90);
+        when(mockPreparedStatement.executeUpdate()).thenReturn(1);
+
+        GradeSummaries.applyChange(mockConnection, Scope.MODULE, 2, 40, 70);
+
+        verify(mockPreparedStatement).setInt(1, 0);
+        verify(mockPreparedStatement).setLong(2, 30L);
+        verify(mockPreparedStatement).setLong(3, 3300L);
+        verify(mockPreparedStatement).setInt(4, 1);
+        verify(mockConnection, never()).prepareStatement(Scope.MODULE.recomputeSql());
+    }
+
+    @Test
+    public void testApplyChangeRecomputesWhenRemovingLowestGrade() throws SQLException {
+        when(mockResultSet.next()).thenReturn(true);
+        when(mockResultSet.getInt(1)).thenReturn(40);
+        when(mockResultSet.getInt(2)).thenReturn(90);
+
+        GradeSummaries.applyChange(mockConnection, Scope.ASSESSMENT, 5, 40, null);
+
+        verify(mockConnection).prepareStatement(Scope.ASSESSMENT.deleteSql());
+        verify(mockConnection).prepareStatement(Scope.ASSESSMENT.recomputeSql());
+        verify(mockConnection, never()).prepareStatement(Scope.ASSESSMENT.applyDeltaSql());
+    }
+}
@@ -0,0 +1,224 @@
+package sms.gradle.model.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.MockitoAnnotations;
+
+public class JdbcTemplateTest {
+    private static final String SQL = "SELECT id FROM courses WHERE name = ?";
+
+    @Mock
+    private DatabaseConnection mockDbConnection;
+
+    private MockedStatic<DatabaseConnection> mockStaticDbConnection;
+
+    @Mock
+    private Connection mockConnection;
+
+    @Mock
+    private PreparedStatement mockPreparedStatement;
+
+    @Mock
+    private ResultSet mockResultSet;
+
+    private final List<JdbcTemplate.Execution> executions = new ArrayList<>();
+    private final JdbcTemplate.ExecutionListener listener = executions::add;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        MockitoAnnotations.openMocks(this);
+        mockStaticDbConnection = mockStatic(DatabaseConnection.class);
+        mockStaticDbConnection.when(DatabaseConnection::getInstance).thenReturn(mockDbConnection);
+        when(mockDbConnection.getConnection()).thenReturn(mockConnection);
+        when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        JdbcTemplate.addListener(listener);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        JdbcTemplate.removeListener(listener);
+        mockStaticDbConnection.close();
+    }
+
+    @Test
+    public void testQueryMapsEveryRowAndClosesResources() throws SQLException {
+        when(mockResultSet.next()).thenReturn(true, true, false);
+        when(mockResultSet.getInt(1)).thenReturn(4, 9);
+
+        List<Integer> ids = JdbcTemplate.query(SQL, resultSet -> resultSet.getInt(1), "Maths");
+
+        assertEquals(List.of(4, 9), ids);
+        verify(mockPreparedStatement).setString(1, "Maths");
+        verify(mockResultSet).close();
+        verify(mockPreparedStatement).close();
+        verify(mockConnection).close();
+    }
+
+    @Test
+    public void testQueryForOptionalReadsOnlyFirstRow() throws SQLException {
+        when(mockResultSet.next()).thenReturn(true, true, false);
+        when(mockResultSet.getInt(1)).thenReturn(4, 9);
+
+        Optional<Integer> id = JdbcTemplate.queryForOptional(SQL, resultSet -> resultSet.getInt(1), "Maths");
+
+        assertEquals(Optional.of(4), id);
+        verify(mockResultSet).close();
+    }
+
+    @Test
+    public void testQueryForOptionalEmpty() throws SQLException {
+        when(mockResultSet.next()).thenReturn(false);
+
+        Optional<Integer> id = JdbcTemplate.queryForOptional(SQL, resultSet -> resultSet.getInt(1), "Maths");
+
+        assertTrue(id.isEmpty());
+        assertEquals(0, executions.get(0).rowCount());
+    }
+
+    @Test
+    public void testBindUsesSetterForEachType() throws SQLException {
+        Date date = Date.valueOf("2024-09-01");
+
+        JdbcTemplate.bind(mockPreparedStatement, 7, 8L, "Maths", date, null, 2.5);
+
+        verify(mockPreparedStatement).setInt(1, 7);
+        verify(mockPreparedStatement).setLong(2, 8L);
+        verify(mockPreparedStatement).setString(3, "Maths");
+        verify(mockPreparedStatement).setDate(4, date);
+        verify(mockPreparedStatement).setObject(5, null);
+        verify(mockPreparedStatement).setObject(6, 2.5);
+    }
+
+    @Test
+    public void testUpdateReturnsRowCount() throws SQLException {
+        when(mockPreparedStatement.executeUpdate()).thenReturn(3);
+
+        int updated = JdbcTemplate.update("DELETE FROM results WHERE student_id = ?", 5);
+
+        assertEquals(3, updated);
+        verify(mockPreparedStatement).setInt(1, 5);
+        assertEquals(3, executions.get(0).rowCount());
+        assertEquals(List.of(5), executions.get(0).parameters());
+    }
+
+    @Test
+    public void testUpdateWithBinderDoesNotReportParameters() throws SQLException {
+        when(mockPreparedStatement.executeUpdate()).thenReturn(1);
+
+        JdbcTemplate.update("UPDATE admins SET password = ? WHERE id = ?", statement -> {
+            statement.setString(1, "Hash");
+            statement.setInt(2, 1);
+        });
+
+        verify(mockPreparedStatement).setString(1, "Hash");
+        assertTrue(executions.get(0).parameters().isEmpty());
+    }
+
+    @Test
+    public void testListenerToldAboutQuery() throws SQLException {
+        when(mockResultSet.next()).thenReturn(true, false);
+        when(mockResultSet.getInt(1)).thenReturn(4);
+
+        JdbcTemplate.query(SQL, resultSet -> resultSet.getInt(1), "Maths");
+
+        assertEquals(1, executions.size());
+        JdbcTemplate.Execution execution = executions.get(0);
+        assertEquals(SQL, execution.sql());
+        assertEquals(List.of("Maths"), execution.parameters());
+        assertEquals(1, execution.rowCount());
+        assertFalse(execution.failed());
+        assertTrue(execution.elapsedNanos() >= 0);
+    }
+
+    @Test
+    public void testListenerToldAboutFailureAndResourcesClosed() throws SQLException {
+        SQLException failure = new SQLException("Table not found");
+        when(mockPreparedStatement.executeQuery()).thenThrow(failure);
+
+        SQLException exception = assertThrows(
+                SQLException.class, () -> JdbcTemplate.query(SQL, resultSet -> resultSet.getInt(1), "Maths"));
+
+        assertSame(failure, exception);
+        assertTrue(executions.get(0).failed());
+        assertEquals(0, executions.get(0).rowCount());
+        verify(mockPreparedStatement).close();
+        verify(mockConnection).close();
+    }
+
+    @Test
+    public void testFailingListenerDoesNotFailQuery() throws SQLException {
+        JdbcTemplate.ExecutionListener failingListener = execution -> {
+            throw new IllegalStateException("Listener failed");
+        };
+        JdbcTemplate.addListener(failingListener);
+        when(mockResultSet.next()).thenReturn(false);
+
+        try {
+            assertTrue(JdbcTemplate.query(SQL, resultSet -> resultSet.getInt(1), "Maths").isEmpty());
+        } finally {
+            JdbcTemplate.removeListener(failingListener);
+        }
+        assertEquals(1, executions.size());
+    }
+
+    @Test
+    public void testDaoCallEventRecorded() throws Exception {
+        when(mockResultSet.next()).thenReturn(true, true, false);
+        when(mockResultSet.getInt(1)).thenReturn(4, 9);
+        Path file = Files.createTempFile("dao-calls", ".jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable("sms.gradle.DaoCall");
+            recording.start();
+            JdbcTemplate.query(SQL, resultSet -> resultSet.getInt(1), "Maths");
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+        assertEquals(1, events.size());
+        assertEquals(SQL, events.get(0).getString("sql"));
+        assertEquals(2, events.get(0).getInt("rowCount"));
+        assertFalse(events.get(0).getBoolean("failed"));
+    }
+
+    @Test
+    public void testFetchSizeAndTimeoutLeftToDriverByDefault() throws SQLException {
+        when(mockResultSet.next()).thenReturn(false);
+
+        JdbcTemplate.query(SQL, resultSet -> resultSet.getInt(1), "Maths");
+
+        verify(mockPreparedStatement, never()).setFetchSize(anyInt());
+        verify(mockPreparedStatement, never()).setQueryTimeout(anyInt());
+    }
+}
@@ -0,0 +1,136 @@
+package sms.gradle.model.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.MockitoAnnotations;
+
+public class KeysetPagerTest {
+    private static final KeysetPager.Source<Integer> SOURCE = new KeysetPager.Source<>(
+            "courses",
+            "id, name",
+            "name",
+            resultSet -> resultSet.getInt(1),
+            id -> new Keyset("Course " + id, id));
+
+    @Mock
+    private DatabaseConnection mockDbConnection;
+
+    private MockedStatic<DatabaseConnection> mockStaticDbConnection;
+
+    @Mock
+    private Connection mockConnection;
+
+    @Mock
+    private PreparedStatement mockPreparedStatement;
+
+    @Mock
+    private ResultSet mockResultSet;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        MockitoAnnotations.openMocks(this);
+        mockStaticDbConnection = mockStatic(DatabaseConnection.class);
+        mockStaticDbConnection.when(DatabaseConnection::getInstance).thenReturn(mockDbConnection);
+        when(mockDbConnection.getConnection()).thenReturn(mockConnection);
+        when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        mockStaticDbConnection.close();
+    }
+
+    @Test
+    public void testFirstPageReadsOneExtraRow() throws SQLException {
+        when(mockResultSet.next()).thenReturn(true, true, true, false);
+        when(mockResultSet.getInt(1)).thenReturn(4, 9, 2);
+
+        Page<Integer> page = KeysetPager.findPage(SOURCE, PageRequest.first(2));
+
+        verify(mockConnection).prepareStatement("SELECT id, name FROM courses ORDER BY name, id LIMIT ?");
+        verify(mockPreparedStatement).setInt(1, 3);
+        assertEquals(List.of(4, 9), page.items());
+        assertEquals(new Keyset("Course 4", 4), page.first());
+        assertEquals(new Keyset("Course 9", 9), page.last());
+        assertTrue(page.hasMore());
+    }
+
+    @Test
+    public void testNextPageSeeksPastKeyset() throws SQLException {
+        when(mockResultSet.next()).thenReturn(true, false);
+        when(mockResultSet.getInt(1)).thenReturn(12);
+        PageRequest request = new PageRequest(new Keyset("Course 9", 9), 2, PageRequest.Direction.FORWARD);
+
+        Page<Integer> page = KeysetPager.findPage(SOURCE, request);
+
+        verify(mockConnection)
+                .prepareStatement("SELECT id, name FROM courses WHERE name >= ? AND (name > ? OR id > ?) "
+                        + "ORDER BY name, id LIMIT ?");
+        verify(mockPreparedStatement).setString(1, "Course 9");
+        verify(mockPreparedStatement).setString(2, "Course 9");
+        verify(mockPreparedStatement).setInt(3, 9);
+        verify(mockPreparedStatement).setInt(4, 3);
+        assertEquals(List.of(12), page.items());
+        assertFalse(page.hasMore());
+    }
+
+    @Test
+    public void testPreviousPageIsReturnedInListingOrder() throws SQLException {
+        when(mockResultSet.next()).thenReturn(true, true, false);
+        when(mockResultSet.getInt(1)).thenReturn(9, 4);
+        PageRequest request = new PageRequest(new Keyset("Course 12", 12), 2, PageRequest.Direction.BACKWARD);
+
+        Page<Integer> page = KeysetPager.findPage(SOURCE, request);
+
+        verify(mockConnection)
+                .prepareStatement("SELECT id, name FROM courses WHERE name <= ? AND (name < ? OR id < ?) "
+                        + "ORDER BY name DESC, id DESC LIMIT ?");
+        assertEquals(List.of(4, 9), page.items());
+        assertEquals(new Keyset("Course 4", 4), request.previous(page).keyset());
+        assertEquals(new Keyset("Course 9", 9), request.next(page).keyset());
+    }
+
+    @Test
+    public void testEmptyPageHasNoKeysets() throws SQLException {
+        when(mockResultSet.next()).thenReturn(false);
+
+        Page<Integer> page = KeysetPager.findPage(SOURCE, PageRequest.last(5));
+
+        assertTrue(page.isEmpty());
+        assertNull(page.first());
+        assertFalse(page.hasMore());
+    }
+
+    @Test
+    public void testFindPageWrapsFailure() throws SQLException {
+        when(mockPreparedStatement.executeQuery()).thenThrow(new SQLException("Table not found"));
+
+        SQLException exception =
+                assertThrows(SQLException.class, () -> KeysetPager.findPage(SOURCE, PageRequest.first(5)));
+        assertEquals("Failed to find a page of courses", exception.getMessage());
+    }
+
+    @Test
+    public void testPageRequestRejectsInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> PageRequest.first(0));
+    }
+}
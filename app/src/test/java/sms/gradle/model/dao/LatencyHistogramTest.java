@@ -0,0 +1,73 @@
+package sms.gradle.model.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testEmptySnapshot() {
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+
+        assertEquals(new LatencyHistogram.Snapshot(0, 0, 0, 0, 0, 0, 0, 0), snapshot);
+    }
+
+    @Test
+    public void testBucketsAreContiguous() {
+        for (long micros = 0; micros < 100_000; micros++) {
+            int bucket = LatencyHistogram.bucketOf(micros);
+            assertTrue(micros < LatencyHistogram.upperBoundMicros(bucket));
+            assertTrue(bucket == 0 || micros >= LatencyHistogram.upperBoundMicros(bucket - 1));
+        }
+    }
+
+    @Test
+    public void testPercentilesWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        // 1ms to 100ms in 1ms steps
+        for (int millis = 1; millis <= 100; millis++) {
+            histogram.record(millis * 1_000_000L, 2, false);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(100, snapshot.count());
+        assertEquals(200, snapshot.rows());
+        assertEquals(100_000_000L, snapshot.maxNanos());
+        assertWithin(50_000_000L, snapshot.p50Nanos());
+        assertWithin(95_000_000L, snapshot.p95Nanos());
+        assertWithin(99_000_000L, snapshot.p99Nanos());
+    }
+
+    @Test
+    public void testPercentileCappedAtMaximum() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_100_000L, 1, false);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(1_100_000L, snapshot.p99Nanos());
+    }
+
+    @Test
+    public void testFailuresCounted() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000, 0, true);
+        histogram.record(1_000, 3, false);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(2, snapshot.count());
+        assertEquals(1, snapshot.failures());
+        assertEquals(3, snapshot.rows());
+        assertEquals(2_000, snapshot.totalNanos());
+    }
+
+    private static void assertWithin(final long expectedNanos, final long actualNanos) {
+        assertTrue(
+                actualNanos >= expectedNanos && actualNanos <= expectedNanos * 5 / 4,
+                String.format("Expected about %d ns but was %d ns", expectedNanos, actualNanos));
+    }
+}
@@ -1,6 +1,7 @@
 package sms.gradle.model.dao;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
@@ -26,8 +27,6 @@ public class ModuleDAOTest {
 
     private MockedStatic<DatabaseConnection> mockStaticDbConnection;
 
-    private MockedStatic<AssessmentDAO> mockAssessmentDAO;
-
     @Mock
     private Connection mockConnection;
 
@@ -38,20 +37,17 @@ public class ModuleDAOTest {
     private ResultSet mockResultSet;
 
     @BeforeEach
-    public void setUp() {
+    public void setUp() throws SQLException {
         MockitoAnnotations.openMocks(this);
         mockStaticDbConnection = mockStatic(DatabaseConnection.class);
         mockStaticDbConnection.when(DatabaseConnection::getInstance).thenReturn(mockDbConnection);
         when(mockDbConnection.getConnection()).thenReturn(mockConnection);
-
-        mockAssessmentDAO = mockStatic(AssessmentDAO.class);
-        mockAssessmentDAO.when(() -> AssessmentDAO.deleteByModuleId(anyInt())).thenReturn(1);
+        EntityCaches.invalidateAll();
     }
 
     @AfterEach
     public void tearDown() {
         mockStaticDbConnection.close();
-        mockAssessmentDAO.close();
     }
 
     @Test
@@ -74,21 +70,21 @@ public class ModuleDAOTest {
         when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
         when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
         when(mockResultSet.next()).thenReturn(true);
-        when(mockResultSet.getInt("id")).thenReturn(moduleId);
-        when(mockResultSet.getString("name")).thenReturn("Test Module");
-        when(mockResultSet.getString("description")).thenReturn("Test Description");
-        when(mockResultSet.getString("lecturer")).thenReturn("Test Lecturer");
-        when(mockResultSet.getInt("course_id")).thenReturn(2);
+        when(mockResultSet.getInt(1)).thenReturn(moduleId);
+        when(mockResultSet.getString(2)).thenReturn("Test Module");
+        when(mockResultSet.getString(3)).thenReturn("Test Description");
+        when(mockResultSet.getString(4)).thenReturn("Test Lecturer");
+        when(mockResultSet.getInt(5)).thenReturn(2);
 
         Optional<Module> result = ModuleDAO.findById(moduleId);
 
         verify(mockPreparedStatement).setInt(1, moduleId);
         verify(mockResultSet).next();
-        verify(mockResultSet).getInt("id");
-        verify(mockResultSet).getString("name");
-        verify(mockResultSet).getString("description");
-        verify(mockResultSet).getString("lecturer");
-        verify(mockResultSet).getInt("course_id");
+        verify(mockResultSet).getInt(1);
+        verify(mockResultSet).getString(2);
+        verify(mockResultSet).getString(3);
+        verify(mockResultSet).getString(4);
+        verify(mockResultSet).getInt(5);
 
         assertTrue(result.isPresent());
         assertEquals(moduleId, result.get().getId());
@@ -104,21 +100,21 @@ public class ModuleDAOTest {
         when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
         when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
         when(mockResultSet.next()).thenReturn(true);
-        when(mockResultSet.getInt("id")).thenReturn(1);
-        when(mockResultSet.getString("name")).thenReturn(moduleName);
-        when(mockResultSet.getString("description")).thenReturn("Test Description");
-        when(mockResultSet.getString("lecturer")).thenReturn("Test Lecturer");
-        when(mockResultSet.getInt("course_id")).thenReturn(2);
+        when(mockResultSet.getInt(1)).thenReturn(1);
+        when(mockResultSet.getString(2)).thenReturn(moduleName);
+        when(mockResultSet.getString(3)).thenReturn("Test Description");
+        when(mockResultSet.getString(4)).thenReturn("Test Lecturer");
+        when(mockResultSet.getInt(5)).thenReturn(2);
 
         Optional<Module> result = ModuleDAO.findByName(moduleName);
 
         verify(mockPreparedStatement).setString(1, moduleName);
         verify(mockResultSet).next();
-        verify(mockResultSet).getInt("id");
-        verify(mockResultSet).getString("name");
-        verify(mockResultSet).getString("description");
-        verify(mockResultSet).getString("lecturer");
-        verify(mockResultSet).getInt("course_id");
+        verify(mockResultSet).getInt(1);
+        verify(mockResultSet).getString(2);
+        verify(mockResultSet).getString(3);
+        verify(mockResultSet).getString(4);
+        verify(mockResultSet).getInt(5);
 
         assertTrue(result.isPresent());
         assertEquals(1, result.get().getId());
@@ -134,21 +130,21 @@ public class ModuleDAOTest {
         when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
         when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
         when(mockResultSet.next()).thenReturn(true, false);
-        when(mockResultSet.getInt("id")).thenReturn(1);
-        when(mockResultSet.getString("name")).thenReturn("Test Module");
-        when(mockResultSet.getString("description")).thenReturn("Test Description");
-        when(mockResultSet.getString("lecturer")).thenReturn(lecturerName);
-        when(mockResultSet.getInt("course_id")).thenReturn(2);
+        when(mockResultSet.getInt(1)).thenReturn(1);
+        when(mockResultSet.getString(2)).thenReturn("Test Module");
+        when(mockResultSet.getString(3)).thenReturn("Test Description");
+        when(mockResultSet.getString(4)).thenReturn(lecturerName);
+        when(mockResultSet.getInt(5)).thenReturn(2);
 
         List<Module> result = ModuleDAO.findByLecturer(lecturerName);
 
         verify(mockPreparedStatement).setString(1, lecturerName);
         verify(mockResultSet, times(2)).next();
-        verify(mockResultSet).getInt("id");
-        verify(mockResultSet).getString("name");
-        verify(mockResultSet).getString("description");
-        verify(mockResultSet).getString("lecturer");
-        verify(mockResultSet).getInt("course_id");
+        verify(mockResultSet).getInt(1);
+        verify(mockResultSet).getString(2);
+        verify(mockResultSet).getString(3);
+        verify(mockResultSet).getString(4);
+        verify(mockResultSet).getInt(5);
 
         assertEquals(1, result.size());
         assertEquals(1, result.get(0).getId());
@@ -164,21 +160,21 @@ public class ModuleDAOTest {
         when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
         when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
         when(mockResultSet.next()).thenReturn(true, false);
-        when(mockResultSet.getInt("id")).thenReturn(1);
-        when(mockResultSet.getString("name")).thenReturn("Test Module");
-        when(mockResultSet.getString("description")).thenReturn("Test Description");
-        when(mockResultSet.getString("lecturer")).thenReturn("Test Lecturer");
-        when(mockResultSet.getInt("course_id")).thenReturn(courseId);
+        when(mockResultSet.getInt(1)).thenReturn(1);
+        when(mockResultSet.getString(2)).thenReturn("Test Module");
+        when(mockResultSet.getString(3)).thenReturn("Test Description");
+        when(mockResultSet.getString(4)).thenReturn("Test Lecturer");
+        when(mockResultSet.getInt(5)).thenReturn(courseId);
 
         List<Module> result = ModuleDAO.findByCourseId(courseId);
 
         verify(mockPreparedStatement).setInt(1, courseId);
         verify(mockResultSet, times(2)).next();
-        verify(mockResultSet).getInt("id");
-        verify(mockResultSet).getString("name");
-        verify(mockResultSet).getString("description");
-        verify(mockResultSet).getString("lecturer");
-        verify(mockResultSet).getInt("course_id");
+        verify(mockResultSet).getInt(1);
+        verify(mockResultSet).getString(2);
+        verify(mockResultSet).getString(3);
+        verify(mockResultSet).getString(4);
+        verify(mockResultSet).getInt(5);
 
         assertEquals(1, result.size());
         assertEquals(1, result.get(0).getId());
@@ -193,21 +189,21 @@ public class ModuleDAOTest {
         when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
         when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
         when(mockResultSet.next()).thenReturn(true, true, false);
-        when(mockResultSet.getInt("id")).thenReturn(1, 2);
-        when(mockResultSet.getString("name")).thenReturn("Test Module One", "Test Module Two");
-        when(mockResultSet.getString("description")).thenReturn("Test Description One", "Test Description Two");
-        when(mockResultSet.getString("lecturer")).thenReturn("Test Lecturer One", "Test Lecturer Two");
-        when(mockResultSet.getInt("course_id")).thenReturn(2, 4);
+        when(mockResultSet.getInt(1)).thenReturn(1, 2);
+        when(mockResultSet.getString(2)).thenReturn("Test Module One", "Test Module Two");
+        when(mockResultSet.getString(3)).thenReturn("Test Description One", "Test Description Two");
+        when(mockResultSet.getString(4)).thenReturn("Test Lecturer One", "Test Lecturer Two");
+        when(mockResultSet.getInt(5)).thenReturn(2, 4);
 
         List<Module> results = ModuleDAO.findAll();
 
         verify(mockPreparedStatement).executeQuery();
         verify(mockResultSet, times(3)).next();
-        verify(mockResultSet, times(2)).getInt("id");
-        verify(mockResultSet, times(2)).getString("name");
-        verify(mockResultSet, times(2)).getString("description");
-        verify(mockResultSet, times(2)).getString("lecturer");
-        verify(mockResultSet, times(2)).getInt("course_id");
+        verify(mockResultSet, times(2)).getInt(1);
+        verify(mockResultSet, times(2)).getString(2);
+        verify(mockResultSet, times(2)).getString(3);
+        verify(mockResultSet, times(2)).getString(4);
+        verify(mockResultSet, times(2)).getInt(5);
 
         assertEquals(2, results.size());
         assertEquals(1, results.get(0).getId());
@@ -223,6 +219,26 @@ public class ModuleDAOTest {
         assertEquals(4, results.get(1).getCourseId());
     }
 
+    @Test
+    public void testHasAnyReadsOneRow() throws SQLException {
+        when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(true);
+        when(mockResultSet.getInt(1)).thenReturn(1);
+
+        assertTrue(ModuleDAO.hasAny());
+        verify(mockConnection).prepareStatement("SELECT 1 FROM modules LIMIT 1");
+    }
+
+    @Test
+    public void testHasAnyWhenEmpty() throws SQLException {
+        when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(false);
+
+        assertFalse(ModuleDAO.hasAny());
+    }
+
     @Test
     public void testUpdate() throws SQLException {
         Module module = new Module(1, "Test Module", "Test Description", "Test Lecturer", 2);
@@ -248,7 +264,8 @@ public class ModuleDAOTest {
 
         int result = ModuleDAO.delete(moduleId);
 
-        verify(mockPreparedStatement).setInt(1, moduleId);
+        verify(mockPreparedStatement, times(3)).setInt(1, moduleId);
+        verify(mockConnection).commit();
 
         assertEquals(1, result);
     }
@@ -0,0 +1,109 @@
+package sms.gradle.model.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.MockitoAnnotations;
+
+public class QueryMetricsTest {
+
+    @Mock
+    private DatabaseConnection mockDbConnection;
+
+    private MockedStatic<DatabaseConnection> mockStaticDbConnection;
+
+    @Mock
+    private Connection mockConnection;
+
+    @Mock
+    private PreparedStatement mockPreparedStatement;
+
+    @Mock
+    private ResultSet mockResultSet;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        MockitoAnnotations.openMocks(this);
+        mockStaticDbConnection = mockStatic(DatabaseConnection.class);
+        mockStaticDbConnection.when(DatabaseConnection::getInstance).thenReturn(mockDbConnection);
+        when(mockDbConnection.getConnection()).thenReturn(mockConnection);
+        when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        QueryMetrics.reset();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        mockStaticDbConnection.close();
+        QueryMetrics.reset();
+    }
+
+    @Test
+    public void testTemplateStatementsRecorded() throws SQLException {
+        String sql = "SELECT id FROM courses WHERE name = ?";
+        when(mockResultSet.next()).thenReturn(true, true, false, true, false);
+
+        JdbcTemplate.query(sql, resultSet -> resultSet.getInt(1), "Maths");
+        JdbcTemplate.query(sql, resultSet -> resultSet.getInt(1), "Physics");
+
+        LatencyHistogram.Snapshot snapshot = QueryMetrics.getSnapshots().get(sql);
+        assertEquals(2, snapshot.count());
+        assertEquals(3, snapshot.rows());
+        assertEquals(0, snapshot.failures());
+    }
+
+    @Test
+    public void testSnapshotsOrderedByTotalTime() {
+        QueryMetrics.record(new JdbcTemplate.Execution("fast", List.of(), 1_000, 1, false));
+        QueryMetrics.record(new JdbcTemplate.Execution("slow", List.of(), 9_000_000, 1, false));
+        QueryMetrics.record(new JdbcTemplate.Execution("fast", List.of(), 1_000, 1, false));
+
+        Map<String, LatencyHistogram.Snapshot> snapshots = QueryMetrics.getSnapshots();
+
+        assertEquals(List.of("slow", "fast"), List.copyOf(snapshots.keySet()));
+        assertEquals(2, snapshots.get("fast").count());
+    }
+
+    @Test
+    public void testStatementsBeyondLimitShareHistogram() {
+        for (int i = 0; i < QueryMetrics.MAXIMUM_STATEMENTS + 5; i++) {
+            QueryMetrics.record(new JdbcTemplate.Execution("SELECT " + i, List.of(), 1_000, 0, false));
+        }
+
+        Map<String, LatencyHistogram.Snapshot> snapshots = QueryMetrics.getSnapshots();
+
+        assertEquals(QueryMetrics.MAXIMUM_STATEMENTS + 1, snapshots.size());
+        assertEquals(5, snapshots.get(QueryMetrics.OTHER_STATEMENTS).count());
+    }
+
+    @Test
+    public void testSlowQueryThreshold() {
+        SlowQueryLog log = new SlowQueryLog(Duration.ofMillis(200));
+
+        assertFalse(log.isSlow(new JdbcTemplate.Execution("SELECT 1", List.of(), 199_999_999, 1, false)));
+        assertTrue(log.isSlow(new JdbcTemplate.Execution("SELECT 1", List.of(), 200_000_000, 1, false)));
+    }
+
+    @Test
+    public void testSlowQueryLogDisabled() {
+        SlowQueryLog log = new SlowQueryLog(Duration.ZERO);
+
+        assertFalse(log.isSlow(new JdbcTemplate.Execution("SELECT 1", List.of(), Long.MAX_VALUE, 1, true)));
+    }
+}
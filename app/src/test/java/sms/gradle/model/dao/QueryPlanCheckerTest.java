@@ -0,0 +1,70 @@
+package sms.gradle.model.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class QueryPlanCheckerTest {
+    @Mock
+    private Connection mockConnection;
+
+    @Mock
+    private PreparedStatement mockPreparedStatement;
+
+    @Mock
+    private ResultSet mockResultSet;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        MockitoAnnotations.openMocks(this);
+        when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(true);
+    }
+
+    @Test
+    public void testIndexedQueryIsNotReported() throws SQLException {
+        QueryPlanChecker.Query query = new QueryPlanChecker.Query(
+                "ResultDAO.findByAssessmentId", "SELECT * FROM results WHERE assessment_id = ?", List.of(7));
+        when(mockResultSet.getString(1))
+                .thenReturn("SELECT * FROM PUBLIC.RESULTS /* PUBLIC.IDX_RESULTS_ASSESSMENT_ID: ASSESSMENT_ID = ?1 */");
+
+        List<QueryPlanChecker.Report> reports = QueryPlanChecker.explain(mockConnection, List.of(query));
+
+        verify(mockConnection).prepareStatement("EXPLAIN " + query.sql());
+        verify(mockPreparedStatement).setObject(1, 7);
+        assertEquals(1, reports.size());
+        assertFalse(reports.get(0).isTableScan());
+    }
+
+    @Test
+    public void testDaoQueriesBindEveryParameter() {
+        for (QueryPlanChecker.Query query : QueryPlanChecker.DAO_QUERIES) {
+            long placeholders = query.sql().chars().filter(c -> c == '?').count();
+            assertEquals(placeholders, query.parameters().size(), query.name());
+        }
+    }
+
+    @Test
+    public void testTableScanIsReported() throws SQLException {
+        when(mockResultSet.getString(1)).thenReturn("SELECT * FROM PUBLIC.MODULES /* PUBLIC.MODULES.tableScan */");
+
+        List<QueryPlanChecker.Report> tableScans = QueryPlanChecker.checkDaoQueries(mockConnection);
+
+        assertEquals(QueryPlanChecker.DAO_QUERIES.size(), tableScans.size());
+        assertTrue(tableScans.stream().allMatch(QueryPlanChecker.Report::isTableScan));
+    }
+}
@@ -2,6 +2,7 @@ package sms.gradle.model.dao;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -9,6 +10,8 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.AfterEach;
@@ -35,7 +38,7 @@ public class ResultDAOTest {
     private ResultSet mockResultSet;
 
     @BeforeEach
-    public void setUp() {
+    public void setUp() throws SQLException {
         MockitoAnnotations.openMocks(this);
         mockStaticDbConnection = mockStatic(DatabaseConnection.class);
         mockStaticDbConnection.when(DatabaseConnection::getInstance).thenReturn(mockDbConnection);
@@ -67,10 +70,10 @@ public class ResultDAOTest {
         when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
         when(mockResultSet.next()).thenReturn(true);
 
-        when(mockResultSet.getInt("id")).thenReturn(1);
-        when(mockResultSet.getInt("student_id")).thenReturn(9);
-        when(mockResultSet.getInt("assessment_id")).thenReturn(4);
-        when(mockResultSet.getInt("grade")).thenReturn(90);
+        when(mockResultSet.getInt(1)).thenReturn(1);
+        when(mockResultSet.getInt(2)).thenReturn(9);
+        when(mockResultSet.getInt(3)).thenReturn(4);
+        when(mockResultSet.getInt(4)).thenReturn(90);
 
         Optional<Result> result = ResultDAO.findById(resultId);
 
@@ -88,10 +91,10 @@ public class ResultDAOTest {
         when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
         when(mockResultSet.next()).thenReturn(true, true, false);
 
-        when(mockResultSet.getInt("id")).thenReturn(1, 9);
-        when(mockResultSet.getInt("student_id")).thenReturn(2, 2);
-        when(mockResultSet.getInt("assessment_id")).thenReturn(4, 6);
-        when(mockResultSet.getInt("grade")).thenReturn(90, 84);
+        when(mockResultSet.getInt(1)).thenReturn(1, 9);
+        when(mockResultSet.getInt(2)).thenReturn(2, 2);
+        when(mockResultSet.getInt(3)).thenReturn(4, 6);
+        when(mockResultSet.getInt(4)).thenReturn(90, 84);
 
         List<Result> results = ResultDAO.findByStudentId(studentId);
 
@@ -109,10 +112,10 @@ public class ResultDAOTest {
         when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
         when(mockResultSet.next()).thenReturn(true, false);
 
-        when(mockResultSet.getInt("id")).thenReturn(1);
-        when(mockResultSet.getInt("student_id")).thenReturn(4);
-        when(mockResultSet.getInt("assessment_id")).thenReturn(3);
-        when(mockResultSet.getInt("grade")).thenReturn(95);
+        when(mockResultSet.getInt(1)).thenReturn(1);
+        when(mockResultSet.getInt(2)).thenReturn(4);
+        when(mockResultSet.getInt(3)).thenReturn(3);
+        when(mockResultSet.getInt(4)).thenReturn(95);
 
         List<Result> results = ResultDAO.findByAssessmentId(assessmentId);
 
@@ -128,10 +131,10 @@ public class ResultDAOTest {
         when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
         when(mockResultSet.next()).thenReturn(true, true, false);
 
-        when(mockResultSet.getInt("id")).thenReturn(1, 4);
-        when(mockResultSet.getInt("student_id")).thenReturn(7, 4);
-        when(mockResultSet.getInt("assessment_id")).thenReturn(6, 3);
-        when(mockResultSet.getInt("grade")).thenReturn(75, 95);
+        when(mockResultSet.getInt(1)).thenReturn(1, 4);
+        when(mockResultSet.getInt(2)).thenReturn(7, 4);
+        when(mockResultSet.getInt(3)).thenReturn(6, 3);
+        when(mockResultSet.getInt(4)).thenReturn(75, 95);
 
         List<Result> results = ResultDAO.findAll();
 
@@ -156,6 +159,33 @@ public class ResultDAOTest {
         verify(mockPreparedStatement).setInt(4, result.getId());
     }
 
+    @Test
+    public void testSlowUpdateLogsItsValues() throws SQLException {
+        SlowQueryLog slowQueryLog = new SlowQueryLog(Duration.ofMillis(1));
+        List<String> slowQueries = new ArrayList<>();
+        JdbcTemplate.ExecutionListener listener = execution -> {
+            if (slowQueryLog.isSlow(execution)) {
+                slowQueries.add(slowQueryLog.describe(execution));
+            }
+        };
+        when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeUpdate()).thenAnswer(invocation -> {
+            Thread.sleep(5);
+            return 1;
+        });
+        JdbcTemplate.addListener(listener);
+        try {
+            ResultDAO.update(new Result(1, 5, 7, 80));
+        } finally {
+            JdbcTemplate.removeListener(listener);
+        }
+
+        assertEquals(1, slowQueries.size());
+        assertTrue(slowQueries.get(0).startsWith("Slow statement"));
+        assertTrue(slowQueries.get(0).endsWith("UPDATE results SET student_id = ?, assessment_id = ?, grade = ? "
+                + "WHERE id = ? parameters [5, 7, 80, 1]"));
+    }
+
     @Test
     public void testDelete() throws SQLException {
         int resultId = 1;
@@ -168,4 +198,23 @@ public class ResultDAOTest {
 
         assertEquals(1, deleteResult);
     }
+
+    @Test
+    public void testAddAll() throws SQLException {
+        List<Result> results = List.of(new Result(0, 9, 4, 90), new Result(0, 10, 4, 55));
+        when(mockConnection.prepareStatement(anyString(), anyInt())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeBatch()).thenReturn(new int[] {1, 1});
+        when(mockPreparedStatement.getGeneratedKeys()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(true, true, false);
+        when(mockResultSet.getInt(1)).thenReturn(7, 8);
+
+        List<Integer> ids = ResultDAO.addAll(results);
+
+        assertEquals(List.of(7, 8), ids);
+        verify(mockPreparedStatement).setInt(1, 9);
+        verify(mockPreparedStatement).setInt(1, 10);
+        verify(mockPreparedStatement, times(2)).addBatch();
+        verify(mockPreparedStatement, times(1)).executeBatch();
+        verify(mockConnection).commit();
+    }
 }
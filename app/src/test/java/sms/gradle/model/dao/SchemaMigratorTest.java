@@ -0,0 +1,161 @@
+package sms.gradle.model.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import sms.gradle.utils.DatabaseMigrations;
+
+public class SchemaMigratorTest {
+    private static final Migration CREATE_TABLE =
+            new Migration(1, "Create table", List.of("CREATE TABLE IF NOT EXISTS t (id INT PRIMARY KEY)"));
+    private static final Migration ADD_COLUMN =
+            new Migration(2, "Add column", List.of("ALTER TABLE t ADD COLUMN IF NOT EXISTS name VARCHAR(255)"));
+
+    private final SchemaMigrator migrator = new SchemaMigrator(List.of(ADD_COLUMN, CREATE_TABLE));
+
+    @Mock
+    private Connection mockConnection;
+
+    @Mock
+    private Statement mockStatement;
+
+    @Mock
+    private PreparedStatement mockPreparedStatement;
+
+    @Mock
+    private ResultSet mockResultSet;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        MockitoAnnotations.openMocks(this);
+        when(mockConnection.createStatement()).thenReturn(mockStatement);
+        when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+        when(mockConnection.getAutoCommit()).thenReturn(true);
+        when(mockStatement.executeQuery(anyString())).thenReturn(mockResultSet);
+    }
+
+    @Test
+    public void testLatestVersion() {
+        assertEquals(2, migrator.getLatestVersion());
+    }
+
+    @Test
+    public void testCurrentSchemaSkipsMigrations() throws SQLException {
+        when(mockResultSet.next()).thenReturn(true, true, false);
+        when(mockResultSet.getInt(1)).thenReturn(1, 2);
+        when(mockResultSet.getLong(2)).thenReturn(CREATE_TABLE.checksum(), ADD_COLUMN.checksum());
+
+        int applied = migrator.migrate(mockConnection);
+
+        assertEquals(0, applied);
+        verify(mockStatement, times(1)).execute(anyString());
+        verify(mockConnection, never()).setAutoCommit(false);
+    }
+
+    @Test
+    public void testPendingMigrationsAreAppliedInOrder() throws SQLException {
+        when(mockResultSet.next()).thenReturn(true, false);
+        when(mockResultSet.getInt(1)).thenReturn(1);
+        when(mockResultSet.getLong(2)).thenReturn(CREATE_TABLE.checksum());
+
+        int applied = migrator.migrate(mockConnection);
+
+        assertEquals(1, applied);
+        verify(mockStatement).execute(ADD_COLUMN.statements().get(0));
+        verify(mockStatement, never()).execute(CREATE_TABLE.statements().get(0));
+        verify(mockPreparedStatement).setInt(1, 2);
+        verify(mockPreparedStatement).setLong(3, ADD_COLUMN.checksum());
+        verify(mockConnection).commit();
+    }
+
+    @Test
+    public void testModifiedMigrationIsRejected() throws SQLException {
+        when(mockResultSet.next()).thenReturn(true, false);
+        when(mockResultSet.getInt(1)).thenReturn(1);
+        when(mockResultSet.getLong(2)).thenReturn(CREATE_TABLE.checksum() + 1);
+
+        assertThrows(SQLException.class, () -> migrator.migrate(mockConnection));
+        verify(mockConnection, never()).commit();
+    }
+
+    @Test
+    public void testFailedMigrationIsRolledBack() throws SQLException {
+        when(mockResultSet.next()).thenReturn(false);
+        when(mockStatement.execute(CREATE_TABLE.statements().get(0))).thenThrow(new SQLException("Syntax error"));
+
+        assertThrows(SQLException.class, () -> migrator.migrate(mockConnection));
+        verify(mockConnection).rollback();
+        verify(mockConnection, never()).commit();
+        verify(mockConnection).setAutoCommit(true);
+    }
+
+    @Test
+    public void testPreconditionConflictsBlockMigration() throws SQLException {
+        final String findDuplicates = "SELECT id FROM t WHERE duplicate";
+        Migration addConstraint = new Migration(
+                2,
+                "Add unique constraint",
+                List.of("ALTER TABLE t ADD CONSTRAINT IF NOT EXISTS uq_t UNIQUE (name)"),
+                List.of(new Migration.Precondition("duplicate rows", findDuplicates)));
+        when(mockResultSet.next()).thenReturn(true, false);
+        when(mockResultSet.getInt(1)).thenReturn(1);
+        when(mockResultSet.getLong(2)).thenReturn(CREATE_TABLE.checksum());
+        ResultSet conflicts = mock(ResultSet.class);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(mockStatement.executeQuery(findDuplicates)).thenReturn(conflicts);
+        when(conflicts.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(metaData.getColumnLabel(1)).thenReturn("ID");
+        when(conflicts.next()).thenReturn(true, true, false);
+        when(conflicts.getObject(1)).thenReturn(4, 9);
+
+        SQLException exception = assertThrows(
+                SQLException.class,
+                () -> new SchemaMigrator(List.of(CREATE_TABLE, addConstraint)).migrate(mockConnection));
+
+        assertEquals(
+                "Migration 2 (Add unique constraint) cannot be applied: found 2 duplicate rows, which must be resolved "
+                        + "before restarting",
+                exception.getMessage());
+        verify(mockStatement, never()).execute(addConstraint.statements().get(0));
+        verify(mockConnection, never()).commit();
+    }
+
+    @Test
+    public void testDuplicateVersionsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new SchemaMigrator(List.of(CREATE_TABLE, CREATE_TABLE)));
+    }
+
+    @Test
+    public void testMigrationThatCannotBeRerunIsRejected() {
+        Migration createTable = new Migration(1, "Create table", List.of("CREATE TABLE t (id INT PRIMARY KEY)"));
+        Migration insertRow = new Migration(2, "Insert row", List.of("INSERT INTO t (id) VALUES (1)"));
+
+        assertThrows(IllegalArgumentException.class, () -> new SchemaMigrator(List.of(createTable)));
+        assertThrows(IllegalArgumentException.class, () -> new SchemaMigrator(List.of(CREATE_TABLE, insertRow)));
+    }
+
+    @Test
+    public void testApplicationMigrationsCanBeRerun() {
+        SchemaMigrator applicationMigrator = new SchemaMigrator(DatabaseMigrations.MIGRATIONS);
+
+        assertEquals(DatabaseMigrations.MIGRATIONS.size(), applicationMigrator.getLatestVersion());
+    }
+}
@@ -0,0 +1,77 @@
+package sms.gradle.model.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.MockitoAnnotations;
+
+public class SettingDAOTest {
+    @Mock
+    private DatabaseConnection mockDbConnection;
+
+    private MockedStatic<DatabaseConnection> mockStaticDbConnection;
+
+    @Mock
+    private Connection mockConnection;
+
+    @Mock
+    private PreparedStatement mockPreparedStatement;
+
+    @Mock
+    private ResultSet mockResultSet;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        MockitoAnnotations.openMocks(this);
+        mockStaticDbConnection = mockStatic(DatabaseConnection.class);
+        mockStaticDbConnection.when(DatabaseConnection::getInstance).thenReturn(mockDbConnection);
+        when(mockDbConnection.getConnection()).thenReturn(mockConnection);
+        when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        mockStaticDbConnection.close();
+    }
+
+    @Test
+    public void testFindValue() throws SQLException {
+        when(mockResultSet.next()).thenReturn(true);
+        when(mockResultSet.getString(1)).thenReturn("true");
+
+        assertEquals(Optional.of("true"), SettingDAO.findValue("sample_data_generated"));
+        verify(mockPreparedStatement).setString(1, "sample_data_generated");
+    }
+
+    @Test
+    public void testFindValueNotSet() throws SQLException {
+        when(mockResultSet.next()).thenReturn(false);
+
+        assertEquals(Optional.empty(), SettingDAO.findValue("sample_data_generated"));
+    }
+
+    @Test
+    public void testSetValueMergesByName() throws SQLException {
+        when(mockPreparedStatement.executeUpdate()).thenReturn(1);
+
+        SettingDAO.setValue("sample_data_generated", "true");
+
+        verify(mockConnection).prepareStatement("MERGE INTO settings (name, setting_value) KEY (name) VALUES (?, ?)");
+        verify(mockPreparedStatement).setString(1, "sample_data_generated");
+        verify(mockPreparedStatement).setString(2, "true");
+    }
+}
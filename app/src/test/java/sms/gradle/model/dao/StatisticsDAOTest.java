@@ -0,0 +1,122 @@
+package sms.gradle.model.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.MockitoAnnotations;
+
+public class StatisticsDAOTest {
+    @Mock
+    private DatabaseConnection mockDbConnection;
+
+    private MockedStatic<DatabaseConnection> mockStaticDbConnection;
+
+    @Mock
+    private Connection mockConnection;
+
+    @Mock
+    private PreparedStatement mockPreparedStatement;
+
+    @Mock
+    private ResultSet mockResultSet;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        MockitoAnnotations.openMocks(this);
+        mockStaticDbConnection = mockStatic(DatabaseConnection.class);
+        mockStaticDbConnection.when(DatabaseConnection::getInstance).thenReturn(mockDbConnection);
+        when(mockDbConnection.getConnection()).thenReturn(mockConnection);
+        when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        mockStaticDbConnection.close();
+    }
+
+    @Test
+    public void testFindCourseStatistics() throws SQLException {
+        when(mockResultSet.next()).thenReturn(true);
+        when(mockResultSet.getInt("student_count")).thenReturn(10);
+        when(mockResultSet.getInt("module_count")).thenReturn(2);
+        when(mockResultSet.getInt("assessment_count")).thenReturn(4);
+        when(mockResultSet.getInt("enrolled_result_count")).thenReturn(20);
+        when(mockResultSet.getInt("result_count")).thenReturn(20);
+        when(mockResultSet.getInt("pass_count")).thenReturn(15);
+        when(mockResultSet.getLong("grade_sum")).thenReturn(1230L);
+        when(mockResultSet.getLong("grade_sum_squares")).thenReturn(82_125L);
+        when(mockResultSet.getInt("lowest_grade")).thenReturn(12);
+        when(mockResultSet.getInt("highest_grade")).thenReturn(97);
+
+        GradeStatistics statistics = StatisticsDAO.findCourseStatistics(3);
+
+        verify(mockPreparedStatement).setInt(1, 3);
+        assertEquals(10, statistics.studentCount());
+        assertEquals(2, statistics.moduleCount());
+        assertEquals(61.5, statistics.averageGrade());
+        assertEquals(18.0, statistics.standardDeviation(), 1e-9);
+        assertEquals(12, statistics.lowestGrade());
+        assertEquals(97, statistics.highestGrade());
+        assertEquals(75.0, statistics.passRate());
+        assertEquals(50.0, statistics.completionRate());
+    }
+
+    @Test
+    public void testStatisticsWithoutResults() throws SQLException {
+        when(mockResultSet.next()).thenReturn(true);
+        when(mockResultSet.getInt("student_count")).thenReturn(1);
+        when(mockResultSet.getInt("module_count")).thenReturn(5);
+
+        GradeStatistics statistics = StatisticsDAO.findStudentStatistics(7);
+
+        assertEquals(5, statistics.moduleCount());
+        assertFalse(statistics.hasResults());
+        assertEquals(0.0, statistics.passRate());
+        assertEquals(0.0, statistics.completionRate());
+    }
+
+    @Test
+    public void testCompletionRateIgnoresResultsFromStudentsNotEnrolled() throws SQLException {
+        when(mockResultSet.next()).thenReturn(true);
+        when(mockResultSet.getInt("student_count")).thenReturn(2);
+        when(mockResultSet.getInt("assessment_count")).thenReturn(3);
+        when(mockResultSet.getInt("enrolled_result_count")).thenReturn(6);
+        when(mockResultSet.getInt("result_count")).thenReturn(9);
+
+        GradeStatistics statistics = StatisticsDAO.findModuleStatistics(4);
+
+        assertEquals(9, statistics.resultCount());
+        assertEquals(100.0, statistics.completionRate());
+    }
+
+    @Test
+    public void testNoRowReturnsEmptyStatistics() throws SQLException {
+        when(mockResultSet.next()).thenReturn(false);
+
+        assertSame(GradeStatistics.EMPTY, StatisticsDAO.findAssessmentStatistics(1));
+    }
+
+    @Test
+    public void testFindModuleStatisticsWrapsFailure() throws SQLException {
+        when(mockPreparedStatement.executeQuery()).thenThrow(new SQLException("Table not found"));
+
+        SQLException exception = assertThrows(SQLException.class, () -> StatisticsDAO.findModuleStatistics(9));
+        assertEquals("Failed to calculate statistics for module with Id: 9", exception.getMessage());
+    }
+}
@@ -1,10 +1,13 @@
 package sms.gradle.model.dao;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -14,6 +17,7 @@ import java.sql.Date;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.AfterEach;
@@ -31,9 +35,6 @@ public class StudentDAOTest {
 
     private MockedStatic<DatabaseConnection> mockStaticDbConnection;
 
-    private MockedStatic<ResultDAO> mockResultDOA;
-    private MockedStatic<CourseEnrollmentDAO> mockCourseEnrollmentDAO;
-
     @Mock
     private Connection mockConnection;
 
@@ -44,25 +45,17 @@ public class StudentDAOTest {
     private ResultSet mockResultSet;
 
     @BeforeEach
-    public void setUp() {
+    public void setUp() throws SQLException {
         MockitoAnnotations.openMocks(this);
         mockStaticDbConnection = mockStatic(DatabaseConnection.class);
         mockStaticDbConnection.when(DatabaseConnection::getInstance).thenReturn(mockDbConnection);
         when(mockDbConnection.getConnection()).thenReturn(mockConnection);
-
-        mockResultDOA = mockStatic(ResultDAO.class);
-        mockResultDOA.when(() -> ResultDAO.deleteByStudentId(anyInt())).thenReturn(1);
-        mockCourseEnrollmentDAO = mockStatic(CourseEnrollmentDAO.class);
-        mockCourseEnrollmentDAO
-                .when(() -> CourseEnrollmentDAO.deleteByStudentId(anyInt()))
-                .thenReturn(1);
+        EntityCaches.invalidateAll();
     }
 
     @AfterEach
     public void tearDown() {
         mockStaticDbConnection.close();
-        mockResultDOA.close();
-        mockCourseEnrollmentDAO.close();
     }
 
     @Test
@@ -92,12 +85,12 @@ public class StudentDAOTest {
         when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
         when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
         when(mockResultSet.next()).thenReturn(true);
-        when(mockResultSet.getInt("id")).thenReturn(1);
-        when(mockResultSet.getString("first_name")).thenReturn("John");
-        when(mockResultSet.getString("last_name")).thenReturn("Smith");
-        when(mockResultSet.getString("email")).thenReturn("johnsmith@gmail.com");
-        when(mockResultSet.getDate("date_of_birth")).thenReturn(dateOfBirth);
-        when(mockResultSet.getDate("join_date")).thenReturn(joinDate);
+        when(mockResultSet.getInt(1)).thenReturn(1);
+        when(mockResultSet.getString(2)).thenReturn("John");
+        when(mockResultSet.getString(3)).thenReturn("Smith");
+        when(mockResultSet.getString(4)).thenReturn("johnsmith@gmail.com");
+        when(mockResultSet.getDate(5)).thenReturn(dateOfBirth);
+        when(mockResultSet.getDate(6)).thenReturn(joinDate);
 
         Optional<Student> result = StudentDAO.findById(studentId);
 
@@ -120,12 +113,12 @@ public class StudentDAOTest {
         when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
         when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
         when(mockResultSet.next()).thenReturn(true);
-        when(mockResultSet.getInt("id")).thenReturn(1);
-        when(mockResultSet.getString("first_name")).thenReturn("John");
-        when(mockResultSet.getString("last_name")).thenReturn("Smith");
-        when(mockResultSet.getString("email")).thenReturn("johnsmith@gmail.com");
-        when(mockResultSet.getDate("date_of_birth")).thenReturn(dateOfBirth);
-        when(mockResultSet.getDate("join_date")).thenReturn(joinDate);
+        when(mockResultSet.getInt(1)).thenReturn(1);
+        when(mockResultSet.getString(2)).thenReturn("John");
+        when(mockResultSet.getString(3)).thenReturn("Smith");
+        when(mockResultSet.getString(4)).thenReturn("johnsmith@gmail.com");
+        when(mockResultSet.getDate(5)).thenReturn(dateOfBirth);
+        when(mockResultSet.getDate(6)).thenReturn(joinDate);
 
         Optional<Student> result = StudentDAO.findByEmail(email);
 
@@ -149,23 +142,23 @@ public class StudentDAOTest {
         when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
         when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
         when(mockResultSet.next()).thenReturn(true, true, false);
-        when(mockResultSet.getInt("id")).thenReturn(1, 2);
-        when(mockResultSet.getString("first_name")).thenReturn("John", "Tom");
-        when(mockResultSet.getString("last_name")).thenReturn("Smith", "Cruise");
-        when(mockResultSet.getString("email")).thenReturn("johnsmith@gmail.com", "tomcruise@gmail.com");
-        when(mockResultSet.getDate("date_of_birth")).thenReturn(dateOfBirth1, dateOfBirth2);
-        when(mockResultSet.getDate("join_date")).thenReturn(joinDate1, joinDate2);
+        when(mockResultSet.getInt(1)).thenReturn(1, 2);
+        when(mockResultSet.getString(2)).thenReturn("John", "Tom");
+        when(mockResultSet.getString(3)).thenReturn("Smith", "Cruise");
+        when(mockResultSet.getString(4)).thenReturn("johnsmith@gmail.com", "tomcruise@gmail.com");
+        when(mockResultSet.getDate(5)).thenReturn(dateOfBirth1, dateOfBirth2);
+        when(mockResultSet.getDate(6)).thenReturn(joinDate1, joinDate2);
 
         List<Student> students = StudentDAO.findAll();
 
         verify(mockPreparedStatement).executeQuery();
         verify(mockResultSet, times(3)).next();
-        verify(mockResultSet, times(2)).getInt("id");
-        verify(mockResultSet, times(2)).getString("first_name");
-        verify(mockResultSet, times(2)).getString("last_name");
-        verify(mockResultSet, times(2)).getString("email");
-        verify(mockResultSet, times(2)).getDate("date_of_birth");
-        verify(mockResultSet, times(2)).getDate("join_date");
+        verify(mockResultSet, times(2)).getInt(1);
+        verify(mockResultSet, times(2)).getString(2);
+        verify(mockResultSet, times(2)).getString(3);
+        verify(mockResultSet, times(2)).getString(4);
+        verify(mockResultSet, times(2)).getDate(5);
+        verify(mockResultSet, times(2)).getDate(6);
 
         assertEquals(2, students.size());
         assertEquals(1, students.get(0).getId());
@@ -183,6 +176,89 @@ public class StudentDAOTest {
         assertEquals(joinDate2, students.get(1).getJoinDate());
     }
 
+    @Test
+    public void testFindAllSummaries() throws SQLException {
+        when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(true, true, false);
+        when(mockResultSet.getInt(1)).thenReturn(2, 1);
+        when(mockResultSet.getString(2)).thenReturn("Tom", "John");
+        when(mockResultSet.getString(3)).thenReturn("Cruise", "Smith");
+        when(mockResultSet.getString(4)).thenReturn("tomcruise@gmail.com", "johnsmith@gmail.com");
+
+        List<StudentSummary> summaries = StudentDAO.findAllSummaries();
+
+        verify(mockConnection)
+                .prepareStatement("SELECT id, first_name, last_name, email FROM students ORDER BY last_name, id");
+        verify(mockResultSet, never()).getDate(anyInt());
+        assertEquals(
+                List.of(
+                        new StudentSummary(2, "Tom", "Cruise", "tomcruise@gmail.com"),
+                        new StudentSummary(1, "John", "Smith", "johnsmith@gmail.com")),
+                summaries);
+        assertEquals("Tom Cruise", summaries.get(0).fullName());
+    }
+
+    @Test
+    public void testFindRandomSummaryReadsOneRow() throws SQLException {
+        when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(true, false);
+        when(mockResultSet.getInt(1)).thenReturn(2);
+        when(mockResultSet.getString(2)).thenReturn("Tom");
+        when(mockResultSet.getString(3)).thenReturn("Cruise");
+        when(mockResultSet.getString(4)).thenReturn("tomcruise@gmail.com");
+
+        Optional<StudentSummary> summary = StudentDAO.findRandomSummary();
+
+        verify(mockConnection).prepareStatement(argThat(sql -> sql.endsWith("ORDER BY RAND() LIMIT 1")));
+        assertEquals(Optional.of(new StudentSummary(2, "Tom", "Cruise", "tomcruise@gmail.com")), summary);
+    }
+
+    @Test
+    public void testFindRosterByCourseIdUsesOneJoin() throws SQLException {
+        int courseId = 3;
+        Date enrollmentDate = Date.valueOf("2024-09-01");
+        when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(true, false);
+        when(mockResultSet.getInt(1)).thenReturn(1);
+        when(mockResultSet.getString(2)).thenReturn("John");
+        when(mockResultSet.getString(3)).thenReturn("Smith");
+        when(mockResultSet.getString(4)).thenReturn("johnsmith@gmail.com");
+        when(mockResultSet.getDate(7)).thenReturn(enrollmentDate);
+
+        List<RosterEntry> roster = StudentDAO.findRosterByCourseId(courseId, RosterOrder.ENROLLMENT_DATE, 25);
+
+        verify(mockConnection).prepareStatement(argThat(
+                sql -> sql.contains("JOIN students") && sql.contains("ce.enrollment_date, s.id")));
+        verify(mockPreparedStatement).setInt(1, courseId);
+        verify(mockPreparedStatement).setInt(2, 25);
+        verify(mockPreparedStatement).executeQuery();
+        assertEquals(1, roster.size());
+        assertEquals("Smith", roster.get(0).student().getLastName());
+        assertEquals(enrollmentDate, roster.get(0).enrollmentDate());
+    }
+
+    @Test
+    public void testFindByCourseIdWithoutLimit() throws SQLException {
+        when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(false);
+
+        List<Student> students = StudentDAO.findByCourseId(3);
+
+        assertTrue(students.isEmpty());
+        verify(mockConnection).prepareStatement(argThat(sql -> sql.contains("s.last_name, s.first_name, s.id")));
+        verify(mockPreparedStatement).setInt(2, Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void testFindRosterRejectsNegativeLimit() {
+        assertThrows(
+                IllegalArgumentException.class, () -> StudentDAO.findRosterByCourseId(3, RosterOrder.EMAIL, -1));
+    }
+
     @Test
     public void testUpdateStudent() throws SQLException {
         Date dateOfBirth = Date.valueOf("2003-10-16");
@@ -213,6 +289,66 @@ public class StudentDAOTest {
         int result = StudentDAO.delete(studentId);
 
         assertEquals(1, result);
-        verify(mockPreparedStatement).setInt(1, studentId);
+        verify(mockPreparedStatement, times(3)).setInt(1, studentId);
+        verify(mockConnection).commit();
+    }
+
+    @Test
+    public void testDeleteCascadeReportsRowsPerTable() throws SQLException {
+        int studentId = 1;
+        when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeUpdate()).thenReturn(4, 2, 1);
+
+        DeletionReport report = StudentDAO.deleteCascade(studentId);
+
+        assertEquals(4, report.rowsDeleted("results"));
+        assertEquals(2, report.rowsDeleted("course_enrollments"));
+        assertEquals(1, report.rowsDeleted("students"));
+        assertEquals(7, report.totalRowsDeleted());
+        verify(mockConnection).setAutoCommit(false);
+        verify(mockConnection).commit();
+        verify(mockConnection).setAutoCommit(true);
+    }
+
+    @Test
+    public void testDeleteCascadeRollsBackOnFailure() throws SQLException {
+        when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeUpdate()).thenReturn(4).thenThrow(new SQLException("Lock timeout"));
+
+        assertThrows(SQLException.class, () -> StudentDAO.deleteCascade(1));
+        verify(mockConnection).rollback();
+        verify(mockConnection, never()).commit();
+        verify(mockConnection).setAutoCommit(true);
+    }
+
+    @Test
+    public void testDeleteCascadeStepsReportedToListeners() throws SQLException {
+        List<JdbcTemplate.Execution> executions = new ArrayList<>();
+        JdbcTemplate.ExecutionListener listener = executions::add;
+        when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeUpdate()).thenReturn(4, 2, 1);
+        JdbcTemplate.addListener(listener);
+        try {
+            StudentDAO.deleteCascade(5);
+        } finally {
+            JdbcTemplate.removeListener(listener);
+        }
+
+        assertEquals(
+                List.of(
+                        "DELETE FROM results WHERE student_id = ?",
+                        "DELETE FROM course_enrollments WHERE student_id = ?",
+                        "DELETE FROM students WHERE id = ?"),
+                executions.stream().map(JdbcTemplate.Execution::sql).toList());
+        assertEquals(List.of(5), executions.get(0).parameters());
+        assertEquals(4, executions.get(0).rowCount());
+    }
+
+    @Test
+    public void testAddAllRequiresPasswordPerStudent() {
+        Student student = new Student(
+                0, "John", "Smith", "johnsmith@gmail.com", Date.valueOf("2003-10-16"), Date.valueOf("2022-09-14"));
+
+        assertThrows(IllegalArgumentException.class, () -> StudentDAO.addAll(List.of(student, student), List.of("")));
     }
 }
@@ -1,8 +1,13 @@
 package sms.gradle.utils;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 import java.sql.Date;
@@ -10,6 +15,7 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 import sms.gradle.model.dao.AssessmentDAO;
@@ -17,6 +23,7 @@ import sms.gradle.model.dao.CourseDAO;
 import sms.gradle.model.dao.CourseEnrollmentDAO;
 import sms.gradle.model.dao.ModuleDAO;
 import sms.gradle.model.dao.ResultDAO;
+import sms.gradle.model.dao.SettingDAO;
 import sms.gradle.model.dao.StudentDAO;
 import sms.gradle.model.entities.Assessment;
 import sms.gradle.model.entities.Course;
@@ -32,7 +39,8 @@ public class MockDatabaseGeneratorTest {
                 MockedStatic<ModuleDAO> mockedModuleDAO = mockStatic(ModuleDAO.class);
                 MockedStatic<AssessmentDAO> mockedAssessmentDAO = mockStatic(AssessmentDAO.class);
                 MockedStatic<CourseEnrollmentDAO> mockedCourseEnrollmentDAO = mockStatic(CourseEnrollmentDAO.class);
-                MockedStatic<ResultDAO> mockedResultDAO = mockStatic(ResultDAO.class)) {
+                MockedStatic<ResultDAO> mockedResultDAO = mockStatic(ResultDAO.class);
+                MockedStatic<SettingDAO> mockedSettingDAO = mockStatic(SettingDAO.class)) {
 
             // Mock existing students
             List<Student> existingStudents = new ArrayList<>();
@@ -95,15 +103,75 @@ public class MockDatabaseGeneratorTest {
             MockDatabaseGenerator.populateTables();
 
             // Verify that the method checked for existing data
-            mockedStudentDAO.verify(StudentDAO::findAll, times(2));
+            mockedStudentDAO.verify(StudentDAO::findAll);
             mockedCourseDAO.verify(CourseDAO::findAll, times(2));
             mockedModuleDAO.verify(ModuleDAO::findAll);
 
-            // Verify that the method checked for existing student emails
+            // Verify that the method checked for existing student emails and only added the missing students
             mockedStudentDAO.verify(() -> StudentDAO.findByEmail("student6@sms.com"));
+            mockedStudentDAO.verify(() -> StudentDAO.addStudent(any(), anyString()), times(199));
 
             // Verify that the method checked for existing courses
             mockedCourseDAO.verify(() -> CourseDAO.findByName("Computer Science"));
+
+            // Verify that finishing was recorded
+            mockedSettingDAO.verify(() -> SettingDAO.setValue("sample_data_generated", "true"));
+        }
+    }
+
+    @Test
+    public void testPopulateTablesStopsWhenCancelled() throws SQLException {
+        try (MockedStatic<StudentDAO> mockedStudentDAO = mockStatic(StudentDAO.class);
+                MockedStatic<CourseDAO> mockedCourseDAO = mockStatic(CourseDAO.class);
+                MockedStatic<SettingDAO> mockedSettingDAO = mockStatic(SettingDAO.class)) {
+            assertThrows(CancellationException.class, () -> MockDatabaseGenerator.populateTables(new Cancelled()));
+
+            mockedStudentDAO.verify(() -> StudentDAO.addStudent(any(), anyString()), never());
+            mockedCourseDAO.verify(() -> CourseDAO.addCourse(any()), never());
+            mockedSettingDAO.verify(() -> SettingDAO.setValue(anyString(), anyString()), never());
+        }
+    }
+
+    @Test
+    public void testPopulateTablesReportsProgress() throws SQLException {
+        try (MockedStatic<StudentDAO> mockedStudentDAO = mockStatic(StudentDAO.class);
+                MockedStatic<CourseDAO> mockedCourseDAO = mockStatic(CourseDAO.class);
+                MockedStatic<ModuleDAO> mockedModuleDAO = mockStatic(ModuleDAO.class);
+                MockedStatic<SettingDAO> mockedSettingDAO = mockStatic(SettingDAO.class)) {
+            mockedStudentDAO.when(() -> StudentDAO.findByEmail(anyString())).thenReturn(Optional.empty());
+            mockedStudentDAO.when(StudentDAO::findAll).thenReturn(List.of());
+            mockedCourseDAO.when(() -> CourseDAO.findByName(anyString())).thenReturn(Optional.empty());
+            mockedCourseDAO.when(CourseDAO::findAll).thenReturn(List.of());
+            mockedModuleDAO.when(ModuleDAO::findAll).thenReturn(List.of());
+            List<Double> fractions = new ArrayList<>();
+
+            MockDatabaseGenerator.populateTables(new MockDatabaseGenerator.Progress() {
+                @Override
+                public void update(final String step, final double fraction) {
+                    fractions.add(fraction);
+                }
+
+                @Override
+                public boolean isCancelled() {
+                    return false;
+                }
+            });
+
+            for (int i = 1; i < fractions.size(); i++) {
+                assertTrue(fractions.get(i) >= fractions.get(i - 1));
+            }
+            assertEquals(0.0, fractions.getFirst());
+            assertEquals(1.0, fractions.getLast());
+        }
+    }
+
+    private static final class Cancelled implements MockDatabaseGenerator.Progress {
+        @Override
+        public void update(final String step, final double fraction) {}
+
+        @Override
+        public boolean isCancelled() {
+            return true;
         }
     }
 }
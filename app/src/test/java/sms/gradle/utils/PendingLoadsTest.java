@@ -0,0 +1,47 @@
+package sms.gradle.utils;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+
+public class PendingLoadsTest {
+
+    @Test
+    public void testHasUnfinishedWhileLoadRunning() {
+        PendingLoads pendingLoads = new PendingLoads();
+        CompletableFuture<String> running = pendingLoads.track(new CompletableFuture<>());
+        pendingLoads.track(CompletableFuture.completedFuture("Maths"));
+
+        assertTrue(pendingLoads.hasUnfinished());
+
+        running.complete("Physics");
+
+        assertFalse(pendingLoads.hasUnfinished());
+    }
+
+    @Test
+    public void testCancelAllCancelsUnfinishedLoads() {
+        PendingLoads pendingLoads = new PendingLoads();
+        CompletableFuture<String> courseLoad = pendingLoads.track(new CompletableFuture<>());
+        CompletableFuture<String> moduleLoad = pendingLoads.track(new CompletableFuture<>());
+
+        pendingLoads.cancelAll();
+
+        assertTrue(courseLoad.isCancelled());
+        assertTrue(moduleLoad.isCancelled());
+        assertFalse(pendingLoads.hasUnfinished());
+    }
+
+    @Test
+    public void testWhenAllDoneFailsIfAnyLoadCancelled() {
+        PendingLoads pendingLoads = new PendingLoads();
+        CompletableFuture<String> courseLoad = pendingLoads.track(new CompletableFuture<>());
+        CompletableFuture<Void> allDone = pendingLoads.whenAllDone();
+
+        courseLoad.cancel(false);
+
+        assertTrue(allDone.isCompletedExceptionally());
+    }
+}
@@ -0,0 +1,134 @@
+package sms.gradle.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.when;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.invocation.InvocationOnMock;
+import sms.gradle.model.dao.AssessmentDAO;
+import sms.gradle.model.dao.CourseDAO;
+import sms.gradle.model.dao.CourseEnrollmentDAO;
+import sms.gradle.model.dao.DatabaseConnection;
+import sms.gradle.model.dao.ModuleDAO;
+import sms.gradle.model.dao.ResultDAO;
+import sms.gradle.model.dao.StudentDAO;
+import sms.gradle.model.entities.Result;
+
+public class SeededDataGeneratorTest {
+    private static final SeededDataGenerator.Scale SMALL_SCALE = new SeededDataGenerator.Scale(30, 4, 2, 2, 2);
+
+    /**
+     * Runs the generator against mocked DAOs and records every row it writes, in order
+     */
+    private static List<Object> generateRows(final long seed, final int threads) throws SQLException {
+        List<Object> rows = new ArrayList<>();
+        DatabaseConnection mockDbConnection = mock(DatabaseConnection.class);
+        try (MockedStatic<DatabaseConnection> mockedDbConnection = mockStatic(DatabaseConnection.class);
+                MockedStatic<StudentDAO> mockedStudentDAO = mockStatic(StudentDAO.class);
+                MockedStatic<CourseDAO> mockedCourseDAO = mockStatic(CourseDAO.class);
+                MockedStatic<ModuleDAO> mockedModuleDAO = mockStatic(ModuleDAO.class);
+                MockedStatic<AssessmentDAO> mockedAssessmentDAO = mockStatic(AssessmentDAO.class);
+                MockedStatic<CourseEnrollmentDAO> mockedCourseEnrollmentDAO = mockStatic(CourseEnrollmentDAO.class);
+                MockedStatic<ResultDAO> mockedResultDAO = mockStatic(ResultDAO.class)) {
+            mockedDbConnection.when(DatabaseConnection::getInstance).thenReturn(mockDbConnection);
+            when(mockDbConnection.findNonEmptyTables(anyList())).thenReturn(List.of());
+
+            mockedStudentDAO
+                    .when(() -> StudentDAO.addAll(anyList(), anyList()))
+                    .thenAnswer(invocation -> recordRows(invocation, rows));
+            mockedCourseDAO.when(() -> CourseDAO.addAll(any())).thenAnswer(invocation -> recordRows(invocation, rows));
+            mockedModuleDAO.when(() -> ModuleDAO.addAll(any())).thenAnswer(invocation -> recordRows(invocation, rows));
+            mockedAssessmentDAO
+                    .when(() -> AssessmentDAO.addAll(any()))
+                    .thenAnswer(invocation -> recordRows(invocation, rows));
+            mockedCourseEnrollmentDAO
+                    .when(() -> CourseEnrollmentDAO.addAll(any()))
+                    .thenAnswer(invocation -> recordRows(invocation, rows));
+            mockedResultDAO.when(() -> ResultDAO.addAll(any())).thenAnswer(invocation -> recordRows(invocation, rows));
+
+            SeededDataGenerator.Summary summary = new SeededDataGenerator(seed, SMALL_SCALE, threads).generate();
+
+            assertEquals(30, summary.students());
+            assertEquals(60, summary.enrollments());
+            assertEquals(SMALL_SCALE.results(), summary.results());
+        }
+        return rows;
+    }
+
+    private static List<Integer> recordRows(final InvocationOnMock invocation, final List<Object> rows) {
+        Collection<?> written = invocation.getArgument(0);
+        int firstId = rows.size() + 1;
+        rows.addAll(written);
+        return IntStream.range(firstId, firstId + written.size()).boxed().toList();
+    }
+
+    @Test
+    public void testSameSeedProducesIdenticalData() throws SQLException {
+        assertEquals(generateRows(7, 1), generateRows(7, 4));
+    }
+
+    @Test
+    public void testDifferentSeedProducesDifferentData() throws SQLException {
+        assertNotEquals(generateRows(7, 2), generateRows(8, 2));
+    }
+
+    @Test
+    public void testGradesCoverFullRange() throws SQLException {
+        List<Integer> grades = new ArrayList<>();
+        for (long seed = 1; seed <= 5; seed++) {
+            for (Object row : generateRows(seed, 2)) {
+                if (row instanceof Result result) {
+                    grades.add(result.getGrade());
+                }
+            }
+        }
+
+        assertTrue(grades.stream().allMatch(grade -> grade >= 0 && grade <= 100));
+        assertTrue(grades.contains(100));
+    }
+
+    @Test
+    public void testNonEmptyDatabaseIsRejected() throws SQLException {
+        DatabaseConnection mockDbConnection = mock(DatabaseConnection.class);
+        try (MockedStatic<DatabaseConnection> mockedDbConnection = mockStatic(DatabaseConnection.class);
+                MockedStatic<CourseDAO> mockedCourseDAO = mockStatic(CourseDAO.class)) {
+            mockedDbConnection.when(DatabaseConnection::getInstance).thenReturn(mockDbConnection);
+            when(mockDbConnection.findNonEmptyTables(anyList())).thenReturn(List.of("courses", "results"));
+
+            SeededDataGenerator generator = new SeededDataGenerator(7, SMALL_SCALE, 1);
+
+            IllegalStateException exception = assertThrows(IllegalStateException.class, generator::generate);
+            assertTrue(exception.getMessage().endsWith("courses, results"));
+            mockedCourseDAO.verify(() -> CourseDAO.addAll(any()), never());
+        }
+    }
+
+    @Test
+    public void testScaleFactor() {
+        SeededDataGenerator.Scale scale = SeededDataGenerator.Scale.of(500);
+
+        assertEquals(100_000, scale.students());
+        assertEquals(25_000, scale.courses());
+        assertEquals(4_500_000, scale.results());
+    }
+
+    @Test
+    public void testInvalidScaleIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> SeededDataGenerator.Scale.of(0));
+        assertThrows(IllegalArgumentException.class, () -> new SeededDataGenerator.Scale(10, 2, 5, 3, 3));
+    }
+}
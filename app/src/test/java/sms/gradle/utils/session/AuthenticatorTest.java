@@ -0,0 +1,71 @@
+package sms.gradle.utils.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mockStatic;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import sms.gradle.model.dao.CredentialDAO;
+import sms.gradle.model.dao.CredentialDAO.Credential;
+
+public class AuthenticatorTest {
+    private static final String EMAIL = "smith@sms.com";
+
+    private MockedStatic<CredentialDAO> mockCredentialDAO;
+
+    @BeforeEach
+    public void setUp() {
+        mockCredentialDAO = mockStatic(CredentialDAO.class);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        mockCredentialDAO.close();
+    }
+
+    @Test
+    public void testAuthenticateAdmin() throws SQLException {
+        mockCredentialDAO
+                .when(() -> CredentialDAO.findByEmail(EMAIL))
+                .thenReturn(List.of(new Credential(UserType.ADMIN, 1, "John", "Smith", EMAIL, "AdminHash")));
+
+        Optional<User> user = Authenticator.authenticate(EMAIL, "AdminHash");
+
+        assertEquals(Optional.of(new User(1, UserType.ADMIN, "John", "Smith", EMAIL)), user);
+    }
+
+    @Test
+    public void testAuthenticateFallsBackToStudentWithMatchingPassword() throws SQLException {
+        mockCredentialDAO
+                .when(() -> CredentialDAO.findByEmail(EMAIL))
+                .thenReturn(List.of(
+                        new Credential(UserType.ADMIN, 1, "John", "Smith", EMAIL, "AdminHash"),
+                        new Credential(UserType.STUDENT, 7, "John", "Smith", EMAIL, "StudentHash")));
+
+        Optional<User> user = Authenticator.authenticate(EMAIL, "StudentHash");
+
+        assertEquals(Optional.of(new User(7, UserType.STUDENT, "John", "Smith", EMAIL)), user);
+    }
+
+    @Test
+    public void testAuthenticateWrongPassword() throws SQLException {
+        mockCredentialDAO
+                .when(() -> CredentialDAO.findByEmail(EMAIL))
+                .thenReturn(List.of(new Credential(UserType.STUDENT, 7, "John", "Smith", EMAIL, "StudentHash")));
+
+        assertTrue(Authenticator.authenticate(EMAIL, "WrongHash").isEmpty());
+    }
+
+    @Test
+    public void testAuthenticateUnknownEmail() throws SQLException {
+        mockCredentialDAO.when(() -> CredentialDAO.findByEmail(EMAIL)).thenReturn(List.of());
+
+        assertTrue(Authenticator.authenticate(EMAIL, "AdminHash").isEmpty());
+    }
+}